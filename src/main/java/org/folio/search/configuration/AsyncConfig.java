@@ -1,20 +1,32 @@
 package org.folio.search.configuration;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.RequiredArgsConstructor;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
+import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.configuration.properties.StreamIdsProperties;
 import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @EnableAsync
 @Configuration
 @RequiredArgsConstructor
 public class AsyncConfig {
 
+  private static final int BROWSE_PREFETCH_POOL_SIZE = 2;
+  private static final int BROWSE_PREFETCH_QUEUE_CAPACITY = 100;
+  private static final int CALL_NUMBER_RANGES_POOL_SIZE = 2;
+  private static final int CALL_NUMBER_RANGES_QUEUE_CAPACITY = 100;
+
   private final StreamIdsProperties streamIdsProperties;
+  private final ReindexConfigurationProperties reindexProperties;
+  private final SearchQueryConfigurationProperties searchQueryProperties;
 
   @Bean("streamIdsExecutor")
   public Executor streamIdsExecutor() {
@@ -27,5 +39,124 @@ public class AsyncConfig {
     executor.initialize();
     return executor;
   }
-}
 
+  /**
+   * Creates executor for search, browse and facet requests, so the servlet threads are not blocked while the requests
+   * wait for the search engine. The folio execution context of the request is passed to the task by the decorator.
+   *
+   * @return created {@link Executor} bean
+   */
+  @Bean("searchRequestExecutor")
+  public Executor searchRequestExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(searchQueryProperties.getRequestPoolSize());
+    executor.setMaxPoolSize(searchQueryProperties.getRequestPoolSize());
+    executor.setQueueCapacity(searchQueryProperties.getRequestQueueCapacity());
+    executor.setThreadNamePrefix("SearchRequest-");
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates executor for loading call number range histograms in background.
+   *
+   * @return created {@link Executor} bean
+   */
+  @Bean("callNumberRangesExecutor")
+  public Executor callNumberRangesExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(CALL_NUMBER_RANGES_POOL_SIZE);
+    executor.setMaxPoolSize(CALL_NUMBER_RANGES_POOL_SIZE);
+    executor.setQueueCapacity(CALL_NUMBER_RANGES_QUEUE_CAPACITY);
+    executor.setThreadNamePrefix("CallNumberRanges-");
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates executor for loading adjacent browse pages in background. Prefetch tasks are discarded if the queue is
+   * full, because they only warm up the browse pages cache.
+   *
+   * @return created {@link Executor} bean
+   */
+  @Bean("browsePrefetchExecutor")
+  public Executor browsePrefetchExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(BROWSE_PREFETCH_POOL_SIZE);
+    executor.setMaxPoolSize(BROWSE_PREFETCH_POOL_SIZE);
+    executor.setQueueCapacity(BROWSE_PREFETCH_QUEUE_CAPACITY);
+    executor.setThreadNamePrefix("BrowsePrefetch-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates executor for the reindex pipeline, its pool size limits the number of id ranges processed concurrently.
+   * Ranges rejected because of the full queue are marked as failed and are resumed by the next reindex.
+   *
+   * @return created {@link Executor} bean
+   */
+  @Bean("reindexPipelineExecutor")
+  public Executor reindexPipelineExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(reindexProperties.getPipelineConcurrency());
+    executor.setMaxPoolSize(reindexProperties.getPipelineConcurrency());
+    executor.setQueueCapacity(reindexProperties.getPipelineQueueCapacity());
+    executor.setThreadNamePrefix("ReindexPipeline-");
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates executor for fetching location pages on locations reindex, it is shared by concurrently reindexed tenants.
+   *
+   * @return created {@link Executor} bean
+   */
+  @Bean("locationReindexFetchExecutor")
+  public Executor locationReindexFetchExecutor() {
+    var poolSize = reindexProperties.getLocationFetchConcurrency() * reindexProperties.getLocationTenantsConcurrency();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setThreadNamePrefix("LocationReindexFetch-");
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates executor for reindexing locations of consortium tenants, its pool size limits the number of tenants
+   * reindexed concurrently.
+   *
+   * @return created {@link Executor} bean
+   */
+  @Bean("locationReindexTenantExecutor")
+  public Executor locationReindexTenantExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(reindexProperties.getLocationTenantsConcurrency());
+    executor.setMaxPoolSize(reindexProperties.getLocationTenantsConcurrency());
+    executor.setThreadNamePrefix("LocationReindexTenant-");
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates scheduler for the periodic write rate evaluation of the ingest mode.
+   *
+   * @return created {@link TaskScheduler} bean
+   */
+  @Bean("ingestModeScheduler")
+  public TaskScheduler ingestModeScheduler() {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(1);
+    scheduler.setThreadNamePrefix("IngestMode-");
+    scheduler.initialize();
+    return scheduler;
+  }
+}
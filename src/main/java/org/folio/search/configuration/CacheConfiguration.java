@@ -2,9 +2,17 @@ package org.folio.search.configuration;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.List;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
-import org.folio.search.model.service.CallNumberBrowseRangeValue;
+import org.folio.search.model.service.CachedBrowseResult;
+import org.folio.search.model.service.CachedFacetResult;
+import org.folio.search.model.service.CallNumberBrowseRanges;
+import org.folio.search.service.browse.CallNumberBrowseRangesLoader;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,13 +20,71 @@ import org.springframework.context.annotation.Configuration;
 public class CacheConfiguration {
 
   /**
-   * Creates a {@link Cache} bean for call-number browsing optimization.
+   * Creates a {@link LoadingCache} bean for call-number browsing optimization. Cached range histograms are loaded and
+   * reloaded in background by the given executor, the reload is triggered if the cache specification contains
+   * {@code refreshAfterWrite}.
+   *
+   * @return created {@link LoadingCache} bean
+   */
+  @Bean
+  public LoadingCache<String, CallNumberBrowseRanges> callNumberRangesCache(
+    SearchCacheConfigurationProperties configuration, CallNumberBrowseRangesLoader callNumberBrowseRangesLoader,
+    @Qualifier("callNumberRangesExecutor") Executor callNumberRangesExecutor) {
+    return Caffeine.from(configuration.getCallNumberBrowseRangesCacheSpec())
+      .executor(callNumberRangesExecutor)
+      .build(callNumberBrowseRangesLoader);
+  }
+
+  /**
+   * Creates a {@link Cache} bean for facet results.
+   *
+   * @return created {@link Cache} bean
+   */
+  @Bean
+  public Cache<String, CachedFacetResult> facetResultsCache(SearchCacheConfigurationProperties configuration) {
+    return Caffeine.from(configuration.getFacetResultsCacheSpec()).build();
+  }
+
+  /**
+   * Creates a {@link Cache} bean for numbers of titles linked to authorities.
+   *
+   * @return created {@link Cache} bean
+   */
+  @Bean
+  public Cache<String, Integer> authorityTitlesCountCache(SearchCacheConfigurationProperties configuration) {
+    return Caffeine.from(configuration.getAuthorityTitlesCountCacheSpec()).build();
+  }
+
+  /**
+   * Creates a {@link Cache} bean for browse pages.
+   *
+   * @return created {@link Cache} bean
+   */
+  @Bean
+  public Cache<String, CachedBrowseResult> browsePagesCache(SearchCacheConfigurationProperties configuration) {
+    return Caffeine.from(configuration.getBrowsePagesCacheSpec()).build();
+  }
+
+  /**
+   * Creates a {@link Cache} bean for shelf keys of call numbers and classification numbers. Cache statistics are
+   * recorded and published with the {@code shelf-keys} cache name, so the hit rate can be observed.
+   *
+   * @return created {@link Cache} bean
+   */
+  @Bean
+  public Cache<String, String> shelfKeysCache(SearchCacheConfigurationProperties configuration,
+                                              MeterRegistry meterRegistry) {
+    Cache<String, String> cache = Caffeine.from(configuration.getShelfKeysCacheSpec()).recordStats().build();
+    return CaffeineCacheMetrics.monitor(meterRegistry, cache, "shelf-keys");
+  }
+
+  /**
+   * Creates a {@link Cache} bean for shadow index lookups.
    *
    * @return created {@link Cache} bean
    */
   @Bean
-  public Cache<String, List<CallNumberBrowseRangeValue>> callNumberRangesCache(
-    SearchCacheConfigurationProperties configuration) {
-    return Caffeine.from(configuration.getCallNumberBrowseRangesCacheSpec()).build();
+  public Cache<String, Optional<String>> shadowIndicesCache(SearchCacheConfigurationProperties configuration) {
+    return Caffeine.from(configuration.getShadowIndicesCacheSpec()).build();
   }
 }
@@ -1,5 +1,6 @@
 package org.folio.search.configuration.properties;
 
+import java.time.Duration;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -17,4 +18,51 @@ public class ReindexConfigurationProperties {
    * Defines number of locations to retrieve per inventory http request on locations reindex process.
    */
   private Integer locationBatchSize = 1_000;
+
+  /**
+   * Defines number of location pages fetched concurrently per tenant on locations reindex process.
+   */
+  private Integer locationFetchConcurrency = 4;
+
+  /**
+   * Defines number of consortium tenants, which locations are reindexed concurrently.
+   */
+  private Integer locationTenantsConcurrency = 4;
+
+  /**
+   * Defines maximum wait time for the green status of the shadow index before it replaces the serving index.
+   */
+  private Duration shadowIndexHealthTimeout = Duration.ofMinutes(5);
+
+  /**
+   * Defines if instances are reindexed by mod-search reindex pipeline, that fetches instances from inventory by id
+   * ranges, instead of the reindex of inventory storage, that publishes all records to Kafka.
+   */
+  private boolean pipelineEnabled = false;
+
+  /**
+   * Defines number of instance id ranges created by the reindex pipeline.
+   */
+  private Integer pipelineRangesCount = 16;
+
+  /**
+   * Defines number of instance id ranges processed concurrently by the reindex pipeline.
+   */
+  private Integer pipelineConcurrency = 4;
+
+  /**
+   * Defines number of instances to retrieve per inventory http request by the reindex pipeline.
+   */
+  private Integer pipelineBatchSize = 500;
+
+  /**
+   * Defines maximum number of instance id ranges waiting for processing by the reindex pipeline.
+   */
+  private Integer pipelineQueueCapacity = 1_000;
+
+  /**
+   * Defines time after the last update of the range in progress, after which the range is considered abandoned (e.g.
+   * by a restarted module instance) and is claimed again by the resumed reindex.
+   */
+  private Duration pipelineRangeLeaseTimeout = Duration.ofMinutes(10);
 }
@@ -13,4 +13,40 @@ public class SearchCacheConfigurationProperties {
    * Caffeine cache configuration as {@link String} for call-number browsing.
    */
   private String callNumberBrowseRangesCacheSpec;
+
+  /**
+   * Caffeine cache configuration as {@link String} for facet results.
+   */
+  private String facetResultsCacheSpec;
+
+  /**
+   * Caffeine cache configuration as {@link String} for numbers of titles linked to authorities.
+   */
+  private String authorityTitlesCountCacheSpec;
+
+  /**
+   * Caffeine cache configuration as {@link String} for browse pages.
+   */
+  private String browsePagesCacheSpec;
+
+  /**
+   * Caffeine cache configuration as {@link String} for calculated shelf keys.
+   */
+  private String shelfKeysCacheSpec;
+
+  /**
+   * Caffeine cache configuration as {@link String} for shadow index lookups, performed for each bulk request during
+   * the reindex with index recreation.
+   */
+  private String shadowIndicesCacheSpec;
+
+  /**
+   * Specifies if the browse pages are cached.
+   */
+  private boolean browsePagesCacheEnabled = false;
+
+  /**
+   * Specifies if the adjacent browse pages are loaded to the cache in background after a browse page is served.
+   */
+  private boolean browsePagesPrefetchEnabled = false;
 }
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Size;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import lombok.Data;
@@ -46,6 +47,12 @@ public class SearchConfigurationProperties {
    */
   private long maxSearchBatchRequestIdsCount = 20_000L;
 
+  /**
+   * Provides the maximum number of values that can be returned for a single facet.
+   */
+  @Min(1)
+  private int maxFacetSize = 1_000;
+
   /**
    * Provides the size parameter for querying consortium records (holdings or items).
    */
@@ -61,6 +68,11 @@ public class SearchConfigurationProperties {
    */
   private IndexingSettings indexing;
 
+  /**
+   * Pooled tenancy settings, small tenants share the indices instead of having own indices.
+   */
+  private PooledTenancySettings pooledTenancy = new PooledTenancySettings();
+
   @Data
   @Validated
   public static class IndexingSettings {
@@ -79,6 +91,17 @@ public class SearchConfigurationProperties {
      * Data format to use for passing data to elasticsearch.
      */
     private IndexingDataFormat dataFormat;
+
+    /**
+     * Ingest mode settings, applied to the indices under heavy write load.
+     */
+    private IngestModeSettings ingestMode = new IngestModeSettings();
+
+    /**
+     * Defines if local instances of the consortium member tenants are routed to the shards of the shared index by the
+     * owning tenant. Changing the value requires reindex of the instance records.
+     */
+    private boolean instanceTenantRoutingEnabled = false;
   }
 
   @Data
@@ -92,4 +115,81 @@ public class SearchConfigurationProperties {
     private int retryAttempts = 3;
   }
 
+  @Data
+  @Validated
+  public static class IngestModeSettings {
+
+    /**
+     * Defines if index settings are relaxed automatically during heavy ingest.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of documents written to the index per second, that switches the index to ingest mode.
+     */
+    @Min(1)
+    private long writeRateThreshold = 500L;
+
+    /**
+     * Interval between write rate evaluations.
+     */
+    private Duration evaluationInterval = Duration.ofSeconds(30);
+
+    /**
+     * Time the write rate must stay below the threshold before the index settings are restored.
+     */
+    private Duration settleTime = Duration.ofMinutes(2);
+
+    /**
+     * Time the ingest mode metadata of the index is valid for after it is updated by the owning module instance. The
+     * metadata is renewed during the write rate evaluation, so the value must be several times longer than
+     * {@link #evaluationInterval}.
+     */
+    private Duration leaseTime = Duration.ofMinutes(10);
+
+    /**
+     * Refresh interval of the index in ingest mode, it bounds the delay of new documents in search results.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(30);
+
+    /**
+     * Number of replicas of the index in ingest mode.
+     */
+    @Min(0)
+    private int numberOfReplicas = 0;
+
+    /**
+     * Defines if the index is force-merged when ingest mode is finished.
+     */
+    private boolean forceMergeEnabled = false;
+
+    /**
+     * Maximum number of segments the index is force-merged to.
+     */
+    @Min(1)
+    private int forceMergeMaxSegments = 5;
+  }
+
+  @Data
+  @Validated
+  public static class PooledTenancySettings {
+
+    /**
+     * Defines if the pooled tenants share the indices of the resources with tenant id field.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tenants, which documents are stored in the pooled indices. Consortium tenants must not be pooled, they share the
+     * indices of the central tenant, so their initialization is rejected. Changing the value requires reindex of the
+     * tenants moved between the indices.
+     */
+    private Set<String> tenants = emptySet();
+
+    /**
+     * Name of the pool, used instead of tenant id in the pooled index names.
+     */
+    @NotEmpty
+    private String poolName = "pooled";
+  }
 }
@@ -28,4 +28,14 @@ public class SearchQueryConfigurationProperties {
    * Defines if call-number browse optimization is enabled or not.
    */
   private boolean callNumberBrowseOptimizationEnabled = true;
+
+  /**
+   * Number of threads executing search, browse and facet requests, servlet threads are released while they wait.
+   */
+  private int requestPoolSize = 20;
+
+  /**
+   * Number of search, browse and facet requests waiting for a free thread, the requests over it are rejected.
+   */
+  private int requestQueueCapacity = 500;
 }
@@ -1,6 +1,8 @@
 package org.folio.search.configuration.properties;
 
 import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -43,4 +45,27 @@ public class StreamIdsProperties {
    */
   private int queueCapacity = 500;
 
+  /**
+   * Number of point in time slices processed concurrently while streaming resource ids.
+   */
+  @Min(value = 1)
+  private int slicesCount = 4;
+
+  /**
+   * Number of rows fetched from the database cursor per round trip while streaming ids of the async job.
+   */
+  @Min(value = 1)
+  private int databaseFetchSize = 1000;
+
+  /**
+   * Maximum age of a running or completed job with the same query, entity type and tenant that can be reused by a
+   * newly submitted job instead of building a new temporary table. Zero value disables jobs reuse.
+   */
+  private Duration jobReuseTtl = Duration.ofSeconds(60);
+
+  /**
+   * Time after which jobs are removed together with their temporary tables.
+   */
+  private Duration jobRetention = Duration.ofDays(1);
+
 }
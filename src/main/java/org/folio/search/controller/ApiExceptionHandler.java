@@ -11,6 +11,7 @@ import static org.folio.search.model.types.ErrorCode.VALIDATION_ERROR;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -30,6 +31,7 @@ import org.folio.search.exception.ValidationException;
 import org.folio.search.model.types.ErrorCode;
 import org.opensearch.OpenSearchException;
 import org.opensearch.core.index.Index;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -70,6 +72,18 @@ public class ApiExceptionHandler {
     return buildResponseEntity(exception, BAD_REQUEST, SERVICE_ERROR);
   }
 
+  /**
+   * Catches and handles all {@link TaskRejectedException} objects, thrown when the request executor is overloaded.
+   *
+   * @param exception {@link TaskRejectedException} to process
+   * @return {@link ResponseEntity} with {@link ErrorResponse} body
+   */
+  @ExceptionHandler(TaskRejectedException.class)
+  public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException exception) {
+    logException(WARN, exception);
+    return buildResponseEntity(exception, SERVICE_UNAVAILABLE, SERVICE_ERROR);
+  }
+
   /**
    * Catches and handles all {@link SearchOperationException} objects during code execution.
    *
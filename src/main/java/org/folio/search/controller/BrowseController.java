@@ -14,6 +14,8 @@ import static org.folio.search.utils.SearchUtils.SHELVING_ORDER_BROWSING_FIELD;
 import static org.folio.search.utils.SearchUtils.SUBJECT_BROWSING_FIELD;
 import static org.folio.search.utils.SearchUtils.TYPED_CALL_NUMBER_BROWSING_FIELD;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.domain.dto.AuthorityBrowseResult;
 import org.folio.search.domain.dto.BrowseOptionType;
@@ -34,6 +36,7 @@ import org.folio.search.service.browse.ClassificationBrowseService;
 import org.folio.search.service.browse.ContributorBrowseService;
 import org.folio.search.service.browse.SubjectBrowseService;
 import org.folio.search.service.consortium.TenantProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -51,27 +54,27 @@ public class BrowseController implements BrowseApi {
   private final ContributorBrowseService contributorBrowseService;
   private final ClassificationBrowseService classificationBrowseService;
   private final TenantProvider tenantProvider;
+  @Qualifier("searchRequestExecutor")
+  private final Executor searchRequestExecutor;
 
   @Override
-  public ResponseEntity<AuthorityBrowseResult> browseAuthorities(String query, String tenant, Boolean expandAll,
-                                                                 Boolean highlightMatch, Integer precedingRecordsCount,
-                                                                 Integer limit) {
+  public CompletableFuture<ResponseEntity<AuthorityBrowseResult>> browseAuthorities(
+    String query, String tenant, Boolean expandAll, Boolean highlightMatch, Integer precedingRecordsCount,
+    Integer limit) {
     var browseRequest = getBrowseRequestBuilder(query, tenant, limit, expandAll, highlightMatch, precedingRecordsCount)
       .resource(AUTHORITY_RESOURCE).targetField(AUTHORITY_BROWSING_FIELD).build();
-    var browseResult = authorityBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(new AuthorityBrowseResult()
-      .items(browseResult.getRecords())
-      .totalRecords(browseResult.getTotalRecords())
-      .prev(browseResult.getPrev())
-      .next(browseResult.getNext()));
+    return CompletableFuture.supplyAsync(() -> authorityBrowseService.browse(browseRequest), searchRequestExecutor)
+      .thenApply(browseResult -> ResponseEntity.ok(new AuthorityBrowseResult()
+        .items(browseResult.getRecords())
+        .totalRecords(browseResult.getTotalRecords())
+        .prev(browseResult.getPrev())
+        .next(browseResult.getNext())));
   }
 
   @Override
-  public ResponseEntity<CallNumberBrowseResult> browseInstancesByCallNumber(String query, String tenant,
-                                                                            Integer limit, Boolean expandAll,
-                                                                            Boolean highlightMatch,
-                                                                            Integer precedingRecordsCount,
-                                                                            CallNumberType callNumberType) {
+  public CompletableFuture<ResponseEntity<CallNumberBrowseResult>> browseInstancesByCallNumber(
+    String query, String tenant, Integer limit, Boolean expandAll, Boolean highlightMatch,
+    Integer precedingRecordsCount, CallNumberType callNumberType) {
     var browseRequest = getBrowseRequestBuilder(query, tenant, limit, expandAll, highlightMatch, precedingRecordsCount)
       .resource(INSTANCE_RESOURCE)
       .targetField(SHELVING_ORDER_BROWSING_FIELD)
@@ -79,16 +82,16 @@ public class BrowseController implements BrowseApi {
       .refinedCondition(callNumberType != null ? callNumberType.getValue() : null)
       .build();
 
-    var instanceByCallNumber = callNumberBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(new CallNumberBrowseResult()
-      .items(instanceByCallNumber.getRecords())
-      .totalRecords(instanceByCallNumber.getTotalRecords())
-      .prev(instanceByCallNumber.getPrev())
-      .next(instanceByCallNumber.getNext()));
+    return CompletableFuture.supplyAsync(() -> callNumberBrowseService.browse(browseRequest), searchRequestExecutor)
+      .thenApply(instanceByCallNumber -> ResponseEntity.ok(new CallNumberBrowseResult()
+        .items(instanceByCallNumber.getRecords())
+        .totalRecords(instanceByCallNumber.getTotalRecords())
+        .prev(instanceByCallNumber.getPrev())
+        .next(instanceByCallNumber.getNext())));
   }
 
   @Override
-  public ResponseEntity<ClassificationNumberBrowseResult> browseInstancesByClassificationNumber(
+  public CompletableFuture<ResponseEntity<ClassificationNumberBrowseResult>> browseInstancesByClassificationNumber(
     BrowseOptionType browseOptionId, String query, String tenant, Integer limit,
     Boolean highlightMatch, Integer precedingRecordsCount) {
 
@@ -98,38 +101,36 @@ public class BrowseController implements BrowseApi {
       .targetField(CLASSIFICATION_NUMBER_BROWSING_FIELD)
       .build();
 
-    var browseResult = classificationBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(toBrowseResultDto(browseResult));
+    return CompletableFuture.supplyAsync(() -> classificationBrowseService.browse(browseRequest), searchRequestExecutor)
+      .thenApply(browseResult -> ResponseEntity.ok(toBrowseResultDto(browseResult)));
   }
 
   @Override
-  public ResponseEntity<ContributorBrowseResult> browseInstancesByContributor(String query, String tenant,
-                                                                              Integer limit, Boolean highlightMatch,
-                                                                              Integer precedingRecordsCount) {
+  public CompletableFuture<ResponseEntity<ContributorBrowseResult>> browseInstancesByContributor(
+    String query, String tenant, Integer limit, Boolean highlightMatch, Integer precedingRecordsCount) {
     var browseRequest = getBrowseRequestBuilder(query, tenant, limit, null, highlightMatch, precedingRecordsCount)
       .resource(CONTRIBUTOR_RESOURCE).targetField(CONTRIBUTOR_BROWSING_FIELD).build();
 
-    var browseResult = contributorBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(new ContributorBrowseResult()
-      .items(browseResult.getRecords())
-      .totalRecords(browseResult.getTotalRecords())
-      .prev(browseResult.getPrev())
-      .next(browseResult.getNext()));
+    return CompletableFuture.supplyAsync(() -> contributorBrowseService.browse(browseRequest), searchRequestExecutor)
+      .thenApply(browseResult -> ResponseEntity.ok(new ContributorBrowseResult()
+        .items(browseResult.getRecords())
+        .totalRecords(browseResult.getTotalRecords())
+        .prev(browseResult.getPrev())
+        .next(browseResult.getNext())));
   }
 
   @Override
-  public ResponseEntity<SubjectBrowseResult> browseInstancesBySubject(String query, String tenant,
-                                                                      Integer limit, Boolean highlightMatch,
-                                                                      Integer precedingRecordsCount) {
+  public CompletableFuture<ResponseEntity<SubjectBrowseResult>> browseInstancesBySubject(
+    String query, String tenant, Integer limit, Boolean highlightMatch, Integer precedingRecordsCount) {
     var browseRequest = getBrowseRequestBuilder(query, tenant, limit, null, highlightMatch, precedingRecordsCount)
       .resource(INSTANCE_SUBJECT_RESOURCE).targetField(SUBJECT_BROWSING_FIELD).build();
 
-    var browseResult = subjectBrowseService.browse(browseRequest);
-    return ResponseEntity.ok(new SubjectBrowseResult()
-      .items(browseResult.getRecords())
-      .totalRecords(browseResult.getTotalRecords())
-      .prev(browseResult.getPrev())
-      .next(browseResult.getNext()));
+    return CompletableFuture.supplyAsync(() -> subjectBrowseService.browse(browseRequest), searchRequestExecutor)
+      .thenApply(browseResult -> ResponseEntity.ok(new SubjectBrowseResult()
+        .items(browseResult.getRecords())
+        .totalRecords(browseResult.getTotalRecords())
+        .prev(browseResult.getPrev())
+        .next(browseResult.getNext())));
   }
 
   private ClassificationNumberBrowseResult toBrowseResultDto(BrowseResult<ClassificationNumberBrowseItem> result) {
@@ -8,6 +8,8 @@ import static org.folio.search.utils.SearchUtils.INSTANCE_SUBJECT_RESOURCE;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.domain.dto.FacetResult;
 import org.folio.search.domain.dto.RecordType;
@@ -15,6 +17,7 @@ import org.folio.search.model.service.CqlFacetRequest;
 import org.folio.search.rest.resource.FacetsApi;
 import org.folio.search.service.FacetService;
 import org.folio.search.service.consortium.TenantProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -36,13 +39,17 @@ public class FacetsController implements FacetsApi {
 
   private final FacetService facetService;
   private final TenantProvider tenantProvider;
+  @Qualifier("searchRequestExecutor")
+  private final Executor searchRequestExecutor;
 
   @Override
-  public ResponseEntity<FacetResult> getFacets(RecordType recordType, String query,
-                                               List<String> facet, String tenantId) {
+  public CompletableFuture<ResponseEntity<FacetResult>> getFacets(RecordType recordType, String query,
+                                                                  List<String> facet, String tenantId,
+                                                                  String facetAfter) {
     var recordResource = RECORD_TYPE_TO_RESOURCE_MAP.getOrDefault(recordType, recordType.getValue());
     tenantId = tenantProvider.getTenant(tenantId);
-    var facetRequest = CqlFacetRequest.of(recordResource, tenantId, query, facet);
-    return ResponseEntity.ok(facetService.getFacets(facetRequest));
+    var facetRequest = CqlFacetRequest.of(recordResource, tenantId, query, facet, facetAfter);
+    return CompletableFuture.supplyAsync(() -> ResponseEntity.ok(facetService.getFacets(facetRequest)),
+      searchRequestExecutor);
   }
 }
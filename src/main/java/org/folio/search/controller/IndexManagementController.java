@@ -3,10 +3,12 @@ package org.folio.search.controller;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.search.domain.dto.CompleteReindexRequest;
 import org.folio.search.domain.dto.CreateIndexRequest;
 import org.folio.search.domain.dto.FolioCreateIndexResponse;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ReindexJob;
+import org.folio.search.domain.dto.ReindexProgressCollection;
 import org.folio.search.domain.dto.ReindexRequest;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.domain.dto.UpdateIndexDynamicSettingsRequest;
@@ -14,6 +16,7 @@ import org.folio.search.domain.dto.UpdateMappingsRequest;
 import org.folio.search.rest.resource.IndexManagementApi;
 import org.folio.search.service.IndexService;
 import org.folio.search.service.ResourceService;
+import org.folio.search.service.reindex.ReindexProgressService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -31,6 +34,7 @@ public class IndexManagementController implements IndexManagementApi {
 
   private final IndexService indexService;
   private final ResourceService resourceService;
+  private final ReindexProgressService reindexProgressService;
 
   @Override
   public ResponseEntity<FolioCreateIndexResponse> createIndices(String tenantId, CreateIndexRequest request) {
@@ -48,6 +52,18 @@ public class IndexManagementController implements IndexManagementApi {
     return ResponseEntity.ok(indexService.reindexInventory(tenantId, request));
   }
 
+  @Override
+  public ResponseEntity<FolioIndexOperationResponse> completeInventoryReindex(String tenantId,
+                                                                              CompleteReindexRequest request) {
+    log.info("Attempting to complete reindex for inventory [tenant: {}]", tenantId);
+    return ResponseEntity.ok(indexService.completeReindex(tenantId, request));
+  }
+
+  @Override
+  public ResponseEntity<ReindexProgressCollection> getReindexProgress(String tenantId) {
+    return ResponseEntity.ok(reindexProgressService.getReindexProgress());
+  }
+
   @Override
   public ResponseEntity<FolioIndexOperationResponse> updateIndexDynamicSettings(
     String tenantId, UpdateIndexDynamicSettingsRequest request) {
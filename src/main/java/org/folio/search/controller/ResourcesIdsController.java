@@ -42,8 +42,8 @@ public class ResourcesIdsController implements SearchResourcesIdsApi {
   }
 
   @Override
-  public ResponseEntity<Void> getResourceIds(String tenantId, String jobId) {
-    return resourceIdsStreamHelper.streamResourceIdsFromDb(jobId);
+  public ResponseEntity<Void> getResourceIds(String tenantId, String jobId, String contentType) {
+    return resourceIdsStreamHelper.streamResourceIdsFromDb(jobId, contentType);
   }
 
   @Override
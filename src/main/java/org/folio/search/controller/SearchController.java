@@ -1,8 +1,13 @@
 package org.folio.search.controller;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.AuthoritySearchResult;
+import org.folio.search.domain.dto.BatchIdsDto;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.InstanceSearchResult;
 import org.folio.search.domain.dto.LinkedDataAuthority;
@@ -13,6 +18,7 @@ import org.folio.search.model.service.CqlSearchRequest;
 import org.folio.search.rest.resource.SearchApi;
 import org.folio.search.service.SearchService;
 import org.folio.search.service.consortium.TenantProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,64 +32,86 @@ public class SearchController implements SearchApi {
 
   private final SearchService searchService;
   private final TenantProvider tenantProvider;
+  @Qualifier("searchRequestExecutor")
+  private final Executor searchRequestExecutor;
 
   @Override
-  public ResponseEntity<AuthoritySearchResult> searchAuthorities(String tenant, String query, Integer limit,
-                                                                 Integer offset, Boolean expandAll,
-                                                                 Boolean includeNumberOfTitles) {
+  public CompletableFuture<ResponseEntity<AuthoritySearchResult>> searchAuthorities(
+    String tenant, String query, Integer limit, Integer offset, Boolean expandAll, Boolean includeNumberOfTitles,
+    List<String> facet) {
 
     tenant = tenantProvider.getTenant(tenant);
     var searchRequest = CqlSearchRequest.of(
-      Authority.class, tenant, query, limit, offset, expandAll, includeNumberOfTitles);
-    var result = searchService.search(searchRequest);
-    return ResponseEntity.ok(new AuthoritySearchResult()
-      .authorities(result.getRecords())
-      .totalRecords(result.getTotalRecords()));
+      Authority.class, tenant, query, limit, offset, expandAll, includeNumberOfTitles, false, facet);
+    return CompletableFuture.supplyAsync(() -> searchService.search(searchRequest), searchRequestExecutor)
+      .thenApply(result -> ResponseEntity.ok(new AuthoritySearchResult()
+        .authorities(result.getRecords())
+        .totalRecords(result.getTotalRecords())
+        .facetResult(result.getFacetResult())));
   }
 
   @Override
-  public ResponseEntity<InstanceSearchResult> searchInstances(String tenantId, String query, Integer limit,
-                                                              Integer offset, Boolean expandAll) {
+  public CompletableFuture<ResponseEntity<InstanceSearchResult>> searchInstances(String tenantId, String query,
+                                                                                 Integer limit, Integer offset,
+                                                                                 Boolean expandAll,
+                                                                                 List<String> facet) {
     tenantId = tenantProvider.getTenant(tenantId);
-    var searchRequest = CqlSearchRequest.of(Instance.class, tenantId, query, limit, offset, expandAll);
-    var result = searchService.search(searchRequest);
-    return ResponseEntity.ok(new InstanceSearchResult()
-      .instances(result.getRecords())
-      .totalRecords(result.getTotalRecords()));
+    var searchRequest = CqlSearchRequest.of(
+      Instance.class, tenantId, query, limit, offset, expandAll, true, false, facet);
+    return CompletableFuture.supplyAsync(() -> searchService.search(searchRequest), searchRequestExecutor)
+      .thenApply(result -> ResponseEntity.ok(new InstanceSearchResult()
+        .instances(result.getRecords())
+        .totalRecords(result.getTotalRecords())
+        .facetResult(result.getFacetResult())));
+  }
+
+  @Override
+  public CompletableFuture<ResponseEntity<InstanceSearchResult>> searchInstancesByIds(String tenantId,
+                                                                                      BatchIdsDto batchIdsDto,
+                                                                                      Boolean expandAll) {
+    if (batchIdsDto.getIds().isEmpty()) {
+      return CompletableFuture.completedFuture(ResponseEntity.ok(new InstanceSearchResult().totalRecords(0)));
+    }
+
+    tenantId = tenantProvider.getTenant(tenantId);
+    var ids = batchIdsDto.getIds().stream().map(UUID::toString).distinct().toList();
+    var searchRequest = CqlSearchRequest.of(Instance.class, tenantId, null, ids.size(), 0, expandAll);
+    return CompletableFuture.supplyAsync(() -> searchService.searchByIds(searchRequest, ids), searchRequestExecutor)
+      .thenApply(result -> ResponseEntity.ok(new InstanceSearchResult()
+        .instances(result.getRecords())
+        .totalRecords(result.getTotalRecords())));
   }
 
   @Override
-  public ResponseEntity<LinkedDataWorkSearchResult> searchLinkedDataWorks(String tenantId,
-                                                                          String query,
-                                                                          Integer limit,
-                                                                          Integer offset) {
+  public CompletableFuture<ResponseEntity<LinkedDataWorkSearchResult>> searchLinkedDataWorks(String tenantId,
+                                                                                             String query,
+                                                                                             Integer limit,
+                                                                                             Integer offset) {
     var searchRequest = CqlSearchRequest.of(
       LinkedDataWork.class, tenantId, query, limit, offset, true);
-    var result = searchService.search(searchRequest);
-    return ResponseEntity.ok(new LinkedDataWorkSearchResult()
-      .searchQuery(query)
-      .content(result.getRecords())
-      .pageNumber(divPlusOneIfRemainder(offset, limit))
-      .totalPages(divPlusOneIfRemainder(result.getTotalRecords(), limit))
-      .totalRecords(result.getTotalRecords())
-    );
+    return CompletableFuture.supplyAsync(() -> searchService.search(searchRequest), searchRequestExecutor)
+      .thenApply(result -> ResponseEntity.ok(new LinkedDataWorkSearchResult()
+        .searchQuery(query)
+        .content(result.getRecords())
+        .pageNumber(divPlusOneIfRemainder(offset, limit))
+        .totalPages(divPlusOneIfRemainder(result.getTotalRecords(), limit))
+        .totalRecords(result.getTotalRecords())
+      ));
   }
 
   @Override
-  public ResponseEntity<LinkedDataAuthoritySearchResult> searchLinkedDataAuthorities(String tenantId,
-                                                                                     String query,
-                                                                                     Integer limit,
-                                                                                     Integer offset) {
+  public CompletableFuture<ResponseEntity<LinkedDataAuthoritySearchResult>> searchLinkedDataAuthorities(
+    String tenantId, String query, Integer limit, Integer offset) {
     var searchRequest = CqlSearchRequest.of(
       LinkedDataAuthority.class, tenantId, query, limit, offset, true);
-    var result = searchService.search(searchRequest);
-    return ResponseEntity.ok(new LinkedDataAuthoritySearchResult()
-      .searchQuery(query)
-      .content(result.getRecords())
-      .pageNumber(divPlusOneIfRemainder(offset, limit))
-      .totalPages(divPlusOneIfRemainder(result.getTotalRecords(), limit))
-      .totalRecords(result.getTotalRecords())
-    );
+    return CompletableFuture.supplyAsync(() -> searchService.search(searchRequest), searchRequestExecutor)
+      .thenApply(result -> ResponseEntity.ok(new LinkedDataAuthoritySearchResult()
+        .searchQuery(query)
+        .content(result.getRecords())
+        .pageNumber(divPlusOneIfRemainder(offset, limit))
+        .totalPages(divPlusOneIfRemainder(result.getTotalRecords(), limit))
+        .totalRecords(result.getTotalRecords())
+      ));
   }
 
   private int divPlusOneIfRemainder(int one, int two) {
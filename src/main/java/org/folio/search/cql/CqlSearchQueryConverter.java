@@ -1,18 +1,30 @@
 package org.folio.search.cql;
 
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
 import static org.folio.search.utils.SearchQueryUtils.isBoolQuery;
 import static org.folio.search.utils.SearchQueryUtils.isDisjunctionFilterQuery;
 import static org.folio.search.utils.SearchQueryUtils.isFilterQuery;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.idsQuery;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.exception.RequestValidationException;
 import org.folio.search.model.types.SearchType;
+import org.folio.search.repository.TenantRoutingProvider;
 import org.folio.search.service.consortium.ConsortiumSearchHelper;
 import org.folio.search.service.metadata.SearchFieldProvider;
+import org.folio.spring.FolioExecutionContext;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -33,11 +45,24 @@ import org.z3950.zing.cql.CQLTermNode;
 @RequiredArgsConstructor
 public class CqlSearchQueryConverter {
 
+  /**
+   * Resources, which documents are indexed with the resource id (qualified by tenant for the pooled tenants) as the
+   * document id.
+   */
+  private static final Set<String> IDS_QUERY_RESOURCES = Set.of(INSTANCE_RESOURCE);
+  private static final Pattern IDS_CQL_QUERY_PATTERN =
+    Pattern.compile("^\\s*id\\s*==?\\s*(?:\\(([^()]+)\\)|(\\S+))\\s*$", CASE_INSENSITIVE);
+  private static final Pattern OR_OPERATOR_PATTERN = Pattern.compile("\\s+or\\s+", CASE_INSENSITIVE);
+  private static final Pattern ID_VALUE_PATTERN = Pattern.compile("(\"?)([\\w-]+)\\1");
+
   private final CqlQueryParser cqlQueryParser;
   private final CqlSortProvider cqlSortProvider;
   private final SearchFieldProvider searchFieldProvider;
   private final CqlTermQueryConverter cqlTermQueryConverter;
   private final ConsortiumSearchHelper consortiumSearchHelper;
+  private final SearchConfigurationProperties searchConfigurationProperties;
+  private final TenantRoutingProvider tenantRoutingProvider;
+  private final FolioExecutionContext folioExecutionContext;
 
   /**
    * Converts given CQL search query value to the elasticsearch {@link SearchSourceBuilder} object.
@@ -47,6 +72,12 @@ public class CqlSearchQueryConverter {
    * @return search source as {@link SearchSourceBuilder} object with query and sorting conditions
    */
   public SearchSourceBuilder convert(String query, String resource) {
+    var ids = getIdsFromQuery(query, resource);
+    if (ids.isPresent()) {
+      validateIdsCount(ids.get().size());
+      return new SearchSourceBuilder().query(convertIdsToQuery(ids.get(), resource));
+    }
+
     var cqlNode = cqlQueryParser.parseCqlQuery(query, resource);
     var queryBuilder = new SearchSourceBuilder();
 
@@ -97,6 +128,34 @@ public class CqlSearchQueryConverter {
     return sourceBuilder.query(queryBuilder);
   }
 
+  /**
+   * Converts given resource ids to the elasticsearch {@link SearchSourceBuilder} object with the ids query.
+   * Adds active affiliation tenantId filter in case of consortia mode.
+   *
+   * @param ids      resource ids
+   * @param resource resource name
+   * @return search source as {@link SearchSourceBuilder} object with ids query
+   */
+  public SearchSourceBuilder convertIdsForConsortia(Collection<String> ids, String resource) {
+    var idsQuery = convertIdsToQuery(ids, resource);
+    var queryBuilder = consortiumSearchHelper.filterQueryForActiveAffiliation(idsQuery, resource);
+    return new SearchSourceBuilder().query(queryBuilder);
+  }
+
+  /**
+   * Validates the number of ids requested by the ids query against the configured maximum.
+   *
+   * @param idsCount number of requested ids
+   * @throws RequestValidationException if the number of ids exceeds the maximum
+   */
+  public void validateIdsCount(int idsCount) {
+    var idsLimit = searchConfigurationProperties.getMaxSearchBatchRequestIdsCount();
+    if (idsCount > idsLimit) {
+      throw new RequestValidationException("IDs array size exceeds the maximum allowed limit %s".formatted(idsLimit),
+        "size", Integer.toString(idsCount));
+    }
+  }
+
   /**
    * Converts given CQL search query value to the {@link CQLTermNode} object.
    * If query contains boolean operator then return the left term node
@@ -118,6 +177,50 @@ public class CqlSearchQueryConverter {
     return (CQLTermNode) cqlNode;
   }
 
+  /**
+   * Extracts ids from the query, that is a plain disjunction of exact id matches (e.g. {@code id==(id1 or id2)}).
+   * Such queries are converted to the ids query without parsing of the CQL, because it is expensive for the large
+   * number of ids and produces a bool query with a term clause per id.
+   */
+  private Optional<Collection<String>> getIdsFromQuery(String query, String resource) {
+    if (query == null || !IDS_QUERY_RESOURCES.contains(resource)) {
+      return Optional.empty();
+    }
+
+    var matcher = IDS_CQL_QUERY_PATTERN.matcher(query);
+    if (!matcher.matches()) {
+      return Optional.empty();
+    }
+
+    var disjunction = matcher.group(1);
+    var values = disjunction != null ? OR_OPERATOR_PATTERN.split(disjunction.trim()) : new String[] {matcher.group(2)};
+    var ids = new LinkedHashSet<String>();
+    for (var value : values) {
+      var idMatcher = ID_VALUE_PATTERN.matcher(value);
+      if (!idMatcher.matches()) {
+        return Optional.empty();
+      }
+      ids.add(idMatcher.group(2).toLowerCase());
+    }
+
+    return Optional.of(ids);
+  }
+
+  /**
+   * Converts given resource ids to the elasticsearch ids query. Documents of the pooled tenant are stored with the
+   * tenant-qualified ids, so the ids are qualified by the tenant of the request.
+   *
+   * @param ids      resource ids
+   * @param resource resource name
+   * @return ids query as {@link QueryBuilder} object
+   */
+  public QueryBuilder convertIdsToQuery(Collection<String> ids, String resource) {
+    var tenantId = folioExecutionContext.getTenantId();
+    return idsQuery().addIds(ids.stream()
+      .map(id -> tenantRoutingProvider.getDocumentId(resource, tenantId, id))
+      .toArray(String[]::new));
+  }
+
   private QueryBuilder convertToQuery(CQLNode node, String resource) {
     var cqlNode = node;
     if (node instanceof CQLSortNode cqlSortNode) {
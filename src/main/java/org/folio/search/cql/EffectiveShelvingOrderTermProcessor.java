@@ -6,24 +6,25 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
 import org.folio.search.domain.dto.CallNumberType;
-import org.marc4j.callnum.CallNumber;
-import org.marc4j.callnum.DeweyCallNumber;
-import org.marc4j.callnum.LCCallNumber;
-import org.marc4j.callnum.NlmCallNumber;
+import org.folio.search.model.types.ShelfKeyType;
+import org.folio.search.service.ShelfKeyService;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class EffectiveShelvingOrderTermProcessor implements SearchTermProcessor {
 
-  private static final Map<String, Function<String, String>> CN_TYPE_TO_SHELF_KEY_GENERATOR = Map.of(
-    CallNumberType.NLM.getValue(), cn -> getShelfKey(new NlmCallNumber(cn)),
-    CallNumberType.LC.getValue(), cn -> getShelfKey(new LCCallNumber(cn)),
-    CallNumberType.DEWEY.getValue(), cn -> getShelfKey(new DeweyCallNumber(cn)),
-    CallNumberType.SUDOC.getValue(), cn -> getShelfKey(new SuDocCallNumber(cn))
+  private static final Map<String, ShelfKeyType> CN_TYPE_TO_SHELF_KEY_TYPE = Map.of(
+    CallNumberType.NLM.getValue(), ShelfKeyType.NLM,
+    CallNumberType.LC.getValue(), ShelfKeyType.LC,
+    CallNumberType.DEWEY.getValue(), ShelfKeyType.DEWEY,
+    CallNumberType.SUDOC.getValue(), ShelfKeyType.SUDOC
   );
 
+  private final ShelfKeyService shelfKeyService;
+
   @Override
   public String getSearchTerm(String inputTerm) {
     return normalizeEffectiveShelvingOrder(inputTerm);
@@ -34,25 +35,21 @@ public class EffectiveShelvingOrderTermProcessor implements SearchTermProcessor
       return normalizeEffectiveShelvingOrder(inputTerm);
     }
 
-    return Optional.ofNullable(CN_TYPE_TO_SHELF_KEY_GENERATOR.get(callNumberTypeName))
-      .map(function -> function.apply(inputTerm))
+    return Optional.ofNullable(CN_TYPE_TO_SHELF_KEY_TYPE.get(callNumberTypeName))
+      .map(shelfKeyType -> shelfKeyService.getShelfKey(inputTerm, shelfKeyType))
       .orElse(normalizeEffectiveShelvingOrder(inputTerm));
   }
 
   public List<String> getSearchTerms(String inputTerm) {
     var searchTerms = new ArrayList<String>();
 
-    searchTerms.add(getShelfKey(new NlmCallNumber(inputTerm)));
-    searchTerms.add(getShelfKey(new LCCallNumber(inputTerm)));
-    searchTerms.add(getShelfKey(new DeweyCallNumber(inputTerm)));
-    searchTerms.add(getShelfKey(new SuDocCallNumber(inputTerm)));
+    searchTerms.add(shelfKeyService.getShelfKey(inputTerm, ShelfKeyType.NLM));
+    searchTerms.add(shelfKeyService.getShelfKey(inputTerm, ShelfKeyType.LC));
+    searchTerms.add(shelfKeyService.getShelfKey(inputTerm, ShelfKeyType.DEWEY));
+    searchTerms.add(shelfKeyService.getShelfKey(inputTerm, ShelfKeyType.SUDOC));
 
     searchTerms.add(normalizeEffectiveShelvingOrder(inputTerm));
 
     return searchTerms;
   }
-
-  private static String getShelfKey(CallNumber value) {
-    return value.getShelfKey().trim();
-  }
 }
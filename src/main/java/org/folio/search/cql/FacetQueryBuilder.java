@@ -11,17 +11,24 @@ import static org.folio.search.utils.CollectionUtils.findFirst;
 import static org.folio.search.utils.SearchQueryUtils.isBoolQuery;
 import static org.folio.search.utils.SearchQueryUtils.isDisjunctionFilterQuery;
 import static org.folio.search.utils.SearchQueryUtils.isFilterQuery;
+import static org.folio.search.utils.SearchUtils.CARDINALITY_AGG_PREFIX;
+import static org.folio.search.utils.SearchUtils.FACET_COMPOSITE_SOURCE_NAME;
 import static org.folio.search.utils.SearchUtils.SELECTED_AGG_PREFIX;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
+import static org.opensearch.search.aggregations.AggregationBuilders.composite;
 import static org.opensearch.search.aggregations.AggregationBuilders.filter;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Pattern;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.exception.RequestValidationException;
 import org.folio.search.model.Pair;
 import org.folio.search.model.metadata.PlainFieldDescription;
@@ -33,6 +40,8 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.terms.IncludeExclude;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.springframework.stereotype.Component;
@@ -42,23 +51,37 @@ import org.springframework.stereotype.Component;
 public class FacetQueryBuilder {
 
   private static final String FACET_KEY = "facet";
+  private static final String FACET_AFTER_KEY = "facetAfter";
   private static final String NESTED_TERMS_AGG_NAME = "values";
-  private static final int DEFAULT_FACET_SIZE = Integer.MAX_VALUE;
   private static final Pattern FACET_FORMAT_REGEX = Pattern.compile("^([A-Za-z.]+)(:(\\d{1,10}))?$");
 
   private final SearchFieldProvider searchFieldProvider;
+  private final SearchConfigurationProperties searchConfigurationProperties;
 
   /**
    * Provides list of aggregations for passed {@link CqlFacetRequest} and elasticsearch query.
    *
+   * <p>The number of values for each facet is limited by the maximum facet size from the search configuration, a
+   * cardinality aggregation is added for each facet to estimate the total number of its values. If the request
+   * contains the 'facetAfter' value, the single requested facet is built as a composite aggregation to page through
+   * all its values.</p>
+   *
    * @param request facet request as {@link CqlFacetRequest}
    * @param query   elasticsearch query as {@link QueryBuilder}
    * @return {@link List} with elasticsearch {@link AggregationBuilder} values
    */
   public List<AggregationBuilder> getFacetAggregations(CqlFacetRequest request, QueryBuilder query) {
-    return request.getFacet().stream()
+    var facets = request.getFacet().stream()
       .map(facet -> searchFieldProvider.getModifiedField(facet, request.getResource()))
       .map(facet -> getFacetFieldAndLimitAsPair(request.getResource(), facet))
+      .toList();
+
+    if (request.getFacetAfter() != null && facets.size() != 1) {
+      throw new RequestValidationException(
+        "Facet paging is supported only for a single facet", FACET_AFTER_KEY, request.getFacetAfter());
+    }
+
+    return facets.stream()
       .map(facet -> getFacetAggregation(request, query, facet))
       .flatMap(Collection::stream)
       .toList();
@@ -69,9 +92,14 @@ public class FacetQueryBuilder {
     var field = facet.getField();
     validateFacetField(facet, request.getResource());
     var filterAndFacetTerms = getFilterQueryAndFacetTerms(field, query);
-    return filterAndFacetTerms.getFirst() != null
-           ? singletonList(getFilterAggregation(filterAndFacetTerms, facet))
-           : getTermsAggs(facet.getAggregationName(), facet, filterAndFacetTerms.getSecond());
+    if (filterAndFacetTerms.getFirst() != null) {
+      return singletonList(getFilterAggregation(filterAndFacetTerms, facet, request.getFacetAfter()));
+    }
+
+    var aggregations = new ArrayList<AggregationBuilder>(
+      getValuesAggs(facet.getAggregationName(), facet, filterAndFacetTerms.getSecond(), request.getFacetAfter()));
+    aggregations.add(cardinalityAgg(facet.getAggregationName(), field));
+    return aggregations;
   }
 
   private void validateFacetField(Facet facet, String resource) {
@@ -100,7 +128,8 @@ public class FacetQueryBuilder {
     if (matcher.matches()) {
       var facetName = matcher.group(1);
       var field = findFirst(searchFieldProvider.getFields(resource, facetName)).orElse(facetName);
-      var size = matcher.group(3) == null ? DEFAULT_FACET_SIZE : parseInt(matcher.group(3));
+      var maxFacetSize = searchConfigurationProperties.getMaxFacetSize();
+      var size = matcher.group(3) == null ? maxFacetSize : Math.min(parseInt(matcher.group(3)), maxFacetSize);
       return Facet.of(field, facetName, size);
     }
 
@@ -134,12 +163,18 @@ public class FacetQueryBuilder {
   }
 
   private static AggregationBuilder getFilterAggregation(
-    Pair<BoolQueryBuilder, List<String>> filterAndTerms, Facet facet) {
+    Pair<BoolQueryBuilder, List<String>> filterAndTerms, Facet facet, String facetAfter) {
     var filterAggregation = filter(facet.getAggregationName(), filterAndTerms.getFirst());
-    getTermsAggs(NESTED_TERMS_AGG_NAME, facet, filterAndTerms.getSecond()).forEach(filterAggregation::subAggregation);
+    getValuesAggs(NESTED_TERMS_AGG_NAME, facet, filterAndTerms.getSecond(), facetAfter)
+      .forEach(filterAggregation::subAggregation);
+    filterAggregation.subAggregation(cardinalityAgg(NESTED_TERMS_AGG_NAME, facet.getField()));
     return filterAggregation;
   }
 
+  private static List<AggregationBuilder> getValuesAggs(String name, Facet facet, List<String> terms, String after) {
+    return after != null ? singletonList(compositeAgg(name, facet, after)) : getTermsAggs(name, facet, terms);
+  }
+
   private static List<AggregationBuilder> getTermsAggs(String name, Facet facet, List<String> terms) {
     var size = facet.getSize();
     var field = facet.getField();
@@ -163,6 +198,18 @@ public class FacetQueryBuilder {
     return AggregationBuilders.terms(name).field(field).size(size);
   }
 
+  private static CompositeAggregationBuilder compositeAgg(String name, Facet facet, String after) {
+    var valuesSource = new TermsValuesSourceBuilder(FACET_COMPOSITE_SOURCE_NAME).field(facet.getField());
+    var compositeAggregation = composite(name, List.of(valuesSource)).size(facet.getSize());
+    return StringUtils.isEmpty(after)
+           ? compositeAggregation
+           : compositeAggregation.aggregateAfter(Map.of(FACET_COMPOSITE_SOURCE_NAME, after));
+  }
+
+  private static AggregationBuilder cardinalityAgg(String name, String field) {
+    return cardinality(CARDINALITY_AGG_PREFIX + name).field(field);
+  }
+
   private static Optional<String> getValueFromFilerQuery(QueryBuilder query) {
     return query instanceof TermQueryBuilder ? ofNullable((String) ((TermQueryBuilder) query).value()) : empty();
   }
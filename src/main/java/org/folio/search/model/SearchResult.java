@@ -3,14 +3,13 @@ package org.folio.search.model;
 import static java.util.Collections.emptyList;
 
 import java.util.List;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.apache.commons.collections.CollectionUtils;
+import org.folio.search.domain.dto.FacetResult;
 
 @Data
 @NoArgsConstructor
-@AllArgsConstructor(staticName = "of")
 public class SearchResult<T> {
 
   /**
@@ -23,6 +22,23 @@ public class SearchResult<T> {
    */
   protected List<T> records;
 
+  /**
+   * Facets calculated for the same query as records, if requested.
+   */
+  protected FacetResult facetResult;
+
+  /**
+   * Creates {@link SearchResult} object for given total records and records.
+   *
+   * @param totalRecords - amount of records found
+   * @param records      - list with found records
+   * @param <R>          - generic type for result elements
+   * @return created {@link SearchResult} object
+   */
+  public static <R> SearchResult<R> of(int totalRecords, List<R> records) {
+    return new SearchResult<R>().totalRecords(totalRecords).records(records);
+  }
+
   /**
    * Creates empty {@link SearchResult} object.
    *
@@ -30,7 +46,7 @@ public class SearchResult<T> {
    * @return empty {@link SearchResult} object
    */
   public static <R> SearchResult<R> empty() {
-    return new SearchResult<>(0, emptyList());
+    return of(0, emptyList());
   }
 
   /**
@@ -55,6 +71,17 @@ public class SearchResult<T> {
     return this;
   }
 
+  /**
+   * Sets facet result and returns {@link SearchResult} object.
+   *
+   * @param facetResult - facets calculated for the search query
+   * @return {@link SearchResult} with new facet result value
+   */
+  public SearchResult<T> facetResult(FacetResult facetResult) {
+    this.facetResult = facetResult;
+    return this;
+  }
+
   /**
    * Checks if search result is empty or not.
    *
@@ -21,6 +21,26 @@ public record CqlQuery(String query) {
     return fromTemplate("%s==(%s)", param.getCqlParam(), valuesConcatenated);
   }
 
+  /**
+   * Creates query for the values of the parameter within the range, sorted by the parameter.
+   *
+   * @param param          - query parameter
+   * @param lowerBound     - lower bound of the range
+   * @param lowerInclusive - defines if the lower bound is included into the range
+   * @param upperBound     - exclusive upper bound of the range, the range is not bounded from above if it is null
+   * @return created {@link CqlQuery} object
+   */
+  public static CqlQuery rangeSortedBy(CqlQueryParam param, String lowerBound, boolean lowerInclusive,
+                                       String upperBound) {
+    var cqlParam = param.getCqlParam();
+    var query = new StringBuilder()
+      .append(cqlParam).append(lowerInclusive ? ">=" : ">").append('"').append(lowerBound).append('"');
+    if (upperBound != null) {
+      query.append(" and ").append(cqlParam).append("<\"").append(upperBound).append('"');
+    }
+    return new CqlQuery(query.append(" sortBy ").append(cqlParam).toString());
+  }
+
   private static CqlQuery fromTemplate(String format, Object... args) {
     return new CqlQuery(String.format(format, args));
   }
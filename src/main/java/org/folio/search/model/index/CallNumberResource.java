@@ -0,0 +1,10 @@
+package org.folio.search.model.index;
+
+import java.util.Set;
+
+public record CallNumberResource(
+  String id,
+  String shelvingOrder,
+  String fullCallNumber,
+  Set<InstanceSubResource> instances) {
+}
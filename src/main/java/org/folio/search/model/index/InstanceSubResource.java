@@ -8,6 +8,7 @@ import lombok.Data;
 public class InstanceSubResource {
   private String instanceId;
   private String typeId;
+  private String locationId;
   private String tenantId;
   private Boolean shared;
 }
@@ -7,7 +7,7 @@ import org.folio.search.domain.dto.BrowseOptionType;
 import org.folio.search.model.ResourceRequest;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @RequiredArgsConstructor(staticName = "of")
 public class BrowseRequest implements ResourceRequest {
 
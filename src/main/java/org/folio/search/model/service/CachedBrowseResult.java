@@ -0,0 +1,20 @@
+package org.folio.search.model.service;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.folio.search.model.BrowseResult;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+public class CachedBrowseResult {
+
+  /**
+   * Write generation of the index at the moment when the browse page was loaded.
+   */
+  private final long indexGeneration;
+
+  /**
+   * Browse page, loaded for the index generation.
+   */
+  private final BrowseResult<?> browseResult;
+}
@@ -0,0 +1,20 @@
+package org.folio.search.model.service;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.folio.search.domain.dto.FacetResult;
+
+@Data
+@RequiredArgsConstructor(staticName = "of")
+public class CachedFacetResult {
+
+  /**
+   * Write generation of the index at the moment when the facet query was executed.
+   */
+  private final long indexGeneration;
+
+  /**
+   * Facet result, calculated for the index generation.
+   */
+  private final FacetResult facetResult;
+}
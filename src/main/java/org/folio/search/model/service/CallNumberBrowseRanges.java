@@ -0,0 +1,31 @@
+package org.folio.search.model.service;
+
+import lombok.Value;
+
+/**
+ * Call number range histogram for call-number browsing optimization.
+ *
+ * <p>Ranges are stored as compact arrays, where the bound is the numeric representation of the range lower boundary
+ * and the count is the amount of resources above the bound and before the next one. Bounds are sorted in ascending
+ * order.</p>
+ */
+@Value(staticConstructor = "of")
+public class CallNumberBrowseRanges {
+
+  private static final CallNumberBrowseRanges EMPTY = of(new long[0], new long[0]);
+
+  long[] bounds;
+  long[] counts;
+
+  public static CallNumberBrowseRanges empty() {
+    return EMPTY;
+  }
+
+  public boolean isEmpty() {
+    return bounds.length == 0;
+  }
+
+  public int size() {
+    return bounds.length;
+  }
+}
@@ -31,4 +31,13 @@ public class CqlFacetRequest implements ResourceRequest {
    * List of facet names in format {@code {facetName}} or {@code {facetName}:{facetLimit}}.
    */
   private final List<String> facet;
+
+  /**
+   * Key of the last facet value of the previous page, an empty value requests the first page of facet values.
+   */
+  private final String facetAfter;
+
+  public static CqlFacetRequest of(String resource, String tenantId, String query, List<String> facet) {
+    return of(resource, tenantId, query, facet, null);
+  }
 }
@@ -1,5 +1,6 @@
 package org.folio.search.model.service;
 
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -58,6 +59,11 @@ public class CqlSearchRequest<T> implements ResourceRequest {
    */
   private final Boolean consortiumConsolidated;
 
+  /**
+   * Facet names to calculate together with the search result, in the same format as for the facet request.
+   */
+  private final List<String> facets;
+
   /**
    * Creates {@link CqlSearchRequest} object for given variables.
    *
@@ -70,14 +76,23 @@ public class CqlSearchRequest<T> implements ResourceRequest {
    * @param <R>                   - generic type for {@link CqlSearchRequest} object.
    * @param includeNumberOfTitles - indicates whether the number of titles should be counted.
    * @param consortiumConsolidated - indicates whether to return consortium consolidated records.
+   * @param facets                - facet names to calculate together with the search result
    * @return created {@link CqlSearchRequest} object
    */
   public static <R> CqlSearchRequest<R> of(Class<R> resourceClass, String tenantId, String query,
                                            Integer limit, Integer offset, Boolean expandAll,
-                                           Boolean includeNumberOfTitles, Boolean consortiumConsolidated) {
+                                           Boolean includeNumberOfTitles, Boolean consortiumConsolidated,
+                                           List<String> facets) {
     var resource = SearchUtils.getResourceName(resourceClass);
     return new CqlSearchRequest<>(resource, resourceClass, tenantId, query, limit, offset, expandAll,
-      includeNumberOfTitles, consortiumConsolidated);
+      includeNumberOfTitles, consortiumConsolidated, facets);
+  }
+
+  public static <R> CqlSearchRequest<R> of(Class<R> resourceClass, String tenantId, String query,
+                                           Integer limit, Integer offset, Boolean expandAll,
+                                           Boolean includeNumberOfTitles, Boolean consortiumConsolidated) {
+    return CqlSearchRequest.of(resourceClass, tenantId, query, limit, offset, expandAll,
+      includeNumberOfTitles, consortiumConsolidated, null);
   }
 
   public static <R> CqlSearchRequest<R> of(Class<R> resourceClass, String tenantId, String query,
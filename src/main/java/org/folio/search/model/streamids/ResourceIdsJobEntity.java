@@ -46,4 +46,10 @@ public class ResourceIdsJobEntity {
   @Column(name = "created_date")
   private Date createdDate;
 
+  /**
+   * Hash of the tenant id, entity type and normalized query, populated only for jobs that build their own temporary
+   * table, so they can be reused by identical jobs submitted later.
+   */
+  private String fingerprint;
+
 }
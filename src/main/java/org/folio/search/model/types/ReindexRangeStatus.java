@@ -0,0 +1,9 @@
+package org.folio.search.model.types;
+
+public enum ReindexRangeStatus {
+
+  NEW,
+  IN_PROGRESS,
+  COMPLETED,
+  FAILED
+}
@@ -0,0 +1,55 @@
+package org.folio.search.model.types;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
+import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ResourceIdsStreamFormat {
+
+  /**
+   * Single json object with array of ids and total records count.
+   */
+  JSON(APPLICATION_JSON_VALUE),
+
+  /**
+   * Newline delimited json objects, one per resource id.
+   */
+  NDJSON(APPLICATION_NDJSON_VALUE),
+
+  /**
+   * Newline delimited resource ids.
+   */
+  TEXT(TEXT_PLAIN_VALUE),
+
+  /**
+   * Resource ids as raw 16-byte UUIDs (most significant bits first) without delimiters.
+   */
+  BINARY(APPLICATION_OCTET_STREAM_VALUE);
+
+  private final String mediaType;
+
+  /**
+   * Resolves stream format by Content-Type header value, {@link #JSON} is used by default.
+   *
+   * @param contentType - Content-Type header value
+   * @return resolved {@link ResourceIdsStreamFormat} value
+   */
+  public static ResourceIdsStreamFormat fromContentType(String contentType) {
+    if (contentType == null) {
+      return JSON;
+    }
+
+    for (var value : values()) {
+      if (contentType.contains(value.getMediaType())) {
+        return value;
+      }
+    }
+    return JSON;
+  }
+}
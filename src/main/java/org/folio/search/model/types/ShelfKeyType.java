@@ -0,0 +1,45 @@
+package org.folio.search.model.types;
+
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+import org.folio.search.cql.SuDocCallNumber;
+import org.folio.search.domain.dto.ShelvingOrderAlgorithmType;
+import org.marc4j.callnum.DeweyCallNumber;
+import org.marc4j.callnum.LCCallNumber;
+import org.marc4j.callnum.NlmCallNumber;
+
+/**
+ * Algorithms of shelf key calculation for call numbers and classification numbers.
+ */
+public enum ShelfKeyType {
+
+  LC(callNumber -> new LCCallNumber(callNumber).getShelfKey()),
+  DEWEY(callNumber -> new DeweyCallNumber(callNumber).getShelfKey()),
+  NLM(callNumber -> new NlmCallNumber(callNumber).getShelfKey()),
+  SUDOC(callNumber -> new SuDocCallNumber(callNumber).getShelfKey()),
+  DEFAULT(callNumber -> callNumber.toUpperCase(Locale.ROOT));
+
+  private final UnaryOperator<String> shelfKeyFunction;
+
+  ShelfKeyType(UnaryOperator<String> shelfKeyFunction) {
+    this.shelfKeyFunction = shelfKeyFunction;
+  }
+
+  /**
+   * Calculates shelf key for the given call number without caching.
+   *
+   * @param callNumber - call number as {@link String} object
+   * @return calculated shelf key
+   */
+  public String calculate(String callNumber) {
+    return shelfKeyFunction.apply(callNumber).trim();
+  }
+
+  public static ShelfKeyType of(ShelvingOrderAlgorithmType algorithmType) {
+    return switch (algorithmType) {
+      case LC -> LC;
+      case DEWEY -> DEWEY;
+      case DEFAULT -> DEFAULT;
+    };
+  }
+}
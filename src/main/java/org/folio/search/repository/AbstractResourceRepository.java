@@ -1,18 +1,31 @@
 package org.folio.search.repository;
 
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toSet;
 import static org.folio.search.model.types.IndexActionType.INDEX;
+import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
 import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.folio.search.utils.SearchUtils.SHARED_FIELD_NAME;
 import static org.folio.search.utils.SearchUtils.TENANT_ID_FIELD_NAME;
 import static org.folio.search.utils.SearchUtils.performExceptionalOperation;
 import static org.opensearch.client.RequestOptions.DEFAULT;
+import static org.opensearch.index.query.QueryBuilders.idsQuery;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.model.index.SearchDocumentBody;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkItemResponse;
@@ -20,16 +33,26 @@ import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @Log4j2
 public abstract class AbstractResourceRepository implements ResourceRepository {
 
+  private static final String ROUTING_FIELD = "_routing";
+
   protected RestHighLevelClient elasticsearchClient;
   protected IndexNameProvider indexNameProvider;
+  protected IndexGenerationTracker indexGenerationTracker;
+  protected ShadowIndexProvider shadowIndexProvider;
+  protected IndexWriteRateTracker indexWriteRateTracker;
+  protected TenantRoutingProvider tenantRoutingProvider;
 
   @Override
   public FolioIndexOperationResponse indexResources(List<SearchDocumentBody> documents) {
@@ -48,11 +71,20 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
   @Override
   public FolioIndexOperationResponse deleteResourceByTenantId(String resource, String tenantId) {
     var indexName = indexNameProvider.getIndexName(resource, tenantId);
-    var request = new DeleteByQueryRequest(indexName);
+    var indices = new ArrayList<String>();
+    indices.add(indexName);
+    shadowIndexProvider.getShadowIndex(indexName).ifPresent(indices::add);
+    var request = new DeleteByQueryRequest(indices.toArray(String[]::new));
     request.setQuery(termQuery(TENANT_ID_FIELD_NAME, tenantId));
-    var bulkByScrollResponse =
-      performExceptionalOperation(() -> elasticsearchClient.deleteByQuery(request, DEFAULT), indexName,
-        "deleteByQueryApi");
+    request.setRouting(tenantRoutingProvider.getRouting(resource, tenantId));
+    var indicesString = String.join(",", indices);
+    BulkByScrollResponse bulkByScrollResponse;
+    try {
+      bulkByScrollResponse = performExceptionalOperation(
+        () -> elasticsearchClient.deleteByQuery(request, DEFAULT), indicesString, "deleteByQueryApi");
+    } finally {
+      indexGenerationTracker.incrementGenerations(indices);
+    }
     return bulkByScrollResponse.getBulkFailures().isEmpty()
            ? getSuccessIndexOperationResponse()
            : getErrorIndexOperationResponse(getBulkByScrollResponseErrorMessage(bulkByScrollResponse));
@@ -63,20 +95,79 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
     this.indexNameProvider = indexNameProvider;
   }
 
+  @Autowired
+  public void setIndexGenerationTracker(IndexGenerationTracker indexGenerationTracker) {
+    this.indexGenerationTracker = indexGenerationTracker;
+  }
+
+  @Autowired
+  public void setShadowIndexProvider(ShadowIndexProvider shadowIndexProvider) {
+    this.shadowIndexProvider = shadowIndexProvider;
+  }
+
+  @Autowired
+  public void setIndexWriteRateTracker(IndexWriteRateTracker indexWriteRateTracker) {
+    this.indexWriteRateTracker = indexWriteRateTracker;
+  }
+
+  @Autowired
+  public void setTenantRoutingProvider(TenantRoutingProvider tenantRoutingProvider) {
+    this.tenantRoutingProvider = tenantRoutingProvider;
+  }
+
   @Autowired
   public void setElasticsearchClient(RestHighLevelClient elasticsearchClient) {
     this.elasticsearchClient = elasticsearchClient;
   }
 
+  /**
+   * Executes bulk request. Requests to the indices being reindexed with index recreation are duplicated to their
+   * shadow indices, so the shadow index does not miss the changes made while the reindex is running. Reindex writes
+   * are sent only to the shadow index (see {@link #getIndexName(SearchDocumentBody)}), so they are not duplicated.
+   * Writes to the serving indices are recorded to measure the write rate.
+   *
+   * @param bulkRequest - bulk request as {@link BulkRequest} object
+   * @return {@link BulkResponse} object
+   */
   protected BulkResponse executeBulkRequest(BulkRequest bulkRequest) {
+    indexWriteRateTracker.recordWrites(bulkRequest.requests().stream().map(DocWriteRequest::index).toList());
+    addShadowIndexRequests(bulkRequest);
     var indicesString = bulkRequest.requests().stream().map(DocWriteRequest::index).collect(joining(","));
-    return performExceptionalOperation(() -> elasticsearchClient.bulk(bulkRequest, DEFAULT), indicesString, "bulkApi");
+    try {
+      return performExceptionalOperation(
+        () -> elasticsearchClient.bulk(bulkRequest, DEFAULT), indicesString, "bulkApi");
+    } finally {
+      indexGenerationTracker.incrementGenerations(
+        bulkRequest.requests().stream().map(DocWriteRequest::index).collect(toSet()));
+    }
   }
 
+  /**
+   * Prepares bulk request for the given documents. If the documents are routed by the owning tenant, the current
+   * routing of the indexed documents is looked up, so the copies with another routing (e.g. left after the instance
+   * was shared) are deleted and the deletes are sent to the shards holding the documents.
+   *
+   * @param documents - list with search document bodies as {@link SearchDocumentBody} objects
+   * @return prepared {@link BulkRequest} request
+   */
   protected BulkRequest prepareBulkRequest(List<SearchDocumentBody> documents) {
     var request = new BulkRequest();
+    var existingRoutings = getExistingRoutings(documents);
     for (var document : documents) {
-      request.add(document.getAction() == INDEX ? prepareIndexRequest(document) : prepareDeleteRequest(document));
+      var routings = existingRoutings.getOrDefault(getIndexName(document), emptyMap())
+        .get(document.getId());
+      if (routings == null) {
+        request.add(document.getAction() == INDEX ? prepareIndexRequest(document) : prepareDeleteRequest(document));
+        continue;
+      }
+
+      var routing = document.getAction() == INDEX ? tenantRoutingProvider.getRouting(document) : null;
+      routings.stream()
+        .filter(existingRouting -> document.getAction() != INDEX || !Objects.equals(existingRouting, routing))
+        .forEach(existingRouting -> request.add(prepareDeleteRequest(document).routing(existingRouting)));
+      if (document.getAction() == INDEX) {
+        request.add(prepareIndexRequest(document));
+      }
     }
     return request;
   }
@@ -88,8 +179,9 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
    * @return prepared {@link IndexRequest} request
    */
   protected IndexRequest prepareIndexRequest(SearchDocumentBody doc) {
-    return new IndexRequest(indexNameProvider.getIndexName(doc))
-      .id(doc.getId())
+    return new IndexRequest(getIndexName(doc))
+      .id(tenantRoutingProvider.getDocumentId(doc))
+      .routing(tenantRoutingProvider.getRouting(doc))
       .source(doc.getDocumentBody(), doc.getDataFormat().getXcontentType());
   }
 
@@ -100,7 +192,107 @@ public abstract class AbstractResourceRepository implements ResourceRepository {
    * @return prepared {@link DeleteRequest} request
    */
   protected DeleteRequest prepareDeleteRequest(SearchDocumentBody doc) {
-    return new DeleteRequest(indexNameProvider.getIndexName(doc)).id(doc.getId());
+    return new DeleteRequest(getIndexName(doc))
+      .id(tenantRoutingProvider.getDocumentId(doc))
+      .routing(tenantRoutingProvider.getRouting(doc));
+  }
+
+  /**
+   * Provides name of the index to write the document to. Documents of the reindex events are written only to the
+   * shadow index if the reindex with index recreation is running, the serving index receives only live changes.
+   *
+   * @param doc - search document body as {@link SearchDocumentBody} object.
+   * @return index name as {@link String} object
+   */
+  protected String getIndexName(SearchDocumentBody doc) {
+    var indexName = indexNameProvider.getIndexName(doc);
+    if (doc.getResourceEvent().getType() != ResourceEventType.REINDEX) {
+      return indexName;
+    }
+    return shadowIndexProvider.getShadowIndex(indexName).orElse(indexName);
+  }
+
+  /**
+   * Provides routings of the already indexed documents which are routed by the owning tenant. Routing of the pooled
+   * tenant documents doesn't change, so it is not looked up. Routings are looked up only for the documents which can
+   * have a copy with another routing: deleted documents, documents routed by the owning tenant and shared documents,
+   * that could be routed by the member tenant before the instance was shared. Documents of the non-consortium tenants
+   * are always routed by id, so they are written without the lookup.
+   *
+   * @return map with index names as keys and maps of document ids to their routings as values, the null routing
+   *   stands for the document routed by its id
+   */
+  private Map<String, Map<String, List<String>>> getExistingRoutings(List<SearchDocumentBody> documents) {
+    var idsByIndex = documents.stream()
+      .filter(document -> tenantRoutingProvider.isTenantRoutingEnabled(document.getResource())
+        && !tenantRoutingProvider.isPooledTenant(document.getResource(), document.getTenant())
+        && isRoutingLookupRequired(document))
+      .collect(groupingBy(this::getIndexName, mapping(SearchDocumentBody::getId, toSet())));
+
+    var result = new HashMap<String, Map<String, List<String>>>();
+    idsByIndex.forEach((index, ids) -> {
+      var source = new SearchSourceBuilder()
+        .query(idsQuery().addIds(ids.toArray(String[]::new)))
+        .fetchSource(false)
+        .size(ids.size());
+      var searchRequest = new SearchRequest(index).source(source).indicesOptions(IndicesOptions.lenientExpandOpen());
+      var response = performExceptionalOperation(
+        () -> elasticsearchClient.search(searchRequest, DEFAULT), index, "searchApi");
+      var routings = new HashMap<String, List<String>>();
+      for (var hit : response.getHits().getHits()) {
+        var routingField = hit.field(ROUTING_FIELD);
+        routings.computeIfAbsent(hit.getId(), id -> new ArrayList<>())
+          .add(routingField == null ? null : routingField.getValue());
+      }
+      ids.forEach(id -> routings.putIfAbsent(id, List.of()));
+      result.put(index, routings);
+    });
+    return result;
+  }
+
+  private boolean isRoutingLookupRequired(SearchDocumentBody document) {
+    return document.getAction() != INDEX || tenantRoutingProvider.getRouting(document) != null
+      || MapUtils.getBooleanValue(getNewAsMap(document.getResourceEvent()), SHARED_FIELD_NAME);
+  }
+
+  private void addShadowIndexRequests(BulkRequest bulkRequest) {
+    var shadowIndexRequests = new ArrayList<DocWriteRequest<?>>();
+    for (var request : bulkRequest.requests()) {
+      shadowIndexProvider.getShadowIndex(request.index())
+        .map(shadowIndex -> copyRequest(request, shadowIndex))
+        .ifPresent(shadowIndexRequests::add);
+    }
+    shadowIndexRequests.forEach(bulkRequest::add);
+  }
+
+  private static DocWriteRequest<?> copyRequest(DocWriteRequest<?> request, String index) {
+    if (request instanceof IndexRequest indexRequest) {
+      return new IndexRequest(index)
+        .id(indexRequest.id())
+        .routing(indexRequest.routing())
+        .opType(indexRequest.opType())
+        .source(indexRequest.source(), indexRequest.getContentType());
+    }
+
+    if (request instanceof UpdateRequest updateRequest) {
+      var shadowRequest = new UpdateRequest(index, updateRequest.id())
+        .routing(updateRequest.routing())
+        .retryOnConflict(updateRequest.retryOnConflict())
+        .scriptedUpsert(updateRequest.scriptedUpsert())
+        .docAsUpsert(updateRequest.docAsUpsert());
+      if (updateRequest.script() != null) {
+        shadowRequest.script(updateRequest.script());
+      }
+      if (updateRequest.doc() != null) {
+        shadowRequest.doc(updateRequest.doc());
+      }
+      if (updateRequest.upsertRequest() != null) {
+        shadowRequest.upsert(updateRequest.upsertRequest());
+      }
+      return shadowRequest;
+    }
+
+    return new DeleteRequest(index).id(request.id()).routing(request.routing());
   }
 
   private static String getBulkByScrollResponseErrorMessage(BulkByScrollResponse bulkByScrollResponse) {
@@ -0,0 +1,50 @@
+package org.folio.search.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks write generations of search indices.
+ *
+ * <p>The generation of the index is incremented each time when the module writes documents to the index, creates or
+ * drops it. Generations are tracked per module instance, so writes performed by other instances are not visible.</p>
+ */
+@Component
+public class IndexGenerationTracker {
+
+  private static final IndexGeneration INITIAL_GENERATION = new IndexGeneration(0L, 0L);
+
+  private final Map<String, IndexGeneration> generations = new ConcurrentHashMap<>();
+
+  /**
+   * Provides the current write generation for the given index.
+   *
+   * @param index - index name as {@link String}
+   * @return current {@link IndexGeneration} of the index
+   */
+  public IndexGeneration getGeneration(String index) {
+    return generations.getOrDefault(index, INITIAL_GENERATION);
+  }
+
+  /**
+   * Increments write generations for the given indices.
+   *
+   * @param indices - index names as {@link Iterable} object
+   */
+  public void incrementGenerations(Iterable<String> indices) {
+    var writeTime = System.currentTimeMillis();
+    for (var index : indices) {
+      generations.merge(index, new IndexGeneration(1L, writeTime),
+        (current, next) -> new IndexGeneration(current.value() + 1, writeTime));
+    }
+  }
+
+  /**
+   * Write generation of the search index.
+   *
+   * @param value         - generation number, incremented on each write
+   * @param lastWriteTime - time of the last write to the index in milliseconds
+   */
+  public record IndexGeneration(long value, long lastWriteTime) { }
+}
@@ -10,18 +10,42 @@ import org.folio.search.model.index.SearchDocumentBody;
 import org.folio.search.service.consortium.TenantProvider;
 import org.springframework.stereotype.Component;
 
+/**
+ * Provides index names for resources.
+ *
+ * <p>Provided index name is either a concrete index or an alias pointing to the versioned index built by the reindex
+ * with index recreation. Search engine resolves the alias for search and write requests.</p>
+ *
+ * <p>Pooled tenants share the index of the pool, see {@link TenantRoutingProvider#isPooledTenant(String, String)}.
+ * Requests to the pooled index must be routed and filtered by tenant id.</p>
+ */
 @Log4j2
 @Component
 public class IndexNameProvider {
 
+  private static final String SHADOW_INDEX_ALIAS_SUFFIX = "_reindex";
+
   private final TenantProvider tenantProvider;
+  private final TenantRoutingProvider tenantRoutingProvider;
 
-  public IndexNameProvider(TenantProvider tenantProvider) {
+  public IndexNameProvider(TenantProvider tenantProvider, TenantRoutingProvider tenantRoutingProvider) {
     this.tenantProvider = tenantProvider;
+    this.tenantRoutingProvider = tenantRoutingProvider;
   }
 
+  /**
+   * Provides index name for the resource and tenant. Consortium member tenants share the index of the central tenant,
+   * pooled tenants share the index of the pool.
+   *
+   * @param resource - resource name as {@link String}
+   * @param tenantId - tenant id as {@link String}
+   * @return index name as {@link String}
+   */
   public String getIndexName(String resource, String tenantId) {
     var finalTenantId = tenantProvider.getTenant(tenantId);
+    if (tenantRoutingProvider.isPooledTenant(resource, finalTenantId)) {
+      finalTenantId = tenantRoutingProvider.getPoolName();
+    }
     log.debug("Calculating index name for tenant [resource: {}, original: {}, final: {}]",
       resource, tenantId, finalTenantId);
     return getFolioEnvName().toLowerCase(ROOT) + "_" + resource + "_" + finalTenantId;
@@ -38,4 +62,33 @@ public class IndexNameProvider {
   public String getIndexName(ResourceEvent event) {
     return getIndexName(event.getResourceName(), event.getTenant());
   }
+
+  /**
+   * Provides pattern matching all indices of the current environment.
+   *
+   * @return index pattern as {@link String}
+   */
+  public String getIndicesPattern() {
+    return getFolioEnvName().toLowerCase(ROOT) + "_*";
+  }
+
+  /**
+   * Provides alias of the shadow index, built by the running reindex for the given index.
+   *
+   * @param index - index name or alias as {@link String}
+   * @return shadow index alias as {@link String}
+   */
+  public String getShadowIndexAlias(String index) {
+    return index + SHADOW_INDEX_ALIAS_SUFFIX;
+  }
+
+  /**
+   * Provides new versioned index name for the given alias.
+   *
+   * @param alias - index alias as {@link String}
+   * @return versioned index name as {@link String}
+   */
+  public String getVersionedIndexName(String alias) {
+    return alias + "_" + System.currentTimeMillis();
+  }
 }
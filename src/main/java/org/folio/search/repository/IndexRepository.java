@@ -1,38 +1,68 @@
 package org.folio.search.repository;
 
+import static java.util.stream.Collectors.joining;
 import static org.folio.search.configuration.SearchCacheNames.ES_INDICES_CACHE;
 import static org.folio.search.utils.SearchResponseHelper.getErrorFolioCreateIndexResponse;
 import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessFolioCreateIndexResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.folio.search.utils.SearchUtils.TENANT_ID_FIELD_NAME;
 import static org.folio.search.utils.SearchUtils.performExceptionalOperation;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 import static org.opensearch.common.xcontent.XContentType.JSON;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.folio.search.domain.dto.FolioCreateIndexResponse;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
+import org.opensearch.action.admin.indices.alias.Alias;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.opensearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.client.RequestOptions;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.client.indices.GetMappingsRequest;
 import org.opensearch.client.indices.PutMappingRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
 /**
  * Search resource repository with set of operation to create/modify/update index settings and mappings.
+ *
+ * <p>Index names can be either concrete index names or aliases pointing to a single index, the operations resolve
+ * aliases where the search engine does not do it.</p>
  */
+@Log4j2
 @Repository
 @RequiredArgsConstructor
 public class IndexRepository {
 
+  private static final String META_FIELD = "_meta";
+
   private final RestHighLevelClient elasticsearchClient;
+  private final IndexGenerationTracker indexGenerationTracker;
 
   /**
    * Creates index using passed settings and mappings JSONs.
@@ -44,13 +74,31 @@ public class IndexRepository {
    */
   @CacheEvict(cacheNames = ES_INDICES_CACHE, key = "#index")
   public FolioCreateIndexResponse createIndex(String index, String settings, String mappings) {
+    return createIndex(index, null, settings, mappings);
+  }
+
+  /**
+   * Creates index using passed settings and mappings JSONs and adds the alias to it within the same request.
+   *
+   * @param index    index name as {@link String} object
+   * @param alias    alias name as {@link String} object, nullable
+   * @param settings settings JSON {@link String} object
+   * @param mappings mappings JSON {@link String} object
+   * @return {@link FolioCreateIndexResponse} object
+   */
+  @CacheEvict(cacheNames = ES_INDICES_CACHE, key = "#index")
+  public FolioCreateIndexResponse createIndex(String index, String alias, String settings, String mappings) {
     var createIndexRequest = new CreateIndexRequest(index)
       .settings(settings, JSON)
       .mapping(mappings, JSON);
+    if (alias != null) {
+      createIndexRequest.alias(new Alias(alias));
+    }
 
     var createIndexResponse = performExceptionalOperation(
       () -> elasticsearchClient.indices().create(createIndexRequest, RequestOptions.DEFAULT),
       index, "createIndexApi");
+    indexGenerationTracker.incrementGenerations(List.of(index));
 
     return createIndexResponse.isAcknowledged()
       ? getSuccessFolioCreateIndexResponse(List.of(index))
@@ -79,6 +127,27 @@ public class IndexRepository {
 
   }
 
+  /**
+   * Provides values of the given index settings, default values are returned for the settings that are not set.
+   *
+   * @param index        index name or alias as {@link String} object
+   * @param settingNames full setting names, e.g. {@code index.refresh_interval}
+   * @return map with setting names as keys and setting values as values
+   */
+  public Map<String, String> getIndexSettings(String index, String... settingNames) {
+    var request = new GetSettingsRequest().indices(index).names(settingNames).includeDefaults(true);
+    var response = performExceptionalOperation(
+      () -> elasticsearchClient.indices().getSettings(request, DEFAULT), index, "getSettingsApi");
+
+    var aliasIndices = getAliasIndices(index);
+    var concreteIndex = aliasIndices.isEmpty() ? index : aliasIndices.iterator().next();
+    var settings = new HashMap<String, String>();
+    for (var settingName : settingNames) {
+      settings.put(settingName, response.getSetting(concreteIndex, settingName));
+    }
+    return settings;
+  }
+
   /**
    * Executes {@link PutMappingRequest} for passed index and mappings JSON.
    *
@@ -97,6 +166,46 @@ public class IndexRepository {
       : getErrorIndexOperationResponse("Failed to put mappings");
   }
 
+  /**
+   * Provides custom metadata of the indices, stored in the {@code _meta} field of the index mappings.
+   *
+   * @param indices index names, aliases or patterns
+   * @return map with concrete index names as keys and metadata as values, indices without metadata are skipped
+   */
+  @SuppressWarnings("unchecked")
+  public Map<String, Map<String, Object>> getIndicesMeta(String... indices) {
+    var request = new GetMappingsRequest().indices(indices);
+    var indicesString = String.join(",", indices);
+    var response = performExceptionalOperation(
+      () -> elasticsearchClient.indices().getMapping(request, DEFAULT), indicesString, "getMappingsApi");
+
+    var result = new HashMap<String, Map<String, Object>>();
+    response.mappings().forEach((index, mapping) -> {
+      if (mapping != null && mapping.sourceAsMap().get(META_FIELD) instanceof Map<?, ?> meta) {
+        result.put(index, (Map<String, Object>) meta);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Replaces custom metadata of the index, stored in the {@code _meta} field of the index mappings.
+   *
+   * @param index index name or alias as {@link String} object
+   * @param meta  metadata as {@link Map} object
+   * @return {@link FolioIndexOperationResponse} object
+   */
+  public FolioIndexOperationResponse updateIndexMeta(String index, Map<String, Object> meta) {
+    var putMappingRequest = new PutMappingRequest(index).source(Map.of(META_FIELD, meta));
+    var putMappingsResponse = performExceptionalOperation(
+      () -> elasticsearchClient.indices().putMapping(putMappingRequest, RequestOptions.DEFAULT),
+      index, "putMappingsApi");
+
+    return putMappingsResponse.isAcknowledged()
+      ? getSuccessIndexOperationResponse()
+      : getErrorIndexOperationResponse("Failed to put index metadata");
+  }
+
   /**
    * Checks if index exists in elasticsearch by name.
    *
@@ -123,15 +232,121 @@ public class IndexRepository {
   }
 
   /**
-   * Deletes elasticsearch index by name.
+   * Merges segments of the Elasticsearch index.
+   *
+   * @param index          index name or alias as {@link String} object
+   * @param maxNumSegments maximum number of segments the index is merged to
+   */
+  public void forceMerge(String index, int maxNumSegments) {
+    var request = new ForceMergeRequest(index).maxNumSegments(maxNumSegments);
+    performExceptionalOperation(
+      () -> elasticsearchClient.indices().forcemerge(request, DEFAULT), index, "forceMergeApi");
+  }
+
+  /**
+   * Provides names of the indices the alias points to.
+   *
+   * @param alias alias name
+   * @return names of indices as {@link Set} of {@link String} objects, empty if alias does not exist
+   */
+  public Set<String> getAliasIndices(String alias) {
+    var request = new GetAliasesRequest(alias);
+    var response = performExceptionalOperation(
+      () -> elasticsearchClient.indices().getAlias(request, DEFAULT), alias, "getAliasApi");
+    return response.getAliases().keySet();
+  }
+
+  /**
+   * Points the alias to the given index and removes the previous alias of the index within one atomic request.
+   * Indices served by the alias before the switch are deleted. If the alias name is taken by a concrete index, it
+   * must be passed within indices to delete, so it is replaced by the alias.
+   *
+   * @param alias           alias name
+   * @param index           index name to point the alias to
+   * @param previousAlias   alias of the index to remove
+   * @param indicesToDelete indices served by the alias before the switch
+   */
+  @CacheEvict(cacheNames = ES_INDICES_CACHE, key = "#alias")
+  public void switchAlias(String alias, String index, String previousAlias, Collection<String> indicesToDelete) {
+    var request = new IndicesAliasesRequest()
+      .addAliasAction(AliasActions.add().index(index).alias(alias))
+      .addAliasAction(AliasActions.remove().index(index).alias(previousAlias));
+    indicesToDelete.forEach(indexToDelete -> request.addAliasAction(AliasActions.removeIndex().index(indexToDelete)));
+
+    performExceptionalOperation(
+      () -> elasticsearchClient.indices().updateAliases(request, DEFAULT), alias, "updateAliasesApi");
+    indexGenerationTracker.incrementGenerations(List.of(alias));
+  }
+
+  /**
+   * Waits until all shards of the index are allocated.
+   *
+   * @param index   index name
+   * @param timeout maximum wait time as {@link TimeValue} object
+   * @return true if the index has green status, false - if the wait is timed out
+   */
+  public boolean waitForGreenStatus(String index, TimeValue timeout) {
+    var request = new ClusterHealthRequest(index).waitForGreenStatus().timeout(timeout);
+    var response = performExceptionalOperation(
+      () -> elasticsearchClient.cluster().health(request, DEFAULT), index, "clusterHealthApi");
+    return !response.isTimedOut();
+  }
+
+  /**
+   * Executes a match-all query against the index, so the index segments are loaded before serving search requests.
+   *
+   * @param index index name
+   */
+  public void warmUpIndex(String index) {
+    var request = new SearchRequest(index).source(searchSource().query(matchAllQuery()).size(0).trackTotalHits(true));
+    var response = performExceptionalOperation(
+      () -> elasticsearchClient.search(request, DEFAULT), index, "searchApi");
+    log.info("warmUpIndex:: index warmed up [index: {}, took: {}]", index, response.getTook());
+  }
+
+  /**
+   * Deletes elasticsearch index by name. If the name is an alias, the indices the alias points to are deleted.
    *
    * @param index elasticsearch index name
    */
   @CacheEvict(cacheNames = ES_INDICES_CACHE, key = "#index")
   public void dropIndex(String index) {
-    var request = new DeleteIndexRequest(index);
+    var aliasIndices = getAliasIndices(index);
+    var indices = aliasIndices.isEmpty() ? new String[] {index} : aliasIndices.toArray(String[]::new);
+    var request = new DeleteIndexRequest(indices);
 
     performExceptionalOperation(() -> elasticsearchClient.indices()
       .delete(request, RequestOptions.DEFAULT), index, "dropIndex");
+    indexGenerationTracker.incrementGenerations(List.of(index));
+  }
+
+  /**
+   * Deletes documents of the tenant from the index shared by several tenants, documents of other tenants are kept.
+   *
+   * @param index    elasticsearch index name
+   * @param tenantId tenant id as {@link String} object
+   * @param routing  routing of the tenant documents, nullable
+   * @return {@link FolioIndexOperationResponse} object
+   */
+  public FolioIndexOperationResponse deleteTenantDocuments(String index, String tenantId, String routing) {
+    var request = new DeleteByQueryRequest(index);
+    request.setQuery(termQuery(TENANT_ID_FIELD_NAME, tenantId));
+    request.setRouting(routing);
+    request.setRefresh(true);
+
+    BulkByScrollResponse response;
+    try {
+      response = performExceptionalOperation(
+        () -> elasticsearchClient.deleteByQuery(request, DEFAULT), index, "deleteByQueryApi");
+    } finally {
+      indexGenerationTracker.incrementGenerations(List.of(index));
+    }
+    log.info("deleteTenantDocuments:: tenant documents deleted [index: {}, tenantId: {}, deleted: {}]",
+      index, tenantId, response.getDeleted());
+    return response.getBulkFailures().isEmpty()
+      ? getSuccessIndexOperationResponse()
+      : getErrorIndexOperationResponse(response.getBulkFailures().stream()
+        .map(BulkItemResponse.Failure::getMessage)
+        .collect(joining(",")));
   }
 }
@@ -0,0 +1,46 @@
+package org.folio.search.repository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts documents written to search indices by the module instance.
+ *
+ * <p>Counters are drained by the consumer periodically, so the drained values are the number of writes since the
+ * previous drain.</p>
+ */
+@Component
+public class IndexWriteRateTracker {
+
+  private final Map<String, LongAdder> writeCounts = new ConcurrentHashMap<>();
+
+  /**
+   * Records one document write for each of the given indices, an index is repeated per written document.
+   *
+   * @param indices - index names as {@link Iterable} object
+   */
+  public void recordWrites(Iterable<String> indices) {
+    for (var index : indices) {
+      writeCounts.computeIfAbsent(index, key -> new LongAdder()).increment();
+    }
+  }
+
+  /**
+   * Provides the number of documents written per index since the previous call and resets the counters.
+   *
+   * @return map with index names as keys and write counts as values, indices without writes are omitted
+   */
+  public Map<String, Long> drainWriteCounts() {
+    var result = new HashMap<String, Long>();
+    for (var entry : writeCounts.entrySet()) {
+      var count = entry.getValue().sumThenReset();
+      if (count > 0) {
+        result.put(entry.getKey(), count);
+      }
+    }
+    return result;
+  }
+}
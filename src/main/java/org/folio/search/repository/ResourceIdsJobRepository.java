@@ -1,10 +1,34 @@
 package org.folio.search.repository;
 
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import org.folio.search.model.streamids.ResourceIdsJobEntity;
+import org.folio.search.model.types.StreamJobStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ResourceIdsJobRepository extends JpaRepository<ResourceIdsJobEntity, String> {
 
+  Optional<ResourceIdsJobEntity> findFirstByFingerprintAndStatusInAndCreatedDateAfterOrderByCreatedDateDesc(
+    String fingerprint, Collection<StreamJobStatus> statuses, Date createdDate);
+
+  List<ResourceIdsJobEntity> findAllByCreatedDateBefore(Date createdDate);
+
+  boolean existsByTemporaryTableName(String temporaryTableName);
+
+  Optional<ResourceIdsJobEntity> findFirstByTemporaryTableNameAndStatusNot(String temporaryTableName,
+                                                                            StreamJobStatus status);
+
+  @Modifying
+  @Query("UPDATE ResourceIdsJobEntity job SET job.status = :status "
+    + "WHERE job.temporaryTableName = :temporaryTableName AND job.status = :currentStatus")
+  int updateStatusByTemporaryTableName(@Param("temporaryTableName") String temporaryTableName,
+                                       @Param("currentStatus") StreamJobStatus currentStatus,
+                                       @Param("status") StreamJobStatus status);
 }
@@ -1,6 +1,8 @@
 package org.folio.search.repository;
 
 import static java.lang.String.format;
+import static java.sql.ResultSet.CONCUR_READ_ONLY;
+import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -29,8 +31,23 @@ public class ResourceIdsTemporaryRepository {
       ids, ids.size(), (ps, argument) -> ps.setString(1, argument));
   }
 
-  public void streamIds(String tableName, RowCallbackHandler rowCallbackHandler) {
-    jdbcTemplate.query(format("SELECT * FROM %s", tableName), rowCallbackHandler);
+  /**
+   * Streams ids from the temporary table using server-side cursor.
+   *
+   * <p>PostgreSQL driver uses cursor only if the fetch size is positive and the connection is not in auto-commit
+   * mode, so this method must be called within a transaction.</p>
+   *
+   * @param tableName          - temporary table name
+   * @param fetchSize          - number of rows to be fetched from the cursor in one round trip
+   * @param rowCallbackHandler - handler to process each row
+   */
+  public void streamIds(String tableName, int fetchSize, RowCallbackHandler rowCallbackHandler) {
+    var sql = format("SELECT id FROM %s", tableName);
+    jdbcTemplate.query(connection -> {
+      var statement = connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY);
+      statement.setFetchSize(fetchSize);
+      return statement;
+    }, rowCallbackHandler);
   }
 
 }
@@ -1,36 +1,59 @@
 package org.folio.search.repository;
 
 import static java.util.Arrays.stream;
-import static org.apache.commons.lang3.ArrayUtils.isNotEmpty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.ArrayUtils.isEmpty;
 import static org.folio.search.configuration.RetryTemplateConfiguration.STREAM_IDS_RETRY_TEMPLATE_NAME;
 import static org.folio.search.utils.CollectionUtils.anyMatch;
-import static org.folio.search.utils.CollectionUtils.getValuesByPath;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.SearchUtils.TENANT_ID_FIELD_NAME;
 import static org.folio.search.utils.SearchUtils.performExceptionalOperation;
 import static org.opensearch.client.RequestOptions.DEFAULT;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.StreamIdsProperties;
+import org.folio.search.exception.SearchOperationException;
 import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.ResourceRequest;
 import org.folio.search.model.service.CqlResourceIdsRequest;
-import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.DeletePitRequest;
 import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.MultiSearchResponse.Item;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
-import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.AnalyzeRequest;
 import org.opensearch.client.indices.AnalyzeResponse;
+import org.opensearch.common.document.DocumentField;
 import org.opensearch.common.unit.TimeValue;
-import org.opensearch.search.Scroll;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Repository;
@@ -38,17 +61,32 @@ import org.springframework.stereotype.Repository;
 /**
  * Search resource repository with set of operation to perform search operations.
  */
+@Log4j2
 @Repository
 @RequiredArgsConstructor
 public class SearchRepository {
 
   private static final TimeValue KEEP_ALIVE_INTERVAL = TimeValue.timeValueMinutes(1L);
   private static final String SEARCH_OPERATION_TYPE = "searchApi";
+  private static final String MULTI_SEARCH_OPERATION_TYPE = "multiSearchApi";
   private static final String ANALYZE_OPERATION_TYPE = "analyzeApi";
+  private static final String POINT_IN_TIME_OPERATION_TYPE = "pointInTimeApi";
+  private static final long BATCH_POLL_TIMEOUT_MS = 100L;
+
+  /**
+   * Resources, which documents are indexed with the resource id as the document id, unless the ids are qualified by
+   * tenant for the pooled tenant.
+   */
+  private static final Set<String> DOCUMENT_ID_RESOURCES = Set.of(INSTANCE_RESOURCE);
+
   private final RestHighLevelClient client;
   @Qualifier(value = STREAM_IDS_RETRY_TEMPLATE_NAME)
   private final RetryTemplate retryTemplate;
   private final IndexNameProvider indexNameProvider;
+  private final TenantRoutingProvider tenantRoutingProvider;
+  private final StreamIdsProperties streamIdsProperties;
+  @Qualifier("streamIdsExecutor")
+  private final Executor streamIdsExecutor;
 
   public String analyze(String text, String field, String resource, String tenantId) {
     var index = indexNameProvider.getIndexName(resource, tenantId);
@@ -70,7 +108,7 @@ public class SearchRepository {
    */
   public SearchResponse search(ResourceRequest resourceRequest, SearchSourceBuilder searchSource) {
     var index = indexNameProvider.getIndexName(resourceRequest);
-    var searchRequest = buildSearchRequest(index, searchSource);
+    var searchRequest = buildSearchRequest(resourceRequest, index, searchSource);
     return performExceptionalOperation(() -> client.search(searchRequest, DEFAULT), index, SEARCH_OPERATION_TYPE);
   }
 
@@ -83,11 +121,47 @@ public class SearchRepository {
    * @return search result as {@link SearchResponse} object.
    */
   public SearchResponse search(ResourceRequest resourceRequest, SearchSourceBuilder searchSource, String preference) {
+    return search(resourceRequest, searchSource, preference, null);
+  }
+
+  /**
+   * Executes request to elasticsearch and returns search result with related documents.
+   *
+   * @param resourceRequest resource request as {@link ResourceRequest} object.
+   * @param searchSource    elasticsearch search source as {@link SearchSourceBuilder} object.
+   * @param preference      elasticsearch preference string to route same requests to the same shard
+   * @param routing         routing value to execute request only on the shards of the routed documents, nullable
+   * @return search result as {@link SearchResponse} object.
+   */
+  public SearchResponse search(ResourceRequest resourceRequest, SearchSourceBuilder searchSource, String preference,
+                               String routing) {
     var index = indexNameProvider.getIndexName(resourceRequest);
-    var searchRequest = buildSearchRequest(index, searchSource, preference);
+    var searchRequest = buildSearchRequest(resourceRequest, index, searchSource).preference(preference);
+    if (routing != null) {
+      searchRequest.routing(routing);
+    }
     return performExceptionalOperation(() -> client.search(searchRequest, DEFAULT), index, SEARCH_OPERATION_TYPE);
   }
 
+  /**
+   * Executes request to elasticsearch asynchronously, the calling thread is not blocked for the cluster round trip.
+   *
+   * <p>The returned future is completed by the elasticsearch client I/O thread, so dependent actions that require the
+   * execution context of the request must be performed by the calling thread.</p>
+   *
+   * @param resourceRequest resource request as {@link ResourceRequest} object.
+   * @param searchSource    elasticsearch search source as {@link SearchSourceBuilder} object.
+   * @return {@link CompletableFuture} with search result as {@link SearchResponse} object, completed exceptionally
+   *   with {@link SearchOperationException} if the request failed.
+   */
+  public CompletableFuture<SearchResponse> searchAsync(ResourceRequest resourceRequest,
+                                                       SearchSourceBuilder searchSource) {
+    var index = indexNameProvider.getIndexName(resourceRequest);
+    var searchRequest = buildSearchRequest(resourceRequest, index, searchSource);
+    return executeAsync(index, SEARCH_OPERATION_TYPE,
+      listener -> client.searchAsync(searchRequest, DEFAULT, listener));
+  }
+
   /**
    * Executes multi-search request to elasticsearch and returns search result with related documents.
    *
@@ -97,11 +171,96 @@ public class SearchRepository {
    */
   public MultiSearchResponse msearch(ResourceRequest resourceRequest, Collection<SearchSourceBuilder> searchSources) {
     var index = indexNameProvider.getIndexName(resourceRequest);
+    var request = buildMultiSearchRequest(resourceRequest, index, searchSources);
+    var response = performExceptionalOperation(() -> client.msearch(request, DEFAULT), index,
+      MULTI_SEARCH_OPERATION_TYPE);
+    return checkMultiSearchResponse(response, searchSources.size());
+  }
+
+  /**
+   * Executes multi-search request to elasticsearch asynchronously, the calling thread is not blocked for the cluster
+   * round trip.
+   *
+   * <p>The returned future is completed by the elasticsearch client I/O thread, so dependent actions that require the
+   * execution context of the request must be performed by the calling thread.</p>
+   *
+   * @param resourceRequest resource request as {@link ResourceRequest} object.
+   * @param searchSources   - collection with elasticsearch search source as {@link SearchSourceBuilder} object.
+   * @return {@link CompletableFuture} with search result as {@link MultiSearchResponse} object, completed
+   *   exceptionally with {@link SearchOperationException} if the request failed or with
+   *   {@link SearchServiceException} if one of the searches failed.
+   */
+  public CompletableFuture<MultiSearchResponse> msearchAsync(ResourceRequest resourceRequest,
+                                                             Collection<SearchSourceBuilder> searchSources) {
+    var index = indexNameProvider.getIndexName(resourceRequest);
+    var request = buildMultiSearchRequest(resourceRequest, index, searchSources);
+    return this.<MultiSearchResponse>executeAsync(index, MULTI_SEARCH_OPERATION_TYPE,
+        listener -> client.msearchAsync(request, DEFAULT, listener))
+      .thenApply(response -> checkMultiSearchResponse(response, searchSources.size()));
+  }
+
+  /**
+   * Streams resource ids using point in time with sliced search_after requests.
+   *
+   * <p>Each slice is processed as a separate task in the {@code streamIdsExecutor}, slices that are not picked up
+   * by the executor are processed by the calling thread. Batches of ids fetched by the executor threads are handed
+   * back through a bounded queue, so the consumer is always called by the calling thread and can rely on its
+   * transaction and execution context. The order of batches between slices is not defined.</p>
+   *
+   * @param req      - request as {@link CqlResourceIdsRequest} object.
+   * @param src      - elasticsearch search query source as {@link SearchSourceBuilder} object, must be sorted by
+   *                 unique field to be used with search_after.
+   * @param consumer - consumer for the batches of resource ids
+   */
+  public void streamResourceIds(CqlResourceIdsRequest req, SearchSourceBuilder src, Consumer<List<String>> consumer) {
+    var index = indexNameProvider.getIndexName(req);
+    var routing = tenantRoutingProvider.getRouting(req.getResource(), req.getTenantId());
+    var source = routing == null ? src.shallowCopy() : filterByTenant(src, req.getTenantId());
+    var idsMapper = getResourceIdsMapper(req, source);
+    var pitId = createPointInTime(index, routing);
+    var slicesCount = Math.max(1, streamIdsProperties.getSlicesCount());
+    log.debug("streamResourceIds:: by [index: {}, slicesCount: {}]", index, slicesCount);
+
+    var batches = new ArrayBlockingQueue<List<String>>(slicesCount);
+    var sliceConsumer = callingThreadConsumer(Thread.currentThread(), batches, consumer);
+    var sliceTasks = IntStream.range(0, slicesCount)
+      .mapToObj(sliceId -> new FutureTask<Void>(() -> streamSlice(index, pitId, source, sliceId, slicesCount,
+        idsMapper, sliceConsumer), null))
+      .toList();
+
+    try {
+      sliceTasks.stream().skip(1).forEach(this::submitSliceTask);
+      sliceTasks.forEach(FutureTask::run);
+      consumeSliceBatches(sliceTasks, batches, consumer);
+      awaitSliceTasks(sliceTasks);
+    } catch (RuntimeException e) {
+      sliceTasks.forEach(sliceTask -> sliceTask.cancel(true));
+      throw e;
+    } finally {
+      deletePointInTime(index, pitId);
+    }
+  }
+
+  private <T> CompletableFuture<T> executeAsync(String index, String type, Consumer<ActionListener<T>> operation) {
+    var future = new CompletableFuture<T>();
+    try {
+      operation.accept(ActionListener.wrap(future::complete,
+        e -> future.completeExceptionally(searchOperationException(index, type, e))));
+    } catch (Exception e) {
+      future.completeExceptionally(searchOperationException(index, type, e));
+    }
+    return future;
+  }
+
+  private MultiSearchRequest buildMultiSearchRequest(ResourceRequest resourceRequest, String index,
+                                                     Collection<SearchSourceBuilder> searchSources) {
     var request = new MultiSearchRequest();
-    searchSources.forEach(source -> request.add(buildSearchRequest(index, source)));
-    var response = performExceptionalOperation(() -> client.msearch(request, DEFAULT), index, "multiSearchApi");
+    searchSources.forEach(source -> request.add(buildSearchRequest(resourceRequest, index, source)));
+    return request;
+  }
 
-    if (isFailedMultiSearchRequest(response.getResponses(), searchSources.size())) {
+  private static MultiSearchResponse checkMultiSearchResponse(MultiSearchResponse response, int expectedCount) {
+    if (isFailedMultiSearchRequest(response.getResponses(), expectedCount)) {
       var failureMessages = stream(response.getResponses())
         .map(Item::getFailureMessage)
         .filter(Objects::nonNull)
@@ -114,57 +273,175 @@ public class SearchRepository {
     return response;
   }
 
+  private static SearchOperationException searchOperationException(String index, String type, Exception e) {
+    return new SearchOperationException(String.format(
+      "Failed to perform elasticsearch request [index=%s, type=%s, message: %s]", index, type, e.getMessage()), e);
+  }
+
+  private static SearchRequest buildSearchRequest(String index, SearchSourceBuilder source) {
+    return new SearchRequest().source(source).indices(index);
+  }
+
   /**
-   * Executes scroll request to elasticsearch and transforms it to the list of instance ids.
-   *
-   * @param req - request as {@link CqlResourceIdsRequest} object.
-   * @param src - elasticsearch search query source as {@link SearchSourceBuilder} object.
+   * Builds search request to the resource index. Requests of the pooled tenant are routed to the shards of the
+   * tenant and filtered by tenant id, because the pooled index contains documents of other tenants.
    */
-  public void streamResourceIds(CqlResourceIdsRequest req, SearchSourceBuilder src, Consumer<List<String>> consumer) {
-    var index = indexNameProvider.getIndexName(req);
-    var searchRequest = new SearchRequest()
-      .scroll(new Scroll(KEEP_ALIVE_INTERVAL))
-      .source(src)
-      .indices(index);
-
-    var searchResponse = performExceptionalOperation(
-      () -> client.search(searchRequest, DEFAULT), index, SEARCH_OPERATION_TYPE);
-    var scrollId = searchResponse.getScrollId();
-    var searchHits = searchResponse.getHits().getHits();
-
-    while (isNotEmpty(searchHits)) {
-      consumer.accept(getResourceIds(searchHits, req.getSourceFieldPath()));
-      var scrollRequest = new SearchScrollRequest(scrollId).scroll(KEEP_ALIVE_INTERVAL);
-      var scrollResponse = retryTemplate.execute(v -> performExceptionalOperation(
-        () -> client.scroll(scrollRequest, DEFAULT), index, "scrollApi"));
-      scrollId = scrollResponse.getScrollId();
-      searchHits = scrollResponse.getHits().getHits();
+  private SearchRequest buildSearchRequest(ResourceRequest request, String index, SearchSourceBuilder source) {
+    var routing = tenantRoutingProvider.getRouting(request.getResource(), request.getTenantId());
+    if (routing == null) {
+      return buildSearchRequest(index, source);
     }
+    return buildSearchRequest(index, filterByTenant(source, request.getTenantId())).routing(routing);
+  }
 
-    clearScrollAfterStreaming(index, scrollId);
+  private static SearchSourceBuilder filterByTenant(SearchSourceBuilder source, String tenantId) {
+    var query = source.query() == null ? matchAllQuery() : source.query();
+    return source.shallowCopy().query(boolQuery().must(query).filter(termQuery(TENANT_ID_FIELD_NAME, tenantId)));
   }
 
-  private static SearchRequest buildSearchRequest(String index, SearchSourceBuilder source) {
-    return new SearchRequest().source(source).indices(index);
+  private void streamSlice(String index, String pitId, SearchSourceBuilder src, int sliceId, int slicesCount,
+                           Function<SearchHit[], List<String>> idsMapper, Consumer<List<String>> consumer) {
+    var source = src.shallowCopy().pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(KEEP_ALIVE_INTERVAL));
+    if (slicesCount > 1) {
+      source.slice(new SliceBuilder(sliceId, slicesCount));
+    }
+
+    var searchRequest = new SearchRequest().source(source);
+    while (true) {
+      var searchResponse = retryTemplate.execute(v -> performExceptionalOperation(
+        () -> client.search(searchRequest, DEFAULT), index, SEARCH_OPERATION_TYPE));
+      var searchHits = searchResponse.getHits().getHits();
+      if (isEmpty(searchHits)) {
+        return;
+      }
+
+      consumer.accept(idsMapper.apply(searchHits));
+      source.searchAfter(searchHits[searchHits.length - 1].getSortValues());
+      if (searchResponse.pointInTimeId() != null) {
+        source.pointInTimeBuilder(new PointInTimeBuilder(searchResponse.pointInTimeId())
+          .setKeepAlive(KEEP_ALIVE_INTERVAL));
+      }
+    }
   }
 
-  private static SearchRequest buildSearchRequest(String index, SearchSourceBuilder source, String preference) {
-    return buildSearchRequest(index, source).preference(preference);
+  /**
+   * Passes batches fetched by the calling thread directly to the consumer together with the already queued ones,
+   * batches fetched by the executor threads are put to the queue and consumed by the calling thread.
+   */
+  private static Consumer<List<String>> callingThreadConsumer(Thread callingThread,
+                                                              BlockingQueue<List<String>> batches,
+                                                              Consumer<List<String>> consumer) {
+    return ids -> {
+      if (Thread.currentThread() == callingThread) {
+        consumer.accept(ids);
+        drainBatches(batches, consumer);
+        return;
+      }
+
+      try {
+        batches.put(ids);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SearchServiceException("Resource ids streaming was interrupted", e);
+      }
+    };
   }
 
-  private void clearScrollAfterStreaming(String index, String scrollId) {
-    var clearScrollRequest = new ClearScrollRequest();
-    clearScrollRequest.addScrollId(scrollId);
+  private static void consumeSliceBatches(List<FutureTask<Void>> sliceTasks, BlockingQueue<List<String>> batches,
+                                          Consumer<List<String>> consumer) {
+    try {
+      while (true) {
+        var completed = sliceTasks.stream().allMatch(FutureTask::isDone);
+        drainBatches(batches, consumer);
+        if (completed) {
+          return;
+        }
+
+        var batch = batches.poll(BATCH_POLL_TIMEOUT_MS, MILLISECONDS);
+        if (batch != null) {
+          consumer.accept(batch);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SearchServiceException("Resource ids streaming was interrupted", e);
+    }
+  }
+
+  private static void drainBatches(BlockingQueue<List<String>> batches, Consumer<List<String>> consumer) {
+    for (var batch = batches.poll(); batch != null; batch = batches.poll()) {
+      consumer.accept(batch);
+    }
+  }
+
+  private void submitSliceTask(FutureTask<Void> sliceTask) {
+    try {
+      streamIdsExecutor.execute(sliceTask);
+    } catch (RejectedExecutionException e) {
+      log.debug("submitSliceTask:: slice task rejected by executor, it will be processed by the calling thread");
+    }
+  }
+
+  private static void awaitSliceTasks(List<FutureTask<Void>> sliceTasks) {
+    try {
+      for (var sliceTask : sliceTasks) {
+        sliceTask.get();
+      }
+    } catch (ExecutionException | CancellationException e) {
+      sliceTasks.forEach(sliceTask -> sliceTask.cancel(true));
+      var cause = e.getCause() != null ? e.getCause() : e;
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new SearchServiceException("Failed to stream resource ids: " + cause.getMessage(), cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      sliceTasks.forEach(sliceTask -> sliceTask.cancel(true));
+      throw new SearchServiceException("Resource ids streaming was interrupted", e);
+    }
+  }
+
+  private String createPointInTime(String index, String routing) {
+    var createPitRequest = new CreatePitRequest(KEEP_ALIVE_INTERVAL, false, index);
+    createPitRequest.setRouting(routing);
+    var createPitResponse = performExceptionalOperation(
+      () -> client.createPit(createPitRequest, DEFAULT), index, POINT_IN_TIME_OPERATION_TYPE);
+    return createPitResponse.getId();
+  }
+
+  private void deletePointInTime(String index, String pitId) {
     performExceptionalOperation(() ->
-      client.clearScroll(clearScrollRequest, DEFAULT), index, "scrollApi"
+      client.deletePit(new DeletePitRequest(pitId), DEFAULT), index, POINT_IN_TIME_OPERATION_TYPE
     );
   }
 
-  private static List<String> getResourceIds(SearchHit[] searchHits, String sourceFieldPath) {
+  /**
+   * Provides mapper of the search hits to the resource ids. Resource ids are read from the document ids if the
+   * documents are stored with the resource id as the document id, otherwise from the doc values of the id field.
+   */
+  private Function<SearchHit[], List<String>> getResourceIdsMapper(CqlResourceIdsRequest req,
+                                                                   SearchSourceBuilder source) {
+    var idPath = req.getSourceFieldPath();
+    if (!ID_FIELD.equals(idPath)) {
+      return searchHits -> getDocValues(searchHits, idPath);
+    }
+
+    if (DOCUMENT_ID_RESOURCES.contains(req.getResource())
+      && !tenantRoutingProvider.isTenantQualifiedId(req.getResource(), req.getTenantId())) {
+      return searchHits -> stream(searchHits).map(SearchHit::getId).toList();
+    }
+
+    source.docValueField(ID_FIELD);
+    return searchHits -> getDocValues(searchHits, ID_FIELD);
+  }
+
+  private static List<String> getDocValues(SearchHit[] searchHits, String idPath) {
     return stream(searchHits)
-      .map(SearchHit::getSourceAsMap)
-      .map(sourceMap -> getValuesByPath(sourceMap, sourceFieldPath))
+      .map(searchHit -> searchHit.field(idPath))
+      .filter(Objects::nonNull)
+      .map(DocumentField::getValues)
       .flatMap(Collection::stream)
+      .map(String::valueOf)
       .toList();
   }
 
@@ -0,0 +1,50 @@
+package org.folio.search.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provides shadow indices built by the running reindex with index recreation.
+ *
+ * <p>The shadow index is registered in the search engine using the shadow index alias, so it is visible for all module
+ * instances. Lookups are cached for a short time, because they are executed for each bulk request.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ShadowIndexProvider {
+
+  private final Cache<String, Optional<String>> shadowIndicesCache;
+  private final IndexRepository indexRepository;
+  private final IndexNameProvider indexNameProvider;
+
+  /**
+   * Provides the shadow index for the given index.
+   *
+   * @param index - index name or alias as {@link String}
+   * @return {@link Optional} with shadow index name, empty if the index is not being reindexed
+   */
+  public Optional<String> getShadowIndex(String index) {
+    return shadowIndicesCache.get(index, this::loadShadowIndex);
+  }
+
+  /**
+   * Removes cached shadow index lookup result for the given index.
+   *
+   * @param index - index name or alias as {@link String}
+   */
+  public void invalidate(String index) {
+    shadowIndicesCache.invalidate(index);
+  }
+
+  private Optional<String> loadShadowIndex(String index) {
+    var shadowIndex = indexRepository.getAliasIndices(indexNameProvider.getShadowIndexAlias(index))
+      .stream().findFirst();
+    shadowIndex.ifPresent(value -> log.debug("loadShadowIndex:: shadow index found [index: {}, shadowIndex: {}]",
+      index, value));
+    return shadowIndex;
+  }
+}
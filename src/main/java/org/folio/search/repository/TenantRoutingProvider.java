@@ -0,0 +1,140 @@
+package org.folio.search.repository;
+
+import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
+import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
+import static org.folio.search.utils.SearchUtils.CAMPUS_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTITUTION_RESOURCE;
+import static org.folio.search.utils.SearchUtils.LIBRARY_RESOURCE;
+import static org.folio.search.utils.SearchUtils.LOCATION_RESOURCE;
+import static org.folio.search.utils.SearchUtils.TENANT_ID_FIELD_NAME;
+
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.collections4.MapUtils;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.model.index.SearchDocumentBody;
+import org.springframework.stereotype.Component;
+
+/**
+ * Provides routing of the documents in the indices shared by several tenants.
+ *
+ * <p>Instances of the member tenants are routed by the owning tenant, so the searches restricted to the records of one
+ * member tenant are executed only on the shards of that tenant. Instances of the central tenant, which are the shared
+ * ones, and instances of the non-consortium tenants are routed by document id, so they stay evenly distributed between
+ * the shards.</p>
+ *
+ * <p>Documents of the pooled tenants are always routed by tenant. Only the resources with tenant id field are pooled,
+ * so the documents of one tenant can be filtered and deleted without affecting other tenants of the pool. Instance and
+ * authority ids are unique only within a tenant, so their documents of the pooled tenants are stored with the
+ * tenant-qualified ids, like the location documents of all tenants are.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantRoutingProvider {
+
+  private static final Set<String> POOLED_RESOURCES = Set.of(INSTANCE_RESOURCE, AUTHORITY_RESOURCE,
+    LOCATION_RESOURCE, CAMPUS_RESOURCE, LIBRARY_RESOURCE, INSTITUTION_RESOURCE);
+  private static final Set<String> TENANT_QUALIFIED_ID_RESOURCES = Set.of(INSTANCE_RESOURCE, AUTHORITY_RESOURCE);
+  private static final String TENANT_ID_SEPARATOR = "|";
+
+  private final SearchConfigurationProperties searchConfiguration;
+
+  /**
+   * Checks if documents of the resource are routed by the owning tenant.
+   *
+   * @param resource - resource name as {@link String} object
+   * @return true if tenant routing is enabled for the resource, false - otherwise
+   */
+  public boolean isTenantRoutingEnabled(String resource) {
+    return INSTANCE_RESOURCE.equals(resource) && searchConfiguration.getIndexing().isInstanceTenantRoutingEnabled();
+  }
+
+  /**
+   * Checks if documents of the resource and tenant are stored in the pooled index.
+   *
+   * @param resource - resource name as {@link String} object
+   * @param tenantId - tenant id as {@link String} object
+   * @return true if the tenant is pooled for the resource, false - otherwise
+   */
+  public boolean isPooledTenant(String resource, String tenantId) {
+    var pooledTenancy = searchConfiguration.getPooledTenancy();
+    return pooledTenancy.isEnabled() && POOLED_RESOURCES.contains(resource)
+      && pooledTenancy.getTenants().contains(tenantId);
+  }
+
+  /**
+   * Provides name of the pool, used instead of tenant id in the pooled index names.
+   *
+   * @return pool name as {@link String} object
+   */
+  public String getPoolName() {
+    return searchConfiguration.getPooledTenancy().getPoolName();
+  }
+
+  /**
+   * Provides routing for the requests of the tenant to the resource index.
+   *
+   * @param resource - resource name as {@link String} object
+   * @param tenantId - tenant id as {@link String} object
+   * @return tenant id if the tenant is pooled for the resource, null - otherwise
+   */
+  public String getRouting(String resource, String tenantId) {
+    return isPooledTenant(resource, tenantId) ? tenantId : null;
+  }
+
+  /**
+   * Provides routing for the document to index.
+   *
+   * @param doc - search document body as {@link SearchDocumentBody} object
+   * @return tenant id if the document belongs to the pooled tenant, owning tenant id if the document is an instance
+   *   of the member tenant stored in the shared index, null - if the document is routed by its id
+   */
+  public String getRouting(SearchDocumentBody doc) {
+    if (isPooledTenant(doc.getResource(), doc.getTenant())) {
+      return doc.getTenant();
+    }
+
+    if (!isTenantRoutingEnabled(doc.getResource())) {
+      return null;
+    }
+
+    var document = getNewAsMap(doc.getResourceEvent());
+    var ownerTenantId = MapUtils.getString(document, TENANT_ID_FIELD_NAME);
+    return ownerTenantId == null || ownerTenantId.equals(doc.getTenant()) ? null : ownerTenantId;
+  }
+
+  /**
+   * Checks if documents of the resource and tenant are stored with the tenant-qualified ids.
+   *
+   * @param resource - resource name as {@link String} object
+   * @param tenantId - tenant id as {@link String} object
+   * @return true if the tenant is pooled for the resource, which ids are unique only within a tenant, false - otherwise
+   */
+  public boolean isTenantQualifiedId(String resource, String tenantId) {
+    return TENANT_QUALIFIED_ID_RESOURCES.contains(resource) && isPooledTenant(resource, tenantId);
+  }
+
+  /**
+   * Provides id of the document in the resource index.
+   *
+   * @param resource - resource name as {@link String} object
+   * @param tenantId - tenant id as {@link String} object
+   * @param id       - resource id as {@link String} object
+   * @return id qualified by tenant id if the tenant is pooled for the resource, which ids are unique only within a
+   *   tenant, resource id - otherwise
+   */
+  public String getDocumentId(String resource, String tenantId, String id) {
+    return isTenantQualifiedId(resource, tenantId) ? id + TENANT_ID_SEPARATOR + tenantId : id;
+  }
+
+  /**
+   * Provides id of the document to index.
+   *
+   * @param doc - search document body as {@link SearchDocumentBody} object
+   * @return id of the document in the resource index
+   */
+  public String getDocumentId(SearchDocumentBody doc) {
+    return getDocumentId(doc.getResource(), doc.getTenant(), doc.getId());
+  }
+}
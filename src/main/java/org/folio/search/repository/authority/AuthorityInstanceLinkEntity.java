@@ -0,0 +1,17 @@
+package org.folio.search.repository.authority;
+
+import java.util.Objects;
+
+public record AuthorityInstanceLinkEntity(
+  String authorityId,
+  String instanceId,
+  String tenantId,
+  boolean shared
+) {
+
+  public AuthorityInstanceLinkEntity {
+    Objects.requireNonNull(authorityId);
+    Objects.requireNonNull(instanceId);
+    Objects.requireNonNull(tenantId);
+  }
+}
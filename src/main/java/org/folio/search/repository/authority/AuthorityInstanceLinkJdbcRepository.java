@@ -0,0 +1,102 @@
+package org.folio.search.repository.authority;
+
+import static org.folio.search.utils.JdbcUtils.getParamPlaceholder;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.folio.search.utils.JdbcUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+public class AuthorityInstanceLinkJdbcRepository implements AuthorityInstanceLinkRepository {
+
+  private static final String AUTHORITY_INSTANCE_LINK_TABLE_NAME = "authority_instance_link";
+  private static final String AUTHORITY_ID_COLUMN = "authority_id";
+  private static final String NUMBER_OF_TITLES_COLUMN = "number_of_titles";
+
+  private static final String INSERT_SQL = """
+    INSERT INTO %s (authority_id, tenant_id, instance_id, shared)
+    VALUES (?, ?, ?, ?)
+    ON CONFLICT (authority_id, tenant_id, instance_id)
+    DO UPDATE SET shared = EXCLUDED.shared;
+    """;
+  private static final String DELETE_BY_INSTANCE_ID_SQL = "DELETE FROM %s WHERE instance_id = ? AND tenant_id = ?;";
+  private static final String COUNT_BY_AUTHORITY_IDS_SQL = """
+    SELECT authority_id, count(*) AS number_of_titles
+    FROM %s
+    WHERE authority_id IN (%s)%s
+    GROUP BY authority_id;
+    """;
+  private static final String TENANT_CONDITION = " AND tenant_id = ?";
+  private static final String TENANT_OR_SHARED_CONDITION = " AND (tenant_id = ? OR shared = true)";
+  private static final int BATCH_SIZE = 100;
+
+  private final FolioExecutionContext context;
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void saveAll(List<AuthorityInstanceLinkEntity> links) {
+    log.debug("saveAll::authority instance links [entities: {}]", links);
+
+    if (CollectionUtils.isEmpty(links)) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL.formatted(getTableName()),
+      links.stream().distinct().toList(),
+      BATCH_SIZE,
+      (PreparedStatement ps, AuthorityInstanceLinkEntity item) -> {
+        ps.setString(1, item.authorityId());
+        ps.setString(2, item.tenantId());
+        ps.setString(3, item.instanceId());
+        ps.setBoolean(4, item.shared());
+      });
+  }
+
+  @Override
+  public void deleteByInstanceId(String instanceId, String tenantId) {
+    log.debug("deleteByInstanceId::authority instance links [instanceId: {}, tenantId: {}]", instanceId, tenantId);
+    jdbcTemplate.update(DELETE_BY_INSTANCE_ID_SQL.formatted(getTableName()), instanceId, tenantId);
+  }
+
+  @Override
+  public Map<String, Integer> countInstancesByAuthorityIds(Collection<String> authorityIds, String tenantId,
+                                                           boolean includeShared) {
+    log.debug("countInstancesByAuthorityIds::authority instance links [authorityIds: {}, tenantId: {}]",
+      authorityIds, tenantId);
+
+    var counts = new HashMap<String, Integer>();
+    if (CollectionUtils.isEmpty(authorityIds)) {
+      return counts;
+    }
+
+    var args = new ArrayList<Object>(authorityIds);
+    var condition = "";
+    if (tenantId != null) {
+      condition = includeShared ? TENANT_OR_SHARED_CONDITION : TENANT_CONDITION;
+      args.add(tenantId);
+    }
+
+    var sql = COUNT_BY_AUTHORITY_IDS_SQL.formatted(getTableName(), getParamPlaceholder(authorityIds.size()), condition);
+    jdbcTemplate.query(sql, rs -> {
+      counts.put(rs.getString(AUTHORITY_ID_COLUMN), rs.getInt(NUMBER_OF_TITLES_COLUMN));
+    }, args.toArray());
+    return counts;
+  }
+
+  private String getTableName() {
+    return JdbcUtils.getFullTableName(context, AUTHORITY_INSTANCE_LINK_TABLE_NAME);
+  }
+}
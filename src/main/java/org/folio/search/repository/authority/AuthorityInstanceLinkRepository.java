@@ -0,0 +1,23 @@
+package org.folio.search.repository.authority;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface AuthorityInstanceLinkRepository {
+
+  void saveAll(List<AuthorityInstanceLinkEntity> links);
+
+  void deleteByInstanceId(String instanceId, String tenantId);
+
+  /**
+   * Counts instances linked to the given authorities.
+   *
+   * @param authorityIds  - authority ids to count linked instances for
+   * @param tenantId      - tenant id to count instances of, all tenants are counted if value is null
+   * @param includeShared - defines if shared instances of the consortium must be counted
+   * @return map with authority id as the key and the number of linked instances as the value
+   */
+  Map<String, Integer> countInstancesByAuthorityIds(Collection<String> authorityIds, String tenantId,
+                                                    boolean includeShared);
+}
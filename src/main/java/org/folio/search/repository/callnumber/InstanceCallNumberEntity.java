@@ -0,0 +1,24 @@
+package org.folio.search.repository.callnumber;
+
+import java.util.Objects;
+import lombok.Builder;
+
+@Builder
+public record InstanceCallNumberEntity(
+  String itemId,
+  String instanceId,
+  String tenantId,
+  String shelvingOrder,
+  String fullCallNumber,
+  String typeId,
+  String locationId,
+  boolean shared
+) {
+
+  public InstanceCallNumberEntity {
+    Objects.requireNonNull(itemId);
+    Objects.requireNonNull(instanceId);
+    Objects.requireNonNull(tenantId);
+    Objects.requireNonNull(shelvingOrder);
+  }
+}
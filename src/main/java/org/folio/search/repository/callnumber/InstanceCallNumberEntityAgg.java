@@ -0,0 +1,12 @@
+package org.folio.search.repository.callnumber;
+
+import java.util.Set;
+import org.folio.search.model.index.InstanceSubResource;
+
+public record InstanceCallNumberEntityAgg(
+  String shelvingOrder,
+  String fullCallNumber,
+  Set<InstanceSubResource> instances
+) {
+
+}
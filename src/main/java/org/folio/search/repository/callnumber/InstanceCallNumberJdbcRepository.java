@@ -0,0 +1,139 @@
+package org.folio.search.repository.callnumber;
+
+import static org.folio.search.utils.JdbcUtils.getParamPlaceholder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.folio.search.model.index.InstanceSubResource;
+import org.folio.search.utils.JdbcUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+public class InstanceCallNumberJdbcRepository implements InstanceCallNumberRepository {
+
+  private static final String INSTANCE_CALL_NUMBER_TABLE_NAME = "instance_call_number";
+  private static final String SHELVING_ORDER_COLUMN = "shelving_order";
+  private static final String FULL_CALL_NUMBER_COLUMN = "full_call_number";
+
+  private static final String SELECT_BY_SHELVING_ORDERS_AGG = """
+    SELECT
+        shelving_order,
+        min(full_call_number) AS full_call_number,
+        json_agg(json_build_object(
+            'instanceId', instance_id,
+            'typeId', call_number_type_id,
+            'locationId', location_id,
+            'shared', shared,
+            'tenantId', tenant_id
+        )) AS instances
+    FROM %s
+    WHERE shelving_order IN (%s)
+    GROUP BY shelving_order;
+    """;
+  private static final String INSERT_SQL = """
+    INSERT INTO %s (item_id, tenant_id, instance_id, shelving_order, full_call_number, call_number_type_id,
+                    location_id, shared)
+    VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+    ON CONFLICT (item_id, tenant_id) DO NOTHING;
+    """;
+  private static final String DELETE_SQL = """
+    DELETE FROM %s
+    WHERE tenant_id = ? AND (instance_id = ?%s)
+    RETURNING shelving_order;
+    """;
+  private static final String ITEM_IDS_CONDITION = " OR item_id IN (%s)";
+  private static final int BATCH_SIZE = 100;
+  private static final TypeReference<LinkedHashSet<InstanceSubResource>> VALUE_TYPE_REF = new TypeReference<>() { };
+
+  private final FolioExecutionContext context;
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void saveAll(List<InstanceCallNumberEntity> callNumbers) {
+    log.debug("saveAll::instance call numbers [entities: {}]", callNumbers);
+
+    if (CollectionUtils.isEmpty(callNumbers)) {
+      return;
+    }
+
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL.formatted(getTableName()),
+      callNumbers.stream().distinct().toList(),
+      BATCH_SIZE,
+      (PreparedStatement ps, InstanceCallNumberEntity item) -> {
+        ps.setString(1, item.itemId());
+        ps.setString(2, item.tenantId());
+        ps.setString(3, item.instanceId());
+        ps.setString(4, item.shelvingOrder());
+        ps.setString(5, item.fullCallNumber());
+        ps.setString(6, item.typeId());
+        ps.setString(7, item.locationId());
+        ps.setBoolean(8, item.shared());
+      });
+  }
+
+  @Override
+  public List<String> deleteByInstanceIdOrItemIds(String instanceId, Collection<String> itemIds, String tenantId) {
+    log.debug("deleteByInstanceIdOrItemIds::instance call numbers [instanceId: {}, itemIds: {}, tenantId: {}]",
+      instanceId, itemIds, tenantId);
+
+    var args = new ArrayList<Object>();
+    args.add(tenantId);
+    args.add(instanceId);
+    var condition = "";
+    if (CollectionUtils.isNotEmpty(itemIds)) {
+      condition = ITEM_IDS_CONDITION.formatted(getParamPlaceholder(itemIds.size()));
+      args.addAll(itemIds);
+    }
+
+    return jdbcTemplate.queryForList(DELETE_SQL.formatted(getTableName(), condition), String.class, args.toArray());
+  }
+
+  @Override
+  public List<InstanceCallNumberEntityAgg> fetchAggregatedByShelvingOrders(Collection<String> shelvingOrders) {
+    log.debug("fetchAggregatedByShelvingOrders::instance call numbers [shelvingOrders: {}]", shelvingOrders);
+
+    if (CollectionUtils.isEmpty(shelvingOrders)) {
+      return Collections.emptyList();
+    }
+
+    return jdbcTemplate.query(
+      SELECT_BY_SHELVING_ORDERS_AGG.formatted(getTableName(), getParamPlaceholder(shelvingOrders.size())),
+      instanceCallNumberAggRowMapper(), shelvingOrders.toArray());
+  }
+
+  private RowMapper<InstanceCallNumberEntityAgg> instanceCallNumberAggRowMapper() {
+    return (rs, rowNum) -> {
+      var instancesJson = rs.getString("instances");
+      Set<InstanceSubResource> instanceSubResources;
+      try {
+        instanceSubResources = objectMapper.readValue(instancesJson, VALUE_TYPE_REF);
+      } catch (JsonProcessingException e) {
+        throw new IllegalArgumentException(e);
+      }
+      return new InstanceCallNumberEntityAgg(rs.getString(SHELVING_ORDER_COLUMN),
+        rs.getString(FULL_CALL_NUMBER_COLUMN), instanceSubResources);
+    };
+  }
+
+  private String getTableName() {
+    return JdbcUtils.getFullTableName(context, INSTANCE_CALL_NUMBER_TABLE_NAME);
+  }
+}
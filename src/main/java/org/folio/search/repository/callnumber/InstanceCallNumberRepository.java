@@ -0,0 +1,21 @@
+package org.folio.search.repository.callnumber;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface InstanceCallNumberRepository {
+
+  void saveAll(List<InstanceCallNumberEntity> callNumbers);
+
+  /**
+   * Deletes call numbers of the given instance and of the given items, that could be moved from other instances.
+   *
+   * @param instanceId - instance id to delete call numbers of
+   * @param itemIds    - item ids to delete call numbers of
+   * @param tenantId   - tenant id of the instance and items
+   * @return shelving orders of deleted call numbers
+   */
+  List<String> deleteByInstanceIdOrItemIds(String instanceId, Collection<String> itemIds, String tenantId);
+
+  List<InstanceCallNumberEntityAgg> fetchAggregatedByShelvingOrders(Collection<String> shelvingOrders);
+}
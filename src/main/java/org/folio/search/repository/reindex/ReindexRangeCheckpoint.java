@@ -0,0 +1,20 @@
+package org.folio.search.repository.reindex;
+
+/**
+ * Checkpoint of the range saved after a batch of resources is indexed.
+ *
+ * @param lastId         - id of the last indexed resource
+ * @param processedCount - number of resources indexed in the batch
+ * @param fetchTime      - time spent on fetching the batch, in milliseconds
+ * @param convertTime    - time spent on converting the batch, in milliseconds
+ * @param bulkTime       - time spent on the bulk request of the batch, in milliseconds
+ */
+public record ReindexRangeCheckpoint(
+  String lastId,
+  long processedCount,
+  long fetchTime,
+  long convertTime,
+  long bulkTime
+) {
+
+}
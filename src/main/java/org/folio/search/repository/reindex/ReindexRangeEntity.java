@@ -0,0 +1,53 @@
+package org.folio.search.repository.reindex;
+
+import java.time.Instant;
+import java.util.Objects;
+import lombok.Builder;
+import org.folio.search.model.types.ReindexRangeStatus;
+
+/**
+ * Range of resource ids processed by the reindex pipeline.
+ *
+ * @param id             - range id
+ * @param jobId          - id of the reindex job the range belongs to
+ * @param resourceName   - name of the reindexed resource
+ * @param lowerBound     - inclusive lower bound of the range
+ * @param upperBound     - exclusive upper bound of the range, null for the last range
+ * @param lastId         - id of the last indexed resource (checkpoint), null if the range is not started
+ * @param processedCount - number of indexed resources
+ * @param status         - range status
+ * @param expectedCount  - number of resources in the range, null if the range is not started
+ * @param errorCount     - number of failed range reindex attempts
+ * @param fetchTime      - time spent on fetching resources from inventory, in milliseconds
+ * @param convertTime    - time spent on converting resources to search documents, in milliseconds
+ * @param bulkTime       - time spent on bulk requests to the index, in milliseconds
+ * @param startedDate    - time when the range reindex was started, null if the range is not started
+ * @param updatedDate    - time of the last range update
+ */
+@Builder(toBuilder = true)
+public record ReindexRangeEntity(
+  String id,
+  String jobId,
+  String resourceName,
+  String lowerBound,
+  String upperBound,
+  String lastId,
+  long processedCount,
+  ReindexRangeStatus status,
+  Long expectedCount,
+  int errorCount,
+  long fetchTime,
+  long convertTime,
+  long bulkTime,
+  Instant startedDate,
+  Instant updatedDate
+) {
+
+  public ReindexRangeEntity {
+    Objects.requireNonNull(id);
+    Objects.requireNonNull(jobId);
+    Objects.requireNonNull(resourceName);
+    Objects.requireNonNull(lowerBound);
+    Objects.requireNonNull(status);
+  }
+}
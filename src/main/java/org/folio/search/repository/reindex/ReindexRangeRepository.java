@@ -0,0 +1,225 @@
+package org.folio.search.repository.reindex;
+
+import static java.util.Comparator.comparing;
+import static org.folio.search.utils.JdbcUtils.getFullTableName;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.model.types.ReindexRangeStatus;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Log4j2
+@Repository
+@RequiredArgsConstructor
+public class ReindexRangeRepository {
+
+  private static final String REINDEX_RANGE_TABLE_NAME = "reindex_range";
+  private static final String INSERT_SQL = """
+    INSERT INTO %s (id, job_id, resource_name, lower_bound, upper_bound, last_id, processed_count, status,
+                    updated_date)
+    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?);
+    """;
+  private static final String SELECT_ALL_SQL = "SELECT * FROM %s ORDER BY resource_name, lower_bound;";
+  private static final String CLAIM_UNFINISHED_SQL = """
+    UPDATE %s
+    SET status = ?, updated_date = ?
+    WHERE resource_name = ? AND (status IN (?, ?) OR status = ? AND updated_date < ?)
+    RETURNING *;
+    """;
+  private static final String SELECT_ACTIVE_JOB_ID_SQL = """
+    SELECT job_id FROM %s
+    WHERE resource_name = ? AND status = ? AND updated_date >= ?
+    LIMIT 1;
+    """;
+  private static final String LOCK_TABLE_SQL = "LOCK TABLE %s IN SHARE ROW EXCLUSIVE MODE;";
+  private static final String DELETE_BY_RESOURCE_SQL = "DELETE FROM %s WHERE resource_name = ?;";
+  private static final String UPDATE_CHECKPOINT_SQL = """
+    UPDATE %s
+    SET last_id = ?, processed_count = processed_count + ?, fetch_time = fetch_time + ?,
+        convert_time = convert_time + ?, bulk_time = bulk_time + ?, updated_date = ?
+    WHERE id = ?;
+    """;
+  private static final String UPDATE_STARTED_SQL = """
+    UPDATE %s
+    SET status = ?, expected_count = ?, started_date = COALESCE(started_date, ?), updated_date = ?
+    WHERE id = ?;
+    """;
+  private static final String UPDATE_FAILED_SQL = """
+    UPDATE %s
+    SET status = ?, error_count = error_count + 1, updated_date = ?
+    WHERE id = ?;
+    """;
+  private static final String UPDATE_STATUS_SQL = "UPDATE %s SET status = ?, updated_date = ? WHERE id = ?;";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioExecutionContext context;
+
+  public void saveAll(List<ReindexRangeEntity> ranges) {
+    log.debug("saveAll::reindex ranges [number: {}]", ranges.size());
+    jdbcTemplate.batchUpdate(
+      INSERT_SQL.formatted(getTableName()),
+      ranges,
+      100,
+      (PreparedStatement ps, ReindexRangeEntity range) -> {
+        ps.setString(1, range.id());
+        ps.setString(2, range.jobId());
+        ps.setString(3, range.resourceName());
+        ps.setString(4, range.lowerBound());
+        ps.setString(5, range.upperBound());
+        ps.setString(6, range.lastId());
+        ps.setLong(7, range.processedCount());
+        ps.setString(8, range.status().name());
+        ps.setTimestamp(9, now());
+      });
+  }
+
+  /**
+   * Claims new and failed ranges of the resource, marking them as in progress in a single statement, so the same range
+   * is never claimed twice by concurrent resume requests. Ranges in progress are processed by a running job and are
+   * claimed only if they were not updated since the lease expiration, e.g. because the module instance processing
+   * them was restarted.
+   *
+   * @param resourceName    - name of the reindexed resource
+   * @param leaseExpiration - ranges in progress updated before this time are claimed
+   * @return list of claimed ranges ordered by lower bound
+   */
+  public List<ReindexRangeEntity> claimUnfinished(String resourceName, Instant leaseExpiration) {
+    log.debug("claimUnfinished::reindex ranges [resourceName: {}, leaseExpiration: {}]", resourceName, leaseExpiration);
+    var ranges = jdbcTemplate.query(CLAIM_UNFINISHED_SQL.formatted(getTableName()), (rs, rowNum) -> toEntity(rs),
+      ReindexRangeStatus.IN_PROGRESS.name(), now(), resourceName,
+      ReindexRangeStatus.NEW.name(), ReindexRangeStatus.FAILED.name(),
+      ReindexRangeStatus.IN_PROGRESS.name(), Timestamp.from(leaseExpiration));
+    return ranges.stream().sorted(comparing(ReindexRangeEntity::lowerBound)).toList();
+  }
+
+  /**
+   * Replaces ranges of the resource with the ranges of a new job, unless the resource has ranges in progress updated
+   * since the lease expiration. The table is locked for the transaction, so concurrent requests don't start two jobs
+   * and the ranges of a running job are never deleted.
+   *
+   * @param resourceName    - name of the reindexed resource
+   * @param ranges          - ranges of the new job
+   * @param leaseExpiration - ranges in progress updated after this time belong to a running job
+   * @return id of the running job if ranges were not replaced, empty {@link Optional} - otherwise
+   */
+  @Transactional
+  public Optional<String> replaceUnlessActive(String resourceName, List<ReindexRangeEntity> ranges,
+                                              Instant leaseExpiration) {
+    log.debug("replaceUnlessActive::reindex ranges [resourceName: {}, number: {}]", resourceName, ranges.size());
+    jdbcTemplate.execute(LOCK_TABLE_SQL.formatted(getTableName()));
+    var activeJobId = findActiveJobId(resourceName, leaseExpiration);
+    if (activeJobId.isPresent()) {
+      return activeJobId;
+    }
+
+    deleteByResourceName(resourceName);
+    saveAll(ranges);
+    return Optional.empty();
+  }
+
+  /**
+   * Provides id of the running job: the job with ranges in progress updated since the lease expiration.
+   *
+   * @param resourceName    - name of the reindexed resource
+   * @param leaseExpiration - ranges in progress updated after this time belong to a running job
+   * @return id of the running job if present, empty {@link Optional} - otherwise
+   */
+  public Optional<String> findActiveJobId(String resourceName, Instant leaseExpiration) {
+    var jobIds = jdbcTemplate.queryForList(SELECT_ACTIVE_JOB_ID_SQL.formatted(getTableName()), String.class,
+      resourceName, ReindexRangeStatus.IN_PROGRESS.name(), Timestamp.from(leaseExpiration));
+    return jobIds.stream().findFirst();
+  }
+
+  public List<ReindexRangeEntity> findAll() {
+    log.debug("findAll::reindex ranges");
+    return jdbcTemplate.query(SELECT_ALL_SQL.formatted(getTableName()), (rs, rowNum) -> toEntity(rs));
+  }
+
+  private void deleteByResourceName(String resourceName) {
+    log.debug("deleteByResourceName::reindex ranges [resourceName: {}]", resourceName);
+    jdbcTemplate.update(DELETE_BY_RESOURCE_SQL.formatted(getTableName()), resourceName);
+  }
+
+  /**
+   * Saves checkpoint of the range after the next batch of resources is indexed.
+   *
+   * @param id         - range id
+   * @param checkpoint - range checkpoint with the id of the last indexed resource and the batch statistics
+   */
+  public void updateCheckpoint(String id, ReindexRangeCheckpoint checkpoint) {
+    jdbcTemplate.update(UPDATE_CHECKPOINT_SQL.formatted(getTableName()), checkpoint.lastId(),
+      checkpoint.processedCount(), checkpoint.fetchTime(), checkpoint.convertTime(), checkpoint.bulkTime(), now(), id);
+  }
+
+  /**
+   * Marks the range as started. The start date of the resumed range is kept.
+   *
+   * @param id            - range id
+   * @param expectedCount - number of resources in the range
+   */
+  public void updateStarted(String id, long expectedCount) {
+    log.debug("updateStarted::reindex range [id: {}, expectedCount: {}]", id, expectedCount);
+    var now = now();
+    jdbcTemplate.update(UPDATE_STARTED_SQL.formatted(getTableName()),
+      ReindexRangeStatus.IN_PROGRESS.name(), expectedCount, now, now, id);
+  }
+
+  /**
+   * Marks the range as failed, incrementing its error count.
+   *
+   * @param id - range id
+   */
+  public void updateFailed(String id) {
+    log.debug("updateFailed::reindex range [id: {}]", id);
+    jdbcTemplate.update(UPDATE_FAILED_SQL.formatted(getTableName()), ReindexRangeStatus.FAILED.name(), now(), id);
+  }
+
+  public void updateStatus(String id, ReindexRangeStatus status) {
+    log.debug("updateStatus::reindex range [id: {}, status: {}]", id, status);
+    jdbcTemplate.update(UPDATE_STATUS_SQL.formatted(getTableName()), status.name(), now(), id);
+  }
+
+  private ReindexRangeEntity toEntity(ResultSet rs) throws SQLException {
+    return ReindexRangeEntity.builder()
+      .id(rs.getString("id"))
+      .jobId(rs.getString("job_id"))
+      .resourceName(rs.getString("resource_name"))
+      .lowerBound(rs.getString("lower_bound"))
+      .upperBound(rs.getString("upper_bound"))
+      .lastId(rs.getString("last_id"))
+      .processedCount(rs.getLong("processed_count"))
+      .status(ReindexRangeStatus.valueOf(rs.getString("status")))
+      .expectedCount(rs.getObject("expected_count", Long.class))
+      .errorCount(rs.getInt("error_count"))
+      .fetchTime(rs.getLong("fetch_time"))
+      .convertTime(rs.getLong("convert_time"))
+      .bulkTime(rs.getLong("bulk_time"))
+      .startedDate(toInstant(rs.getTimestamp("started_date")))
+      .updatedDate(toInstant(rs.getTimestamp("updated_date")))
+      .build();
+  }
+
+  private static Instant toInstant(Timestamp timestamp) {
+    return timestamp == null ? null : timestamp.toInstant();
+  }
+
+  private static Timestamp now() {
+    return Timestamp.valueOf(LocalDateTime.now(ZoneId.systemDefault()));
+  }
+
+  private String getTableName() {
+    return getFullTableName(context, REINDEX_RANGE_TABLE_NAME);
+  }
+}
@@ -0,0 +1,125 @@
+package org.folio.search.service;
+
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.toCollection;
+import static org.apache.commons.lang3.StringUtils.startsWith;
+import static org.folio.search.utils.SearchConverterUtils.getMapValueByPath;
+import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
+import static org.folio.search.utils.SearchConverterUtils.getOldAsMap;
+import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
+import static org.folio.search.utils.SearchConverterUtils.getResourceSource;
+import static org.folio.search.utils.SearchConverterUtils.getStringStreamFromValue;
+import static org.folio.search.utils.SearchUtils.AUTHORITY_ID_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.MapUtils;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
+import org.folio.search.repository.authority.AuthorityInstanceLinkEntity;
+import org.folio.search.repository.authority.AuthorityInstanceLinkRepository;
+import org.folio.search.service.consortium.ConsortiumTenantExecutor;
+import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.service.metadata.SearchFieldProvider;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains links between authorities and instances, used to provide the number of titles for authority records
+ * without querying the instance index.
+ *
+ * <p>Links are replaced per instance, so the processing of the same instance event is idempotent. Shadow instances of
+ * the consortium are not linked, because the shared instance is already linked in the central tenant.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class AuthorityInstanceLinkService {
+
+  private final FolioExecutionContext context;
+  private final FeatureConfigService featureConfigService;
+  private final SearchFieldProvider searchFieldProvider;
+  private final ConsortiumTenantService consortiumTenantService;
+  private final ConsortiumTenantExecutor consortiumTenantExecutor;
+  private final AuthorityInstanceLinkRepository authorityInstanceLinkRepository;
+
+  /**
+   * Updates authority links of the instance from the given instance event.
+   *
+   * <p>Must be executed in the context of the tenant that owns the links table (the central tenant for consortium
+   * member tenants).</p>
+   *
+   * @param event - instance resource event as {@link ResourceEvent} object
+   */
+  @Transactional
+  public void updateLinks(ResourceEvent event) {
+    if (!featureConfigService.isEnabled(TenantConfiguredFeature.AUTHORITY_TITLES_COUNT_PRECOMPUTED)) {
+      return;
+    }
+
+    var newAuthorityIds = getAuthorityIds(getNewAsMap(event));
+    if (isIncrementalEvent(event) && newAuthorityIds.equals(getAuthorityIds(getOldAsMap(event)))) {
+      return;
+    }
+
+    var instanceId = getResourceEventId(event);
+    if (instanceId == null) {
+      return;
+    }
+
+    var tenantId = event.getTenant();
+    var shared = isShared(tenantId);
+    log.debug("updateLinks:: by [instanceId: {}, tenantId: {}, authorityIds: {}]", instanceId, tenantId,
+      newAuthorityIds);
+
+    authorityInstanceLinkRepository.deleteByInstanceId(instanceId, tenantId);
+    authorityInstanceLinkRepository.saveAll(newAuthorityIds.stream()
+      .map(authorityId -> new AuthorityInstanceLinkEntity(authorityId, instanceId, tenantId, shared))
+      .toList());
+  }
+
+  /**
+   * Provides the number of instances linked to the given authorities and visible for the context tenant.
+   *
+   * @param authorityIds - authority ids as {@link Collection} of {@link String} values
+   * @return map with authority id as the key and the number of linked instances as the value
+   */
+  public Map<String, Integer> getNumberOfTitles(Collection<String> authorityIds) {
+    var contextTenantId = context.getTenantId();
+    var centralTenantId = consortiumTenantService.getCentralTenant(contextTenantId);
+    if (centralTenantId.isEmpty()) {
+      return authorityInstanceLinkRepository.countInstancesByAuthorityIds(authorityIds, null, false);
+    }
+
+    var includeShared = !contextTenantId.equals(centralTenantId.get());
+    return consortiumTenantExecutor.execute(() ->
+      authorityInstanceLinkRepository.countInstancesByAuthorityIds(authorityIds, contextTenantId, includeShared));
+  }
+
+  private Set<String> getAuthorityIds(Map<String, Object> instance) {
+    if (MapUtils.isEmpty(instance) || startsWith(getResourceSource(instance), SOURCE_CONSORTIUM_PREFIX)) {
+      return emptySet();
+    }
+
+    return searchFieldProvider.getFields(INSTANCE_RESOURCE, AUTHORITY_ID_FIELD).stream()
+      .flatMap(field -> getStringStreamFromValue(getMapValueByPath(field, instance)))
+      .collect(toCollection(LinkedHashSet::new));
+  }
+
+  private static boolean isIncrementalEvent(ResourceEvent event) {
+    return event.getType() == ResourceEventType.CREATE || event.getType() == ResourceEventType.UPDATE;
+  }
+
+  private boolean isShared(String tenantId) {
+    var centralTenant = consortiumTenantService.getCentralTenant(tenantId);
+    return centralTenant.isPresent() && centralTenant.get().equals(tenantId);
+  }
+}
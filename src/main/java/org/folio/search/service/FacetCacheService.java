@@ -0,0 +1,94 @@
+package org.folio.search.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.domain.dto.Facet;
+import org.folio.search.domain.dto.FacetItem;
+import org.folio.search.domain.dto.FacetResult;
+import org.folio.search.model.service.CachedFacetResult;
+import org.folio.search.model.service.CqlFacetRequest;
+import org.folio.search.repository.IndexGenerationTracker;
+import org.folio.search.repository.IndexNameProvider;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Caches facet results per tenant, index and facet search source.
+ *
+ * <p>Cached values are invalidated by the write generation of the index. The maximum staleness of values is defined by
+ * the expiration settings of the facet results cache, because writes performed by other module instances are not
+ * tracked.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class FacetCacheService {
+
+  /**
+   * Results of queries executed shortly after a write are not cached, because the written documents can be
+   * invisible for search until the index is refreshed.
+   */
+  private static final long INDEX_REFRESH_INTERVAL_MILLIS = 1000L;
+
+  private final Cache<String, CachedFacetResult> facetResultsCache;
+  private final IndexNameProvider indexNameProvider;
+  private final IndexGenerationTracker indexGenerationTracker;
+
+  /**
+   * Provides facet result from the cache or loads it using the given loader.
+   *
+   * @param request      - facet request as {@link CqlFacetRequest} object
+   * @param searchSource - prepared facet search source, used as normalized query and facets in the cache key
+   * @param loader       - facet result loader, executing the search request
+   * @return {@link FacetResult} object
+   */
+  public FacetResult getFacets(CqlFacetRequest request, SearchSourceBuilder searchSource,
+                               Supplier<FacetResult> loader) {
+    var index = indexNameProvider.getIndexName(request);
+    var cacheKey = request.getTenantId() + ":" + index + ":" + searchSource;
+    var generation = indexGenerationTracker.getGeneration(index);
+
+    var cachedResult = facetResultsCache.getIfPresent(cacheKey);
+    if (cachedResult != null && cachedResult.getIndexGeneration() == generation.value()) {
+      log.debug("getFacets:: facet result is loaded from cache [index: {}, generation: {}]", index, generation.value());
+      return copyOf(cachedResult.getFacetResult());
+    }
+
+    var facetResult = loader.get();
+    if (System.currentTimeMillis() - generation.lastWriteTime() > INDEX_REFRESH_INTERVAL_MILLIS) {
+      facetResultsCache.put(cacheKey, CachedFacetResult.of(generation.value(), copyOf(facetResult)));
+    } else {
+      facetResultsCache.invalidate(cacheKey);
+    }
+
+    return facetResult;
+  }
+
+  /**
+   * Copies facet result, so callers can modify returned values without affecting the cached ones.
+   */
+  private static FacetResult copyOf(FacetResult facetResult) {
+    var facets = facetResult.getFacets() == null ? null : new LinkedHashMap<String, Facet>();
+    if (facets != null) {
+      facetResult.getFacets().forEach((name, facet) -> facets.put(name, copyOf(facet)));
+    }
+    return new FacetResult().facets(facets).totalRecords(facetResult.getTotalRecords());
+  }
+
+  private static Facet copyOf(Facet facet) {
+    var values = facet.getValues() == null ? null : facet.getValues().stream()
+      .map(item -> new FacetItem().id(item.getId()).totalRecords(item.getTotalRecords()))
+      .collect(Collectors.toCollection(ArrayList::new));
+    return new Facet()
+      .values(values)
+      .totalRecords(facet.getTotalRecords())
+      .otherRecords(facet.getOtherRecords())
+      .cardinality(facet.getCardinality())
+      .afterKey(facet.getAfterKey());
+  }
+}
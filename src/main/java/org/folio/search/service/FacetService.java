@@ -1,5 +1,8 @@
 package org.folio.search.service;
 
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -11,7 +14,9 @@ import org.folio.search.model.service.CqlFacetRequest;
 import org.folio.search.repository.SearchRepository;
 import org.folio.search.service.converter.ElasticsearchFacetConverter;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.springframework.stereotype.Service;
 
@@ -22,13 +27,15 @@ public class FacetService {
 
   private static final String ITEMS_EFFECTIVE_LOCATION_ID = "items.effectiveLocationId";
   private static final String TENANT_ID = "holdings.tenantId";
+  private static final List<String> PRESERVED_FILTERS = List.of(ITEMS_EFFECTIVE_LOCATION_ID, TENANT_ID);
   private final SearchRepository searchRepository;
   private final CqlSearchQueryConverter cqlSearchQueryConverter;
   private final FacetQueryBuilder facetQueryBuilder;
   private final ElasticsearchFacetConverter facetConverter;
+  private final FacetCacheService facetCacheService;
 
   /**
-   * Prepares facet search query and executes facet request to the search engine.
+   * Prepares facet search query and executes facet request to the search engine, if the result is not cached.
    *
    * @param request cql search request as {@link CqlFacetRequest} object
    * @return facet result with found facets for given facet request.
@@ -39,21 +46,63 @@ public class FacetService {
     searchSource.size(0).from(0).fetchSource(false);
 
     facetQueryBuilder.getFacetAggregations(request, searchSource.query()).forEach(searchSource::aggregation);
-    cleanUpFacetSearchSource(searchSource, List.of(ITEMS_EFFECTIVE_LOCATION_ID, TENANT_ID));
+    cleanUpFacetSearchSource(searchSource);
 
-    var searchResponse = searchRepository.search(request, searchSource);
-    return facetConverter.convert(searchResponse.getAggregations());
+    return facetCacheService.getFacets(request, searchSource, () -> {
+      var searchResponse = searchRepository.search(request, searchSource);
+      return facetConverter.convert(searchResponse.getAggregations());
+    });
   }
 
-  private static void cleanUpFacetSearchSource(SearchSourceBuilder searchSource, List<String> filterNamesToKeep) {
-    var query = searchSource.query();
-    if (query instanceof BoolQueryBuilder boolQuery) {
-      boolQuery.filter().removeIf(filter -> !(filter instanceof TermQueryBuilder termFilter
-        && filterNamesToKeep.contains(termFilter.fieldName())));
+  /**
+   * Adds facet aggregations to the search source of the search request, so records and facets are calculated by a
+   * single request to the search engine.
+   *
+   * <p>Filters that are not applied to facets are moved to the post filter of the search source, so they still
+   * restrict found records, but don't affect the facet aggregations.</p>
+   *
+   * @param request      - facet request as {@link CqlFacetRequest} object
+   * @param searchSource - search source of the search request with converted CQL query
+   */
+  public void addFacetAggregations(CqlFacetRequest request, SearchSourceBuilder searchSource) {
+    log.debug("addFacetAggregations:: by [query: {}, resource: {}]", request.getQuery(), request.getResource());
+    facetQueryBuilder.getFacetAggregations(request, searchSource.query()).forEach(searchSource::aggregation);
+
+    var removedFilters = removeFacetFilters(searchSource);
+    if (!removedFilters.isEmpty()) {
+      var postFilter = boolQuery();
+      removedFilters.forEach(postFilter::filter);
+      searchSource.postFilter(postFilter);
     }
+  }
+
+  /**
+   * Converts facet aggregations of the search response, prepared by
+   * {@link #addFacetAggregations(CqlFacetRequest, SearchSourceBuilder)}.
+   *
+   * @param aggregations - search response aggregations as {@link Aggregations} object
+   * @return facet result with found facets
+   */
+  public FacetResult convertFacets(Aggregations aggregations) {
+    return facetConverter.convert(aggregations);
+  }
 
+  private static void cleanUpFacetSearchSource(SearchSourceBuilder searchSource) {
+    removeFacetFilters(searchSource);
     if (CollectionUtils.isNotEmpty(searchSource.sorts())) {
       searchSource.sorts().clear();
     }
   }
+
+  private static List<QueryBuilder> removeFacetFilters(SearchSourceBuilder searchSource) {
+    var removedFilters = new ArrayList<QueryBuilder>();
+    if (searchSource.query() instanceof BoolQueryBuilder boolQuery) {
+      boolQuery.filter().removeIf(filter -> !isPreservedFilter(filter) && removedFilters.add(filter));
+    }
+    return removedFilters;
+  }
+
+  private static boolean isPreservedFilter(QueryBuilder filter) {
+    return filter instanceof TermQueryBuilder termFilter && PRESERVED_FILTERS.contains(termFilter.fieldName());
+  }
 }
@@ -1,6 +1,7 @@
 package org.folio.search.service;
 
 import static java.lang.Boolean.TRUE;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.SearchUtils.LOCATION_RESOURCE;
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
@@ -16,6 +17,7 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.client.ResourceReindexClient;
+import org.folio.search.domain.dto.CompleteReindexRequest;
 import org.folio.search.domain.dto.FolioCreateIndexResponse;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.IndexDynamicSettings;
@@ -26,11 +28,14 @@ import org.folio.search.exception.RequestValidationException;
 import org.folio.search.exception.SearchServiceException;
 import org.folio.search.repository.IndexNameProvider;
 import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.TenantRoutingProvider;
 import org.folio.search.service.consortium.ConsortiumInstanceService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.search.service.es.SearchMappingsHelper;
 import org.folio.search.service.es.SearchSettingsHelper;
 import org.folio.search.service.metadata.ResourceDescriptionService;
+import org.folio.search.service.reindex.ReindexPipelineService;
+import org.folio.search.service.reindex.ShadowIndexService;
 import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.springframework.stereotype.Service;
 
@@ -50,7 +55,11 @@ public class IndexService {
   private final ConsortiumInstanceService consortiumInstanceService;
   private final IndexNameProvider indexNameProvider;
   private final TenantProvider tenantProvider;
+  private final TenantRoutingProvider tenantRoutingProvider;
   private final LocationService locationService;
+  private final ShadowIndexService shadowIndexService;
+  private final ReindexPipelineService reindexPipelineService;
+  private final IngestModeService ingestModeService;
 
   /**
    * Creates index for resource with pre-defined settings and mappings.
@@ -137,30 +146,105 @@ public class IndexService {
   /**
    * Runs reindex request for mod-inventory-storage.
    *
+   * <p>If the index recreation is requested, the shadow indices are built while the current indices keep serving
+   * search requests. The shadow indices replace the current indices when the reindex is completed using
+   * {@link #completeReindex(String, CompleteReindexRequest)}. The locations reindex is synchronous, so it is
+   * completed right after the reindex.</p>
+   *
+   * <p>If the reindex pipeline is enabled, instances are fetched from inventory by mod-search itself, the reindex
+   * without index recreation resumes unfinished id ranges of the previous reindex, the reindex with index recreation is
+   * rejected while the previous reindex is running.</p>
+   *
+   * <p>The reindex without index recreation writes to the serving indices, so they are switched to ingest mode, see
+   * {@link IngestModeService}.</p>
+   *
+   * <p>The pooled index is shared by several tenants and can't be replaced by a shadow index, so the index recreation
+   * for the pooled tenant deletes the tenant documents from the pooled index and reindexes them to the serving
+   * index. The pooled index is never switched to ingest mode, because it serves the searches of other tenants of the
+   * pool.</p>
+   *
    * @param tenantId       - tenant id as {@link String} object
    * @param reindexRequest - reindex request as {@link ReindexRequest} object
    */
   public ReindexJob reindexInventory(String tenantId, ReindexRequest reindexRequest) {
-    var resources = getResourceNamesToReindex(reindexRequest);
+    var resources = getResourceNamesToReindex(getReindexRequestResourceName(reindexRequest));
     var resource = normalizeResourceName(resources.get(0));
-    if (reindexRequest != null && TRUE.equals(reindexRequest.getRecreateIndex())
-      && notConsortiumMemberTenant(tenantId)) {
+    var recreateIndex = reindexRequest != null && TRUE.equals(reindexRequest.getRecreateIndex())
+      && notConsortiumMemberTenant(tenantId);
+    if (recreateIndex) {
+      if (INSTANCE_RESOURCE.equals(resource) && reindexPipelineService.isEnabled()) {
+        reindexPipelineService.validateNoActiveJob();
+      }
       resources.forEach(resourceName -> {
-        dropIndex(resourceName, tenantId);
-        createIndex(resourceName, tenantId, reindexRequest.getIndexSettings());
-        if (INSTANCE_RESOURCE.equals(resource)) {
-          consortiumInstanceService.deleteAll();
+        createIndexIfNotExist(resourceName, tenantId);
+        if (tenantRoutingProvider.isPooledTenant(resourceName, tenantId)) {
+          deleteTenantDocuments(resourceName, tenantId);
+        } else {
+          var settings = prepareIndexSettings(resourceName, reindexRequest.getIndexSettings());
+          shadowIndexService.createShadowIndex(resourceName, tenantId, settings);
         }
       });
     }
 
     if (LOCATION_RESOURCE.equals(resource)) {
-      return reindexInventoryLocations(tenantId);
+      var reindexJob = reindexInventoryLocations(tenantId);
+      if (recreateIndex) {
+        var servingSettings = prepareIndexDynamicSettings(toDynamicSettings(reindexRequest.getIndexSettings()));
+        resources.stream()
+          .filter(resourceName -> !tenantRoutingProvider.isPooledTenant(resourceName, tenantId))
+          .forEach(resourceName -> shadowIndexService.promoteShadowIndex(resourceName, tenantId, servingSettings));
+      }
+      return reindexJob;
+    }
+
+    resources.stream()
+      .filter(resourceName -> !recreateIndex && !tenantRoutingProvider.isPooledTenant(resourceName, tenantId))
+      .forEach(resourceName ->
+        ingestModeService.enterIngestMode(indexNameProvider.getIndexName(resourceName, tenantId)));
+    if (INSTANCE_RESOURCE.equals(resource) && reindexPipelineService.isEnabled()) {
+      return reindexPipelineService.reindexInstances(tenantId, !recreateIndex);
     } else {
       return reindexInventoryAsync(resource);
     }
   }
 
+  /**
+   * Completes the reindex with index recreation: the shadow indices of the resource replace the current indices.
+   *
+   * <p>Consortium instances are kept during the reindex, because the serving indices are updated from them. When the
+   * instance reindex is completed, consortium instances not updated since the reindex start are deleted.</p>
+   *
+   * @param tenantId - tenant id as {@link String} object
+   * @param request  - complete reindex request as {@link CompleteReindexRequest} object
+   * @return {@link FolioIndexOperationResponse} object
+   */
+  public FolioIndexOperationResponse completeReindex(String tenantId, CompleteReindexRequest request) {
+    log.debug("completeReindex:: by [tenantId: {}, request: {}]", tenantId, request);
+    var resourceName = request == null || request.getResourceName() == null
+                       ? INSTANCE_RESOURCE
+                       : request.getResourceName().getValue();
+    var resources = getResourceNamesToReindex(resourceName).stream()
+      .filter(resource -> !tenantRoutingProvider.isPooledTenant(resource, tenantId))
+      .toList();
+    for (var resource : resources) {
+      if (!shadowIndexService.shadowIndexExists(resource, tenantId)) {
+        throw new RequestValidationException(
+          "Reindex with index recreation is not running for the resource", RESOURCE_NAME_PARAMETER, resource);
+      }
+    }
+
+    var reindexStartTime = resources.contains(INSTANCE_RESOURCE)
+                           ? shadowIndexService.getShadowIndexCreationTime(INSTANCE_RESOURCE, tenantId)
+                           : null;
+    var servingSettings = prepareIndexDynamicSettings(request == null ? null : request.getIndexSettings());
+    resources.forEach(resource -> shadowIndexService.promoteShadowIndex(resource, tenantId, servingSettings));
+    log.info("completeReindex:: shadow indices are promoted [tenantId: {}, resources: {}]", tenantId, resources);
+    if (reindexStartTime != null) {
+      consortiumInstanceService.deleteNotReindexedInstances(reindexStartTime);
+    }
+    return getSuccessIndexOperationResponse();
+  }
+
   /**
    * Runs reindex request for mod-inventory-storage.
    *
@@ -188,7 +272,8 @@ public class IndexService {
   }
 
   /**
-   * Drops Elasticsearch index for given resource name and tenant id.
+   * Drops Elasticsearch index for given resource name and tenant id. The pooled index is shared by several tenants,
+   * so only the documents of the tenant are deleted from it.
    *
    * @param resource - resource name as {@link String} object.
    * @param tenant   - tenant id as {@link String} object
@@ -197,9 +282,29 @@ public class IndexService {
     log.debug("dropIndex:: by [resource: {}, tenant: {}]", resource, tenant);
 
     var index = indexNameProvider.getIndexName(resource, tenant);
+    if (tenantRoutingProvider.isPooledTenant(resource, tenant)) {
+      if (indexRepository.indexExists(index)) {
+        deleteTenantDocuments(resource, tenant);
+      }
+      return;
+    }
+
     if (indexRepository.indexExists(index)) {
       indexRepository.dropIndex(index);
     }
+    shadowIndexService.dropShadowIndex(resource, tenant);
+  }
+
+  private void deleteTenantDocuments(String resource, String tenant) {
+    var index = indexNameProvider.getIndexName(resource, tenant);
+    log.info("deleteTenantDocuments:: deleting tenant documents from pooled index [index: {}, tenant: {}]",
+      index, tenant);
+    var response = indexRepository.deleteTenantDocuments(index, tenant,
+      tenantRoutingProvider.getRouting(resource, tenant));
+    if (response.getStatus() == FolioIndexOperationResponse.StatusEnum.ERROR) {
+      throw new SearchServiceException("Failed to delete tenant documents from the pooled index: "
+        + response.getErrorMessage());
+    }
   }
 
   private FolioCreateIndexResponse doCreateIndex(String resourceName, String tenantId, String indexSettings) {
@@ -213,10 +318,9 @@ public class IndexService {
     return indexRepository.createIndex(index, indexSettings, mappings);
   }
 
-  private List<String> getResourceNamesToReindex(ReindexRequest reindexRequest) {
-    log.debug("getResourceNamesToReindex:: by [reindexRequest: {}]", reindexRequest);
+  private List<String> getResourceNamesToReindex(String resourceName) {
+    log.debug("getResourceNamesToReindex:: by [resourceName: {}]", resourceName);
 
-    var resourceName = getReindexRequestResourceName(reindexRequest);
     var resourceDescription = resourceDescriptionService.find(resourceName);
     if (resourceDescription.isEmpty()
       || resourceDescription.get().getParent() != null
@@ -271,6 +375,12 @@ public class IndexService {
     }
   }
 
+  private static IndexDynamicSettings toDynamicSettings(IndexSettings indexSettings) {
+    return indexSettings == null ? null : new IndexDynamicSettings()
+      .numberOfReplicas(indexSettings.getNumberOfReplicas())
+      .refreshInterval(indexSettings.getRefreshInterval());
+  }
+
   private static String getReindexRequestResourceName(ReindexRequest req) {
     return req == null || req.getResourceName() == null ? INSTANCE_RESOURCE : req.getResourceName().getValue();
   }
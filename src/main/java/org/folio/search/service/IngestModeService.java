@@ -0,0 +1,337 @@
+package org.folio.search.service;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IngestModeSettings;
+import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.repository.IndexNameProvider;
+import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.IndexWriteRateTracker;
+import org.folio.search.service.es.SearchSettingsHelper;
+import org.opensearch.common.unit.TimeValue;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+/**
+ * Relaxes refresh interval and number of replicas of the indices under heavy write load and restores them when the
+ * load settles.
+ *
+ * <p>An index enters ingest mode when the reindex of it is requested or when the number of documents written to it
+ * per second reaches the configured threshold. The index leaves ingest mode when its write rate stays below the
+ * threshold for the settle time: the serving settings are restored, the index is refreshed and, if configured,
+ * force-merged. Ingest mode refresh interval is never disabled, so it bounds the delay of new documents in search
+ * results.</p>
+ *
+ * <p>Write rates are measured per module instance. Serving settings are read from the index when it enters ingest
+ * mode and are stored in the index metadata before the settings are relaxed, so the index entering ingest mode again
+ * (e.g. on another module instance) keeps the original serving settings. The metadata also holds the module instance
+ * that owns ingest mode of the index and the time the metadata was updated at, the owner renews it while the index
+ * stays in ingest mode. The metadata not renewed for the lease time is left by a stopped module instance, the serving
+ * settings of such indices are restored on startup and periodically by the running module instances.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class IngestModeService {
+
+  static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
+  static final String NUMBER_OF_REPLICAS_SETTING = "index.number_of_replicas";
+
+  private static final String DYNAMIC_SETTINGS = "dynamicSettings";
+  private static final String INDEX_SETTINGS = "index";
+  private static final String INGEST_MODE_META = "ingestMode";
+  private static final String REFRESH_INTERVAL_META = "refreshInterval";
+  private static final String NUMBER_OF_REPLICAS_META = "numberOfReplicas";
+  private static final String OWNER_META = "owner";
+  private static final String UPDATED_TIME_META = "updatedTime";
+
+  private final String instanceId = UUID.randomUUID().toString();
+  private final Map<String, IngestModeState> activeIndices = new ConcurrentHashMap<>();
+  private final IndexRepository indexRepository;
+  private final IndexNameProvider indexNameProvider;
+  private final IndexWriteRateTracker indexWriteRateTracker;
+  private final SearchSettingsHelper settingsHelper;
+  private final SearchConfigurationProperties searchConfiguration;
+  @Qualifier("ingestModeScheduler")
+  private final TaskScheduler ingestModeScheduler;
+
+  private long lastEvaluationTime = System.currentTimeMillis();
+  private long lastLeaseCheckTime = System.currentTimeMillis();
+
+  /**
+   * Restores serving settings of the indices left in ingest mode by the stopped module instances and schedules write
+   * rate evaluation if ingest mode is enabled.
+   */
+  @PostConstruct
+  public void init() {
+    restoreExpiredServingSettings(System.currentTimeMillis());
+    var settings = getSettings();
+    if (settings.isEnabled()) {
+      log.info("init:: scheduling ingest mode evaluation [interval: {}, writeRateThreshold: {}]",
+        settings.getEvaluationInterval(), settings.getWriteRateThreshold());
+      ingestModeScheduler.scheduleWithFixedDelay(this::evaluateWriteRates, settings.getEvaluationInterval());
+    }
+  }
+
+  /**
+   * Switches the index to ingest mode ahead of the expected write load, e.g. when the reindex is requested. The index
+   * leaves ingest mode when its write rate settles.
+   *
+   * @param index - index name as {@link String} object
+   */
+  public void enterIngestMode(String index) {
+    if (getSettings().isEnabled()) {
+      enterIngestMode(index, System.currentTimeMillis());
+    }
+  }
+
+  /**
+   * Checks if the index is in ingest mode.
+   *
+   * @param index - index name as {@link String} object
+   * @return true if the index is in ingest mode, false - otherwise
+   */
+  public boolean isIngestModeActive(String index) {
+    return activeIndices.containsKey(index);
+  }
+
+  void evaluateWriteRates() {
+    evaluateWriteRates(System.currentTimeMillis());
+  }
+
+  synchronized void evaluateWriteRates(long evaluationTime) {
+    var settings = getSettings();
+    var elapsedMillis = Math.max(evaluationTime - lastEvaluationTime, 1L);
+    lastEvaluationTime = evaluationTime;
+
+    indexWriteRateTracker.drainWriteCounts().forEach((index, writeCount) -> {
+      var writeRate = writeCount * 1000.0 / elapsedMillis;
+      if (writeRate >= settings.getWriteRateThreshold()) {
+        log.debug("evaluateWriteRates:: high write rate detected [index: {}, writeRate: {}]", index, writeRate);
+        enterIngestMode(index, evaluationTime);
+      }
+    });
+
+    var settleMillis = settings.getSettleTime().toMillis();
+    var leaseMillis = settings.getLeaseTime().toMillis();
+    for (var entry : List.copyOf(activeIndices.entrySet())) {
+      var state = entry.getValue();
+      if (evaluationTime - state.lastActiveTime() >= settleMillis) {
+        leaveIngestMode(entry.getKey(), state);
+      } else if (evaluationTime - state.renewalTime() >= leaseMillis / 2) {
+        renewLease(entry.getKey(), state, evaluationTime);
+      }
+    }
+
+    if (evaluationTime - lastLeaseCheckTime >= leaseMillis) {
+      lastLeaseCheckTime = evaluationTime;
+      restoreExpiredServingSettings(evaluationTime);
+    }
+  }
+
+  private synchronized void enterIngestMode(String index, long time) {
+    var state = activeIndices.get(index);
+    if (state != null) {
+      activeIndices.put(index, state.withLastActiveTime(time));
+      return;
+    }
+
+    try {
+      var settings = getSettings();
+      var indexMeta = getIndexMeta(index);
+      var servingState = getPersistedState(indexMeta, time).orElseGet(() -> getServingState(index, time));
+      var ingestReplicas = Math.min(servingState.numberOfReplicas(), settings.getNumberOfReplicas());
+      var ingestRefresh = isRefreshIntervalLonger(servingState.refreshInterval(), settings)
+                          ? servingState.refreshInterval()
+                          : settings.getRefreshInterval().toMillis() + "ms";
+      if (!updateIndexMeta(index, withServingState(indexMeta, servingState, time))) {
+        return;
+      }
+
+      log.info("enterIngestMode:: relaxing index settings [index: {}, refreshInterval: {}, numberOfReplicas: {}]",
+        index, ingestRefresh, ingestReplicas);
+      if (updateIndexSettings(index, ingestRefresh, ingestReplicas)) {
+        activeIndices.put(index, servingState);
+      }
+    } catch (Exception e) {
+      log.warn("enterIngestMode:: failed to relax index settings [index: {}]", index, e);
+    }
+  }
+
+  private synchronized void leaveIngestMode(String index, IngestModeState state) {
+    try {
+      if (!restoreServingSettings(index, state)) {
+        return;
+      }
+      activeIndices.remove(index);
+      indexRepository.refreshIndices(index);
+
+      var settings = getSettings();
+      if (settings.isForceMergeEnabled()) {
+        log.info("leaveIngestMode:: force-merging index [index: {}, maxNumSegments: {}]",
+          index, settings.getForceMergeMaxSegments());
+        indexRepository.forceMerge(index, settings.getForceMergeMaxSegments());
+      }
+    } catch (Exception e) {
+      log.warn("leaveIngestMode:: failed to restore index settings [index: {}]", index, e);
+    }
+  }
+
+  /**
+   * Updates the ingest mode metadata of the index, so other module instances don't consider it left in ingest mode.
+   */
+  private synchronized void renewLease(String index, IngestModeState state, long time) {
+    try {
+      if (updateIndexMeta(index, withServingState(getIndexMeta(index), state, time))) {
+        activeIndices.put(index, state.withRenewalTime(time));
+      }
+    } catch (Exception e) {
+      log.warn("renewLease:: failed to renew ingest mode lease [index: {}]", index, e);
+    }
+  }
+
+  /**
+   * Restores serving settings of the indices left in ingest mode, e.g. by a module instance stopped during the reindex.
+   * Indices which ingest mode metadata is renewed within the lease time are kept in ingest mode.
+   */
+  private synchronized void restoreExpiredServingSettings(long time) {
+    try {
+      indexRepository.getIndicesMeta(indexNameProvider.getIndicesPattern()).forEach((index, indexMeta) -> {
+        if (!activeIndices.containsKey(index) && isLeaseExpired(indexMeta, time)) {
+          log.info("restoreExpiredServingSettings:: ingest mode lease expired [index: {}, owner: {}]",
+            index, getIngestModeMeta(indexMeta).get(OWNER_META));
+          getPersistedState(indexMeta, time).ifPresent(state -> restoreServingSettings(index, state));
+        }
+      });
+    } catch (Exception e) {
+      log.warn("restoreExpiredServingSettings:: failed to restore serving settings of the indices in ingest mode", e);
+    }
+  }
+
+  private boolean restoreServingSettings(String index, IngestModeState state) {
+    log.info("restoreServingSettings:: restoring index settings [index: {}, refreshInterval: {}, "
+      + "numberOfReplicas: {}]", index, state.refreshInterval(), state.numberOfReplicas());
+    if (!updateIndexSettings(index, state.refreshInterval(), state.numberOfReplicas())) {
+      return false;
+    }
+
+    var indexMeta = new HashMap<>(getIndexMeta(index));
+    if (indexMeta.remove(INGEST_MODE_META) != null) {
+      updateIndexMeta(index, indexMeta);
+    }
+    return true;
+  }
+
+  private boolean updateIndexSettings(String index, String refreshInterval, int numberOfReplicas) {
+    var settings = settingsHelper.getSettingsJson(DYNAMIC_SETTINGS);
+    ((ObjectNode) settings.get(INDEX_SETTINGS))
+      .put("refresh_interval", refreshInterval)
+      .put("number_of_replicas", numberOfReplicas);
+    var response = indexRepository.updateIndexSettings(index, settings.toString());
+    if (response.getStatus() == FolioIndexOperationResponse.StatusEnum.ERROR) {
+      log.warn("updateIndexSettings:: failed to update index settings [index: {}, error: {}]",
+        index, response.getErrorMessage());
+      return false;
+    }
+    return true;
+  }
+
+  private boolean updateIndexMeta(String index, Map<String, Object> indexMeta) {
+    var response = indexRepository.updateIndexMeta(index, indexMeta);
+    if (response.getStatus() == FolioIndexOperationResponse.StatusEnum.ERROR) {
+      log.warn("updateIndexMeta:: failed to update index metadata [index: {}, error: {}]",
+        index, response.getErrorMessage());
+      return false;
+    }
+    return true;
+  }
+
+  private Map<String, Object> getIndexMeta(String index) {
+    return indexRepository.getIndicesMeta(index).values().stream().findFirst().orElse(Map.of());
+  }
+
+  private IngestModeState getServingState(String index, long time) {
+    var currentSettings = indexRepository.getIndexSettings(index, REFRESH_INTERVAL_SETTING,
+      NUMBER_OF_REPLICAS_SETTING);
+    return new IngestModeState(currentSettings.get(REFRESH_INTERVAL_SETTING),
+      Integer.parseInt(currentSettings.get(NUMBER_OF_REPLICAS_SETTING)), time, time);
+  }
+
+  /**
+   * Provides serving settings stored in the index metadata when the index entered ingest mode.
+   */
+  private static Optional<IngestModeState> getPersistedState(Map<String, Object> indexMeta, long time) {
+    var ingestModeMeta = getIngestModeMeta(indexMeta);
+    if (ingestModeMeta.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(new IngestModeState(String.valueOf(ingestModeMeta.get(REFRESH_INTERVAL_META)),
+      ((Number) ingestModeMeta.get(NUMBER_OF_REPLICAS_META)).intValue(), time, time));
+  }
+
+  /**
+   * Checks if the ingest mode metadata of the index is not renewed within the lease time. Metadata without the update
+   * time is stored by the previous module versions and is considered expired.
+   */
+  private boolean isLeaseExpired(Map<String, Object> indexMeta, long time) {
+    var ingestModeMeta = getIngestModeMeta(indexMeta);
+    if (ingestModeMeta.isEmpty()) {
+      return false;
+    }
+    return !(ingestModeMeta.get(UPDATED_TIME_META) instanceof Number updatedTime)
+      || time - updatedTime.longValue() >= getSettings().getLeaseTime().toMillis();
+  }
+
+  private Map<String, Object> withServingState(Map<String, Object> indexMeta, IngestModeState state, long time) {
+    var result = new HashMap<>(indexMeta);
+    result.put(INGEST_MODE_META, Map.of(REFRESH_INTERVAL_META, state.refreshInterval(),
+      NUMBER_OF_REPLICAS_META, state.numberOfReplicas(), OWNER_META, instanceId, UPDATED_TIME_META, time));
+    return result;
+  }
+
+  private static Map<?, ?> getIngestModeMeta(Map<String, Object> indexMeta) {
+    return indexMeta.get(INGEST_MODE_META) instanceof Map<?, ?> ingestModeMeta ? ingestModeMeta : Map.of();
+  }
+
+  /**
+   * Checks if the refresh interval is disabled or longer than the ingest mode one, so it must not be changed.
+   */
+  private static boolean isRefreshIntervalLonger(String refreshInterval, IngestModeSettings settings) {
+    var refreshMillis = TimeValue.parseTimeValue(refreshInterval, REFRESH_INTERVAL_SETTING).millis();
+    return refreshMillis < 0 || refreshMillis >= settings.getRefreshInterval().toMillis();
+  }
+
+  private IngestModeSettings getSettings() {
+    return searchConfiguration.getIndexing().getIngestMode();
+  }
+
+  /**
+   * Serving settings of the index in ingest mode.
+   *
+   * @param refreshInterval  - serving refresh interval
+   * @param numberOfReplicas - serving number of replicas
+   * @param lastActiveTime   - time of the last high write rate or the explicit ingest mode request, in milliseconds
+   * @param renewalTime      - time the ingest mode metadata was updated at by this module instance, in milliseconds
+   */
+  private record IngestModeState(String refreshInterval, int numberOfReplicas, long lastActiveTime,
+                                 long renewalTime) {
+
+    IngestModeState withLastActiveTime(long time) {
+      return new IngestModeState(refreshInterval, numberOfReplicas, time, renewalTime);
+    }
+
+    IngestModeState withRenewalTime(long time) {
+      return new IngestModeState(refreshInterval, numberOfReplicas, lastActiveTime, time);
+    }
+  }
+}
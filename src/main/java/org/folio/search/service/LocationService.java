@@ -4,16 +4,32 @@ import static org.apache.commons.collections4.MapUtils.getString;
 import static org.folio.search.utils.SearchUtils.ID_FIELD;
 import static org.folio.search.utils.SearchUtils.LOCATION_RESOURCE;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.client.LocationsClient;
 import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.domain.dto.FolioIndexOperationResponse;
 import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+/**
+ * Reindexes locations fetched from inventory storage.
+ *
+ * <p>Location pages are fetched concurrently, up to the configured number of pages in flight per tenant, and indexed
+ * in the order of their offsets while the next pages are being fetched. The reindex requested by the central tenant of
+ * a consortium covers locations of all consortium tenants, which are reindexed concurrently.</p>
+ */
 @Log4j2
 @Service
 @RequiredArgsConstructor
@@ -22,21 +38,77 @@ public class LocationService {
   private final ReindexConfigurationProperties properties;
   private final LocationsClient client;
   private final ResourceService resourceService;
+  private final ConsortiumTenantService consortiumTenantService;
+  private final SystemUserScopedExecutionService executionService;
+  @Qualifier("locationReindexFetchExecutor")
+  private final Executor fetchExecutor;
+  @Qualifier("locationReindexTenantExecutor")
+  private final Executor tenantExecutor;
 
   public void reindex(String tenantId) {
-    int processed = 0;
-    int total;
-    do {
-      var locationResponse = client.getLocations(processed, properties.getLocationBatchSize());
-      total = locationResponse.totalRecords();
-      var locations = locationResponse.locations();
-      processed += locations.size();
-      indexLocations(tenantId, locations);
-      log.info("reindex:: Successfully indexed {} of {} locations", processed, total);
-    } while (processed < total);
+    var tenants = consortiumTenantService.getConsortiumTenants(tenantId);
+    if (tenants.equals(List.of(tenantId))) {
+      reindexTenant(tenantId);
+      return;
+    }
+
+    log.info("reindex:: Reindexing locations of consortium tenants [tenantId: {}, tenants: {}]",
+      tenantId, tenants.size());
+    var futures = tenants.stream()
+      .map(tenant -> CompletableFuture.runAsync(() -> executionService.executeSystemUserScoped(tenant, () -> {
+        reindexTenant(tenant);
+        return null;
+      }), tenantExecutor))
+      .toList();
+
+    var failedTenants = new ArrayList<String>();
+    for (int i = 0; i < tenants.size(); i++) {
+      try {
+        futures.get(i).join();
+      } catch (CompletionException e) {
+        log.warn("reindex:: Failed to reindex locations [tenantId: {}]", tenants.get(i), e.getCause());
+        failedTenants.add(tenants.get(i));
+      }
+    }
+
+    if (!failedTenants.isEmpty()) {
+      throw new IllegalStateException("Indexing failed for tenants: " + failedTenants);
+    }
   }
 
-  private void indexLocations(String tenantId, List<Map<String, Object>> locations) {
+  private void reindexTenant(String tenantId) {
+    var batchSize = properties.getLocationBatchSize();
+    var fetchConcurrency = properties.getLocationFetchConcurrency();
+    var firstPage = client.getLocations(0, batchSize);
+    var total = firstPage.totalRecords();
+
+    Deque<CompletableFuture<List<Map<String, Object>>>> pages = new ArrayDeque<>();
+    var nextOffset = batchSize;
+    while (pages.size() < fetchConcurrency && nextOffset < total) {
+      pages.add(fetchLocations(nextOffset, batchSize));
+      nextOffset += batchSize;
+    }
+
+    try {
+      var processed = indexLocations(tenantId, firstPage.locations(), 0, total);
+      while (!pages.isEmpty()) {
+        var locations = awaitLocations(pages.poll());
+        if (nextOffset < total) {
+          pages.add(fetchLocations(nextOffset, batchSize));
+          nextOffset += batchSize;
+        }
+        processed = indexLocations(tenantId, locations, processed, total);
+      }
+    } finally {
+      pages.forEach(page -> page.cancel(true));
+    }
+  }
+
+  private CompletableFuture<List<Map<String, Object>>> fetchLocations(int offset, int limit) {
+    return CompletableFuture.supplyAsync(() -> client.getLocations(offset, limit).locations(), fetchExecutor);
+  }
+
+  private int indexLocations(String tenantId, List<Map<String, Object>> locations, int processed, int total) {
     var events = locations.stream()
       .map(location -> toResourceEvent(tenantId, location))
       .toList();
@@ -47,6 +119,10 @@ public class LocationService {
       log.warn("reindex:: " + errorMessage);
       throw new IllegalStateException(errorMessage);
     }
+
+    var processedTotal = processed + locations.size();
+    log.info("reindex:: Successfully indexed {} of {} locations [tenantId: {}]", processedTotal, total, tenantId);
+    return processedTotal;
   }
 
   private ResourceEvent toResourceEvent(String tenantId, Map<String, Object> location) {
@@ -56,4 +132,15 @@ public class LocationService {
       .resourceName(LOCATION_RESOURCE)
       ._new(location);
   }
+
+  private static List<Map<String, Object>> awaitLocations(CompletableFuture<List<Map<String, Object>>> page) {
+    try {
+      return page.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
 }
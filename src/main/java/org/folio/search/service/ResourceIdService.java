@@ -3,14 +3,20 @@ package org.folio.search.service;
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.folio.search.utils.LogUtils.collectionToLogMsg;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
 import static org.opensearch.search.sort.SortBuilders.fieldSort;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -65,26 +71,66 @@ public class ResourceIdService {
   public void streamIdsFromDatabaseAsJson(String jobId, OutputStream outputStream) {
     log.debug("streamIdsFromDatabaseAsJson:: by [jobId: {}]", jobId);
 
-    var job = jobRepository.getReferenceById(jobId);
-    if (!job.getStatus().equals(StreamJobStatus.COMPLETED)) {
-      throw new SearchServiceException(
-        format("Completed async job with query=[%s] was not found.", job.getQuery()));
-    }
+    var job = getCompletedJob(jobId);
     processStreamToJson(outputStream, (json, counter) ->
-      idsTemporaryRepository.streamIds(job.getTemporaryTableName(), resultSet -> {
-        try {
-          json.writeStartObject();
-          json.writeStringField("id", resultSet.getString(1));
-          json.writeEndObject();
-          counter.incrementAndGet();
-        } catch (IOException e) {
-          throw new SearchServiceException(
-            format("Failed to write id value into json stream [reason: %s]", e.getMessage()), e);
-        }
-      }));
-    job.setStatus(StreamJobStatus.DEPRECATED);
-    log.info("streamIdsFromDatabaseAsJson:: Attempting to save [job: {}]", job);
-    jobRepository.save(job);
+      counter.addAndGet(streamIdsFromDatabase(job, json, id -> {
+        json.writeStartObject();
+        json.writeStringField("id", id);
+        json.writeEndObject();
+      })));
+    deprecateJob(job);
+  }
+
+  /**
+   * Returns resource ids for passed cql query in text format.
+   * Should have a prepared job with ids in the database.
+   *
+   * @param jobId        async jobs id with prepared query
+   * @param outputStream output stream where text will be written in.
+   */
+  @Transactional
+  public void streamIdsFromDatabaseAsText(String jobId, OutputStream outputStream) {
+    log.debug("streamIdsFromDatabaseAsText:: by [jobId: {}]", jobId);
+
+    var job = getCompletedJob(jobId);
+    var writer = createOutputStreamWriter(outputStream);
+    streamIdsFromDatabase(job, writer, id -> writer.write(id + '\n'));
+    flushOutput(writer);
+    deprecateJob(job);
+  }
+
+  /**
+   * Returns resource ids for passed cql query as newline delimited json objects.
+   * Should have a prepared job with ids in the database.
+   *
+   * @param jobId        async jobs id with prepared query
+   * @param outputStream output stream where json objects will be written in.
+   */
+  @Transactional
+  public void streamIdsFromDatabaseAsNdJson(String jobId, OutputStream outputStream) {
+    log.debug("streamIdsFromDatabaseAsNdJson:: by [jobId: {}]", jobId);
+
+    var job = getCompletedJob(jobId);
+    processStreamToNdJson(outputStream, json -> streamIdsFromDatabase(job, json, id -> writeNdJsonId(json, id)));
+    deprecateJob(job);
+  }
+
+  /**
+   * Returns resource ids for passed cql query as raw 16-byte UUIDs.
+   * Should have a prepared job with ids in the database.
+   *
+   * @param jobId        async jobs id with prepared query
+   * @param outputStream output stream where binary ids will be written in.
+   */
+  @Transactional
+  public void streamIdsFromDatabaseAsBinary(String jobId, OutputStream outputStream) {
+    log.debug("streamIdsFromDatabaseAsBinary:: by [jobId: {}]", jobId);
+
+    var job = getCompletedJob(jobId);
+    var output = createDataOutputStream(outputStream);
+    streamIdsFromDatabase(job, output, id -> writeBinaryId(output, id));
+    flushOutput(output);
+    deprecateJob(job);
   }
 
   /**
@@ -116,6 +162,7 @@ public class ResourceIdService {
     } finally {
       log.info("streamResourceIdsForJob:: Attempts to save [job: {}]", job);
       jobRepository.save(job);
+      jobRepository.updateStatusByTemporaryTableName(tableName, StreamJobStatus.IN_PROGRESS, job.getStatus());
     }
   }
 
@@ -133,22 +180,142 @@ public class ResourceIdService {
       }));
   }
 
+  /**
+   * Returns resource ids for passed cql query as newline delimited json objects.
+   *
+   * @param request      resource ids request as {@link CqlResourceIdsRequest} object
+   * @param outputStream output stream where json objects will be written in.
+   */
+  public void streamResourceIdsAsNdJson(CqlResourceIdsRequest request, OutputStream outputStream) {
+    processStreamToNdJson(outputStream, json -> streamResourceIds(request, json, id -> writeNdJsonId(json, id)));
+  }
+
+  /**
+   * Returns resource ids for passed cql query as raw 16-byte UUIDs.
+   *
+   * @param request      resource ids request as {@link CqlResourceIdsRequest} object
+   * @param outputStream output stream where binary ids will be written in.
+   */
+  public void streamResourceIdsAsBinary(CqlResourceIdsRequest request, OutputStream outputStream) {
+    var output = createDataOutputStream(outputStream);
+    streamResourceIds(request, output, id -> writeBinaryId(output, id));
+  }
+
   protected OutputStreamWriter createOutputStreamWriter(OutputStream outputStream) {
     return new OutputStreamWriter(outputStream, UTF_8);
   }
 
+  private static DataOutputStream createDataOutputStream(OutputStream outputStream) {
+    return new DataOutputStream(new BufferedOutputStream(outputStream));
+  }
+
+  private void streamResourceIds(CqlResourceIdsRequest request, Flushable output, IdWriter idWriter) {
+    streamResourceIds(request, ids -> {
+      try {
+        for (var id : ids) {
+          idWriter.write(id);
+        }
+        output.flush();
+      } catch (IOException e) {
+        throw new SearchServiceException(
+          format("Failed to write id value into output stream [reason: %s]", e.getMessage()), e);
+      }
+    });
+  }
+
   private void streamResourceIds(CqlResourceIdsRequest request, Consumer<List<String>> idsConsumer) {
     log.info("streamResourceIds:: by [query: {}, resource: {}]", request.getQuery(), request.getResource());
 
     var searchSource = queryConverter
       .convertForConsortia(request.getQuery(), request.getResource(), request.getTenantId())
       .size(streamIdsProperties.getScrollQuerySize())
-      .fetchSource(new String[] {request.getSourceFieldPath()}, null)
-      .sort(fieldSort("_doc"));
+      .fetchSource(false)
+      .trackTotalHits(false)
+      .sort(fieldSort(ID_FIELD));
+
+    if (!ID_FIELD.equals(request.getSourceFieldPath())) {
+      searchSource.docValueField(request.getSourceFieldPath());
+    }
 
     searchRepository.streamResourceIds(request, searchSource, idsConsumer);
   }
 
+  /**
+   * Returns async job by id.
+   *
+   * <p>Jobs attached to the temporary table of another job can be saved after the job filling the table already
+   * updated statuses of the jobs sharing it, so the status of the job in progress is resolved from the finished jobs
+   * of the same table.</p>
+   *
+   * @param jobId async job id
+   * @return job as {@link ResourceIdsJobEntity} object
+   */
+  public ResourceIdsJobEntity getJob(String jobId) {
+    var job = jobRepository.getReferenceById(jobId);
+    if (job.getStatus() != StreamJobStatus.IN_PROGRESS) {
+      return job;
+    }
+
+    var finishedJob = jobRepository.findFirstByTemporaryTableNameAndStatusNot(
+      job.getTemporaryTableName(), StreamJobStatus.IN_PROGRESS);
+    if (finishedJob.isEmpty()) {
+      return job;
+    }
+
+    job.setStatus(getAttachedJobStatus(finishedJob.get().getStatus()));
+    log.info("getJob:: resolved status of the attached job [jobId: {}, status: {}]", jobId, job.getStatus());
+    return jobRepository.save(job);
+  }
+
+  /**
+   * Provides status of the job attached to the temporary table of the job with given status.
+   *
+   * @param sourceJobStatus status of the job filling the temporary table
+   * @return status of the attached job
+   */
+  static StreamJobStatus getAttachedJobStatus(StreamJobStatus sourceJobStatus) {
+    return switch (sourceJobStatus) {
+      case IN_PROGRESS, ERROR -> sourceJobStatus;
+      default -> StreamJobStatus.COMPLETED;
+    };
+  }
+
+  private ResourceIdsJobEntity getCompletedJob(String jobId) {
+    var job = getJob(jobId);
+    if (!job.getStatus().equals(StreamJobStatus.COMPLETED)) {
+      throw new SearchServiceException(
+        format("Completed async job with query=[%s] was not found.", job.getQuery()));
+    }
+    return job;
+  }
+
+  private void deprecateJob(ResourceIdsJobEntity job) {
+    job.setStatus(StreamJobStatus.DEPRECATED);
+    log.info("deprecateJob:: Attempting to save [job: {}]", job);
+    jobRepository.save(job);
+  }
+
+  /**
+   * Reads ids from the job's temporary table using database cursor. Output is flushed after each fetched batch,
+   * so the next batch is not requested from the database until the client consumed the previous one.
+   */
+  private int streamIdsFromDatabase(ResourceIdsJobEntity job, Flushable output, IdWriter idWriter) {
+    var fetchSize = streamIdsProperties.getDatabaseFetchSize();
+    var counter = new AtomicInteger();
+    idsTemporaryRepository.streamIds(job.getTemporaryTableName(), fetchSize, resultSet -> {
+      try {
+        idWriter.write(resultSet.getString(1));
+        if (counter.incrementAndGet() % fetchSize == 0) {
+          output.flush();
+        }
+      } catch (IOException e) {
+        throw new SearchServiceException(
+          format("Failed to write id value into output stream [reason: %s]", e.getMessage()), e);
+      }
+    });
+    return counter.get();
+  }
+
   private void processStreamToJson(OutputStream outputStream,
                                    BiConsumer<JsonGenerator, AtomicInteger> idsStreamProcessor) {
     try (var json = objectMapper.createGenerator(outputStream)) {
@@ -170,6 +337,39 @@ public class ResourceIdService {
     }
   }
 
+  private void processStreamToNdJson(OutputStream outputStream, Consumer<JsonGenerator> idsStreamProcessor) {
+    try (var json = objectMapper.createGenerator(outputStream)) {
+      json.setRootValueSeparator(null);
+      idsStreamProcessor.accept(json);
+      json.flush();
+    } catch (IOException e) {
+      throw new SearchServiceException(
+        format("Failed to write data into json [reason: %s]", e.getMessage()), e);
+    }
+  }
+
+  private static void writeNdJsonId(JsonGenerator json, String id) throws IOException {
+    json.writeStartObject();
+    json.writeStringField("id", id);
+    json.writeEndObject();
+    json.writeRaw('\n');
+  }
+
+  private static void writeBinaryId(DataOutput output, String id) throws IOException {
+    var uuid = UUID.fromString(id);
+    output.writeLong(uuid.getMostSignificantBits());
+    output.writeLong(uuid.getLeastSignificantBits());
+  }
+
+  private static void flushOutput(Flushable output) {
+    try {
+      output.flush();
+    } catch (IOException e) {
+      throw new SearchServiceException(
+        format("Failed to flush output stream [reason: %s]", e.getMessage()), e);
+    }
+  }
+
   private static void writeRecordIdsToOutputStream(List<String> recordIds, JsonGenerator json) {
     log.debug("writeRecordIdsToOutputStream:: by [recordIds: {}, json]", collectionToLogMsg(recordIds));
 
@@ -210,4 +410,9 @@ public class ResourceIdService {
     }
   }
 
+  @FunctionalInterface
+  private interface IdWriter {
+
+    void write(String id) throws IOException;
+  }
 }
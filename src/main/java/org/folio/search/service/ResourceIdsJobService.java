@@ -1,17 +1,31 @@
 package org.folio.search.service;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toSet;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.search.configuration.properties.StreamIdsProperties;
 import org.folio.search.converter.ResourceIdsJobMapper;
+import org.folio.search.cql.CqlQueryParser;
 import org.folio.search.domain.dto.ResourceIdsJob;
+import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.streamids.ResourceIdsJobEntity;
 import org.folio.search.model.types.StreamJobStatus;
 import org.folio.search.repository.ResourceIdsJobRepository;
+import org.folio.search.repository.ResourceIdsTemporaryRepository;
 import org.folio.search.service.consortium.ConsortiumTenantExecutor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -19,23 +33,39 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ResourceIdsJobService {
 
+  private static final List<StreamJobStatus> REUSABLE_JOB_STATUSES = List.of(
+    StreamJobStatus.IN_PROGRESS, StreamJobStatus.COMPLETED, StreamJobStatus.DEPRECATED);
+
   private final ConsortiumTenantExecutor consortiumTenantExecutor;
   private final ResourceIdsJobRepository jobRepository;
   private final ResourceIdsJobMapper resourceIdsJobMapper;
   private final ResourceIdService resourceIdService;
+  private final ResourceIdsTemporaryRepository idsTemporaryRepository;
+  private final CqlQueryParser cqlQueryParser;
+  private final StreamIdsProperties streamIdsProperties;
+  @Qualifier("streamIdsExecutor")
   private final Executor streamIdsExecutor;
 
   public ResourceIdsJob getJobById(String id) {
-    var jobEntity = consortiumTenantExecutor.execute(() -> jobRepository.getReferenceById(id));
+    var jobEntity = consortiumTenantExecutor.execute(() -> resourceIdService.getJob(id));
     return resourceIdsJobMapper.convert(jobEntity);
   }
 
+  /**
+   * Creates a job to prepare resource ids by CQL query.
+   *
+   * <p>If a job with the same query, entity type and tenant was started within the configured reuse ttl, the new
+   * job shares its temporary table instead of running the same stream query again. Each job keeps its own status, so
+   * reading ids of one job does not affect the other jobs sharing the table.</p>
+   *
+   * @param job      - job to create as {@link ResourceIdsJob} object
+   * @param tenantId - tenant id as {@link String} object
+   * @return created job as {@link ResourceIdsJob} object
+   */
   public ResourceIdsJob createStreamJob(ResourceIdsJob job, String tenantId) {
     log.debug("createStreamJob:: by [job: {}, tenantId: {}]", job, tenantId);
     var entity = resourceIdsJobMapper.convert(job);
     entity.setCreatedDate(new Date());
-    entity.setStatus(StreamJobStatus.IN_PROGRESS);
-    entity.setTemporaryTableName(generateTemporaryTableName());
 
     log.info("Attempts to create streamJob by [resourceIdsJob: {}]", entity);
     var savedJob = consortiumTenantExecutor.execute(() -> saveAndRun(entity, tenantId));
@@ -44,11 +74,76 @@ public class ResourceIdsJobService {
   }
 
   private ResourceIdsJobEntity saveAndRun(ResourceIdsJobEntity entity, String tenantId) {
+    var fingerprint = getFingerprint(entity, tenantId);
+    var reusableJob = findReusableJob(fingerprint, entity.getCreatedDate());
+    streamIdsExecutor.execute(this::removeExpiredJobs);
+
+    if (reusableJob.isPresent()) {
+      return saveAttachedJob(entity, reusableJob.get());
+    }
+
+    entity.setFingerprint(fingerprint);
+    entity.setStatus(StreamJobStatus.IN_PROGRESS);
+    entity.setTemporaryTableName(generateTemporaryTableName());
     var job = jobRepository.save(entity);
     streamIdsExecutor.execute(() -> resourceIdService.streamResourceIdsForJob(job, tenantId));
     return job;
   }
 
+  private Optional<ResourceIdsJobEntity> findReusableJob(String fingerprint, Date createdDate) {
+    var reuseTtl = streamIdsProperties.getJobReuseTtl();
+    if (reuseTtl == null || reuseTtl.isZero() || reuseTtl.isNegative()) {
+      return Optional.empty();
+    }
+
+    var freshnessDate = new Date(createdDate.getTime() - reuseTtl.toMillis());
+    return jobRepository.findFirstByFingerprintAndStatusInAndCreatedDateAfterOrderByCreatedDateDesc(
+      fingerprint, REUSABLE_JOB_STATUSES, freshnessDate);
+  }
+
+  private ResourceIdsJobEntity saveAttachedJob(ResourceIdsJobEntity entity, ResourceIdsJobEntity sourceJob) {
+    log.info("saveAndRun:: reusing ids of the job [sourceJobId: {}, query: {}]", sourceJob.getId(), entity.getQuery());
+    entity.setTemporaryTableName(sourceJob.getTemporaryTableName());
+    // the source job can be finished before this job is committed, its status is resolved on read in that case
+    entity.setStatus(ResourceIdService.getAttachedJobStatus(sourceJob.getStatus()));
+    return jobRepository.save(entity);
+  }
+
+  private void removeExpiredJobs() {
+    var expirationDate = new Date(System.currentTimeMillis() - streamIdsProperties.getJobRetention().toMillis());
+    var expiredJobs = jobRepository.findAllByCreatedDateBefore(expirationDate);
+    if (expiredJobs.isEmpty()) {
+      return;
+    }
+
+    log.info("removeExpiredJobs:: removing expired jobs [count: {}]", expiredJobs.size());
+    var temporaryTableNames = expiredJobs.stream().map(ResourceIdsJobEntity::getTemporaryTableName).collect(toSet());
+    jobRepository.deleteAll(expiredJobs);
+    temporaryTableNames.stream()
+      .filter(tableName -> !jobRepository.existsByTemporaryTableName(tableName))
+      .forEach(idsTemporaryRepository::dropTableForIds);
+  }
+
+  private String getFingerprint(ResourceIdsJobEntity entity, String tenantId) {
+    var value = String.join("\n", tenantId, String.valueOf(entity.getEntityType()), normalizeQuery(entity));
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new SearchServiceException("Failed to calculate resource ids job fingerprint", e);
+    }
+  }
+
+  private String normalizeQuery(ResourceIdsJobEntity entity) {
+    var query = entity.getQuery();
+    var resource = entity.getEntityType() != null ? entity.getEntityType().getResource() : null;
+    try {
+      return cqlQueryParser.parseCqlQuery(query, resource).toCQL();
+    } catch (SearchServiceException e) {
+      return StringUtils.normalizeSpace(query);
+    }
+  }
+
   private String generateTemporaryTableName() {
     return RandomStringUtils
       .random(32, 0, 0, true, false, null, new SecureRandom())
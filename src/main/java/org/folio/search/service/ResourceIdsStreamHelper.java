@@ -1,14 +1,20 @@
 package org.folio.search.service;
 
-import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
-import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
+import static org.springframework.http.HttpHeaders.VARY;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.service.CqlResourceIdsRequest;
+import org.folio.search.model.types.ResourceIdsStreamFormat;
 import org.folio.search.service.consortium.ConsortiumTenantExecutor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -21,12 +27,18 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @RequiredArgsConstructor
 public class ResourceIdsStreamHelper {
 
+  private static final String GZIP_ENCODING = "gzip";
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
   private final ResourceIdService resourceIdService;
   private final ConsortiumTenantExecutor consortiumTenantExecutor;
 
   /**
    * Provides ability to stream resource ids using given request object.
    *
+   * <p>Output format is resolved by Content-Type header value using {@link ResourceIdsStreamFormat}, response is
+   * compressed with gzip if the client accepts it.</p>
+   *
    * @param request     - request as {@link CqlResourceIdsRequest} object
    * @param contentType - Content-Type header value
    * @return response with found resource ids using http streaming approach.
@@ -35,14 +47,15 @@ public class ResourceIdsStreamHelper {
     log.debug("streamResourceIds:: by [request: {}, contentType: {}]", request, contentType);
 
     try {
-      var httpServletResponse = prepareHttpResponse();
-      if (contentType != null && contentType.contains(TEXT_PLAIN_VALUE)) {
-        httpServletResponse.setContentType(TEXT_PLAIN_VALUE);
-        resourceIdService.streamResourceIdsAsText(request, httpServletResponse.getOutputStream());
-      } else {
-        httpServletResponse.setContentType(APPLICATION_JSON_VALUE);
-        resourceIdService.streamResourceIdsAsJson(request, httpServletResponse.getOutputStream());
+      var format = ResourceIdsStreamFormat.fromContentType(contentType);
+      var outputStream = prepareOutputStream(format);
+      switch (format) {
+        case TEXT -> resourceIdService.streamResourceIdsAsText(request, outputStream);
+        case NDJSON -> resourceIdService.streamResourceIdsAsNdJson(request, outputStream);
+        case BINARY -> resourceIdService.streamResourceIdsAsBinary(request, outputStream);
+        default -> resourceIdService.streamResourceIdsAsJson(request, outputStream);
       }
+      finishOutputStream(outputStream);
       return ResponseEntity.ok().build();
     } catch (IOException e) {
       throw new SearchServiceException("Failed to get output stream from response", e);
@@ -52,26 +65,32 @@ public class ResourceIdsStreamHelper {
   /**
    * Provides ability to stream prepared resource ids from the database using given request object.
    *
-   * @param jobId - async jobs id with prepared query
+   * @param jobId       - async jobs id with prepared query
+   * @param contentType - Content-Type header value
    * @return response with found resource ids using http streaming approach.
    */
-  public ResponseEntity<Void> streamResourceIdsFromDb(String jobId) {
-    log.debug("streamResourceIdsFromDb:: by [jobId: {}]", jobId);
+  public ResponseEntity<Void> streamResourceIdsFromDb(String jobId, String contentType) {
+    log.debug("streamResourceIdsFromDb:: by [jobId: {}, contentType: {}]", jobId, contentType);
 
     try {
-      var httpServletResponse = prepareHttpResponse();
-      httpServletResponse.setContentType(APPLICATION_JSON_VALUE);
-
-      var outputStream = httpServletResponse.getOutputStream();
-      consortiumTenantExecutor.run(() ->
-        resourceIdService.streamIdsFromDatabaseAsJson(jobId, outputStream));
+      var format = ResourceIdsStreamFormat.fromContentType(contentType);
+      var outputStream = prepareOutputStream(format);
+      consortiumTenantExecutor.run(() -> {
+        switch (format) {
+          case TEXT -> resourceIdService.streamIdsFromDatabaseAsText(jobId, outputStream);
+          case NDJSON -> resourceIdService.streamIdsFromDatabaseAsNdJson(jobId, outputStream);
+          case BINARY -> resourceIdService.streamIdsFromDatabaseAsBinary(jobId, outputStream);
+          default -> resourceIdService.streamIdsFromDatabaseAsJson(jobId, outputStream);
+        }
+      });
+      finishOutputStream(outputStream);
       return ResponseEntity.ok().build();
     } catch (IOException e) {
       throw new SearchServiceException("Failed to get output stream from response", e);
     }
   }
 
-  private HttpServletResponse prepareHttpResponse() {
+  private OutputStream prepareOutputStream(ResourceIdsStreamFormat format) throws IOException {
     var requestAttributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
     Assert.notNull(requestAttributes, "Request attributes must be not null");
 
@@ -79,6 +98,24 @@ public class ResourceIdsStreamHelper {
     Assert.notNull(httpServletResponse, "HttpServletResponse must be not null");
 
     httpServletResponse.setStatus(HttpServletResponse.SC_OK);
-    return httpServletResponse;
+    httpServletResponse.setContentType(format.getMediaType());
+    if (!isGzipAccepted(requestAttributes.getRequest())) {
+      return httpServletResponse.getOutputStream();
+    }
+
+    httpServletResponse.setHeader(CONTENT_ENCODING, GZIP_ENCODING);
+    httpServletResponse.addHeader(VARY, ACCEPT_ENCODING);
+    // sync flush makes each flushed batch of ids available to the client as a separate compressed chunk
+    return new GZIPOutputStream(httpServletResponse.getOutputStream(), GZIP_BUFFER_SIZE, true);
+  }
+
+  private static boolean isGzipAccepted(HttpServletRequest request) {
+    return request != null && StringUtils.containsIgnoreCase(request.getHeader(ACCEPT_ENCODING), GZIP_ENCODING);
+  }
+
+  private static void finishOutputStream(OutputStream outputStream) throws IOException {
+    if (outputStream instanceof GZIPOutputStream gzipOutputStream) {
+      gzipOutputStream.finish();
+    }
   }
 }
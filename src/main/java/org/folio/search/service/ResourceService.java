@@ -69,6 +69,7 @@ public class ResourceService {
   private final ConsortiumInstanceService consortiumInstanceService;
   private final IndexNameProvider indexNameProvider;
   private final InstanceEventPreProcessor instanceEventPreProcessor;
+  private final AuthorityInstanceLinkService authorityInstanceLinkService;
 
   /**
    * Saves list of resourceEvents to elasticsearch.
@@ -118,6 +119,35 @@ public class ResourceService {
     return bulkIndexResponse;
   }
 
+  /**
+   * Converts list of instance events, that already contain instances with holdings and items, to search documents.
+   *
+   * @param instanceEvents list of {@link ResourceEvent} objects with fetched instances.
+   * @return search documents grouped by resource name
+   */
+  public Map<String, List<SearchDocumentBody>> convertInstances(List<ResourceEvent> instanceEvents) {
+    log.debug("convertInstances: by [resourceEvent.size: {}]", collectionToLogMsg(instanceEvents, true));
+
+    if (CollectionUtils.isEmpty(instanceEvents)) {
+      return Collections.emptyMap();
+    }
+
+    return convertFetchedInstances(getEventsToIndex(instanceEvents));
+  }
+
+  /**
+   * Saves search documents to elasticsearch.
+   *
+   * @param documentsByResource search documents grouped by resource name
+   * @return index operation response as {@link FolioIndexOperationResponse} object
+   */
+  public FolioIndexOperationResponse indexDocuments(Map<String, List<SearchDocumentBody>> documentsByResource) {
+    var bulkIndexResponse = indexSearchDocuments(documentsByResource);
+    log.info("Records indexed to elasticsearch [indexRequests: {}{}]",
+      getNumberOfRequests(documentsByResource), getErrorMessage(bulkIndexResponse));
+    return bulkIndexResponse;
+  }
+
   public FolioIndexOperationResponse indexConsortiumInstances(List<ConsortiumInstanceEvent> consortiumInstances) {
     if (CollectionUtils.isEmpty(consortiumInstances)) {
       return getSuccessIndexOperationResponse();
@@ -155,6 +185,10 @@ public class ResourceService {
   private Map<String, List<SearchDocumentBody>> processIndexInstanceEvents(List<ResourceEvent> resourceEvents) {
     var indexEvents = extractEventsForDataMove(resourceEvents);
     var fetchedInstances = resourceFetchService.fetchInstancesByIds(indexEvents);
+    return convertFetchedInstances(fetchedInstances);
+  }
+
+  private Map<String, List<SearchDocumentBody>> convertFetchedInstances(List<ResourceEvent> fetchedInstances) {
     messageProducer.prepareAndSendContributorEvents(fetchedInstances);
     messageProducer.prepareAndSendSubjectEvents(fetchedInstances);
 
@@ -168,7 +202,10 @@ public class ResourceService {
       instanceEvents = Collections.emptyList();
     }
     var list = instanceEvents.stream()
-      .map(event -> consortiumTenantExecutor.execute(() -> instanceEventPreProcessor.preProcess(event)))
+      .map(event -> consortiumTenantExecutor.execute(() -> {
+        authorityInstanceLinkService.updateLinks(event);
+        return instanceEventPreProcessor.preProcess(event);
+      }))
       .filter(Objects::nonNull)
       .flatMap(List::stream)
       .collect(toList());
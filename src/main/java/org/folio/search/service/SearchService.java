@@ -2,24 +2,31 @@ package org.folio.search.service;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.folio.search.model.types.ResponseGroupType.SEARCH;
 import static org.folio.search.utils.SearchUtils.buildPreferenceKey;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.ListUtils;
 import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.cql.CqlSearchQueryConverter;
 import org.folio.search.exception.RequestValidationException;
 import org.folio.search.model.SearchResult;
+import org.folio.search.model.service.CqlFacetRequest;
 import org.folio.search.model.service.CqlSearchRequest;
 import org.folio.search.repository.SearchRepository;
+import org.folio.search.service.consortium.ConsortiumSearchHelper;
 import org.folio.search.service.converter.ElasticsearchDocumentConverter;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.search.service.setter.SearchResponsePostProcessor;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.springframework.stereotype.Service;
 
 /**
@@ -38,6 +45,8 @@ public class SearchService {
   private final ElasticsearchDocumentConverter documentConverter;
   private final SearchQueryConfigurationProperties searchQueryConfiguration;
   private final SearchPreferenceService searchPreferenceService;
+  private final FacetService facetService;
+  private final ConsortiumSearchHelper consortiumSearchHelper;
   private final Map<Class<?>, SearchResponsePostProcessor<?>> searchResponsePostProcessors;
 
   /**
@@ -66,20 +75,67 @@ public class SearchService {
     var preferenceKey = buildPreferenceKey(request.getTenantId(), resource, request.getQuery());
     var preference = searchPreferenceService.getPreferenceForString(preferenceKey);
 
-    if (isFalse(request.getExpandAll())) {
-      var includes = searchFieldProvider.getSourceFields(resource, SEARCH);
-      log.debug("search:: expandAll to include: {}]", (Object) includes);
-      queryBuilder.fetchSource(includes, null);
+    addSourceFields(request, queryBuilder);
+
+    var includeFacets = CollectionUtils.isNotEmpty(request.getFacets());
+    if (includeFacets) {
+      var facetRequest = CqlFacetRequest.of(resource, request.getTenantId(), request.getQuery(), request.getFacets());
+      facetService.addFacetAggregations(facetRequest, queryBuilder);
     }
 
-    var searchResponse = searchRepository.search(request, queryBuilder, preference);
+    var routing = isTrue(request.getConsortiumConsolidated())
+                  ? null
+                  : consortiumSearchHelper.getSearchRouting(queryBuilder.query(), resource).orElse(null);
+    var searchResponse = searchRepository.search(request, queryBuilder, preference, routing);
     var searchResult = documentConverter.convertToSearchResult(searchResponse, request.getResourceClass());
+    if (includeFacets) {
+      searchResult.facetResult(facetService.convertFacets(searchResponse.getAggregations()));
+    }
 
     searchResultPostProcessing(request.getResourceClass(), request.getIncludeNumberOfTitles(), searchResult);
 
     return searchResult;
   }
 
+  /**
+   * Searches resources by ids without parsing of the CQL query. Ids are requested by batches, limited by the maximum
+   * search result window.
+   *
+   * @param request search request as {@link CqlSearchRequest} object, query, limit and offset are ignored
+   * @param ids     resource ids, the document id must be equal to the resource id
+   * @return search result with found resources.
+   */
+  public <T> SearchResult<T> searchByIds(CqlSearchRequest<T> request, List<String> ids) {
+    log.debug("searchByIds:: by [resource: {}, ids count: {}]", request.getResource(), ids.size());
+
+    cqlSearchQueryConverter.validateIdsCount(ids.size());
+
+    var requestTimeout = searchQueryConfiguration.getRequestTimeout();
+    var records = new ArrayList<T>();
+    for (var idsBatch : ListUtils.partition(ids, DEFAULT_MAX_SEARCH_RESULT_WINDOW)) {
+      var queryBuilder = cqlSearchQueryConverter.convertIdsForConsortia(idsBatch, request.getResource())
+        .from(0)
+        .size(idsBatch.size())
+        .timeout(new TimeValue(requestTimeout.toMillis(), MILLISECONDS));
+      addSourceFields(request, queryBuilder);
+
+      var searchResponse = searchRepository.search(request, queryBuilder);
+      records.addAll(documentConverter.convertToSearchResult(searchResponse, request.getResourceClass()).getRecords());
+    }
+
+    var searchResult = SearchResult.of(records.size(), records);
+    searchResultPostProcessing(request.getResourceClass(), request.getIncludeNumberOfTitles(), searchResult);
+    return searchResult;
+  }
+
+  private void addSourceFields(CqlSearchRequest<?> request, SearchSourceBuilder queryBuilder) {
+    if (isFalse(request.getExpandAll())) {
+      var includes = searchFieldProvider.getSourceFields(request.getResource(), SEARCH);
+      log.debug("search:: expandAll to include: {}]", (Object) includes);
+      queryBuilder.fetchSource(includes, null);
+    }
+  }
+
   private <T> void searchResultPostProcessing(Class<?> resourceClass, boolean includeNumberOfTitles,
                                               SearchResult<T> searchResult) {
     if (Objects.isNull(resourceClass)) {
@@ -9,6 +9,7 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.domain.dto.LanguageConfig;
 import org.folio.search.domain.dto.ReindexRequest;
+import org.folio.search.exception.RequestValidationException;
 import org.folio.search.service.browse.CallNumberBrowseRangeService;
 import org.folio.search.service.consortium.LanguageConfigServiceDecorator;
 import org.folio.search.service.metadata.ResourceDescriptionService;
@@ -30,6 +31,7 @@ public class SearchTenantService extends TenantService {
 
   private static final String REINDEX_PARAM_NAME = "runReindex";
   private static final String CENTRAL_TENANT_ID_PARAM_NAME = "centralTenantId";
+  private static final String TENANT_ID_PARAM_NAME = "tenantId";
 
   private final IndexService indexService;
   private final ScriptService scriptService;
@@ -76,11 +78,15 @@ public class SearchTenantService extends TenantService {
    *   <li>Starts reindexing process for inventory (if it's specified)</li>
    * </ul>
    *
+   * <p>Consortium tenants share the indices of the central tenant, so they can't be pooled: the initialization of the
+   * consortium tenant, listed in the pooled tenants, is rejected.</p>
+   *
    * @param tenantAttributes - tenant attributes comes from {@code POST /_/tenant} request.
    */
   @Override
   public synchronized void createOrUpdateTenant(TenantAttributes tenantAttributes) {
     var tenantId = context.getTenantId();
+    validateNotPooledConsortiumTenant(tenantId, tenantAttributes);
     var centralTenant = centralTenant(tenantId, tenantAttributes);
     if (tenantId.equals(centralTenant)) {
       super.createOrUpdateTenant(tenantAttributes);
@@ -189,13 +195,29 @@ public class SearchTenantService extends TenantService {
       .forEach(languageConfigService::create);
   }
 
+  private void validateNotPooledConsortiumTenant(String tenantId, TenantAttributes tenantAttributes) {
+    if (centralTenantParameter(tenantAttributes).isEmpty()) {
+      return;
+    }
+
+    var pooledTenancy = searchConfigurationProperties.getPooledTenancy();
+    if (pooledTenancy.isEnabled() && pooledTenancy.getTenants().contains(tenantId)) {
+      log.warn("validateNotPooledConsortiumTenant:: consortium tenant is listed in the pooled tenants [tenant: {}]",
+        tenantId);
+      throw new RequestValidationException("Consortium tenant can't be pooled", TENANT_ID_PARAM_NAME, tenantId);
+    }
+  }
+
   private String centralTenant(String contextTenantId, TenantAttributes tenantAttributes) {
+    return centralTenantParameter(tenantAttributes).orElse(contextTenantId);
+  }
+
+  private Optional<String> centralTenantParameter(TenantAttributes tenantAttributes) {
     return Optional.ofNullable(tenantAttributes.getParameters())
       .flatMap(parameters -> parameters.stream()
         .filter(parameter -> parameter.getKey().equals(CENTRAL_TENANT_ID_PARAM_NAME))
         .findFirst()
-        .map(Parameter::getValue))
-      .orElse(contextTenantId);
+        .map(Parameter::getValue));
   }
 
 }
@@ -0,0 +1,35 @@
+package org.folio.search.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.search.model.types.ShelfKeyType;
+import org.springframework.stereotype.Service;
+
+/**
+ * Calculates shelf keys for call numbers and classification numbers.
+ *
+ * <p>Call numbers repeat heavily across items, instances and reindex runs, so calculated shelf keys are memoized in
+ * the bounded shelf keys cache by shelf key type and call number. Hits and misses of the cache are published as cache
+ * metrics.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class ShelfKeyService {
+
+  private final Cache<String, String> shelfKeysCache;
+
+  /**
+   * Provides shelf key for the given call number from the cache or calculates it.
+   *
+   * @param callNumber   - call number as {@link String} object
+   * @param shelfKeyType - shelf key calculation algorithm as {@link ShelfKeyType} value
+   * @return shelf key for the call number, null if the call number is null, empty string if it's blank
+   */
+  public String getShelfKey(String callNumber, ShelfKeyType shelfKeyType) {
+    if (StringUtils.isBlank(callNumber)) {
+      return callNumber == null ? null : StringUtils.EMPTY;
+    }
+    return shelfKeysCache.get(shelfKeyType.name() + ":" + callNumber, key -> shelfKeyType.calculate(callNumber));
+  }
+}
@@ -21,11 +21,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 public abstract class AbstractBrowseService<T> {
 
   private BrowseContextProvider browseContextProvider;
+  private BrowsePageCacheService browsePageCacheService;
   private Map<Class<?>, SearchResponsePostProcessor<?>> searchResponsePostProcessors;
 
   /**
    * Finds related instances for call number browsing using given {@link BrowseRequest} object.
    *
+   * <p>Browse pages are served from {@link BrowsePageCacheService}, adjacent pages are loaded to the cache in
+   * background after the page is served.</p>
+   *
    * @param request - service request as {@link BrowseRequest} object
    * @return {@link BrowseResult} with related instances by virtual shelf.
    */
@@ -36,7 +40,10 @@ public abstract class AbstractBrowseService<T> {
     if (isEmpty(context.getAnchor())) {
       return BrowseResult.empty();
     }
-    return context.isBrowsingAround() ? browseAround(request, context) : browseInOneDirection(request, context);
+
+    var browseResult = browsePageCacheService.getPage(request, context, this::browsePage);
+    browsePageCacheService.prefetchAdjacentPages(request, context, browseResult, this::browsePage);
+    return browseResult;
   }
 
   /**
@@ -67,6 +74,16 @@ public abstract class AbstractBrowseService<T> {
     this.browseContextProvider = browseContextProvider;
   }
 
+  /**
+   * Injects {@link BrowsePageCacheService} bean from spring context.
+   *
+   * @param browsePageCacheService - {@link BrowsePageCacheService} bean
+   */
+  @Autowired
+  public void setBrowsePageCacheService(BrowsePageCacheService browsePageCacheService) {
+    this.browsePageCacheService = browsePageCacheService;
+  }
+
   /**
    * Injects {@link SearchResponsePostProcessor} bean from spring context.
    *
@@ -124,6 +141,10 @@ public abstract class AbstractBrowseService<T> {
     }
   }
 
+  private BrowseResult<T> browsePage(BrowseRequest request, BrowseContext context) {
+    return context.isBrowsingAround() ? browseAround(request, context) : browseInOneDirection(request, context);
+  }
+
   private String getBrowsingValueByIndex(List<T> items, int index) {
     return isNotEmpty(items) ? getValueForBrowsing(items.get(index)) : null;
   }
@@ -4,6 +4,7 @@ import static java.util.Collections.singletonList;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.folio.search.utils.CollectionUtils.mergeSafelyToList;
 import static org.folio.search.utils.CollectionUtils.reverse;
+import static org.folio.search.utils.SearchUtils.awaitResult;
 import static org.springframework.core.GenericTypeResolver.resolveTypeArguments;
 
 import java.util.List;
@@ -15,6 +16,7 @@ import org.folio.search.model.service.BrowseContext;
 import org.folio.search.model.service.BrowseRequest;
 import org.folio.search.repository.SearchRepository;
 import org.folio.search.service.converter.ElasticsearchDocumentConverter;
+import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.MultiSearchResponse.Item;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -68,15 +70,22 @@ public abstract class AbstractBrowseServiceBySearchAfter<T, R> extends AbstractB
            : getSearchResultWithoutAnchor(request, context);
   }
 
+  /**
+   * Browses around the anchor. The anchor request is sent asynchronously before the preceding and succeeding queries
+   * are built, so it is executed while the anchor value for these queries is analyzed.
+   */
   @Override
   protected BrowseResult<T> browseAround(BrowseRequest request, BrowseContext context) {
     logBrowseRequest(request, "browseAround");
+    var anchorResponseFuture = context.isAnchorIncluded(true)
+                               ? searchRepository.msearchAsync(request, List.of(getAnchorSearchQuery(request, context)))
+                               : null;
     var succeedingQuery = getSearchQuery(request, context, true);
     var precedingQuery = getSearchQuery(request, context, false);
     Item[] responses;
 
-    if (context.isAnchorIncluded(true)) {
-      var anchorResponse = processAnchorResponse(request, context, precedingQuery, succeedingQuery);
+    if (anchorResponseFuture != null) {
+      var anchorResponse = processAnchorResponse(awaitResult(anchorResponseFuture), precedingQuery, succeedingQuery);
       var searchSources = List.of(precedingQuery, succeedingQuery);
       logMultiSearchRequest(request, searchSources.size());
       responses = ArrayUtils.add(searchRepository.msearch(request, searchSources).getResponses(), anchorResponse);
@@ -131,10 +140,9 @@ public abstract class AbstractBrowseServiceBySearchAfter<T, R> extends AbstractB
   protected abstract BrowseResult<T> mapToBrowseResult(BrowseContext context, SearchResult<R> searchResult,
                                                        boolean isAnchor);
 
-  private Item processAnchorResponse(BrowseRequest request, BrowseContext context, SearchSourceBuilder precedingQuery,
+  private Item processAnchorResponse(MultiSearchResponse anchorMultiSearchResponse, SearchSourceBuilder precedingQuery,
                                      SearchSourceBuilder succeedingQuery) {
-    var anchorSearchQuery = getAnchorSearchQuery(request, context);
-    var anchorResponse = searchRepository.msearch(request, List.of(anchorSearchQuery)).getResponses()[0];
+    var anchorResponse = anchorMultiSearchResponse.getResponses()[0];
     SearchResponse response = anchorResponse.getResponse();
     if (response == null) {
       throw new IllegalStateException("Failed to determine the browsing result");
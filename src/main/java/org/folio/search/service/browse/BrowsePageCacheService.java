@@ -0,0 +1,169 @@
+package org.folio.search.service.browse;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.cql.CqlQueryParser;
+import org.folio.search.model.BrowseResult;
+import org.folio.search.model.service.BrowseContext;
+import org.folio.search.model.service.BrowseRequest;
+import org.folio.search.model.service.CachedBrowseResult;
+import org.folio.search.repository.IndexGenerationTracker;
+import org.folio.search.repository.IndexNameProvider;
+import org.folio.search.utils.JsonConverter;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.z3950.zing.cql.CQLAndNode;
+import org.z3950.zing.cql.CQLNode;
+
+/**
+ * Caches browse pages per tenant, browse option, anchor, limit and filters.
+ *
+ * <p>After a page is served, the previous and the next pages are loaded to the cache in background using the
+ * {@code prev} and {@code next} values of the page, because sequential browsing is the dominant browse pattern.
+ * Cached pages are invalidated by the write generation of the index, the same way as cached facet results.</p>
+ *
+ * <p>The cache is disabled by default. Cached pages are copied on put and on hit, so callers can't modify the cached
+ * values.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class BrowsePageCacheService {
+
+  /**
+   * Pages loaded shortly after a write are not cached, because the written documents can be invisible for search
+   * until the index is refreshed.
+   */
+  private static final long INDEX_REFRESH_INTERVAL_MILLIS = 1000L;
+
+  private final Cache<String, CachedBrowseResult> browsePagesCache;
+  private final IndexNameProvider indexNameProvider;
+  private final IndexGenerationTracker indexGenerationTracker;
+  private final BrowseContextProvider browseContextProvider;
+  private final CqlQueryParser cqlQueryParser;
+  private final FolioExecutionContext folioExecutionContext;
+  private final JsonConverter jsonConverter;
+  private final SearchCacheConfigurationProperties cacheConfiguration;
+  @Qualifier("browsePrefetchExecutor")
+  private final Executor browsePrefetchExecutor;
+
+  /**
+   * Provides browse page from the cache or loads it using the given loader.
+   *
+   * @param request - browse request as {@link BrowseRequest} object
+   * @param context - browse context as {@link BrowseContext} object, used with the request in the cache key
+   * @param loader  - browse page loader, executing the browse requests
+   * @param <T>     - generic type for browse items
+   * @return {@link BrowseResult} object
+   */
+  @SuppressWarnings("unchecked")
+  public <T> BrowseResult<T> getPage(BrowseRequest request, BrowseContext context,
+                                     BiFunction<BrowseRequest, BrowseContext, BrowseResult<T>> loader) {
+    if (!cacheConfiguration.isBrowsePagesCacheEnabled()) {
+      return loader.apply(request, context);
+    }
+
+    var index = indexNameProvider.getIndexName(request);
+    var cacheKey = getCacheKey(request, context);
+    var generation = indexGenerationTracker.getGeneration(index);
+
+    var cachedResult = browsePagesCache.getIfPresent(cacheKey);
+    if (cachedResult != null && cachedResult.getIndexGeneration() == generation.value()) {
+      log.debug("getPage:: browse page is loaded from cache [index: {}, anchor: {}]", index, context.getAnchor());
+      return copyOf((BrowseResult<T>) cachedResult.getBrowseResult());
+    }
+
+    var browseResult = loader.apply(request, context);
+    if (System.currentTimeMillis() - generation.lastWriteTime() > INDEX_REFRESH_INTERVAL_MILLIS) {
+      browsePagesCache.put(cacheKey, CachedBrowseResult.of(generation.value(), copyOf(browseResult)));
+    } else {
+      browsePagesCache.invalidate(cacheKey);
+    }
+
+    return browseResult;
+  }
+
+  /**
+   * Loads pages adjacent to the served browse page to the cache in background. The next page is loaded after browsing
+   * forward or around, the previous page is loaded after browsing backward or around.
+   *
+   * @param request      - browse request of the served page as {@link BrowseRequest} object
+   * @param context      - browse context of the served page as {@link BrowseContext} object
+   * @param browseResult - served browse page as {@link BrowseResult} object
+   * @param loader       - browse page loader, executing the browse requests
+   * @param <T>          - generic type for browse items
+   */
+  public <T> void prefetchAdjacentPages(BrowseRequest request, BrowseContext context, BrowseResult<T> browseResult,
+                                        BiFunction<BrowseRequest, BrowseContext, BrowseResult<T>> loader) {
+    if (!cacheConfiguration.isBrowsePagesCacheEnabled() || !cacheConfiguration.isBrowsePagesPrefetchEnabled()) {
+      return;
+    }
+
+    if ((context.isBrowsingAround() || context.isBrowsingForward()) && !isEmpty(browseResult.getNext())) {
+      prefetchPage(request, ">", browseResult.getNext(), loader);
+    }
+    if ((context.isBrowsingAround() || !context.isBrowsingForward()) && !isEmpty(browseResult.getPrev())) {
+      prefetchPage(request, "<", browseResult.getPrev(), loader);
+    }
+  }
+
+  private <T> void prefetchPage(BrowseRequest request, String relation, String anchor,
+                                BiFunction<BrowseRequest, BrowseContext, BrowseResult<T>> loader) {
+    var pageRequest = request.toBuilder().query(getPageQuery(request, relation, anchor)).build();
+    browsePrefetchExecutor.execute(() -> {
+      try {
+        getPage(pageRequest, browseContextProvider.get(pageRequest), loader);
+      } catch (Exception e) {
+        log.warn("prefetchPage:: failed to prefetch browse page [query: {}, message: {}]",
+          pageRequest.getQuery(), e.getMessage());
+      }
+    });
+  }
+
+  /**
+   * Creates CQL query for the adjacent page, as it is requested by clients using the {@code prev} or {@code next}
+   * value. Filters of the served page are kept in the query.
+   */
+  private String getPageQuery(BrowseRequest request, String relation, String anchor) {
+    var rangeCondition = request.getTargetField() + " " + relation + " \"" + escapeCqlTerm(anchor) + "\"";
+    var filters = new ArrayDeque<String>();
+    CQLNode cqlNode = cqlQueryParser.parseCqlQuery(request.getQuery(), request.getResource());
+    while (cqlNode instanceof CQLAndNode andNode) {
+      filters.addFirst("(" + andNode.getRightOperand().toCQL() + ")");
+      cqlNode = andNode.getLeftOperand();
+    }
+
+    return filters.isEmpty() ? rangeCondition : rangeCondition + " and " + String.join(" and ", filters);
+  }
+
+  private String getCacheKey(BrowseRequest request, BrowseContext context) {
+    return folioExecutionContext.getTenantId() + ":" + request.getTenantId() + ":" + request.getResource()
+      + ":" + request.getBrowseOptionType() + ":" + request.getTargetField() + ":" + request.getSubField()
+      + ":" + request.getRefinedCondition() + ":" + request.getExpandAll() + ":" + request.getHighlightMatch()
+      + ":" + context;
+  }
+
+  private <T> BrowseResult<T> copyOf(BrowseResult<T> browseResult) {
+    if (browseResult.getRecords() == null) {
+      return BrowseResult.of(browseResult.getTotalRecords(), browseResult.getPrev(), browseResult.getNext(), null);
+    }
+    return browseResult.map(this::copyOfItem);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T copyOfItem(T browseItem) {
+    return browseItem == null ? null : (T) jsonConverter.convert(browseItem, browseItem.getClass());
+  }
+
+  private static String escapeCqlTerm(String term) {
+    return term.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+}
@@ -0,0 +1,76 @@
+package org.folio.search.service.browse;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.model.service.BrowseContext;
+import org.folio.search.model.service.BrowseRequest;
+import org.folio.search.model.types.CallNumberType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracks the share of call number browse hits that remain relevant after the result items are filtered by call number
+ * type, location and tenant. The density is kept per tenant and call number type as an exponential moving average and
+ * is used to size browse requests, so that sparse shelves are loaded with fewer round trips. Requests without call
+ * number type and filters are not tracked, because all their result items are relevant.
+ */
+@Log4j2
+@Component
+public class CallNumberBrowseDensityEstimator {
+
+  private static final String ALL_TYPES = "all";
+  private static final double SMOOTHING_FACTOR = 0.3;
+  private static final double MIN_DENSITY = 0.01;
+
+  private final Map<String, Double> densities = new ConcurrentHashMap<>();
+
+  /**
+   * Records the density of the browse response.
+   *
+   * @param request       - call number browse request as {@link BrowseRequest} object
+   * @param context       - {@link BrowseContext} of the browse request
+   * @param fetchedCount  - number of browse items loaded from the index
+   * @param relevantCount - number of browse items left after filtering
+   */
+  public void record(BrowseRequest request, BrowseContext context, int fetchedCount, int relevantCount) {
+    if (fetchedCount <= 0 || !isFiltered(request, context)) {
+      return;
+    }
+
+    var density = Math.max(MIN_DENSITY, (double) Math.min(relevantCount, fetchedCount) / fetchedCount);
+    densities.merge(getKey(request), density,
+      (previous, current) -> previous + SMOOTHING_FACTOR * (current - previous));
+  }
+
+  /**
+   * Estimates the number of browse items to load from the index to get the desired number of relevant items.
+   *
+   * @param request      - call number browse request as {@link BrowseRequest} object
+   * @param context      - {@link BrowseContext} of the browse request
+   * @param desiredCount - number of relevant browse items to load
+   * @param maxSize      - upper limit for the estimated size
+   * @return estimated request size, not less than the desired count
+   */
+  public int estimateSize(BrowseRequest request, BrowseContext context, int desiredCount, int maxSize) {
+    if (!isFiltered(request, context)) {
+      return desiredCount;
+    }
+
+    var density = densities.getOrDefault(getKey(request), 1.0);
+    var estimatedSize = (int) Math.min(maxSize, Math.ceil(desiredCount / density));
+    log.debug("estimateSize:: by [tenant: {}, type: {}, density: {}, size: {}]",
+      request.getTenantId(), request.getRefinedCondition(), density, estimatedSize);
+    return Math.max(desiredCount, estimatedSize);
+  }
+
+  private static boolean isFiltered(BrowseRequest request, BrowseContext context) {
+    return !isBlank(request.getRefinedCondition()) || !context.getFilters().isEmpty();
+  }
+
+  private static String getKey(BrowseRequest request) {
+    var type = CallNumberType.fromName(request.getRefinedCondition()).map(Enum::name).orElse(ALL_TYPES);
+    return request.getTenantId() + ":" + type;
+  }
+}
@@ -5,8 +5,10 @@ import static org.apache.commons.lang3.BooleanUtils.isFalse;
 import static org.folio.search.model.types.ResponseGroupType.CN_BROWSE;
 import static org.folio.search.utils.CallNumberUtils.getCallNumberAsLong;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.SearchUtils.SHELVING_ORDER_BROWSING_FIELD;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
 import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.opensearch.script.Script.DEFAULT_SCRIPT_LANG;
 import static org.opensearch.script.ScriptType.INLINE;
 import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
@@ -36,11 +38,13 @@ public class CallNumberBrowseQueryProvider {
   private static final String SORT_SCRIPT_FOR_SUCCEEDING_QUERY = getSortingScript(true);
   private static final String SORT_SCRIPT_FOR_PRECEDING_QUERY = getSortingScript(false);
   private static final int MIN_QUERY_SIZE = 25;
+  private static final int MAX_QUERY_SIZE = 500;
 
   private final SearchFieldProvider searchFieldProvider;
   private final SearchQueryConfigurationProperties queryConfiguration;
   private final CallNumberBrowseRangeService callNumberBrowseRangeService;
   private final ConsortiumSearchHelper consortiumSearchHelper;
+  private final CallNumberBrowseDensityEstimator densityEstimator;
 
   /**
    * Creates query as {@link SearchSourceBuilder} object for call number browsing.
@@ -57,7 +61,8 @@ public class CallNumberBrowseQueryProvider {
     var scriptCode = isBrowsingForward ? SORT_SCRIPT_FOR_SUCCEEDING_QUERY : SORT_SCRIPT_FOR_PRECEDING_QUERY;
     var script = new Script(INLINE, DEFAULT_SCRIPT_LANG, scriptCode, singletonMap("cn", ctx.getAnchor()));
 
-    var pageSize = getBrowsingQueryPageSize(ctx.getLimit(isBrowsingForward));
+    var pageSize = densityEstimator.estimateSize(request, ctx,
+      getBrowsingQueryPageSize(ctx.getLimit(isBrowsingForward)), MAX_QUERY_SIZE);
     var initialQuery = getQuery(ctx, request, pageSize, isBrowsingForward);
     var query = consortiumSearchHelper.filterQueryForActiveAffiliation(initialQuery, INSTANCE_RESOURCE);
     var searchSource = searchSource().from(0).size(pageSize)
@@ -72,6 +77,27 @@ public class CallNumberBrowseQueryProvider {
     return searchSource;
   }
 
+  /**
+   * Creates query as {@link SearchSourceBuilder} object to check if the browse anchor is present in the index.
+   *
+   * @param request - {@link BrowseRequest} object
+   * @param ctx     - {@link BrowseContext} object with anchor and filters
+   * @return created Elasticsearch query as {@link SearchSourceBuilder} object, that doesn't load documents
+   */
+  public SearchSourceBuilder getAnchorQuery(BrowseRequest request, BrowseContext ctx) {
+    log.debug("getAnchorQuery:: by [tenant: {}, anchor: {}]", request.getTenantId(), ctx.getAnchor());
+
+    QueryBuilder anchorQuery = termQuery(SHELVING_ORDER_BROWSING_FIELD, ctx.getAnchor());
+    if (!ctx.getFilters().isEmpty()) {
+      var boolQuery = boolQuery().must(anchorQuery);
+      ctx.getFilters().forEach(boolQuery::filter);
+      anchorQuery = boolQuery;
+    }
+
+    var query = consortiumSearchHelper.filterQueryForActiveAffiliation(anchorQuery, INSTANCE_RESOURCE);
+    return searchSource().from(0).size(0).terminateAfter(1).query(query);
+  }
+
   public int getBrowsingQueryPageSize(int limit) {
     var multiplier = queryConfiguration.getRangeQueryLimitMultiplier();
     return (int) Math.max(MIN_QUERY_SIZE, Math.ceil(limit * multiplier));
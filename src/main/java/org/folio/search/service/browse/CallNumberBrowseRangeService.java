@@ -1,37 +1,14 @@
 package org.folio.search.service.browse;
 
-import static java.lang.String.valueOf;
-import static java.util.Collections.emptyList;
-import static java.util.function.Function.identity;
-import static java.util.stream.Stream.concat;
-import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
-import static org.folio.search.utils.CollectionUtils.toLinkedHashMap;
-import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
-import static org.opensearch.index.query.QueryBuilders.existsQuery;
-import static org.opensearch.search.aggregations.AggregationBuilders.range;
-import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
-
-import com.github.benmanes.caffeine.cache.Cache;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.StringUtils;
-import org.folio.search.model.SimpleResourceRequest;
-import org.folio.search.model.service.CallNumberBrowseRangeValue;
-import org.folio.search.repository.SearchRepository;
+import org.folio.search.model.service.CallNumberBrowseRanges;
 import org.folio.search.utils.CallNumberUtils;
-import org.opensearch.action.search.SearchResponse;
-import org.opensearch.search.aggregations.bucket.range.ParsedRange;
-import org.opensearch.search.aggregations.bucket.range.Range.Bucket;
-import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
-import org.opensearch.search.aggregations.bucket.range.RangeAggregator.Range;
 import org.springframework.stereotype.Component;
 
 @Log4j2
@@ -39,9 +16,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CallNumberBrowseRangeService {
 
-  private static final String AGGREGATION_NAME = "cnRanges";
-  private final SearchRepository searchRepository;
-  private final Cache<String, List<CallNumberBrowseRangeValue>> cache;
+  private final LoadingCache<String, CallNumberBrowseRanges> cache;
+  private final CallNumberBrowseRangesLoader rangesLoader;
 
   /**
    * Get range boundary to optimize call-number browsing.
@@ -59,22 +35,40 @@ public class CallNumberBrowseRangeService {
       tenant, anchor, size, isBrowsingForward);
 
     var ranges = getBrowseRanges(tenant, rangeField, callNumberType);
-    return isNotEmpty(ranges) && isRangeBoundaryCanBeProvided(anchor, isBrowsingForward, ranges)
-           ? Optional.ofNullable(getRangeBoundaryFromCachedValue(ranges, anchor, size, isBrowsingForward))
+    if (ranges.isEmpty()) {
+      return Optional.empty();
+    }
+
+    var anchorAsLong = CallNumberUtils.getCallNumberAsLong(anchor, callNumberType);
+    return isRangeBoundaryCanBeProvided(anchorAsLong, isBrowsingForward, ranges)
+           ? Optional.ofNullable(getRangeBoundaryFromCachedValue(ranges, anchorAsLong, size, isBrowsingForward))
            : Optional.empty();
   }
 
   /**
-   * Provides call-number ranges as {@link Map} object.
+   * Provides call-number range histogram. Histograms are refreshed in background by the cache, so the stale value is
+   * returned while the new one is loaded. If the histogram is not cached yet, only its first level is loaded within
+   * the request and the full histogram is loaded in background.
    *
    * @param tenantId       - tenant id for call-number ranges retrieval
-   * @return {@link Map} with call-number ranges, where key is the lower boundary and the value is the amount of
-   *   resources after it
+   * @param rangeField     - numeric call-number field name
+   * @param callNumberType - call-number type number, {@code -1} if the call-number type is not specified
+   * @return {@link CallNumberBrowseRanges} with call-number ranges
    */
-  public List<CallNumberBrowseRangeValue> getBrowseRanges(String tenantId, String rangeField,
-                                                          Integer callNumberType) {
+  public CallNumberBrowseRanges getBrowseRanges(String tenantId, String rangeField, Integer callNumberType) {
     var key = tenantId + ":" + rangeField + ":" + callNumberType;
-    return cache.get(key, this::getCallNumberRanges);
+    var ranges = cache.getIfPresent(key);
+    if (ranges != null) {
+      return ranges;
+    }
+
+    ranges = cache.asMap().computeIfAbsent(key, rangesLoader::loadFirstLevel);
+    try {
+      cache.refresh(key);
+    } catch (RejectedExecutionException e) {
+      log.warn("getBrowseRanges:: failed to schedule call-number ranges loading [key: {}]", key);
+    }
+    return ranges;
   }
 
   /**
@@ -83,124 +77,64 @@ public class CallNumberBrowseRangeService {
    * @param tenantId - tenant id as {@link String} object
    */
   public void evictRangeCache(String tenantId) {
+    var keyPrefix = tenantId + ":";
     var keysToEvict = cache.asMap().keySet().stream()
-      .filter(key -> key.startsWith(tenantId))
+      .filter(key -> key.startsWith(keyPrefix))
       .collect(Collectors.toSet());
-    for (var key : keysToEvict) {
-      cache.invalidate(key);
-    }
-  }
-
-  private static boolean isRangeBoundaryCanBeProvided(
-    String anchor, boolean isBrowsingForward, List<CallNumberBrowseRangeValue> ranges) {
-    return anchor.compareTo(ranges.get(0).getKey()) > 0 && !isBrowsingForward
-      || anchor.compareTo(ranges.get(ranges.size() - 1).getKey()) < 0 && isBrowsingForward;
-  }
-
-  private List<CallNumberBrowseRangeValue> getCallNumberRanges(String cacheKey) {
-    log.debug("getCallNumberRanges:: by [cacheKey: {}]", cacheKey);
-    var keyParts = StringUtils.split(cacheKey, ":");
-    var tenantId = keyParts[0];
-    var rangeField = keyParts[1];
-    var typeNumber = Integer.parseInt(keyParts[2]);
-
-    var callNumbersMap = concat(getCallNumbersRange('0', '9'), getCallNumbersRange('A', 'Z'))
-      .collect(toLinkedHashMap(identity(), callNumber -> CallNumberUtils.getCallNumberAsLong(callNumber, typeNumber)));
-    var searchSource = searchSource().from(0).size(0)
-      .query(existsQuery(rangeField))
-      .aggregation(prepareRangeAggregation(rangeField, callNumbersMap));
-    var searchResponse = searchRepository.search(SimpleResourceRequest.of(INSTANCE_RESOURCE, tenantId), searchSource);
-
-    return Optional.ofNullable(searchResponse)
-      .map(SearchResponse::getAggregations)
-      .map(aggs -> aggs.get(AGGREGATION_NAME))
-      .filter(ParsedRange.class::isInstance)
-      .map(ParsedRange.class::cast)
-      .map(ParsedRange::getBuckets)
-      .map(buckets -> mapBucketsToCacheValuesList(buckets, callNumbersMap))
-      .orElse(emptyList());
-
-  }
-
-  private static List<CallNumberBrowseRangeValue> mapBucketsToCacheValuesList(
-    List<? extends Bucket> buckets, Map<String, Long> callNumbersMap) {
-    return buckets.stream()
-      .map(bucket -> mapBucketToCacheValue(bucket, callNumbersMap))
-      .sorted()
-      .toList();
-  }
-
-  private static CallNumberBrowseRangeValue mapBucketToCacheValue(Bucket bucket, Map<String, Long> callNumbers) {
-    var key = bucket.getKeyAsString();
-    var keyAsLong = callNumbers.get(key);
-    return CallNumberBrowseRangeValue.of(key, keyAsLong, bucket.getDocCount());
+    cache.invalidateAll(keysToEvict);
   }
 
-  private static Stream<String> getCallNumbersRange(char lower, char upper) {
-    return IntStream.range(lower, upper + 1).mapToObj(character -> valueOf((char) character));
-  }
-
-  private static RangeAggregationBuilder prepareRangeAggregation(String rangeField, Map<String, Long> callNumbersMap) {
-    var rangeAggregation = range(AGGREGATION_NAME).field(rangeField);
-    var callNumbers = new ArrayList<>(callNumbersMap.keySet());
-
-    for (int i = 0; i < callNumbers.size() - 1; i++) {
-      var current = callNumbers.get(i);
-      var next = callNumbers.get(i + 1);
-      rangeAggregation.addRange(new Range(current,
-        callNumbersMap.get(current).doubleValue(),
-        callNumbersMap.get(next).doubleValue()));
-    }
-
-    var lastCharacter = callNumbers.get(callNumbers.size() - 1);
-    rangeAggregation.addRange(new Range(lastCharacter, callNumbersMap.get(lastCharacter).doubleValue(), null));
-    return rangeAggregation;
+  private static boolean isRangeBoundaryCanBeProvided(long anchor, boolean isBrowsingForward,
+                                                      CallNumberBrowseRanges ranges) {
+    var bounds = ranges.getBounds();
+    return anchor > bounds[0] && !isBrowsingForward || anchor < bounds[bounds.length - 1] && isBrowsingForward;
   }
 
-  private static Long getRangeBoundaryFromCachedValue(List<CallNumberBrowseRangeValue> ranges,
-                                                      String anchor, int expectedPageSize, boolean isBrowsingForward) {
-    var foundPosition = getClosestPosition(ranges, CallNumberBrowseRangeValue.of(anchor, 0, 0), isBrowsingForward);
+  private static Long getRangeBoundaryFromCachedValue(CallNumberBrowseRanges ranges, long anchor,
+                                                      int expectedPageSize, boolean isBrowsingForward) {
+    var foundPosition = getClosestPosition(ranges.getBounds(), anchor, isBrowsingForward);
     return isBrowsingForward
            ? getTopBoundaryForSucceedingQuery(ranges, expectedPageSize, foundPosition)
            : getBottomBoundaryForPrecedingQuery(ranges, expectedPageSize, foundPosition);
   }
 
-  private static Long getTopBoundaryForSucceedingQuery(List<CallNumberBrowseRangeValue> ranges, int size, int pos) {
-    var element = ranges.get(pos);
-    var sum = element.getCount();
+  private static Long getTopBoundaryForSucceedingQuery(CallNumberBrowseRanges ranges, int size, int pos) {
+    var bounds = ranges.getBounds();
+    var counts = ranges.getCounts();
+    var sum = counts[pos];
 
-    for (int i = pos + 1; i < ranges.size(); i++) {
-      var current = ranges.get(i);
+    for (int i = pos + 1; i < bounds.length; i++) {
       if (sum >= size) {
-        return current.getKeyAsLong();
+        return bounds[i];
       }
-      sum += current.getCount();
+      sum += counts[i];
     }
 
     return null;
   }
 
-  private static Long getBottomBoundaryForPrecedingQuery(List<CallNumberBrowseRangeValue> ranges, int size, int pos) {
+  private static Long getBottomBoundaryForPrecedingQuery(CallNumberBrowseRanges ranges, int size, int pos) {
+    var bounds = ranges.getBounds();
+    var counts = ranges.getCounts();
     var sum = 0L;
 
     for (int i = pos - 1; i >= 0; i--) {
-      var current = ranges.get(i);
-      sum += current.getCount();
+      sum += counts[i];
       if (sum >= size) {
-        return current.getKeyAsLong();
+        return bounds[i];
       }
     }
 
     return null;
   }
 
-  private static <T extends Comparable<T>> int getClosestPosition(List<T> list, T value, boolean isBrowsingForward) {
-    var foundPosition = Collections.binarySearch(list, value);
+  private static int getClosestPosition(long[] bounds, long value, boolean isBrowsingForward) {
+    var foundPosition = Arrays.binarySearch(bounds, value);
     if (foundPosition >= 0) {
       return foundPosition;
     }
 
     foundPosition = -foundPosition - (isBrowsingForward ? 1 : 2);
-    return Math.min(Math.max(0, foundPosition), list.size() - 1);
+    return Math.min(Math.max(0, foundPosition), bounds.length - 1);
   }
 }
@@ -0,0 +1,210 @@
+package org.folio.search.service.browse;
+
+import static java.lang.String.valueOf;
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Stream.concat;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.opensearch.index.query.QueryBuilders.existsQuery;
+import static org.opensearch.search.aggregations.AggregationBuilders.range;
+import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.search.model.SimpleResourceRequest;
+import org.folio.search.model.service.CallNumberBrowseRanges;
+import org.folio.search.repository.SearchRepository;
+import org.folio.search.utils.CallNumberUtils;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.aggregations.bucket.range.ParsedRange;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregator.Range;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads call number range histograms for the {@link CallNumberBrowseRangeService}.
+ *
+ * <p>The histogram starts with ranges by the first call number character. Ranges holding more than the target share
+ * of resources are split by the next character, and the split is repeated for the following characters up to
+ * {@link #MAX_PREFIX_LENGTH}. Each level is loaded with a single range aggregation request, so the counts are exact
+ * and range boundaries calculated from them never cut off resources from the browse page.</p>
+ *
+ * <p>The first level can be loaded separately by {@link #loadFirstLevel(String)}, so browse requests for the missing
+ * histograms wait for one aggregation request at most.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class CallNumberBrowseRangesLoader implements CacheLoader<String, CallNumberBrowseRanges> {
+
+  private static final int MAX_PREFIX_LENGTH = 3;
+  private static final int TARGET_RANGES_COUNT = 1000;
+  private static final int MIN_SPLIT_COUNT = 100;
+  private static final int MAX_SPLIT_RANGES = 32;
+  private static final String AGGREGATION_NAME = "cnRanges";
+
+  private final SearchRepository searchRepository;
+
+  /**
+   * Loads call number range histogram.
+   *
+   * @param cacheKey - cache key in format {@code tenantId:rangeField:callNumberType}
+   * @return loaded {@link CallNumberBrowseRanges} object
+   */
+  @Override
+  public CallNumberBrowseRanges load(@NonNull String cacheKey) {
+    log.debug("load:: by [cacheKey: {}]", cacheKey);
+    var rangesKey = RangesKey.of(cacheKey);
+    var histogram = loadFirstLevelCounts(rangesKey);
+    for (int prefixLength = 2; prefixLength <= MAX_PREFIX_LENGTH; prefixLength++) {
+      var rangesToSplit = getRangesToSplit(histogram);
+      if (rangesToSplit.isEmpty()) {
+        break;
+      }
+
+      var subRanges = new ArrayList<RangeBucket>();
+      rangesToSplit.forEach(rangeBucket -> subRanges.addAll(splitRange(rangeBucket, rangesKey.typeNumber())));
+      var subRangeCounts = loadCounts(rangesKey, subRanges);
+      histogram = replaceSplitRanges(histogram, rangesToSplit, subRangeCounts);
+    }
+
+    log.debug("load:: call number ranges loaded [cacheKey: {}, ranges: {}]", cacheKey, histogram.size());
+    return toBrowseRanges(histogram);
+  }
+
+  /**
+   * Loads call number range histogram by the first call number character only, using a single range aggregation
+   * request. It is used by browse requests while the full histogram is loaded in background.
+   *
+   * @param cacheKey - cache key in format {@code tenantId:rangeField:callNumberType}
+   * @return loaded {@link CallNumberBrowseRanges} object
+   */
+  public CallNumberBrowseRanges loadFirstLevel(@NonNull String cacheKey) {
+    log.debug("loadFirstLevel:: by [cacheKey: {}]", cacheKey);
+    return toBrowseRanges(loadFirstLevelCounts(RangesKey.of(cacheKey)));
+  }
+
+  private List<RangeBucket> loadFirstLevelCounts(RangesKey rangesKey) {
+    var firstLevelPrefixes = concat(getCharactersRange('0', '9'), getCharactersRange('A', 'Z')).toList();
+    var ranges = new ArrayList<RangeBucket>();
+    for (int i = 0; i < firstLevelPrefixes.size(); i++) {
+      var prefix = firstLevelPrefixes.get(i);
+      var to = i + 1 < firstLevelPrefixes.size() ? toLong(firstLevelPrefixes.get(i + 1), rangesKey.typeNumber()) : null;
+      ranges.add(new RangeBucket(prefix, toLong(prefix, rangesKey.typeNumber()), to, 0));
+    }
+    return loadCounts(rangesKey, ranges);
+  }
+
+  private List<RangeBucket> loadCounts(RangesKey rangesKey, List<RangeBucket> ranges) {
+    var rangeField = rangesKey.rangeField();
+    var rangeAggregation = range(AGGREGATION_NAME).field(rangeField);
+    ranges.forEach(rangeBucket -> rangeAggregation.addRange(new Range(rangeBucket.prefix(),
+      (double) rangeBucket.from(), rangeBucket.to() != null ? rangeBucket.to().doubleValue() : null)));
+    var searchSource = searchSource().from(0).size(0)
+      .query(existsQuery(rangeField))
+      .aggregation(rangeAggregation);
+    var searchResponse = searchRepository.search(rangesKey.request(), searchSource);
+
+    var counts = new HashMap<String, Long>();
+    Optional.ofNullable(searchResponse)
+      .map(SearchResponse::getAggregations)
+      .map(aggregations -> aggregations.get(AGGREGATION_NAME))
+      .filter(ParsedRange.class::isInstance)
+      .map(ParsedRange.class::cast)
+      .ifPresent(aggregation -> aggregation.getBuckets()
+        .forEach(bucket -> counts.put(bucket.getKeyAsString(), bucket.getDocCount())));
+
+    return ranges.stream()
+      .map(rangeBucket -> rangeBucket.withCount(counts.getOrDefault(rangeBucket.prefix(), 0L)))
+      .filter(rangeBucket -> rangeBucket.count() > 0)
+      .toList();
+  }
+
+  private static List<RangeBucket> getRangesToSplit(List<RangeBucket> histogram) {
+    var totalCount = histogram.stream().mapToLong(RangeBucket::count).sum();
+    var splitThreshold = Math.max(MIN_SPLIT_COUNT, totalCount / TARGET_RANGES_COUNT);
+    return histogram.stream()
+      .filter(rangeBucket -> rangeBucket.count() > splitThreshold)
+      .sorted(comparingLong(RangeBucket::count).reversed())
+      .limit(MAX_SPLIT_RANGES)
+      .toList();
+  }
+
+  private static List<RangeBucket> splitRange(RangeBucket rangeBucket, int typeNumber) {
+    var characters = CallNumberUtils.getSupportedCharacters();
+    var subRanges = new ArrayList<RangeBucket>(characters.size());
+    for (int i = 0; i < characters.size(); i++) {
+      var prefix = rangeBucket.prefix() + characters.get(i);
+      var from = i == 0 ? rangeBucket.from() : toLong(prefix, typeNumber);
+      var to = i + 1 < characters.size()
+               ? toLong(rangeBucket.prefix() + characters.get(i + 1), typeNumber)
+               : rangeBucket.to();
+      subRanges.add(new RangeBucket(prefix, from, to, 0));
+    }
+    return subRanges;
+  }
+
+  private static List<RangeBucket> replaceSplitRanges(List<RangeBucket> histogram, List<RangeBucket> splitRanges,
+                                                      List<RangeBucket> subRanges) {
+    var splitPrefixes = new HashSet<String>();
+    splitRanges.forEach(rangeBucket -> splitPrefixes.add(rangeBucket.prefix()));
+
+    var subRangesByPrefix = new HashMap<String, List<RangeBucket>>();
+    subRanges.forEach(rangeBucket -> subRangesByPrefix
+      .computeIfAbsent(rangeBucket.prefix().substring(0, rangeBucket.prefix().length() - 1), k -> new ArrayList<>())
+      .add(rangeBucket));
+
+    var result = new ArrayList<RangeBucket>();
+    for (var rangeBucket : histogram) {
+      if (splitPrefixes.contains(rangeBucket.prefix())) {
+        result.addAll(subRangesByPrefix.getOrDefault(rangeBucket.prefix(), List.of()));
+      } else {
+        result.add(rangeBucket);
+      }
+    }
+    return result;
+  }
+
+  private static CallNumberBrowseRanges toBrowseRanges(List<RangeBucket> histogram) {
+    var sortedHistogram = histogram.stream().sorted(comparingLong(RangeBucket::from)).toList();
+    var bounds = new long[sortedHistogram.size()];
+    var counts = new long[sortedHistogram.size()];
+    for (int i = 0; i < sortedHistogram.size(); i++) {
+      bounds[i] = sortedHistogram.get(i).from();
+      counts[i] = sortedHistogram.get(i).count();
+    }
+    return CallNumberBrowseRanges.of(bounds, counts);
+  }
+
+  private static long toLong(String prefix, int typeNumber) {
+    return CallNumberUtils.getCallNumberAsLong(prefix, typeNumber);
+  }
+
+  private static Stream<String> getCharactersRange(char lower, char upper) {
+    return IntStream.range(lower, upper + 1).mapToObj(character -> valueOf((char) character));
+  }
+
+  private record RangesKey(SimpleResourceRequest request, String rangeField, int typeNumber) {
+
+    private static RangesKey of(String cacheKey) {
+      var keyParts = StringUtils.split(cacheKey, ":");
+      return new RangesKey(SimpleResourceRequest.of(INSTANCE_RESOURCE, keyParts[0]), keyParts[1],
+        Integer.parseInt(keyParts[2]));
+    }
+  }
+
+  private record RangeBucket(String prefix, long from, Long to, long count) {
+
+    private RangeBucket withCount(long newCount) {
+      return new RangeBucket(prefix, from, to, newCount);
+    }
+  }
+}
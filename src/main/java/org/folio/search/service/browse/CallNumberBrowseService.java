@@ -12,13 +12,16 @@ import static org.folio.search.model.types.CallNumberTypeSource.FOLIO;
 import static org.folio.search.utils.CallNumberUtils.excludeIrrelevantResultItems;
 import static org.folio.search.utils.CollectionUtils.mergeSafelyToList;
 import static org.folio.search.utils.SearchUtils.SHELVING_ORDER_BROWSING_FIELD;
+import static org.folio.search.utils.SearchUtils.awaitResult;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
@@ -52,6 +55,8 @@ public class CallNumberBrowseService extends AbstractBrowseService<CallNumberBro
   private final EffectiveShelvingOrderTermProcessor effectiveShelvingOrderTermProcessor;
   private final ReferenceDataService referenceDataService;
   private final SearchConfigurationProperties searchConfig;
+  private final PrecomputedCallNumberBrowseService precomputedCallNumberBrowseService;
+  private final CallNumberBrowseDensityEstimator densityEstimator;
 
   @Override
   protected BrowseResult<CallNumberBrowseItem> browseInOneDirection(BrowseRequest request, BrowseContext context) {
@@ -64,31 +69,32 @@ public class CallNumberBrowseService extends AbstractBrowseService<CallNumberBro
     if (!initialAnchor.equals(context.getAnchor())) {
       context = buildBrowseContext(context, initialAnchor);
     }
+    if (precomputedCallNumberBrowseService.isSupported(request, context)) {
+      return precomputedCallNumberBrowseService.browse(request, context);
+    }
 
     var isBrowsingForward = context.isBrowsingForward();
     var searchSource = callNumberBrowseQueryProvider.get(request, context, isBrowsingForward);
-    var searchResponse = searchRepository.search(request, searchSource);
-
-    if (isBlank(request.getRefinedCondition()) && !isAnchorPresent(searchResponse, context)) {
-      var anchors = getAnchors(request);
-      anchors.remove(initialAnchor);
-      for (String anchor : anchors) {
-        var contextForAnchor = buildBrowseContext(context, anchor);
-        var searchSourceForAnchor = callNumberBrowseQueryProvider.get(request, contextForAnchor, isBrowsingForward);
-        var responseForAnchor = searchRepository.search(request, searchSourceForAnchor);
-
-        if (isAnchorPresent(searchResponse, context)) {
-          context = contextForAnchor;
-          searchResponse = responseForAnchor;
-          break;
-        }
+    var anchors = isBlank(request.getRefinedCondition()) ? getAnchors(callNumber, initialAnchor) : List.<String>of();
+    SearchResponse searchResponse;
+    if (anchors.isEmpty()) {
+      searchResponse = searchRepository.search(request, searchSource);
+    } else {
+      var searchSources = mergeSafelyToList(List.of(searchSource), getAnchorQueries(request, context, anchors));
+      var responses = searchRepository.msearch(request, searchSources).getResponses();
+      searchResponse = responses[0].getResponse();
+      var presentAnchor = isAnchorPresent(searchResponse, context) ? null : findPresentAnchor(anchors, responses, 1);
+      if (presentAnchor != null) {
+        context = buildBrowseContext(context, presentAnchor);
+        searchSource = callNumberBrowseQueryProvider.get(request, context, isBrowsingForward);
+        searchResponse = searchRepository.search(request, searchSource);
       }
     }
 
     var folioCallNumberTypes = folioCallNumberTypes();
     var browseResult = callNumberBrowseResultConverter.convert(searchResponse, context, isBrowsingForward);
     var records = browseResult.getRecords();
-    records = excludeIrrelevantResultItems(context, request.getRefinedCondition(), folioCallNumberTypes, records);
+    records = excludeIrrelevantItems(request, context, folioCallNumberTypes, records);
     return new BrowseResult<CallNumberBrowseItem>()
       .records(trim(records, context, isBrowsingForward))
       .totalRecords(browseResult.getTotalRecords())
@@ -105,28 +111,24 @@ public class CallNumberBrowseService extends AbstractBrowseService<CallNumberBro
     if (!initialAnchor.equals(context.getAnchor())) {
       context = buildBrowseContext(context, initialAnchor);
     }
+    if (precomputedCallNumberBrowseService.isSupported(request, context)) {
+      return precomputedCallNumberBrowseService.browse(request, context);
+    }
 
     var precedingQuery = callNumberBrowseQueryProvider.get(request, context, false);
     var succeedingQuery = callNumberBrowseQueryProvider.get(request, context, true);
-    var responses = getBrowseAround(request, precedingQuery, succeedingQuery);
-
-    if (isBlank(request.getRefinedCondition()) && !isAnchorPresent(responses[1].getResponse(), context)) {
-      var anchors = getAnchors(callNumber);
-      anchors.remove(initialAnchor);
-      for (String anchor : anchors) {
-        var contextForAnchor = buildBrowseContext(context, anchor);
-        var precedingQueryForAnchor = callNumberBrowseQueryProvider.get(request, contextForAnchor, false);
-        var succeedingQueryForAnchor = callNumberBrowseQueryProvider.get(request, contextForAnchor, true);
-        var responsesForAnchor = getBrowseAround(request, precedingQueryForAnchor, succeedingQueryForAnchor);
-
-        if (isAnchorPresent(responsesForAnchor[1].getResponse(), contextForAnchor)) {
-          context = contextForAnchor;
-          precedingQuery = precedingQueryForAnchor;
-          succeedingQuery = succeedingQueryForAnchor;
-          responses = responsesForAnchor;
-          break;
-        }
-      }
+    var anchors = isBlank(request.getRefinedCondition()) ? getAnchors(callNumber, initialAnchor) : List.<String>of();
+    var searchSources = mergeSafelyToList(List.of(precedingQuery, succeedingQuery),
+      getAnchorQueries(request, context, anchors));
+    var responses = searchRepository.msearch(request, searchSources).getResponses();
+
+    var presentAnchor = anchors.isEmpty() || isAnchorPresent(responses[1].getResponse(), context)
+                        ? null : findPresentAnchor(anchors, responses, 2);
+    if (presentAnchor != null) {
+      context = buildBrowseContext(context, presentAnchor);
+      precedingQuery = callNumberBrowseQueryProvider.get(request, context, false);
+      succeedingQuery = callNumberBrowseQueryProvider.get(request, context, true);
+      responses = getBrowseAround(request, precedingQuery, succeedingQuery);
     }
 
     var precedingResult = callNumberBrowseResultConverter.convert(responses[0].getResponse(), context, false);
@@ -134,29 +136,19 @@ public class CallNumberBrowseService extends AbstractBrowseService<CallNumberBro
 
     var callNumberType = request.getRefinedCondition();
     var folioCallNumberTypes = folioCallNumberTypes();
-    precedingResult.setRecords(excludeIrrelevantResultItems(context, callNumberType, folioCallNumberTypes,
+    precedingResult.setRecords(excludeIrrelevantItems(request, context, folioCallNumberTypes,
       precedingResult.getRecords()));
-    succeedingResult.setRecords(excludeIrrelevantResultItems(context, callNumberType, folioCallNumberTypes,
+    succeedingResult.setRecords(excludeIrrelevantItems(request, context, folioCallNumberTypes,
       succeedingResult.getRecords()));
 
+    AdditionalRequests precedingRequests = null;
     if (precedingResult.getRecords().size()
         <= callNumberBrowseQueryProvider.getBrowsingQueryPageSize(request.getPrecedingRecordsCount())
         && precedingResult.getTotalRecords() > 0) {
       log.debug("browseAround::getPrecedingResult:: preceding result is empty: Do additional requests");
-      var additionalPrecedingRequestsResult = additionalRequests(request, context, precedingQuery,
-        folioCallNumberTypes, false);
-      precedingResult.setRecords(mergeSafelyToList(additionalPrecedingRequestsResult, precedingResult.getRecords())
-        .stream().distinct().toList());
+      precedingRequests = startAdditionalRequests(request, context, precedingQuery, folioCallNumberTypes, false);
     }
 
-    var backwardSucceedingResult = callNumberBrowseResultConverter.convert(responses[1].getResponse(), context, false);
-    if (!backwardSucceedingResult.isEmpty()) {
-      log.debug("browseAround:: backward succeeding result is not empty: Update preceding result");
-      backwardSucceedingResult.setRecords(excludeIrrelevantResultItems(context, callNumberType, folioCallNumberTypes,
-        backwardSucceedingResult.getRecords()));
-      precedingResult.setRecords(mergeSafelyToList(backwardSucceedingResult.getRecords(), precedingResult.getRecords())
-        .stream().distinct().toList());
-    }
     var forwardPrecedingResult = callNumberBrowseResultConverter.convert(responses[0].getResponse(), context, true);
     if (!forwardPrecedingResult.isEmpty()) {
       log.debug("browseAround:: forward preceding result is not empty: Update preceding result");
@@ -166,12 +158,31 @@ public class CallNumberBrowseService extends AbstractBrowseService<CallNumberBro
         .stream().distinct().toList());
     }
 
+    AdditionalRequests succeedingRequests = null;
     if (succeedingResult.getRecords().size() < request.getLimit() - request.getPrecedingRecordsCount()
         && succeedingResult.getTotalRecords() > 0) {
       log.debug("getSucceedingResult:: succeeding result is empty: Do additional requests");
-      var additionalSucceedingRequestsResult = additionalRequests(request, context, succeedingQuery,
-        folioCallNumberTypes, true);
-      succeedingResult.setRecords(mergeSafelyToList(additionalSucceedingRequestsResult, succeedingResult.getRecords())
+      succeedingRequests = startAdditionalRequests(request, context, succeedingQuery, folioCallNumberTypes, true);
+    }
+
+    awaitAdditionalRequests(precedingRequests, succeedingRequests);
+
+    if (precedingRequests != null) {
+      precedingResult.setRecords(mergeSafelyToList(precedingRequests.getRecords(), precedingResult.getRecords())
+        .stream().distinct().toList());
+    }
+
+    var backwardSucceedingResult = callNumberBrowseResultConverter.convert(responses[1].getResponse(), context, false);
+    if (!backwardSucceedingResult.isEmpty()) {
+      log.debug("browseAround:: backward succeeding result is not empty: Update preceding result");
+      backwardSucceedingResult.setRecords(excludeIrrelevantResultItems(context, callNumberType, folioCallNumberTypes,
+        backwardSucceedingResult.getRecords()));
+      precedingResult.setRecords(mergeSafelyToList(backwardSucceedingResult.getRecords(), precedingResult.getRecords())
+        .stream().distinct().toList());
+    }
+
+    if (succeedingRequests != null) {
+      succeedingResult.setRecords(mergeSafelyToList(succeedingRequests.getRecords(), succeedingResult.getRecords())
         .stream().distinct().toList());
     }
 
@@ -201,13 +212,36 @@ public class CallNumberBrowseService extends AbstractBrowseService<CallNumberBro
     return cqlSearchQueryConverter.convertToTermNode(request.getQuery(), request.getResource()).getTerm();
   }
 
-  private List<String> getAnchors(BrowseRequest request) {
-    var termNode = callNumberFromRequest(request);
-    return effectiveShelvingOrderTermProcessor.getSearchTerms(termNode);
+  /**
+   * Provides shelving order variants of the requested call number, that are checked if the initial anchor is not
+   * found in the index.
+   */
+  private List<String> getAnchors(String callNumber, String initialAnchor) {
+    var anchors = new ArrayList<>(new LinkedHashSet<>(effectiveShelvingOrderTermProcessor.getSearchTerms(callNumber)));
+    anchors.remove(initialAnchor);
+    return anchors;
   }
 
-  private List<String> getAnchors(String callNumber) {
-    return effectiveShelvingOrderTermProcessor.getSearchTerms(callNumber);
+  private List<SearchSourceBuilder> getAnchorQueries(BrowseRequest request, BrowseContext context,
+                                                     List<String> anchors) {
+    return anchors.stream()
+      .map(anchor -> callNumberBrowseQueryProvider.getAnchorQuery(request, buildBrowseContext(context, anchor)))
+      .toList();
+  }
+
+  /**
+   * Finds the first anchor variant that is present in the index using responses of anchor queries, sent in the same
+   * multi-search request as the browse queries for the initial anchor.
+   */
+  private static String findPresentAnchor(List<String> anchors, MultiSearchResponse.Item[] responses, int offset) {
+    for (int i = 0; i < anchors.size(); i++) {
+      var response = responses[offset + i].getResponse();
+      if (response != null && response.getHits().getTotalHits() != null
+          && response.getHits().getTotalHits().value > 0) {
+        return anchors.get(i);
+      }
+    }
+    return null;
   }
 
   @Override
@@ -223,39 +257,41 @@ public class CallNumberBrowseService extends AbstractBrowseService<CallNumberBro
     return multiSearchResponse.getResponses();
   }
 
-  private List<CallNumberBrowseItem> additionalRequests(BrowseRequest request,
-                                                        BrowseContext context,
-                                                        SearchSourceBuilder query,
-                                                        Set<String> folioCallNumberTypes,
-                                                        boolean isBrowsingForward) {
-    List<CallNumberBrowseItem> additionalRecords = emptyList();
-    int offset = query.from() + query.size();
-    query.size(ADDITIONAL_REQUEST_SIZE);
-
-    var precedingRecordsCount = request.getPrecedingRecordsCount();
-    var desiredCount = isBrowsingForward ? request.getLimit() - precedingRecordsCount : precedingRecordsCount;
-    while (additionalRecords.size() < desiredCount
-           && query.from() <= searchConfig.getMaxBrowseRequestOffset()) {
-      int size = query.size() < MAX_ADDITIONAL_REQUEST_SIZE ? query.size() * 2 : query.size();
-      log.debug("additionalRequests:: browsingForward {} request offset {}, size {}",
-        isBrowsingForward, offset, size);
-      query.from(offset).size(size);
+  private AdditionalRequests startAdditionalRequests(BrowseRequest request, BrowseContext context,
+                                                     SearchSourceBuilder query, Set<String> folioCallNumberTypes,
+                                                     boolean isBrowsingForward) {
+    var additionalRequests = new AdditionalRequests(request, context, query, folioCallNumberTypes, isBrowsingForward);
+    additionalRequests.sendNextRequest();
+    return additionalRequests;
+  }
 
-      var searchResponse = searchRepository.search(request, query);
-      var totalHits = searchResponse.getHits().getTotalHits();
-      if (totalHits == null || totalHits.value == 0) {
-        log.debug("additionalRequests:: browsingForward {} response have no records", isBrowsingForward);
-        break;
+  /**
+   * Processes responses of additional requests in both browsing directions until all of them are completed. Requests
+   * are executed asynchronously, so the next request in one direction is sent while the response of the other
+   * direction is awaited.
+   */
+  private static void awaitAdditionalRequests(AdditionalRequests... additionalRequests) {
+    var hasPendingRequests = true;
+    while (hasPendingRequests) {
+      hasPendingRequests = false;
+      for (var requests : additionalRequests) {
+        if (requests != null && requests.hasPendingRequest()) {
+          requests.processResponse();
+          hasPendingRequests |= requests.hasPendingRequest();
+        }
       }
-      var result = callNumberBrowseResultConverter.convert(searchResponse, context, isBrowsingForward);
-      var mergedList = mergeSafelyToList(additionalRecords, result.getRecords());
-      additionalRecords = CallNumberUtils.excludeIrrelevantResultItems(context, request.getRefinedCondition(),
-        folioCallNumberTypes, mergedList);
-      offset = query.from() + query.size();
-      log.debug("additionalRequests:: browsingForward {} response have new {} records",
-        isBrowsingForward, result.getRecords().size());
     }
-    return additionalRecords;
+  }
+
+  private List<CallNumberBrowseItem> excludeIrrelevantItems(BrowseRequest request, BrowseContext context,
+                                                            Set<String> folioCallNumberTypes,
+                                                            List<CallNumberBrowseItem> records) {
+    var relevantRecords = excludeIrrelevantResultItems(context, request.getRefinedCondition(), folioCallNumberTypes,
+      records);
+    if (records != null && relevantRecords != null) {
+      densityEstimator.record(request, context, records.size(), relevantRecords.size());
+    }
+    return relevantRecords;
   }
 
   private boolean isAnchorPresent(SearchResponse searchResponse, BrowseContext context) {
@@ -322,4 +358,80 @@ public class CallNumberBrowseService extends AbstractBrowseService<CallNumberBro
       .totalRecords(0)
       .isAnchor(true);
   }
+
+  /**
+   * Additional requests in one browsing direction, performed until the desired number of records is loaded. Responses
+   * are processed by the calling thread, because the result converter depends on the request execution context.
+   */
+  private final class AdditionalRequests {
+
+    private final BrowseRequest request;
+    private final BrowseContext context;
+    private final SearchSourceBuilder query;
+    private final Set<String> folioCallNumberTypes;
+    private final boolean isBrowsingForward;
+    private final int desiredCount;
+    private List<CallNumberBrowseItem> records = emptyList();
+    private int offset;
+    private CompletableFuture<SearchResponse> pendingResponse;
+
+    private AdditionalRequests(BrowseRequest request, BrowseContext context, SearchSourceBuilder query,
+                               Set<String> folioCallNumberTypes, boolean isBrowsingForward) {
+      this.request = request;
+      this.context = context;
+      this.query = query;
+      this.folioCallNumberTypes = folioCallNumberTypes;
+      this.isBrowsingForward = isBrowsingForward;
+      this.offset = query.from() + query.size();
+      query.size(ADDITIONAL_REQUEST_SIZE);
+
+      var precedingRecordsCount = request.getPrecedingRecordsCount();
+      this.desiredCount = isBrowsingForward ? request.getLimit() - precedingRecordsCount : precedingRecordsCount;
+    }
+
+    private List<CallNumberBrowseItem> getRecords() {
+      return records;
+    }
+
+    private boolean hasPendingRequest() {
+      return pendingResponse != null;
+    }
+
+    private void sendNextRequest() {
+      pendingResponse = null;
+      if (records.size() >= desiredCount || query.from() > searchConfig.getMaxBrowseRequestOffset()) {
+        return;
+      }
+
+      var estimatedSize = densityEstimator.estimateSize(request, context, desiredCount - records.size(),
+        MAX_ADDITIONAL_REQUEST_SIZE);
+      int size = Math.max(estimatedSize,
+        query.size() < MAX_ADDITIONAL_REQUEST_SIZE ? query.size() * 2 : query.size());
+      log.debug("additionalRequests:: browsingForward {} request offset {}, size {}",
+        isBrowsingForward, offset, size);
+      query.from(offset).size(size);
+      pendingResponse = searchRepository.searchAsync(request, query);
+    }
+
+    private void processResponse() {
+      var searchResponse = awaitResult(pendingResponse);
+      pendingResponse = null;
+
+      var totalHits = searchResponse.getHits().getTotalHits();
+      if (totalHits == null || totalHits.value == 0) {
+        log.debug("additionalRequests:: browsingForward {} response have no records", isBrowsingForward);
+        return;
+      }
+      var result = callNumberBrowseResultConverter.convert(searchResponse, context, isBrowsingForward);
+      var mergedList = mergeSafelyToList(records, result.getRecords());
+      var previousCount = records.size();
+      records = CallNumberUtils.excludeIrrelevantResultItems(context, request.getRefinedCondition(),
+        folioCallNumberTypes, mergedList);
+      densityEstimator.record(request, context, result.getRecords().size(), records.size() - previousCount);
+      offset = query.from() + query.size();
+      log.debug("additionalRequests:: browsingForward {} response have new {} records",
+        isBrowsingForward, result.getRecords().size());
+      sendNextRequest();
+    }
+  }
 }
@@ -23,9 +23,10 @@ import org.folio.search.model.index.ClassificationResource;
 import org.folio.search.model.index.InstanceSubResource;
 import org.folio.search.model.service.BrowseContext;
 import org.folio.search.model.service.BrowseRequest;
+import org.folio.search.model.types.ShelfKeyType;
+import org.folio.search.service.ShelfKeyService;
 import org.folio.search.service.consortium.BrowseConfigServiceDecorator;
 import org.folio.search.service.consortium.ConsortiumSearchHelper;
-import org.folio.search.utils.ShelvingOrderCalculationHelper;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -39,6 +40,7 @@ public class ClassificationBrowseService
 
   private final ConsortiumSearchHelper consortiumSearchHelper;
   private final BrowseConfigServiceDecorator configService;
+  private final ShelfKeyService shelfKeyService;
 
   @Override
   protected String getValueForBrowsing(ClassificationNumberBrowseItem browseItem) {
@@ -63,7 +65,8 @@ public class ClassificationBrowseService
     var config = configService.getConfig(BrowseType.INSTANCE_CLASSIFICATION, req.getBrowseOptionType());
 
     var browseField = getBrowseField(config);
-    var normalizedAnchor = ShelvingOrderCalculationHelper.calculate(ctx.getAnchor(), config.getShelvingAlgorithm());
+    var shelfKeyType = ShelfKeyType.of(config.getShelvingAlgorithm());
+    var normalizedAnchor = shelfKeyService.getShelfKey(ctx.getAnchor(), shelfKeyType);
     var query = consortiumSearchHelper.filterBrowseQueryForActiveAffiliation(ctx, getQuery(ctx, config, null),
       req.getResource());
 
@@ -0,0 +1,315 @@
+package org.folio.search.service.browse;
+
+import static java.util.Locale.ROOT;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toMap;
+import static org.apache.commons.lang3.BooleanUtils.isFalse;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.search.domain.dto.TenantConfiguredFeature.BROWSE_CN_PRECOMPUTED;
+import static org.folio.search.model.types.ResponseGroupType.CN_BROWSE;
+import static org.folio.search.service.consortium.ConsortiumSearchHelper.getBrowseFilterValues;
+import static org.folio.search.utils.SearchUtils.CALL_NUMBER_SHELVING_ORDER_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_CALL_NUMBER_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.SearchUtils.SHARED_FIELD_NAME;
+import static org.folio.search.utils.SearchUtils.SHELVING_ORDER_BROWSING_FIELD;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
+import static org.opensearch.search.sort.SortBuilders.fieldSort;
+import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.search.sort.SortOrder.DESC;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.cql.CqlSearchQueryConverter;
+import org.folio.search.cql.EffectiveShelvingOrderTermProcessor;
+import org.folio.search.domain.dto.CallNumberBrowseItem;
+import org.folio.search.domain.dto.Instance;
+import org.folio.search.model.BrowseResult;
+import org.folio.search.model.SearchResult;
+import org.folio.search.model.index.CallNumberResource;
+import org.folio.search.model.index.InstanceSubResource;
+import org.folio.search.model.service.BrowseContext;
+import org.folio.search.model.service.BrowseRequest;
+import org.folio.search.model.types.CallNumberType;
+import org.folio.search.service.consortium.ConsortiumSearchHelper;
+import org.folio.search.service.consortium.FeatureConfigServiceDecorator;
+import org.folio.search.service.metadata.SearchFieldProvider;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Browses call numbers using the call number browse index, containing one document per shelving order.
+ *
+ * <p>Documents are sorted by the keyword doc values of the shelving order, so browsing is performed with plain
+ * {@code search_after} requests instead of the script sorting over the instance index. Only filters that can be
+ * represented by the call number documents are supported, other requests must be browsed by the instance index.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class PrecomputedCallNumberBrowseService
+  extends AbstractBrowseServiceBySearchAfter<CallNumberBrowseItem, CallNumberResource> {
+
+  private static final String INSTANCE_LOCATION_FILTER_KEY = "instances.locationId";
+  private static final String INSTANCE_TYPE_FILTER_KEY = "instances.typeId";
+  private static final Map<String, String> FILTER_FIELDS = Map.of(
+    "items.effectiveLocationId", INSTANCE_LOCATION_FILTER_KEY,
+    "holdings.tenantId", "instances.tenantId",
+    SHARED_FIELD_NAME, "instances.shared");
+
+  private final SearchFieldProvider searchFieldProvider;
+  private final ConsortiumSearchHelper consortiumSearchHelper;
+  private final CqlSearchQueryConverter cqlSearchQueryConverter;
+  private final FeatureConfigServiceDecorator featureConfigService;
+  private final EffectiveShelvingOrderTermProcessor effectiveShelvingOrderTermProcessor;
+
+  /**
+   * Checks if the call number browse index is enabled and can be used for the given request.
+   *
+   * @param request - call number browse request as {@link BrowseRequest} object
+   * @param context - {@link BrowseContext} of the instance call number browse request
+   * @return true - if the request can be browsed by the call number browse index
+   */
+  public boolean isSupported(BrowseRequest request, BrowseContext context) {
+    return featureConfigService.isEnabled(BROWSE_CN_PRECOMPUTED)
+      && (isBlank(request.getRefinedCondition()) || getCallNumberTypeId(request.getRefinedCondition()).isPresent())
+      && context.getFilters().stream().allMatch(filter -> toIndexFilter(filter).isPresent());
+  }
+
+  /**
+   * Browses call numbers by the call number browse index.
+   *
+   * @param request - call number browse request as {@link BrowseRequest} object
+   * @param context - {@link BrowseContext} of the instance call number browse request
+   * @return {@link BrowseResult} with call number browse items
+   */
+  public BrowseResult<CallNumberBrowseItem> browse(BrowseRequest request, BrowseContext context) {
+    log.debug("browse:: by [request: {}]", request);
+
+    var indexRequest = BrowseRequest.builder()
+      .resource(INSTANCE_CALL_NUMBER_RESOURCE)
+      .tenantId(request.getTenantId())
+      .query(request.getQuery())
+      .limit(request.getLimit())
+      .targetField(CALL_NUMBER_SHELVING_ORDER_FIELD)
+      .refinedCondition(request.getRefinedCondition())
+      .expandAll(request.getExpandAll())
+      .highlightMatch(request.getHighlightMatch())
+      .precedingRecordsCount(request.getPrecedingRecordsCount())
+      .build();
+
+    var callNumber = cqlSearchQueryConverter.convertToTermNode(request.getQuery(), request.getResource()).getTerm();
+    var indexContext = toIndexContext(request, context, context.getAnchor());
+    if (isBlank(request.getRefinedCondition()) && !request.getQuery().contains(SHELVING_ORDER_BROWSING_FIELD)) {
+      var anchor = resolveAnchor(indexRequest, indexContext, callNumber);
+      if (!anchor.equals(indexContext.getAnchor())) {
+        indexContext = toIndexContext(request, context, anchor);
+      }
+    }
+
+    var browseResult = indexContext.isBrowsingAround()
+                       ? browseAround(indexRequest, indexContext)
+                       : browseInOneDirection(indexRequest, indexContext);
+
+    var records = browseResult.getRecords();
+    records.stream()
+      .filter(item -> Boolean.TRUE.equals(item.getIsAnchor()) && Objects.equals(item.getTotalRecords(), 0))
+      .forEach(item -> item.fullCallNumber(callNumber));
+    populateInstances(request, records);
+    return browseResult;
+  }
+
+  @Override
+  protected String getValueForBrowsing(CallNumberBrowseItem browseItem) {
+    return browseItem.getShelfKey();
+  }
+
+  @Override
+  protected SearchSourceBuilder getAnchorSearchQuery(BrowseRequest request, BrowseContext context) {
+    log.debug("getAnchorSearchQuery:: by [request: {}]", request);
+    var anchorQuery = termQuery(CALL_NUMBER_SHELVING_ORDER_FIELD, context.getAnchor());
+    return searchSource().query(getQuery(context, anchorQuery, request.getResource()))
+      .size(context.getLimit(context.isBrowsingForward()))
+      .from(0);
+  }
+
+  @Override
+  protected SearchSourceBuilder getSearchQuery(BrowseRequest request, BrowseContext context,
+                                               boolean isBrowsingForward) {
+    log.debug("getSearchQuery:: by [request: {}, isBrowsingForward: {}]", request, isBrowsingForward);
+    return searchSource().query(getQuery(context, null, request.getResource()))
+      .searchAfter(new Object[] {context.getAnchor().toLowerCase(ROOT)})
+      .sort(fieldSort(CALL_NUMBER_SHELVING_ORDER_FIELD).order(isBrowsingForward ? ASC : DESC))
+      .size(context.getLimit(isBrowsingForward) + 1)
+      .from(0);
+  }
+
+  @Override
+  protected CallNumberBrowseItem getEmptyBrowseItem(BrowseContext context) {
+    return new CallNumberBrowseItem()
+      .shelfKey(context.getAnchor())
+      .totalRecords(0)
+      .isAnchor(true);
+  }
+
+  @Override
+  protected BrowseResult<CallNumberBrowseItem> mapToBrowseResult(BrowseContext context,
+                                                                 SearchResult<CallNumberResource> searchResult,
+                                                                 boolean isAnchor) {
+    return BrowseResult.of(searchResult)
+      .map(resource -> {
+        var instanceIds = getInstanceIds(context, resource);
+        return new CallNumberBrowseItem()
+          .fullCallNumber(resource.fullCallNumber())
+          .shelfKey(resource.shelvingOrder())
+          .instance(instanceIds.size() == 1 ? new Instance().id(instanceIds.iterator().next()) : null)
+          .isAnchor(isAnchor ? true : null)
+          .totalRecords(instanceIds.size());
+      });
+  }
+
+  private String resolveAnchor(BrowseRequest request, BrowseContext context, String callNumber) {
+    var anchors = new LinkedHashSet<String>();
+    anchors.add(context.getAnchor());
+    anchors.addAll(effectiveShelvingOrderTermProcessor.getSearchTerms(callNumber));
+    if (anchors.size() == 1) {
+      return context.getAnchor();
+    }
+
+    var anchorsList = new ArrayList<>(anchors);
+    var searchSources = anchorsList.stream()
+      .map(anchor -> searchSource().query(getQuery(context,
+        termQuery(CALL_NUMBER_SHELVING_ORDER_FIELD, anchor), request.getResource())).size(0).from(0))
+      .toList();
+
+    var responses = searchRepository.msearch(request, searchSources).getResponses();
+    for (int i = 0; i < responses.length; i++) {
+      var response = responses[i].getResponse();
+      if (response != null && response.getHits().getTotalHits() != null
+          && response.getHits().getTotalHits().value > 0) {
+        return anchorsList.get(i);
+      }
+    }
+
+    return context.getAnchor();
+  }
+
+  private void populateInstances(BrowseRequest request, List<CallNumberBrowseItem> records) {
+    var instanceIds = records.stream()
+      .map(CallNumberBrowseItem::getInstance)
+      .filter(Objects::nonNull)
+      .map(Instance::getId)
+      .distinct()
+      .toList();
+    if (instanceIds.isEmpty()) {
+      return;
+    }
+
+    var searchSource = searchSource()
+      .query(cqlSearchQueryConverter.convertIdsToQuery(instanceIds, INSTANCE_RESOURCE))
+      .size(instanceIds.size())
+      .from(0);
+    if (isFalse(request.getExpandAll())) {
+      searchSource.fetchSource(searchFieldProvider.getSourceFields(INSTANCE_RESOURCE, CN_BROWSE), null);
+    }
+
+    var searchResponse = searchRepository.search(request, searchSource);
+    var instancesById = documentConverter.convertToSearchResult(searchResponse, Instance.class).getRecords().stream()
+      .collect(toMap(Instance::getId, identity(), (first, second) -> first));
+
+    for (var browseItem : records) {
+      var instance = browseItem.getInstance();
+      if (instance != null && instancesById.containsKey(instance.getId())) {
+        browseItem.setInstance(instancesById.get(instance.getId()));
+      }
+    }
+  }
+
+  private QueryBuilder getQuery(BrowseContext context, QueryBuilder anchorQuery, String resource) {
+    QueryBuilder query;
+    if (context.getFilters().isEmpty()) {
+      query = anchorQuery != null ? anchorQuery : matchAllQuery();
+    } else {
+      var boolQuery = boolQuery();
+      context.getFilters().forEach(boolQuery::filter);
+      if (anchorQuery != null) {
+        boolQuery.must(anchorQuery);
+      }
+      query = boolQuery;
+    }
+
+    return consortiumSearchHelper.filterBrowseQueryForActiveAffiliation(context, query, resource);
+  }
+
+  private Set<String> getInstanceIds(BrowseContext context, CallNumberResource resource) {
+    var locationIds = getBrowseFilterValues(context, INSTANCE_LOCATION_FILTER_KEY);
+    var typeIds = getBrowseFilterValues(context, INSTANCE_TYPE_FILTER_KEY);
+    return consortiumSearchHelper.filterSubResourcesForConsortium(context, resource, CallNumberResource::instances)
+      .stream()
+      .filter(subResource -> locationIds.isEmpty() || locationIds.contains(subResource.getLocationId()))
+      .filter(subResource -> typeIds.isEmpty() || typeIds.contains(subResource.getTypeId()))
+      .map(InstanceSubResource::getInstanceId)
+      .collect(toCollection(LinkedHashSet::new));
+  }
+
+  private static BrowseContext toIndexContext(BrowseRequest request, BrowseContext context, String anchor) {
+    var filters = new ArrayList<QueryBuilder>();
+    context.getFilters().forEach(filter -> toIndexFilter(filter).ifPresent(filters::add));
+    getCallNumberTypeId(request.getRefinedCondition())
+      .ifPresent(typeId -> filters.add(termQuery(INSTANCE_TYPE_FILTER_KEY, typeId)));
+
+    return BrowseContext.builder()
+      .precedingQuery(context.getPrecedingQuery())
+      .succeedingQuery(context.getSucceedingQuery())
+      .filters(filters)
+      .anchor(anchor)
+      .precedingLimit(context.getPrecedingLimit())
+      .succeedingLimit(context.getSucceedingLimit())
+      .build();
+  }
+
+  private static Optional<QueryBuilder> toIndexFilter(QueryBuilder filter) {
+    if (filter instanceof TermQueryBuilder termFilter) {
+      return Optional.ofNullable(FILTER_FIELDS.get(termFilter.fieldName()))
+        .map(field -> termQuery(field, termFilter.value()));
+    }
+
+    if (filter instanceof BoolQueryBuilder boolFilter && !boolFilter.should().isEmpty()
+        && boolFilter.must().isEmpty() && boolFilter.filter().isEmpty() && boolFilter.mustNot().isEmpty()) {
+      var indexFilter = boolQuery();
+      for (var shouldFilter : boolFilter.should()) {
+        if (!(shouldFilter instanceof TermQueryBuilder)) {
+          return Optional.empty();
+        }
+        var indexShouldFilter = toIndexFilter(shouldFilter);
+        if (indexShouldFilter.isEmpty()) {
+          return Optional.empty();
+        }
+        indexFilter.should(indexShouldFilter.get());
+      }
+      return Optional.of(indexFilter);
+    }
+
+    return Optional.empty();
+  }
+
+  private static Optional<String> getCallNumberTypeId(String callNumberTypeName) {
+    return CallNumberType.fromName(callNumberTypeName)
+      .filter(callNumberType -> callNumberType != CallNumberType.LOCAL)
+      .map(CallNumberType::getId);
+  }
+}
@@ -1,5 +1,17 @@
 package org.folio.search.service.consortium;
 
-public record ConsortiumInstance(ConsortiumInstanceId id, String instance) {
+/**
+ * Instance of the consortium tenant stored for merging into the consortium shared index.
+ *
+ * @param id                - tenant and instance ids
+ * @param instance          - instance JSON with holdings and items of the tenant
+ * @param instanceDigest    - digest of the instance JSON without holdings and items, null if not calculated
+ * @param subDocumentDigest - digest of the holdings and items of the tenant, null if not calculated
+ */
+public record ConsortiumInstance(ConsortiumInstanceId id, String instance, String instanceDigest,
+                                 String subDocumentDigest) {
 
+  public ConsortiumInstance(ConsortiumInstanceId id, String instance) {
+    this(id, instance, null, null);
+  }
 }
@@ -0,0 +1,12 @@
+package org.folio.search.service.consortium;
+
+/**
+ * Digests of the consortium tenant instance, used to detect changes without reading the instance JSON.
+ *
+ * @param id                - tenant and instance ids
+ * @param instanceDigest    - digest of the instance JSON without holdings and items
+ * @param subDocumentDigest - digest of the holdings and items of the tenant
+ */
+public record ConsortiumInstanceDigest(ConsortiumInstanceId id, String instanceDigest, String subDocumentDigest) {
+
+}
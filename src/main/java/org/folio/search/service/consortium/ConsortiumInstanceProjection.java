@@ -0,0 +1,31 @@
+package org.folio.search.service.consortium;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Parts of the consortium tenant instance document to read from the database.
+ *
+ * <p>Instance documents are stored as jsonb, so the projection is applied by the database and only the requested part
+ * of the document is transferred and parsed.</p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ConsortiumInstanceProjection {
+
+  /**
+   * The whole instance document with holdings and items.
+   */
+  FULL("json"),
+
+  /**
+   * Document with holdings and items only.
+   */
+  HOLDINGS_AND_ITEMS("jsonb_build_object('holdings', coalesce(json -> 'holdings', '[]'::jsonb), "
+    + "'items', coalesce(json -> 'items', '[]'::jsonb))");
+
+  /**
+   * SQL expression selecting the projected document from the json column.
+   */
+  private final String selectExpression;
+}
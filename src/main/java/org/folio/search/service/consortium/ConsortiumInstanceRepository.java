@@ -1,17 +1,22 @@
 package org.folio.search.service.consortium;
 
+import static org.folio.search.service.consortium.ConsortiumSearchQueryBuilder.CONSORTIUM_INSTANCE_MERGED_TABLE_NAME;
 import static org.folio.search.service.consortium.ConsortiumSearchQueryBuilder.CONSORTIUM_TABLES;
 import static org.folio.search.utils.JdbcUtils.getFullTableName;
+import static org.folio.search.utils.JdbcUtils.getGroupedParamPlaceholder;
 import static org.folio.search.utils.JdbcUtils.getParamPlaceholder;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.domain.dto.ConsortiumHolding;
@@ -27,26 +32,116 @@ import org.springframework.stereotype.Repository;
 public class ConsortiumInstanceRepository {
 
   private static final String SELECT_BY_ID_SQL = "SELECT * FROM %s WHERE instance_id IN (%s)";
+  private static final String SELECT_PROJECTION_SQL = """
+      SELECT tenant_id, instance_id, %s AS json, instance_digest, sub_document_digest
+      FROM %s
+      WHERE (tenant_id, instance_id) IN (%s)
+    """;
+  private static final String SELECT_DIGESTS_BY_ID_SQL = """
+      SELECT tenant_id, instance_id, instance_digest, sub_document_digest
+      FROM %s
+      WHERE instance_id IN (%s)
+    """;
   private static final String DELETE_BY_TENANT_AND_ID_SQL = "DELETE FROM %s WHERE tenant_id = ? AND instance_id = ?;";
-  private static final String DELETE_ALL_SQL = "TRUNCATE TABLE %s;";
+  private static final String DELETE_BY_ID_SQL = "DELETE FROM %s WHERE instance_id IN (%s);";
+  private static final String DELETE_UPDATED_BEFORE_SQL = """
+      WITH deleted AS (DELETE FROM %s WHERE updated_date < ? RETURNING instance_id),
+        deleted_merged AS (DELETE FROM %s WHERE instance_id IN (SELECT instance_id FROM deleted))
+      SELECT DISTINCT instance_id FROM deleted;
+    """;
   private static final String UPSERT_SQL = """
-      INSERT INTO %s (tenant_id, instance_id, json, created_date, updated_date)
-      VALUES (?, ?, ?::json, ?, ?)
+      INSERT INTO %s (tenant_id, instance_id, json, instance_digest, sub_document_digest, created_date, updated_date)
+      VALUES (?, ?, ?::jsonb, ?, ?, ?, ?)
       ON CONFLICT (tenant_id, instance_id)
-      DO UPDATE SET json = EXCLUDED.json, updated_date = EXCLUDED.updated_date;
+      DO UPDATE SET json = EXCLUDED.json,
+        instance_digest = EXCLUDED.instance_digest,
+        sub_document_digest = EXCLUDED.sub_document_digest,
+        updated_date = EXCLUDED.updated_date;
+    """;
+  private static final String UPSERT_MERGED_SQL = """
+      INSERT INTO %s (instance_id, json, instance_digest, tenant_digests, updated_date)
+      VALUES (?, ?::jsonb, ?, ?::jsonb, ?)
+      ON CONFLICT (instance_id)
+      DO UPDATE SET json = EXCLUDED.json,
+        instance_digest = EXCLUDED.instance_digest,
+        tenant_digests = EXCLUDED.tenant_digests,
+        updated_date = EXCLUDED.updated_date;
     """;
   private static final String TENANT_ID_COLUMN = "tenant_id";
   private static final String INSTANCE_ID_COLUMN = "instance_id";
   private static final String JSON_COLUMN = "json";
+  private static final String INSTANCE_DIGEST_COLUMN = "instance_digest";
+  private static final String SUB_DOCUMENT_DIGEST_COLUMN = "sub_document_digest";
+  private static final String TENANT_DIGESTS_COLUMN = "tenant_digests";
 
   private final JdbcTemplate jdbcTemplate;
   private final FolioExecutionContext context;
 
-  public List<ConsortiumInstance> fetch(List<String> instanceIds) {
-    log.debug("fetch::consortium instances by [ids: {}]", instanceIds);
+  /**
+   * Fetches the projected instances of the given tenants.
+   *
+   * @param ids        - tenant and instance ids
+   * @param projection - part of the instance documents to read
+   * @return list of {@link ConsortiumInstance} objects with the projected documents
+   */
+  public List<ConsortiumInstance> fetchTenantInstances(Collection<ConsortiumInstanceId> ids,
+                                                       ConsortiumInstanceProjection projection) {
+    log.debug("fetchTenantInstances::consortium instances by [tenant-instanceIds: {}, projection: {}]",
+      ids, projection);
+    var params = ids.stream()
+      .flatMap(id -> Stream.of(id.tenantId(), id.instanceId()))
+      .toArray();
     return jdbcTemplate.query(
-      SELECT_BY_ID_SQL.formatted(getTableName(), getParamPlaceholder(instanceIds.size())),
+      SELECT_PROJECTION_SQL.formatted(projection.getSelectExpression(), getTableName(),
+        getGroupedParamPlaceholder(ids.size(), 2)),
       (rs, rowNum) -> toConsortiumInstance(rs),
+      params);
+  }
+
+  /**
+   * Fetches digests of the tenant instances without reading the instance JSON.
+   *
+   * @param instanceIds - instance ids
+   * @return list of {@link ConsortiumInstanceDigest} objects, one per tenant instance
+   */
+  public List<ConsortiumInstanceDigest> fetchDigests(List<String> instanceIds) {
+    log.debug("fetchDigests::consortium instances by [ids: {}]", instanceIds);
+    return jdbcTemplate.query(
+      SELECT_DIGESTS_BY_ID_SQL.formatted(getTableName(), getParamPlaceholder(instanceIds.size())),
+      (rs, rowNum) -> new ConsortiumInstanceDigest(
+        new ConsortiumInstanceId(rs.getString(TENANT_ID_COLUMN), rs.getString(INSTANCE_ID_COLUMN)),
+        rs.getString(INSTANCE_DIGEST_COLUMN), rs.getString(SUB_DOCUMENT_DIGEST_COLUMN)),
+      instanceIds.toArray());
+  }
+
+  public List<ConsortiumMergedInstance> fetchMerged(List<String> instanceIds) {
+    log.debug("fetchMerged::consortium merged instances by [ids: {}]", instanceIds);
+    return jdbcTemplate.query(
+      SELECT_BY_ID_SQL.formatted(getMergedTableName(), getParamPlaceholder(instanceIds.size())),
+      (rs, rowNum) -> new ConsortiumMergedInstance(rs.getString(INSTANCE_ID_COLUMN), rs.getString(JSON_COLUMN),
+        rs.getString(INSTANCE_DIGEST_COLUMN), rs.getString(TENANT_DIGESTS_COLUMN)),
+      instanceIds.toArray());
+  }
+
+  public void saveMerged(List<ConsortiumMergedInstance> instances) {
+    log.debug("saveMerged::consortium merged instances [number: {}]", instances.size());
+    jdbcTemplate.batchUpdate(
+      UPSERT_MERGED_SQL.formatted(getMergedTableName()),
+      instances,
+      100,
+      (PreparedStatement ps, ConsortiumMergedInstance item) -> {
+        ps.setString(1, item.instanceId());
+        ps.setString(2, item.instance());
+        ps.setString(3, item.instanceDigest());
+        ps.setString(4, item.tenantDigests());
+        ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now(ZoneId.systemDefault())));
+      });
+  }
+
+  public void deleteMerged(List<String> instanceIds) {
+    log.debug("deleteMerged::consortium merged instances [ids: {}]", instanceIds);
+    jdbcTemplate.update(
+      DELETE_BY_ID_SQL.formatted(getMergedTableName(), getParamPlaceholder(instanceIds.size())),
       instanceIds.toArray());
   }
 
@@ -60,8 +155,10 @@ public class ConsortiumInstanceRepository {
         ps.setString(1, item.id().tenantId());
         ps.setString(2, item.id().instanceId());
         ps.setString(3, item.instance());
-        ps.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now(ZoneId.systemDefault())));
-        ps.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now(ZoneId.systemDefault())));
+        ps.setString(4, item.instanceDigest());
+        ps.setString(5, item.subDocumentDigest());
+        ps.setTimestamp(6, Timestamp.valueOf(LocalDateTime.now(ZoneId.systemDefault())));
+        ps.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now(ZoneId.systemDefault())));
       });
   }
 
@@ -113,17 +210,30 @@ public class ConsortiumInstanceRepository {
     );
   }
 
-  public void deleteAll() {
-    log.debug("deleteAll::consortium instances");
-    jdbcTemplate.execute(DELETE_ALL_SQL.formatted(getTableName()));
+  /**
+   * Deletes the tenant instances that were not updated since the given time together with the merged views of their
+   * instances.
+   *
+   * @param time - time of the oldest update to keep
+   * @return ids of the instances with deleted tenant instances
+   */
+  public List<String> deleteUpdatedBefore(Instant time) {
+    log.debug("deleteUpdatedBefore::consortium instances [time: {}]", time);
+    return jdbcTemplate.queryForList(DELETE_UPDATED_BEFORE_SQL.formatted(getTableName(), getMergedTableName()),
+      String.class, Timestamp.from(time));
   }
 
   private ConsortiumInstance toConsortiumInstance(ResultSet rs) throws SQLException {
     var id = new ConsortiumInstanceId(rs.getString(TENANT_ID_COLUMN), rs.getString(INSTANCE_ID_COLUMN));
-    return new ConsortiumInstance(id, rs.getString(JSON_COLUMN));
+    return new ConsortiumInstance(id, rs.getString(JSON_COLUMN), rs.getString(INSTANCE_DIGEST_COLUMN),
+      rs.getString(SUB_DOCUMENT_DIGEST_COLUMN));
   }
 
   private String getTableName() {
     return getFullTableName(context, CONSORTIUM_TABLES.get(ResourceType.INSTANCE));
   }
+
+  private String getMergedTableName() {
+    return getFullTableName(context, CONSORTIUM_INSTANCE_MERGED_TABLE_NAME);
+  }
 }
@@ -1,19 +1,25 @@
 package org.folio.search.service.consortium;
 
+import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
 import static org.apache.commons.collections4.IterableUtils.toList;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.ListUtils;
+import org.apache.commons.collections4.MapUtils;
 import org.folio.search.domain.dto.ConsortiumHolding;
 import org.folio.search.domain.dto.ConsortiumHoldingCollection;
 import org.folio.search.domain.dto.ConsortiumItem;
@@ -45,6 +51,7 @@ public class ConsortiumInstanceService {
   private static final String HOLDINGS_TENANT_ID_KEY = "holdings.tenantId";
   private static final String ITEMS_TENANT_ID_KEY = "items.tenantId";
   private static final String SHARED_KEY = "shared";
+  private static final TypeReference<Map<String, String>> TENANT_DIGESTS_TYPE = new TypeReference<>() { };
 
   private final JsonConverter jsonConverter;
   private final ConsortiumInstanceRepository repository;
@@ -70,9 +77,7 @@ public class ConsortiumInstanceService {
     if (CollectionUtils.isNotEmpty(consortiumResourceEvents)) {
       var instances = consortiumResourceEvents.stream()
         .map(this::prepareInstance)
-        .map(map -> new ConsortiumInstance(
-          new ConsortiumInstanceId(map.get(TENANT_ID_KEY).toString(), map.get(ID_KEY).toString()),
-          jsonConverter.toJson(map)))
+        .map(this::toConsortiumInstance)
         .toList();
 
       consortiumTenantExecutor.run(() -> {
@@ -108,51 +113,77 @@ public class ConsortiumInstanceService {
     return consortiumTenantEventsMap.get(false);
   }
 
-  public void deleteAll() {
-    log.info("Truncate consortium instances table");
-    consortiumTenantExecutor.run(repository::deleteAll);
+  /**
+   * Deletes instances that were not updated by the reindex, e.g. deleted from inventory before the reindex, and sends
+   * events to reindex the merged instances they were part of.
+   *
+   * @param reindexStartTime - start time of the reindex with index recreation
+   */
+  public void deleteNotReindexedInstances(Instant reindexStartTime) {
+    log.info("deleteNotReindexedInstances:: deleting consortium instances [reindexStartTime: {}]", reindexStartTime);
+    consortiumTenantExecutor.run(() -> {
+      var instanceIds = repository.deleteUpdatedBefore(reindexStartTime);
+      if (!instanceIds.isEmpty()) {
+        prepareAndSendConsortiumInstanceEvents(instanceIds, Function.identity());
+      }
+    });
   }
 
+  /**
+   * Provides instance events for indexing into consortium shared index.
+   *
+   * <p>Merged views of the shared instances are cached together with the digests of the shared instance body and of
+   * the holdings/items of each tenant they were built from. Only the holdings and items of the changed tenants are
+   * read and applied to the cached view; the merged instance is rebuilt from all tenant instances only if the shared
+   * instance body has changed or the cached view is missing.</p>
+   *
+   * @param instanceIds - instance ids
+   * @return update events for the existing instances and delete events for the missing ones
+   */
   public List<ResourceEvent> fetchInstances(Iterable<String> instanceIds) {
     List<ResourceEvent> resourceEvents = new ArrayList<>();
 
     var instanceIdList = toList(instanceIds).stream().distinct().toList();
-    var instances = consortiumTenantExecutor.execute(() -> repository.fetch(instanceIdList));
-    var instancesById =
-      instances.stream().collect(Collectors.groupingBy(instance -> instance.id().instanceId()));
+    var digests = consortiumTenantExecutor.execute(() -> repository.fetchDigests(instanceIdList));
+    var digestsById = digests.stream().collect(Collectors.groupingBy(digest -> digest.id().instanceId()));
 
-    var missedIds = ListUtils.subtract(instanceIdList, new ArrayList<>(instancesById.keySet()));
+    var missedIds = instanceIdList.stream().filter(id -> !digestsById.containsKey(id)).toList();
     for (var missedId : missedIds) {
-      resourceEvents.add(new ResourceEvent().id(missedId.toString())
+      resourceEvents.add(new ResourceEvent().id(missedId)
         .type(ResourceEventType.DELETE)
         .resourceName(INSTANCE_RESOURCE)
         .old(Map.of(ID_KEY, missedId))
         .tenant(context.getTenantId()));
     }
+    if (!missedIds.isEmpty()) {
+      consortiumTenantExecutor.run(() -> repository.deleteMerged(missedIds));
+    }
 
-    for (var entry : instancesById.entrySet()) {
-      Map<String, Object> mergedInstance = new HashMap<>();
-      List<Map<String, Object>> mergedHoldings = new ArrayList<>();
-      List<Map<String, Object>> mergedItems = new ArrayList<>();
-      if (entry.getValue().size() == 1) {
-        // if only one instance returned then there is nothing to merge (local instance)
-        mergedInstance = jsonConverter.fromJsonToMap(entry.getValue().get(0).instance());
+    var cachedById = fetchMergedInstances(digestsById);
+    var rebuildDigests = new ArrayList<List<ConsortiumInstanceDigest>>();
+    var incrementalMerges = new ArrayList<IncrementalMerge>();
+    for (var entry : digestsById.entrySet()) {
+      var cached = cachedById.get(entry.getKey());
+      if (entry.getValue().size() == 1 || cached == null || isInstanceBodyChanged(entry.getValue(), cached)) {
+        rebuildDigests.add(entry.getValue());
+        continue;
+      }
+
+      var incrementalMerge = toIncrementalMerge(entry.getValue(), cached);
+      if (incrementalMerge.isEmpty()) {
+        resourceEvents.add(toResourceEvent(jsonConverter.fromJsonToMap(cached.instance()), List.of(), List.of()));
       } else {
-        // if more than one instance returned then holdings/items merging required
-        for (var instance : entry.getValue()) {
-          var instanceMap = jsonConverter.fromJsonToMap(instance.instance());
-          if (isCentralTenant(instance.id().tenantId())) {
-            mergedInstance = instanceMap;
-          }
-          addListItems(mergedHoldings, instanceMap, HOLDINGS_KEY);
-          addListItems(mergedItems, instanceMap, ITEMS_KEY);
-        }
+        incrementalMerges.add(incrementalMerge);
       }
-      var resourceEvent = toResourceEvent(mergedInstance, mergedHoldings, mergedItems);
-      resourceEvents.add(resourceEvent);
-      mergedInstance.clear();
-      mergedHoldings.clear();
-      mergedItems.clear();
+    }
+
+    var mergedInstances = new ArrayList<ConsortiumMergedInstance>();
+    rebuildInstances(rebuildDigests, resourceEvents, mergedInstances);
+    applyIncrementalMerges(incrementalMerges, resourceEvents, mergedInstances);
+    if (!mergedInstances.isEmpty()) {
+      log.debug("fetchInstances:: caching merged instances [rebuilt: {}, merged incrementally: {}]",
+        rebuildDigests.size(), incrementalMerges.size());
+      consortiumTenantExecutor.run(() -> repository.saveMerged(mergedInstances));
     }
     return resourceEvents;
   }
@@ -169,6 +200,159 @@ public class ConsortiumInstanceService {
     return new ConsortiumItemCollection().items(itemList).totalRecords(repository.count(searchQueryBuilder));
   }
 
+  private Map<String, ConsortiumMergedInstance> fetchMergedInstances(
+    Map<String, List<ConsortiumInstanceDigest>> digestsById) {
+    var sharedInstanceIds = digestsById.entrySet().stream()
+      .filter(entry -> entry.getValue().size() > 1)
+      .map(Map.Entry::getKey)
+      .toList();
+    if (sharedInstanceIds.isEmpty()) {
+      return Map.of();
+    }
+    return consortiumTenantExecutor.execute(() -> repository.fetchMerged(sharedInstanceIds)).stream()
+      .collect(Collectors.toMap(ConsortiumMergedInstance::instanceId, Function.identity()));
+  }
+
+  private boolean isInstanceBodyChanged(List<ConsortiumInstanceDigest> digests, ConsortiumMergedInstance cached) {
+    return digests.stream()
+      .filter(digest -> isCentralTenant(digest.id().tenantId()))
+      .findFirst()
+      .map(ConsortiumInstanceDigest::instanceDigest)
+      .map(instanceDigest -> !instanceDigest.equals(cached.instanceDigest()))
+      .orElse(true);
+  }
+
+  private IncrementalMerge toIncrementalMerge(List<ConsortiumInstanceDigest> digests,
+                                              ConsortiumMergedInstance cached) {
+    var cachedTenantDigests = jsonConverter.fromJson(cached.tenantDigests(), TENANT_DIGESTS_TYPE);
+    var changedIds = digests.stream()
+      .filter(digest -> digest.subDocumentDigest() == null
+                        || !digest.subDocumentDigest().equals(cachedTenantDigests.get(digest.id().tenantId())))
+      .map(ConsortiumInstanceDigest::id)
+      .collect(Collectors.toSet());
+    var tenants = digests.stream().map(digest -> digest.id().tenantId()).collect(Collectors.toSet());
+    var removedTenants = cachedTenantDigests.keySet().stream()
+      .filter(tenant -> !tenants.contains(tenant))
+      .collect(Collectors.toSet());
+    return new IncrementalMerge(cached, cachedTenantDigests, changedIds, removedTenants);
+  }
+
+  /**
+   * Builds instances from all tenant instances. Only holdings and items are read for the member tenant instances of
+   * the shared instances, the instance body is taken from the central tenant instance.
+   */
+  private void rebuildInstances(List<List<ConsortiumInstanceDigest>> instanceDigests,
+                                List<ResourceEvent> resourceEvents, List<ConsortiumMergedInstance> mergedInstances) {
+    if (instanceDigests.isEmpty()) {
+      return;
+    }
+
+    var fullReadIds = new HashSet<ConsortiumInstanceId>();
+    var subDocumentReadIds = new HashSet<ConsortiumInstanceId>();
+    for (var digests : instanceDigests) {
+      for (var digest : digests) {
+        if (digests.size() == 1 || isCentralTenant(digest.id().tenantId())) {
+          fullReadIds.add(digest.id());
+        } else {
+          subDocumentReadIds.add(digest.id());
+        }
+      }
+    }
+
+    var instances = new ArrayList<>(fetchTenantInstances(fullReadIds, ConsortiumInstanceProjection.FULL));
+    instances.addAll(fetchTenantInstances(subDocumentReadIds, ConsortiumInstanceProjection.HOLDINGS_AND_ITEMS));
+    var instancesById = instances.stream().collect(Collectors.groupingBy(instance -> instance.id().instanceId()));
+    for (var entry : instancesById.entrySet()) {
+      if (entry.getValue().size() == 1) {
+        // if only one instance returned then there is nothing to merge (local instance)
+        var instance = jsonConverter.fromJsonToMap(entry.getValue().get(0).instance());
+        resourceEvents.add(toResourceEvent(instance, List.of(), List.of()));
+        continue;
+      }
+
+      // if more than one instance returned then holdings/items merging required
+      Map<String, Object> mergedInstance = new HashMap<>();
+      List<Map<String, Object>> mergedHoldings = new ArrayList<>();
+      List<Map<String, Object>> mergedItems = new ArrayList<>();
+      Map<String, String> tenantDigests = new HashMap<>();
+      String instanceDigest = null;
+      for (var instance : entry.getValue()) {
+        var instanceMap = jsonConverter.fromJsonToMap(instance.instance());
+        if (isCentralTenant(instance.id().tenantId())) {
+          mergedInstance = instanceMap;
+          instanceDigest = instance.instanceDigest();
+        }
+        addListItems(mergedHoldings, instanceMap, HOLDINGS_KEY);
+        addListItems(mergedItems, instanceMap, ITEMS_KEY);
+        tenantDigests.put(instance.id().tenantId(), instance.subDocumentDigest());
+      }
+      var resourceEvent = toResourceEvent(mergedInstance, mergedHoldings, mergedItems);
+      resourceEvents.add(resourceEvent);
+      mergedInstances.add(new ConsortiumMergedInstance(resourceEvent.getId(),
+        jsonConverter.toJson(resourceEvent.getNew()), instanceDigest, jsonConverter.toJson(tenantDigests)));
+    }
+  }
+
+  private void applyIncrementalMerges(List<IncrementalMerge> incrementalMerges, List<ResourceEvent> resourceEvents,
+                                      List<ConsortiumMergedInstance> mergedInstances) {
+    if (incrementalMerges.isEmpty()) {
+      return;
+    }
+
+    var changedIds = incrementalMerges.stream()
+      .flatMap(incrementalMerge -> incrementalMerge.changedIds().stream())
+      .collect(Collectors.toSet());
+    var changedInstancesById = fetchTenantInstances(changedIds, ConsortiumInstanceProjection.HOLDINGS_AND_ITEMS)
+      .stream()
+      .collect(Collectors.groupingBy(instance -> instance.id().instanceId()));
+
+    for (var incrementalMerge : incrementalMerges) {
+      var cached = incrementalMerge.cached();
+      var replacedTenants = new HashSet<>(incrementalMerge.removedTenants());
+      incrementalMerge.changedIds().forEach(id -> replacedTenants.add(id.tenantId()));
+
+      var mergedInstance = jsonConverter.fromJsonToMap(cached.instance());
+      var mergedHoldings = removeTenantListItems(mergedInstance, HOLDINGS_KEY, replacedTenants);
+      var mergedItems = removeTenantListItems(mergedInstance, ITEMS_KEY, replacedTenants);
+      var tenantDigests = new HashMap<>(incrementalMerge.tenantDigests());
+      tenantDigests.keySet().removeAll(replacedTenants);
+      for (var instance : changedInstancesById.getOrDefault(cached.instanceId(), List.of())) {
+        var instanceMap = jsonConverter.fromJsonToMap(instance.instance());
+        addListItems(mergedHoldings, instanceMap, HOLDINGS_KEY);
+        addListItems(mergedItems, instanceMap, ITEMS_KEY);
+        tenantDigests.put(instance.id().tenantId(), instance.subDocumentDigest());
+      }
+
+      var resourceEvent = toResourceEvent(mergedInstance, mergedHoldings, mergedItems);
+      resourceEvents.add(resourceEvent);
+      mergedInstances.add(new ConsortiumMergedInstance(cached.instanceId(),
+        jsonConverter.toJson(resourceEvent.getNew()), cached.instanceDigest(), jsonConverter.toJson(tenantDigests)));
+    }
+  }
+
+  private List<ConsortiumInstance> fetchTenantInstances(Set<ConsortiumInstanceId> ids,
+                                                        ConsortiumInstanceProjection projection) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    return consortiumTenantExecutor.execute(() -> repository.fetchTenantInstances(ids, projection));
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Map<String, Object>> removeTenantListItems(Map<String, Object> instanceMap, String key,
+                                                          Set<String> tenants) {
+    var items = instanceMap.remove(key);
+    var result = new ArrayList<Map<String, Object>>();
+    if (items instanceof List<?> list) {
+      for (var item : (List<Map<String, Object>>) list) {
+        if (!tenants.contains(MapUtils.getString(item, TENANT_ID_KEY))) {
+          result.add(item);
+        }
+      }
+    }
+    return result;
+  }
+
   @SuppressWarnings("unchecked")
   private void addListItems(List<Map<String, Object>> mergedList, Map<String, Object> instanceMap, String key) {
     var items = instanceMap.get(key);
@@ -204,6 +388,16 @@ public class ConsortiumInstanceService {
     return instance;
   }
 
+  private ConsortiumInstance toConsortiumInstance(Map<String, Object> instance) {
+    var id = new ConsortiumInstanceId(instance.get(TENANT_ID_KEY).toString(), instance.get(ID_KEY).toString());
+    var instanceBody = new LinkedHashMap<>(instance);
+    var subDocument = new LinkedHashMap<String, Object>();
+    subDocument.put(HOLDINGS_KEY, instanceBody.remove(HOLDINGS_KEY));
+    subDocument.put(ITEMS_KEY, instanceBody.remove(ITEMS_KEY));
+    return new ConsortiumInstance(id, jsonConverter.toJson(instance),
+      sha256Hex(jsonConverter.toJson(instanceBody)), sha256Hex(jsonConverter.toJson(subDocument)));
+  }
+
   @NotNull
   private Map<Boolean, List<ResourceEvent>> groupEventsByConsortiumTenant(List<ResourceEvent> instanceEvents) {
     return instanceEvents.stream()
@@ -227,4 +421,20 @@ public class ConsortiumInstanceService {
       .toList();
     producer.sendMessages(consortiumInstanceEvents);
   }
+
+  /**
+   * Changes to apply to the cached merged instance.
+   *
+   * @param cached         - cached merged instance
+   * @param tenantDigests  - holdings/items digests of the tenants the cached instance was built from
+   * @param changedIds     - ids of the tenant instances with changed holdings/items
+   * @param removedTenants - tenants which instances were deleted
+   */
+  private record IncrementalMerge(ConsortiumMergedInstance cached, Map<String, String> tenantDigests,
+                                  Set<ConsortiumInstanceId> changedIds, Set<String> removedTenants) {
+
+    boolean isEmpty() {
+      return changedIds.isEmpty() && removedTenants.isEmpty();
+    }
+  }
 }
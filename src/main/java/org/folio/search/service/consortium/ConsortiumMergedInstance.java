@@ -0,0 +1,14 @@
+package org.folio.search.service.consortium;
+
+/**
+ * Cached merged view of the shared instance with holdings and items of all consortium tenants.
+ *
+ * @param instanceId     - instance id
+ * @param instance       - merged instance JSON
+ * @param instanceDigest - digest of the shared instance body the view was built from
+ * @param tenantDigests  - JSON object with tenant ids as keys and digests of their merged holdings and items as values
+ */
+public record ConsortiumMergedInstance(String instanceId, String instance, String instanceDigest,
+                                       String tenantDigests) {
+
+}
@@ -1,6 +1,7 @@
 package org.folio.search.service.consortium;
 
 import static org.folio.search.utils.SearchUtils.CONTRIBUTOR_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_CALL_NUMBER_RESOURCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_CLASSIFICATION_RESOURCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_SUBJECT_RESOURCE;
 import static org.folio.search.utils.SearchUtils.SHARED_FIELD_NAME;
@@ -20,6 +21,7 @@ import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.folio.search.model.index.InstanceSubResource;
 import org.folio.search.model.service.BrowseContext;
+import org.folio.search.repository.TenantRoutingProvider;
 import org.folio.spring.FolioExecutionContext;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
@@ -39,6 +41,7 @@ public class ConsortiumSearchHelper {
 
   private final FolioExecutionContext folioExecutionContext;
   private final ConsortiumTenantService consortiumTenantService;
+  private final TenantRoutingProvider tenantRoutingProvider;
 
   public QueryBuilder filterQueryForActiveAffiliation(QueryBuilder query, String resource) {
     var contextTenantId = folioExecutionContext.getTenantId();
@@ -67,6 +70,41 @@ public class ConsortiumSearchHelper {
     return boolQuery;
   }
 
+  /**
+   * Provides routing for the search query filtered for Active Affiliation. The routing is provided only if the query
+   * is restricted to the records of one member tenant, either by mandatory 'tenantId' filter or by mandatory
+   * 'shared=false' filter in the context of member tenant.
+   *
+   * @param query    - search query filtered for Active Affiliation
+   * @param resource - resource name
+   * @return member tenant id to route the search to, empty if the search must be executed on all shards
+   */
+  public Optional<String> getSearchRouting(QueryBuilder query, String resource) {
+    if (!tenantRoutingProvider.isTenantRoutingEnabled(resource) || !(query instanceof BoolQueryBuilder boolQuery)) {
+      return Optional.empty();
+    }
+
+    var contextTenantId = folioExecutionContext.getTenantId();
+    var centralTenantId = consortiumTenantService.getCentralTenant(contextTenantId);
+    if (centralTenantId.isEmpty()) {
+      return Optional.empty();
+    }
+
+    var mandatoryTerms = getMandatoryTermQueries(boolQuery).toList();
+    var tenantRouting = mandatoryTerms.stream()
+      .filter(termQuery -> termQuery.fieldName().equals(TENANT_ID_FIELD_NAME))
+      .map(this::tenantFilterValue)
+      .filter(tenantId -> !tenantId.equals(centralTenantId.get()))
+      .findFirst();
+    if (tenantRouting.isPresent() || contextTenantId.equals(centralTenantId.get())) {
+      return tenantRouting;
+    }
+
+    var localRecordsOnly = mandatoryTerms.stream()
+      .anyMatch(termQuery -> termQuery.fieldName().equals(SHARED_FIELD_NAME) && !sharedFilterValue(termQuery));
+    return localRecordsOnly ? Optional.of(contextTenantId) : Optional.empty();
+  }
+
   /**
    * Modifies query to support both 'instances.shared' filter and Active Affiliation.
    * 'instances.shared' filter have precedence over Active Affiliation so in case of 'false' value - only local records
@@ -188,6 +226,18 @@ public class ConsortiumSearchHelper {
     affiliationShouldClauses.add(termQuery(getFieldForResource(SHARED_FIELD_NAME, resource), true));
   }
 
+  private static Stream<TermQueryBuilder> getMandatoryTermQueries(BoolQueryBuilder boolQuery) {
+    return Stream.concat(boolQuery.must().stream(), boolQuery.filter().stream())
+      .flatMap(clause -> {
+        if (clause instanceof TermQueryBuilder termQuery) {
+          return Stream.of(termQuery);
+        }
+        return clause instanceof BoolQueryBuilder innerBoolQuery
+               ? getMandatoryTermQueries(innerBoolQuery)
+               : Stream.empty();
+      });
+  }
+
   private void removeOriginalSharedFilterFromQuery(QueryBuilder queryBuilder) {
     if (queryBuilder instanceof BoolQueryBuilder bqb) {
       bqb.filter().removeIf(filter -> filter instanceof TermQueryBuilder tqb
@@ -242,7 +292,8 @@ public class ConsortiumSearchHelper {
   private String getFieldForResource(String fieldName, String resourceName) {
     if (resourceName.equals(CONTRIBUTOR_RESOURCE)
         || resourceName.equals(INSTANCE_SUBJECT_RESOURCE)
-        || resourceName.equals(INSTANCE_CLASSIFICATION_RESOURCE)) {
+        || resourceName.equals(INSTANCE_CLASSIFICATION_RESOURCE)
+        || resourceName.equals(INSTANCE_CALL_NUMBER_RESOURCE)) {
       return "instances." + fieldName;
     }
     return fieldName;
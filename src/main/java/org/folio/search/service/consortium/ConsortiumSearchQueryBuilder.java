@@ -22,6 +22,7 @@ import org.folio.spring.FolioExecutionContext;
 public class ConsortiumSearchQueryBuilder {
 
   static final String CONSORTIUM_INSTANCE_TABLE_NAME = "consortium_instance";
+  static final String CONSORTIUM_INSTANCE_MERGED_TABLE_NAME = "consortium_instance_merged";
   public static final Map<ResourceType, String> CONSORTIUM_TABLES = Map.of(
     ResourceType.INSTANCE, CONSORTIUM_INSTANCE_TABLE_NAME,
     ResourceType.HOLDINGS, CONSORTIUM_INSTANCE_TABLE_NAME,
@@ -64,7 +65,7 @@ public class ConsortiumSearchQueryBuilder {
   public String buildSelectQuery(FolioExecutionContext context) {
     var fullTableName = getFullTableName(context, CONSORTIUM_TABLES.get(resourceType));
     var resourceCollection = RESOURCE_COLLECTION_NAME.get(resourceType);
-    String subQuery = "SELECT instance_id, tenant_id, json_array_elements(json -> '" + resourceCollection + "') "
+    String subQuery = "SELECT instance_id, tenant_id, jsonb_array_elements(json -> '" + resourceCollection + "') "
                       + "as " + resourceCollection + " FROM " + fullTableName + SPACE + getWhereClause(filters, null);
     String query = "SELECT i.instance_id as instanceId, i.tenant_id as tenantId,"
                    + getSelectors("i." + resourceCollection, RESOURCE_FIELDS.get(resourceType))
@@ -79,7 +80,7 @@ public class ConsortiumSearchQueryBuilder {
   public String buildCountQuery(FolioExecutionContext context) {
     var fullTableName = getFullTableName(context, CONSORTIUM_TABLES.get(resourceType));
     var resourceCollection = RESOURCE_COLLECTION_NAME.get(resourceType);
-    String subQuery = "SELECT instance_id, tenant_id, json_array_elements(json -> '" + resourceCollection + "') "
+    String subQuery = "SELECT instance_id, tenant_id, jsonb_array_elements(json -> '" + resourceCollection + "') "
                       + "as " + resourceCollection + " FROM " + fullTableName + SPACE + getWhereClause(filters, null);
     String query = "SELECT count(*) FROM (" + subQuery + ") i"
                    + getWhereClause(jsonbFilters, "i." + resourceCollection);
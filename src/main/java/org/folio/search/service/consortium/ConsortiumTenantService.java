@@ -2,9 +2,12 @@ package org.folio.search.service.consortium;
 
 import static org.folio.search.configuration.SearchCacheNames.USER_TENANTS_CACHE;
 
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.search.client.ConsortiumTenantsClient;
+import org.folio.search.client.ConsortiumTenantsClient.ConsortiumTenant;
 import org.folio.search.client.UserTenantsClient;
 import org.folio.spring.FolioExecutionContext;
 import org.springframework.cache.annotation.Cacheable;
@@ -15,7 +18,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ConsortiumTenantService {
 
+  private static final int CONSORTIUM_TENANTS_LIMIT = 1_000;
+
   private final UserTenantsClient userTenantsClient;
+  private final ConsortiumTenantsClient consortiumTenantsClient;
 
   private final FolioExecutionContext context;
 
@@ -31,4 +37,24 @@ public class ConsortiumTenantService {
         .map(UserTenantsClient.UserTenant::centralTenantId));
   }
 
+  /**
+   * Provides ids of all consortium tenants if the given tenant is the central tenant of the consortium.
+   *
+   * @param tenantId - tenant id as {@link String} object
+   * @return ids of the consortium tenants, or list with the given tenant id if it is not a central tenant
+   */
+  public List<String> getConsortiumTenants(String tenantId) {
+    var userTenant = Optional.ofNullable(userTenantsClient.getUserTenants(tenantId))
+      .flatMap(tenants -> tenants.userTenants().stream().findFirst());
+    if (userTenant.isEmpty() || !tenantId.equals(userTenant.get().centralTenantId())) {
+      return List.of(tenantId);
+    }
+
+    var consortiumId = userTenant.get().consortiumId();
+    var tenants = consortiumTenantsClient.getConsortiumTenants(consortiumId, CONSORTIUM_TENANTS_LIMIT).tenants();
+    log.debug("getConsortiumTenants:: by [tenantId: {}, consortiumId: {}, tenants: {}]",
+      tenantId, consortiumId, tenants.size());
+    return tenants.stream().map(ConsortiumTenant::id).toList();
+  }
+
 }
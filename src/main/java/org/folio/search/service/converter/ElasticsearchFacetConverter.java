@@ -3,6 +3,8 @@ package org.folio.search.service.converter;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.folio.search.utils.CollectionUtils.addToList;
+import static org.folio.search.utils.SearchUtils.CARDINALITY_AGG_PREFIX;
+import static org.folio.search.utils.SearchUtils.FACET_COMPOSITE_SOURCE_NAME;
 import static org.folio.search.utils.SearchUtils.SELECTED_AGG_PREFIX;
 
 import java.math.BigDecimal;
@@ -10,6 +12,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.search.domain.dto.Facet;
 import org.folio.search.domain.dto.FacetItem;
@@ -17,8 +20,11 @@ import org.folio.search.domain.dto.FacetResult;
 import org.opensearch.search.aggregations.Aggregation;
 import org.opensearch.search.aggregations.Aggregations;
 import org.opensearch.search.aggregations.bucket.ParsedSingleBucketAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.ParsedComposite;
 import org.opensearch.search.aggregations.bucket.terms.ParsedTerms;
 import org.opensearch.search.aggregations.bucket.terms.Terms.Bucket;
+import org.opensearch.search.aggregations.metrics.ParsedCardinality;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -36,31 +42,51 @@ public class ElasticsearchFacetConverter {
     }
 
     var facetsMap = new LinkedHashMap<String, Facet>();
+    var cardinalities = new LinkedHashMap<String, Long>();
     for (var agg : aggregations.asList()) {
       var aggregationName = agg.getName();
-      if (aggregationName != null) {
-        facetsMap.put(aggregationName, facet(getFacetItems(agg)));
+      if (aggregationName == null) {
+        continue;
+      }
+
+      if (agg instanceof ParsedCardinality parsedCardinality && isCardinalityAggregation(aggregationName)) {
+        cardinalities.put(aggregationName.substring(CARDINALITY_AGG_PREFIX.length()), parsedCardinality.getValue());
+      } else {
+        facetsMap.put(aggregationName, toFacet(agg));
       }
     }
 
-    return facetResult(mergeSelectedAndNormalFacets(facetsMap));
+    var facets = mergeSelectedAndNormalFacets(facetsMap);
+    cardinalities.forEach((name, cardinality) -> {
+      var facet = facets.get(name);
+      if (facet != null) {
+        facet.setCardinality(cardinality);
+      }
+    });
+
+    return facetResult(facets);
   }
 
-  private static List<FacetItem> getFacetItems(Aggregation aggregation) {
-    if (aggregation instanceof ParsedSingleBucketAggregation parsedSingleBucketAggregation) {
-      return getFacetItemsFromSingleBucketAggregation(parsedSingleBucketAggregation);
-    }
-    if (aggregation instanceof ParsedTerms parsedTerms) {
-      return getFacetItemsFromParsedTerms(parsedTerms);
-    }
-    return emptyList();
+  private static Facet toFacet(Aggregation aggregation) {
+    var facet = facet(new ArrayList<>());
+    addAggregationToFacet(facet, aggregation, false);
+    facet.setTotalRecords(facet.getValues().size());
+    return facet;
   }
 
-  private static List<FacetItem> getFacetItemsFromSingleBucketAggregation(ParsedSingleBucketAggregation agg) {
-    var facetItems = new ArrayList<FacetItem>();
-    agg.getAggregations().forEach(nestedAgg ->
-      addToList(facetItems, getFacetItems(nestedAgg), isSelectedTermsAggregation(nestedAgg.getName())));
-    return facetItems;
+  private static void addAggregationToFacet(Facet facet, Aggregation aggregation, boolean addToTop) {
+    if (aggregation instanceof ParsedSingleBucketAggregation parsedSingleBucketAggregation) {
+      parsedSingleBucketAggregation.getAggregations().forEach(nestedAgg ->
+        addAggregationToFacet(facet, nestedAgg, isSelectedTermsAggregation(nestedAgg.getName())));
+    } else if (aggregation instanceof ParsedTerms parsedTerms) {
+      addToList(facet.getValues(), getFacetItemsFromParsedTerms(parsedTerms), addToTop);
+      facet.setOtherRecords(sumOtherRecords(facet.getOtherRecords(), parsedTerms.getSumOfOtherDocCounts()));
+    } else if (aggregation instanceof ParsedComposite parsedComposite) {
+      addToList(facet.getValues(), getFacetItemsFromParsedComposite(parsedComposite), addToTop);
+      facet.setAfterKey(getCompositeKey(parsedComposite.afterKey()));
+    } else if (aggregation instanceof ParsedCardinality parsedCardinality) {
+      facet.setCardinality(parsedCardinality.getValue());
+    }
   }
 
   private static List<FacetItem> getFacetItemsFromParsedTerms(ParsedTerms parsedTerms) {
@@ -70,6 +96,24 @@ public class ElasticsearchFacetConverter {
       : emptyList();
   }
 
+  private static List<FacetItem> getFacetItemsFromParsedComposite(ParsedComposite parsedComposite) {
+    var buckets = parsedComposite.getBuckets();
+    return CollectionUtils.isNotEmpty(buckets)
+      ? buckets.stream().map(ElasticsearchFacetConverter::compositeFacetItem).toList()
+      : emptyList();
+  }
+
+  private static String getCompositeKey(Map<String, Object> key) {
+    return key != null ? Objects.toString(key.get(FACET_COMPOSITE_SOURCE_NAME), null) : null;
+  }
+
+  private static Long sumOtherRecords(Long currentValue, long otherDocsCount) {
+    if (otherDocsCount <= 0) {
+      return currentValue;
+    }
+    return currentValue != null ? currentValue + otherDocsCount : otherDocsCount;
+  }
+
   private static Facet facet(List<FacetItem> items) {
     return new Facet().values(items).totalRecords(items.size());
   }
@@ -78,6 +122,12 @@ public class ElasticsearchFacetConverter {
     return new FacetItem().id(bucket.getKeyAsString()).totalRecords(BigDecimal.valueOf(bucket.getDocCount()));
   }
 
+  private static FacetItem compositeFacetItem(CompositeAggregation.Bucket bucket) {
+    return new FacetItem()
+      .id(getCompositeKey(bucket.getKey()))
+      .totalRecords(BigDecimal.valueOf(bucket.getDocCount()));
+  }
+
   private static FacetResult facetResult(Map<String, Facet> facets) {
     return new FacetResult().facets(facets).totalRecords(facets.size());
   }
@@ -87,8 +137,8 @@ public class ElasticsearchFacetConverter {
    *
    * <p><i>Implementation details:</i></p>
    * <p>Selected facets are prefixed with 'selected_' value. This method should merge facets with prefix and without it
-   * into single {@link Facet} object. A 'totalRecords' value in {@link Facet} should be recalculated too after
-   * merge.</p>
+   * into single {@link Facet} object. A 'totalRecords' and 'otherRecords' values in {@link Facet} should be
+   * recalculated too after merge.</p>
    *
    * @param facets map with elastic
    * @return {@link Map} object with key as the facet name, value as the {@link Facet} object
@@ -103,6 +153,15 @@ public class ElasticsearchFacetConverter {
       var facetValues = value.getValues();
       addToList(facet.getValues(), facetValues, isSelectedAggregation);
       facet.setTotalRecords(facet.getTotalRecords() + facetValues.size());
+      if (value.getOtherRecords() != null) {
+        facet.setOtherRecords(sumOtherRecords(facet.getOtherRecords(), value.getOtherRecords()));
+      }
+      if (value.getCardinality() != null) {
+        facet.setCardinality(value.getCardinality());
+      }
+      if (value.getAfterKey() != null) {
+        facet.setAfterKey(value.getAfterKey());
+      }
     });
 
     return result;
@@ -111,4 +170,8 @@ public class ElasticsearchFacetConverter {
   private static boolean isSelectedTermsAggregation(String name) {
     return name.startsWith(SELECTED_AGG_PREFIX);
   }
+
+  private static boolean isCardinalityAggregation(String name) {
+    return name.startsWith(CARDINALITY_AGG_PREFIX);
+  }
 }
@@ -0,0 +1,152 @@
+package org.folio.search.service.converter.preprocessor;
+
+import static java.util.Collections.emptyList;
+import static org.apache.commons.collections4.MapUtils.getObject;
+import static org.apache.commons.collections4.MapUtils.getString;
+import static org.folio.search.utils.CallNumberUtils.getEffectiveCallNumber;
+import static org.folio.search.utils.CallNumberUtils.normalizeEffectiveShelvingOrder;
+import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
+import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_CALL_NUMBER_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_ITEM_FIELD_NAME;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
+import org.folio.search.model.index.CallNumberResource;
+import org.folio.search.model.index.InstanceSubResource;
+import org.folio.search.repository.callnumber.InstanceCallNumberEntity;
+import org.folio.search.repository.callnumber.InstanceCallNumberRepository;
+import org.folio.search.service.FeatureConfigService;
+import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.utils.JsonConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prepares events for the call number browse index from instance events.
+ *
+ * <p>Call numbers of instance items are stored in the database per item, replacing the previous call numbers of the
+ * instance, and each affected shelving order is re-aggregated into a single browse document. Items of shadow instances
+ * are processed too, because they belong to the member tenant.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class InstanceCallNumberEventProvider {
+
+  private static final String EFFECTIVE_SHELVING_ORDER_FIELD = "effectiveShelvingOrder";
+  private static final String EFFECTIVE_LOCATION_ID_FIELD = "effectiveLocationId";
+  private static final String CALL_NUMBER_COMPONENTS_FIELD = "effectiveCallNumberComponents";
+
+  private final JsonConverter jsonConverter;
+  private final FeatureConfigService featureConfigService;
+  private final ConsortiumTenantService consortiumTenantService;
+  private final InstanceCallNumberRepository instanceCallNumberRepository;
+
+  /**
+   * Updates stored call numbers of the instance and provides events for the call number browse index.
+   *
+   * @param event - instance resource event as {@link ResourceEvent} object
+   * @return list with call number browse events
+   */
+  public List<ResourceEvent> getCallNumberEvents(ResourceEvent event) {
+    if (!featureConfigService.isEnabled(TenantConfiguredFeature.BROWSE_CN_PRECOMPUTED)) {
+      return emptyList();
+    }
+
+    var instanceId = getResourceEventId(event);
+    if (instanceId == null) {
+      return emptyList();
+    }
+
+    var tenant = event.getTenant();
+    var entities = toEntities(getNewAsMap(event), instanceId, tenant, isShared(tenant));
+    var itemIds = entities.stream().map(InstanceCallNumberEntity::itemId).toList();
+
+    var shelvingOrders = new LinkedHashSet<>(
+      instanceCallNumberRepository.deleteByInstanceIdOrItemIds(instanceId, itemIds, tenant));
+    instanceCallNumberRepository.saveAll(entities);
+    entities.forEach(entity -> shelvingOrders.add(entity.shelvingOrder()));
+    log.debug("getCallNumberEvents:: by [instanceId: {}, tenantId: {}, shelvingOrders: {}]",
+      instanceId, tenant, shelvingOrders);
+
+    var events = new ArrayList<ResourceEvent>();
+    for (var aggregated : instanceCallNumberRepository.fetchAggregatedByShelvingOrders(shelvingOrders)) {
+      shelvingOrders.remove(aggregated.shelvingOrder());
+      events.add(getResourceEvent(tenant, aggregated.shelvingOrder(), aggregated.fullCallNumber(),
+        aggregated.instances(), ResourceEventType.CREATE));
+    }
+
+    shelvingOrders.forEach(shelvingOrder ->
+      events.add(getResourceEvent(tenant, shelvingOrder, null, null, ResourceEventType.DELETE)));
+    return events;
+  }
+
+  private ResourceEvent getResourceEvent(String tenant, String shelvingOrder, String fullCallNumber,
+                                         Set<InstanceSubResource> instances, ResourceEventType eventType) {
+    var resource = new CallNumberResource(shelvingOrder, shelvingOrder, fullCallNumber, instances);
+    return new ResourceEvent()
+      .id(shelvingOrder)
+      .tenant(tenant)
+      .resourceName(INSTANCE_CALL_NUMBER_RESOURCE)
+      .type(eventType)
+      ._new(jsonConverter.convertToMap(resource));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<InstanceCallNumberEntity> toEntities(Map<String, Object> instance, String instanceId,
+                                                           String tenantId, boolean shared) {
+    if (MapUtils.isEmpty(instance)) {
+      return emptyList();
+    }
+
+    var items = (List<Map<String, Object>>) getObject(instance, INSTANCE_ITEM_FIELD_NAME, emptyList());
+    if (items == null) {
+      return emptyList();
+    }
+
+    return items.stream()
+      .map(item -> toEntity(item, instanceId, tenantId, shared))
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static InstanceCallNumberEntity toEntity(Map<String, Object> item, String instanceId, String tenantId,
+                                                   boolean shared) {
+    var itemId = getString(item, ID_FIELD);
+    var shelvingOrder = normalizeEffectiveShelvingOrder(getString(item, EFFECTIVE_SHELVING_ORDER_FIELD));
+    if (itemId == null || StringUtils.isEmpty(shelvingOrder)) {
+      return null;
+    }
+
+    var components = (Map<String, Object>) getObject(item, CALL_NUMBER_COMPONENTS_FIELD);
+    return InstanceCallNumberEntity.builder()
+      .itemId(itemId)
+      .instanceId(instanceId)
+      .tenantId(tenantId)
+      .shelvingOrder(shelvingOrder)
+      .fullCallNumber(StringUtils.trimToNull(getEffectiveCallNumber(getString(components, "prefix"),
+        getString(components, "callNumber"), getString(components, "suffix"))))
+      .typeId(getString(components, "typeId"))
+      .locationId(getString(item, EFFECTIVE_LOCATION_ID_FIELD))
+      .shared(shared)
+      .build();
+  }
+
+  private boolean isShared(String tenantId) {
+    var centralTenant = consortiumTenantService.getCentralTenant(tenantId);
+    return centralTenant.isPresent() && centralTenant.get().equals(tenantId);
+  }
+}
@@ -52,6 +52,7 @@ public class InstanceEventPreProcessor implements EventPreProcessor {
   private final FeatureConfigService featureConfigService;
   private final ConsortiumTenantService consortiumTenantService;
   private final InstanceClassificationRepository instanceClassificationRepository;
+  private final InstanceCallNumberEventProvider instanceCallNumberEventProvider;
 
   @Override
   public List<ResourceEvent> preProcess(ResourceEvent event) {
@@ -65,12 +66,16 @@ public class InstanceEventPreProcessor implements EventPreProcessor {
     if (isUpdateEventForResourceSharing(event)) {
       events = prepareClassificationEventsOnInstanceSharing(event);
     } else if (startsWith(getResourceSource(event), SOURCE_CONSORTIUM_PREFIX)) {
-      log.info("preProcess::Finished instance event pre-processing. No additional events created for shadow instance.");
-      return List.of(event);
+      log.info("preProcess::Finished instance event pre-processing. No classification events created for shadow "
+        + "instance.");
+      return CollectionUtils.mergeSafelyToList(List.of(event),
+        instanceCallNumberEventProvider.getCallNumberEvents(event));
     } else {
       events = prepareClassificationEvents(event);
     }
 
+    events = CollectionUtils.mergeSafelyToList(events, instanceCallNumberEventProvider.getCallNumberEvents(event));
+
     log.info("preProcess::Finished instance event pre-processing");
     if (log.isDebugEnabled()) {
       log.debug("preProcess::Finished instance event pre-processing. Events after: [{}], ", events);
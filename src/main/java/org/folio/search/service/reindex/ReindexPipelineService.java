@@ -0,0 +1,246 @@
+package org.folio.search.service.reindex;
+
+import static org.folio.search.model.client.CqlQuery.rangeSortedBy;
+import static org.folio.search.utils.SearchConverterUtils.getResourceEventId;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.client.InventoryViewClient;
+import org.folio.search.client.InventoryViewClient.InstanceView;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
+import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.domain.dto.ReindexJob;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.exception.RequestValidationException;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.model.types.ReindexRangeStatus;
+import org.folio.search.repository.reindex.ReindexRangeCheckpoint;
+import org.folio.search.repository.reindex.ReindexRangeEntity;
+import org.folio.search.repository.reindex.ReindexRangeRepository;
+import org.folio.search.service.ResourceService;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reindexes instances by fetching them from inventory view API by id ranges, instead of requesting inventory storage
+ * to publish all records to Kafka.
+ *
+ * <p>The instance id space is split into ranges, that are processed concurrently. Each range is read page by page,
+ * sorted by id, and every page is converted and bulk-written to the index. The id of the last indexed instance is
+ * saved as the range checkpoint, so the reindex requested without index recreation resumes new and failed ranges of
+ * the previous job from their checkpoints. Resumed ranges are claimed atomically, so concurrent resume requests
+ * don't process the same range twice. Ranges in progress without updates for the lease timeout are abandoned, e.g. by
+ * a restarted module instance, and are resumed as well.</p>
+ *
+ * <p>Ranges are created and claimed in progress, so they belong to the job even while they wait in the executor queue.
+ * A job with ranges updated within the lease timeout is running: the resume request returns the running job and the
+ * request of a new job is rejected.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ReindexPipelineService {
+
+  private static final int UUID_HEX_LENGTH = 32;
+  private static final BigInteger UUID_SPACE_SIZE = BigInteger.ONE.shiftLeft(128);
+
+  private final InventoryViewClient inventoryViewClient;
+  private final ResourceService resourceService;
+  private final ReindexRangeRepository reindexRangeRepository;
+  private final ReindexConfigurationProperties reindexConfiguration;
+  private final SystemUserScopedExecutionService executionService;
+  @Qualifier("reindexPipelineExecutor")
+  private final Executor reindexPipelineExecutor;
+
+  /**
+   * Checks if instances are reindexed by the reindex pipeline.
+   *
+   * @return true if the reindex pipeline is enabled, false - otherwise
+   */
+  public boolean isEnabled() {
+    return reindexConfiguration.isPipelineEnabled();
+  }
+
+  /**
+   * Submits instances reindex for the tenant.
+   *
+   * @param tenantId - tenant id as {@link String} object
+   * @param resume   - defines if unfinished ranges of the previous job must be resumed
+   * @return submitted {@link ReindexJob} object
+   */
+  public ReindexJob reindexInstances(String tenantId, boolean resume) {
+    var leaseExpiration = getLeaseExpiration();
+    var runningJobId = reindexRangeRepository.findActiveJobId(INSTANCE_RESOURCE, leaseExpiration);
+    if (runningJobId.isPresent()) {
+      return getActiveJob(tenantId, runningJobId.get(), resume);
+    }
+
+    var ranges = resume
+                 ? reindexRangeRepository.claimUnfinished(INSTANCE_RESOURCE, leaseExpiration)
+                 : List.<ReindexRangeEntity>of();
+    if (ranges.isEmpty()) {
+      var newRanges = createRanges(UUID.randomUUID().toString());
+      var activeJobId = reindexRangeRepository.replaceUnlessActive(INSTANCE_RESOURCE, newRanges, leaseExpiration);
+      if (activeJobId.isPresent()) {
+        return getActiveJob(tenantId, activeJobId.get(), resume);
+      }
+      ranges = newRanges;
+    }
+
+    var jobId = ranges.get(0).jobId();
+    log.info("reindexInstances:: submitting reindex ranges [tenantId: {}, jobId: {}, ranges: {}]",
+      tenantId, jobId, ranges.size());
+    ranges.forEach(range -> submitRange(tenantId, range));
+    return reindexJob(jobId);
+  }
+
+  /**
+   * Checks that there is no running instances reindex job, so the indices can be recreated for a new job.
+   *
+   * @throws RequestValidationException if instances reindex job is running
+   */
+  public void validateNoActiveJob() {
+    reindexRangeRepository.findActiveJobId(INSTANCE_RESOURCE, getLeaseExpiration())
+      .ifPresent(jobId -> {
+        throw activeJobException(jobId);
+      });
+  }
+
+  private ReindexJob getActiveJob(String tenantId, String jobId, boolean resume) {
+    log.info("reindexInstances:: reindex job is already running [tenantId: {}, jobId: {}]", tenantId, jobId);
+    if (!resume) {
+      throw activeJobException(jobId);
+    }
+    return reindexJob(jobId);
+  }
+
+  private void submitRange(String tenantId, ReindexRangeEntity range) {
+    try {
+      reindexPipelineExecutor.execute(() -> executionService.executeSystemUserScoped(tenantId, () -> {
+        processRange(tenantId, range);
+        return null;
+      }));
+    } catch (RejectedExecutionException e) {
+      log.warn("submitRange:: reindex range is rejected [tenantId: {}, lowerBound: {}, upperBound: {}]",
+        tenantId, range.lowerBound(), range.upperBound(), e);
+      reindexRangeRepository.updateFailed(range.id());
+    }
+  }
+
+  private void processRange(String tenantId, ReindexRangeEntity range) {
+    try {
+      var rangeQuery = rangeSortedBy(CqlQueryParam.ID, range.lowerBound(), true, range.upperBound());
+      var expectedCount = inventoryViewClient.getInstances(rangeQuery, 0).getTotalRecords();
+      reindexRangeRepository.updateStarted(range.id(), expectedCount);
+      var processed = reindexRange(tenantId, range);
+      reindexRangeRepository.updateStatus(range.id(), ReindexRangeStatus.COMPLETED);
+      log.info("processRange:: range reindex completed [tenantId: {}, lowerBound: {}, upperBound: {}, "
+        + "processed: {}]", tenantId, range.lowerBound(), range.upperBound(), processed);
+    } catch (Exception e) {
+      log.warn("processRange:: range reindex failed [tenantId: {}, lowerBound: {}, upperBound: {}]",
+        tenantId, range.lowerBound(), range.upperBound(), e);
+      reindexRangeRepository.updateFailed(range.id());
+    }
+  }
+
+  private long reindexRange(String tenantId, ReindexRangeEntity range) {
+    var batchSize = reindexConfiguration.getPipelineBatchSize();
+    var lastId = range.lastId();
+    var processed = 0L;
+    List<InstanceView> instanceViews;
+    do {
+      var query = lastId == null
+                  ? rangeSortedBy(CqlQueryParam.ID, range.lowerBound(), true, range.upperBound())
+                  : rangeSortedBy(CqlQueryParam.ID, lastId, false, range.upperBound());
+      var fetchStartTime = System.nanoTime();
+      instanceViews = inventoryViewClient.getInstances(query, batchSize).getResult();
+      if (instanceViews.isEmpty()) {
+        break;
+      }
+
+      var convertStartTime = System.nanoTime();
+      var events = instanceViews.stream().map(instanceView -> toResourceEvent(tenantId, instanceView)).toList();
+      var documents = resourceService.convertInstances(events);
+      var bulkStartTime = System.nanoTime();
+      var response = resourceService.indexDocuments(documents);
+      var bulkEndTime = System.nanoTime();
+      if (response.getStatus() == FolioIndexOperationResponse.StatusEnum.ERROR) {
+        throw new SearchServiceException("Failed to index instances: " + response.getErrorMessage());
+      }
+
+      lastId = events.get(events.size() - 1).getId();
+      processed += events.size();
+      reindexRangeRepository.updateCheckpoint(range.id(), new ReindexRangeCheckpoint(lastId, events.size(),
+        toMillis(convertStartTime - fetchStartTime), toMillis(bulkStartTime - convertStartTime),
+        toMillis(bulkEndTime - bulkStartTime)));
+    } while (instanceViews.size() >= batchSize);
+
+    return processed;
+  }
+
+  private List<ReindexRangeEntity> createRanges(String jobId) {
+    var rangesCount = reindexConfiguration.getPipelineRangesCount();
+    var ranges = new ArrayList<ReindexRangeEntity>(rangesCount);
+    for (int i = 0; i < rangesCount; i++) {
+      ranges.add(ReindexRangeEntity.builder()
+        .id(UUID.randomUUID().toString())
+        .jobId(jobId)
+        .resourceName(INSTANCE_RESOURCE)
+        .lowerBound(getRangeBound(i, rangesCount))
+        .upperBound(i == rangesCount - 1 ? null : getRangeBound(i + 1, rangesCount))
+        .status(ReindexRangeStatus.IN_PROGRESS)
+        .build());
+    }
+    return ranges;
+  }
+
+  private Instant getLeaseExpiration() {
+    return Instant.now().minus(reindexConfiguration.getPipelineRangeLeaseTimeout());
+  }
+
+  private static ReindexJob reindexJob(String jobId) {
+    return new ReindexJob().id(jobId)
+      .jobStatus("In progress")
+      .submittedDate(new Date().toString());
+  }
+
+  private static RequestValidationException activeJobException(String jobId) {
+    return new RequestValidationException("Instances reindex is already running", "jobId", jobId);
+  }
+
+  private static ResourceEvent toResourceEvent(String tenantId, InstanceView instanceView) {
+    var instance = instanceView.toInstance();
+    return new ResourceEvent().id(getResourceEventId(instance))
+      .type(ResourceEventType.REINDEX)
+      .resourceName(INSTANCE_RESOURCE)
+      .tenant(tenantId)
+      ._new(instance);
+  }
+
+  private static long toMillis(long nanos) {
+    return TimeUnit.NANOSECONDS.toMillis(nanos);
+  }
+
+  /**
+   * Provides the lower bound of the range with the given index as the UUID value, splitting the UUID space evenly.
+   */
+  static String getRangeBound(int rangeIndex, int rangesCount) {
+    var bound = UUID_SPACE_SIZE.multiply(BigInteger.valueOf(rangeIndex)).divide(BigInteger.valueOf(rangesCount));
+    var hex = String.format("%0" + UUID_HEX_LENGTH + "x", bound);
+    return hex.substring(0, 8) + "-" + hex.substring(8, 12) + "-" + hex.substring(12, 16) + "-"
+      + hex.substring(16, 20) + "-" + hex.substring(20);
+  }
+}
@@ -0,0 +1,157 @@
+package org.folio.search.service.reindex;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.domain.dto.ReindexProgress;
+import org.folio.search.domain.dto.ReindexProgressCollection;
+import org.folio.search.domain.dto.ReindexRangeProgress;
+import org.folio.search.model.types.ReindexRangeStatus;
+import org.folio.search.repository.reindex.ReindexRangeEntity;
+import org.folio.search.repository.reindex.ReindexRangeRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Provides progress of the reindex pipeline using the checkpoints of id ranges.
+ *
+ * <p>Rates are calculated from the wall-clock time since the range (or the first range of the reindex) was started,
+ * so they reflect the throughput with the configured concurrency. Stage timings are summed over all processed batches
+ * and show where the time of the reindex workers is spent.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ReindexProgressService {
+
+  private final ReindexRangeRepository reindexRangeRepository;
+  private final FolioExecutionContext context;
+
+  /**
+   * Provides reindex progress for all resources of the current tenant.
+   *
+   * @return {@link ReindexProgressCollection} object
+   */
+  public ReindexProgressCollection getReindexProgress() {
+    var tenantId = context.getTenantId();
+    log.debug("getReindexProgress:: by [tenantId: {}]", tenantId);
+
+    var rangesByResource = reindexRangeRepository.findAll().stream()
+      .collect(groupingBy(ReindexRangeEntity::resourceName, LinkedHashMap::new, toList()));
+    var progress = rangesByResource.values().stream()
+      .map(ranges -> toReindexProgress(tenantId, ranges))
+      .toList();
+    return new ReindexProgressCollection().reindexProgress(progress).totalRecords(progress.size());
+  }
+
+  private static ReindexProgress toReindexProgress(String tenantId, List<ReindexRangeEntity> ranges) {
+    var expectedCount = ranges.stream().map(ReindexRangeEntity::expectedCount).filter(Objects::nonNull)
+      .mapToLong(Long::longValue).sum();
+    var processedCount = ranges.stream().mapToLong(ReindexRangeEntity::processedCount).sum();
+    var startedDate = ranges.stream().map(ReindexRangeEntity::startedDate).filter(Objects::nonNull)
+      .min(Instant::compareTo).orElse(null);
+    var updatedDate = ranges.stream().map(ReindexRangeEntity::updatedDate).filter(Objects::nonNull)
+      .max(Instant::compareTo).orElse(null);
+    var status = getStatus(ranges);
+    var rate = getRecordsPerSecond(processedCount, startedDate, updatedDate);
+    var remainingCount = getRemainingCount(ranges);
+
+    return new ReindexProgress()
+      .jobId(ranges.get(0).jobId())
+      .resourceName(ranges.get(0).resourceName())
+      .tenantId(tenantId)
+      .status(ReindexProgress.StatusEnum.fromValue(status.name()))
+      .expectedCount(expectedCount)
+      .processedCount(processedCount)
+      .errorCount(ranges.stream().mapToInt(ReindexRangeEntity::errorCount).sum())
+      .recordsPerSecond(rate)
+      .estimatedTimeLeft(getEstimatedTimeLeft(remainingCount, rate))
+      .fetchTime(ranges.stream().mapToLong(ReindexRangeEntity::fetchTime).sum())
+      .convertTime(ranges.stream().mapToLong(ReindexRangeEntity::convertTime).sum())
+      .bulkTime(ranges.stream().mapToLong(ReindexRangeEntity::bulkTime).sum())
+      .ranges(ranges.stream().map(ReindexProgressService::toReindexRangeProgress).toList());
+  }
+
+  private static ReindexRangeProgress toReindexRangeProgress(ReindexRangeEntity range) {
+    var rate = getRecordsPerSecond(range.processedCount(), range.startedDate(), range.updatedDate());
+    var remainingCount = getRemainingCount(range);
+    return new ReindexRangeProgress()
+      .lowerBound(range.lowerBound())
+      .upperBound(range.upperBound())
+      .status(ReindexRangeProgress.StatusEnum.fromValue(range.status().name()))
+      .expectedCount(range.expectedCount())
+      .processedCount(range.processedCount())
+      .errorCount(range.errorCount())
+      .recordsPerSecond(rate)
+      .estimatedTimeLeft(getEstimatedTimeLeft(remainingCount, rate))
+      .fetchTime(range.fetchTime())
+      .convertTime(range.convertTime())
+      .bulkTime(range.bulkTime())
+      .startedDate(range.startedDate() == null ? null : range.startedDate().toString())
+      .updatedDate(range.updatedDate() == null ? null : range.updatedDate().toString());
+  }
+
+  private static ReindexRangeStatus getStatus(List<ReindexRangeEntity> ranges) {
+    var statuses = ranges.stream().map(ReindexRangeEntity::status).toList();
+    if (statuses.contains(ReindexRangeStatus.FAILED)) {
+      return ReindexRangeStatus.FAILED;
+    }
+    if (statuses.stream().allMatch(ReindexRangeStatus.COMPLETED::equals)) {
+      return ReindexRangeStatus.COMPLETED;
+    }
+    if (statuses.stream().allMatch(ReindexRangeStatus.NEW::equals)) {
+      return ReindexRangeStatus.NEW;
+    }
+    return ReindexRangeStatus.IN_PROGRESS;
+  }
+
+  /**
+   * Provides the number of resources left to index, null if the expected count of any range is unknown.
+   */
+  private static Long getRemainingCount(List<ReindexRangeEntity> ranges) {
+    var remainingCount = 0L;
+    for (var range : ranges) {
+      var rangeRemainingCount = getRemainingCount(range);
+      if (rangeRemainingCount == null) {
+        return null;
+      }
+      remainingCount += rangeRemainingCount;
+    }
+    return remainingCount;
+  }
+
+  private static Long getRemainingCount(ReindexRangeEntity range) {
+    if (range.status() == ReindexRangeStatus.COMPLETED) {
+      return 0L;
+    }
+    return range.expectedCount() == null ? null : Math.max(range.expectedCount() - range.processedCount(), 0L);
+  }
+
+  private static Double getRecordsPerSecond(long processedCount, Instant startedDate, Instant updatedDate) {
+    if (startedDate == null || updatedDate == null) {
+      return null;
+    }
+    var elapsedMillis = Duration.between(startedDate, updatedDate).toMillis();
+    return elapsedMillis <= 0 ? null : processedCount * 1000.0 / elapsedMillis;
+  }
+
+  private static Long getEstimatedTimeLeft(Long remainingCount, Double recordsPerSecond) {
+    if (remainingCount == null) {
+      return null;
+    }
+    if (remainingCount == 0L) {
+      return 0L;
+    }
+    if (recordsPerSecond == null || recordsPerSecond == 0.0) {
+      return null;
+    }
+    return (long) Math.ceil(remainingCount / recordsPerSecond);
+  }
+}
@@ -0,0 +1,162 @@
+package org.folio.search.service.reindex;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
+import org.folio.search.domain.dto.FolioCreateIndexResponse;
+import org.folio.search.domain.dto.FolioIndexOperationResponse;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.repository.IndexNameProvider;
+import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.ShadowIndexProvider;
+import org.folio.search.service.es.SearchMappingsHelper;
+import org.opensearch.common.unit.TimeValue;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds versioned shadow indices for the reindex with index recreation and replaces serving indices with them.
+ *
+ * <p>The shadow index is created with bulk-load settings: no replicas, disabled refresh and asynchronous translog.
+ * It is registered using the shadow index alias, so all module instances duplicate new writes to it. When the reindex
+ * is completed, the serving settings are restored, the index is refreshed and warmed up, and the index alias is
+ * switched to the shadow index in one atomic request, deleting the previously served index.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class ShadowIndexService {
+
+  private static final String INDEX_SETTINGS = "index";
+  private static final String CREATION_DATE_SETTING = "index.creation_date";
+
+  private final IndexRepository indexRepository;
+  private final IndexNameProvider indexNameProvider;
+  private final ShadowIndexProvider shadowIndexProvider;
+  private final SearchMappingsHelper mappingHelper;
+  private final ReindexConfigurationProperties reindexConfiguration;
+
+  /**
+   * Creates shadow index for the resource, replacing the shadow index of the previous unfinished reindex.
+   *
+   * @param resource - resource name as {@link String} object
+   * @param tenantId - tenant id as {@link String} object
+   * @param settings - index settings of the serving index as {@link JsonNode} object
+   */
+  public void createShadowIndex(String resource, String tenantId, JsonNode settings) {
+    var alias = indexNameProvider.getIndexName(resource, tenantId);
+    dropShadowIndex(resource, tenantId);
+
+    var index = indexNameProvider.getVersionedIndexName(alias);
+    var bulkSettings = settings.deepCopy();
+    ((ObjectNode) bulkSettings.get(INDEX_SETTINGS))
+      .put("number_of_replicas", 0)
+      .put("refresh_interval", "-1")
+      .put("translog.durability", "async");
+
+    log.info("createShadowIndex:: creating shadow index [alias: {}, index: {}]", alias, index);
+    var response = indexRepository.createIndex(index, indexNameProvider.getShadowIndexAlias(alias),
+      bulkSettings.toString(), mappingHelper.getMappings(resource));
+    if (response.getStatus() == FolioCreateIndexResponse.StatusEnum.ERROR) {
+      throw new SearchServiceException("Failed to create shadow index: " + index);
+    }
+    shadowIndexProvider.invalidate(alias);
+  }
+
+  /**
+   * Checks if the shadow index exists for the resource.
+   *
+   * @param resource - resource name as {@link String} object
+   * @param tenantId - tenant id as {@link String} object
+   * @return true if the shadow index exists, false - otherwise
+   */
+  public boolean shadowIndexExists(String resource, String tenantId) {
+    var alias = indexNameProvider.getIndexName(resource, tenantId);
+    return !indexRepository.getAliasIndices(indexNameProvider.getShadowIndexAlias(alias)).isEmpty();
+  }
+
+  /**
+   * Provides the creation time of the shadow index of the resource, it is the start time of the reindex with index
+   * recreation.
+   *
+   * @param resource - resource name as {@link String} object
+   * @param tenantId - tenant id as {@link String} object
+   * @return creation time of the shadow index as {@link Instant} object
+   */
+  public Instant getShadowIndexCreationTime(String resource, String tenantId) {
+    var alias = indexNameProvider.getIndexName(resource, tenantId);
+    var shadowAlias = indexNameProvider.getShadowIndexAlias(alias);
+    var creationDate = indexRepository.getIndexSettings(shadowAlias, CREATION_DATE_SETTING).get(CREATION_DATE_SETTING);
+    if (creationDate == null) {
+      throw new SearchServiceException("Shadow index is not found for alias: " + alias);
+    }
+    return Instant.ofEpochMilli(Long.parseLong(creationDate));
+  }
+
+  /**
+   * Replaces the serving index of the resource with the shadow index.
+   *
+   * @param resource        - resource name as {@link String} object
+   * @param tenantId        - tenant id as {@link String} object
+   * @param servingSettings - dynamic index settings for serving search requests as {@link JsonNode} object
+   */
+  public void promoteShadowIndex(String resource, String tenantId, JsonNode servingSettings) {
+    var alias = indexNameProvider.getIndexName(resource, tenantId);
+    var shadowAlias = indexNameProvider.getShadowIndexAlias(alias);
+    var shadowIndex = indexRepository.getAliasIndices(shadowAlias).stream().findFirst()
+      .orElseThrow(() -> new SearchServiceException("Shadow index is not found for alias: " + alias));
+
+    var settings = servingSettings.deepCopy();
+    ((ObjectNode) settings.get(INDEX_SETTINGS)).put("translog.durability", "request");
+    log.info("promoteShadowIndex:: restoring serving settings [index: {}, settings: {}]", shadowIndex, settings);
+    var response = indexRepository.updateIndexSettings(shadowIndex, settings.toString());
+    if (response.getStatus() == FolioIndexOperationResponse.StatusEnum.ERROR) {
+      throw new SearchServiceException("Failed to restore serving settings of shadow index: " + shadowIndex);
+    }
+
+    indexRepository.refreshIndices(shadowIndex);
+    var healthTimeout = TimeValue.timeValueMillis(reindexConfiguration.getShadowIndexHealthTimeout().toMillis());
+    if (!indexRepository.waitForGreenStatus(shadowIndex, healthTimeout)) {
+      log.warn("promoteShadowIndex:: shadow index replicas are not allocated in time [index: {}, timeout: {}]",
+        shadowIndex, healthTimeout);
+    }
+    indexRepository.warmUpIndex(shadowIndex);
+
+    var servedIndices = getServedIndices(alias);
+    log.info("promoteShadowIndex:: switching alias [alias: {}, index: {}, deletedIndices: {}]",
+      alias, shadowIndex, servedIndices);
+    indexRepository.switchAlias(alias, shadowIndex, shadowAlias, servedIndices);
+    shadowIndexProvider.invalidate(alias);
+  }
+
+  /**
+   * Deletes the shadow index of the resource if it exists.
+   *
+   * @param resource - resource name as {@link String} object
+   * @param tenantId - tenant id as {@link String} object
+   */
+  public void dropShadowIndex(String resource, String tenantId) {
+    var alias = indexNameProvider.getIndexName(resource, tenantId);
+    var shadowAlias = indexNameProvider.getShadowIndexAlias(alias);
+    if (!indexRepository.getAliasIndices(shadowAlias).isEmpty()) {
+      log.info("dropShadowIndex:: deleting shadow index [alias: {}]", shadowAlias);
+      indexRepository.dropIndex(shadowAlias);
+      shadowIndexProvider.invalidate(alias);
+    }
+  }
+
+  /**
+   * Provides indices served by the alias. Indices created before the first reindex with index recreation use the
+   * alias name as the index name, such index is replaced by the alias.
+   */
+  private List<String> getServedIndices(String alias) {
+    var aliasIndices = indexRepository.getAliasIndices(alias);
+    if (!aliasIndices.isEmpty()) {
+      return List.copyOf(aliasIndices);
+    }
+    return indexRepository.indexExists(alias) ? List.of(alias) : List.of();
+  }
+}
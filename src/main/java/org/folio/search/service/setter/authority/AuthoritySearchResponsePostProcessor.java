@@ -1,25 +1,41 @@
 package org.folio.search.service.setter.authority;
 
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toCollection;
 import static org.folio.search.model.index.AuthRefType.AUTHORIZED;
 import static org.folio.search.utils.LogUtils.collectionToLogMsg;
 import static org.folio.search.utils.SearchUtils.AUTHORITY_ID_FIELD;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.index.query.QueryBuilders.termsQuery;
+import static org.opensearch.search.aggregations.AggregationBuilders.filters;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.Instance;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
 import org.folio.search.model.SimpleResourceRequest;
 import org.folio.search.repository.SearchRepository;
+import org.folio.search.service.AuthorityInstanceLinkService;
+import org.folio.search.service.FeatureConfigService;
 import org.folio.search.service.consortium.ConsortiumTenantService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.search.service.setter.SearchResponsePostProcessor;
 import org.folio.search.utils.SearchUtils;
 import org.folio.spring.FolioExecutionContext;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.filter.Filters;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator.KeyedFilter;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.springframework.stereotype.Component;
 
@@ -28,11 +44,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public final class AuthoritySearchResponsePostProcessor implements SearchResponsePostProcessor<Authority> {
 
+  private static final String TITLES_COUNT_AGG_NAME = "numberOfTitles";
+
   private final SearchRepository searchRepository;
   private final SearchFieldProvider searchFieldProvider;
   private final FolioExecutionContext context;
   private final TenantProvider tenantProvider;
   private final ConsortiumTenantService consortiumTenantService;
+  private final Cache<String, Integer> authorityTitlesCountCache;
+  private final FeatureConfigService featureConfigService;
+  private final AuthorityInstanceLinkService authorityInstanceLinkService;
 
   @Override
   public Class<Authority> getGeneric() {
@@ -51,51 +72,85 @@ public final class AuthoritySearchResponsePostProcessor implements SearchRespons
       .filter(a -> AUTHORIZED.getTypeValue().equals(a.getAuthRefType()))
       .toList();
 
-    if (!authorizedAuthorities.isEmpty()) {
+    if (authorizedAuthorities.isEmpty()) {
+      return;
+    }
+
+    if (featureConfigService.isEnabled(TenantConfiguredFeature.AUTHORITY_TITLES_COUNT_PRECOMPUTED)) {
+      setPrecomputedNumberOfLinkedInstances(authorizedAuthorities);
+    } else {
       countAndSetNumberOfLinkedInstances(authorizedAuthorities);
     }
   }
 
+  private void setPrecomputedNumberOfLinkedInstances(List<Authority> authorities) {
+    var authorityIds = authorities.stream().map(Authority::getId).collect(toCollection(LinkedHashSet::new));
+    var numberOfTitles = authorityInstanceLinkService.getNumberOfTitles(authorityIds);
+    authorities.forEach(authority -> authority.setNumberOfTitles(numberOfTitles.getOrDefault(authority.getId(), 0)));
+  }
+
   private void countAndSetNumberOfLinkedInstances(List<Authority> authorities) {
-    var instanceResourceName = SearchUtils.getResourceName(Instance.class);
-    var queries = buildQueries(authorities, instanceResourceName);
-
-    var resourceRequest = SimpleResourceRequest.of(instanceResourceName,
-      tenantProvider.getTenant(context.getTenantId()));
-    var responses = searchRepository.msearch(resourceRequest, queries).getResponses();
-
-    for (int i = 0; i < responses.length; i++) {
-      var count = Optional.ofNullable(responses[i].getResponse())
-        .map(searchResponse -> searchResponse.getHits().getTotalHits())
-        .map(totalHits -> (int) totalHits.value)
-        .orElse(0);
-      authorities.get(i).setNumberOfTitles(count);
+    var contextTenantId = context.getTenantId();
+    var numberOfTitles = new HashMap<String, Integer>();
+    var notCachedAuthorityIds = new LinkedHashSet<String>();
+    for (var authority : authorities) {
+      var cachedCount = authorityTitlesCountCache.getIfPresent(getCacheKey(contextTenantId, authority.getId()));
+      if (cachedCount != null) {
+        numberOfTitles.put(authority.getId(), cachedCount);
+      } else {
+        notCachedAuthorityIds.add(authority.getId());
+      }
     }
-  }
 
-  private List<SearchSourceBuilder> buildQueries(List<Authority> authorities, String resourceName) {
-    var authorityIdFields = searchFieldProvider.getFields(resourceName, AUTHORITY_ID_FIELD);
-    return authorities.stream()
-      .map(Authority::getId)
-      .map(id -> buildQuery(authorityIdFields, id))
-      .toList();
-  }
+    if (!notCachedAuthorityIds.isEmpty()) {
+      var counts = countLinkedInstances(contextTenantId, notCachedAuthorityIds);
+      for (var authorityId : notCachedAuthorityIds) {
+        var count = counts.getOrDefault(authorityId, 0);
+        authorityTitlesCountCache.put(getCacheKey(contextTenantId, authorityId), count);
+        numberOfTitles.put(authorityId, count);
+      }
+    }
 
-  private SearchSourceBuilder buildQuery(List<String> authorityIdFields, String authorityId) {
-    var boolQueryBuilder = boolQuery();
+    authorities.forEach(authority -> authority.setNumberOfTitles(numberOfTitles.getOrDefault(authority.getId(), 0)));
+  }
 
-    authorityIdFields.stream()
-      .map(field -> termQuery(field, authorityId))
-      .forEach(boolQueryBuilder::should);
+  private Map<String, Integer> countLinkedInstances(String contextTenantId, Collection<String> authorityIds) {
+    var instanceResourceName = SearchUtils.getResourceName(Instance.class);
+    var authorityIdFields = searchFieldProvider.getFields(instanceResourceName, AUTHORITY_ID_FIELD);
     var searchSource = new SearchSourceBuilder()
-      .query(boolQueryBuilder)
+      .query(buildQuery(authorityIdFields, authorityIds, contextTenantId))
+      .aggregation(buildTitlesCountAggregation(authorityIdFields, authorityIds))
       .size(0)
-      .trackTotalHits(true);
+      .trackTotalHits(false);
+
+    var resourceRequest = SimpleResourceRequest.of(instanceResourceName, tenantProvider.getTenant(contextTenantId));
+    var aggregations = searchRepository.search(resourceRequest, searchSource).getAggregations();
+    if (aggregations == null || aggregations.get(TITLES_COUNT_AGG_NAME) == null) {
+      return emptyMap();
+    }
+
+    var counts = new HashMap<String, Integer>();
+    for (var bucket : aggregations.<Filters>get(TITLES_COUNT_AGG_NAME).getBuckets()) {
+      counts.put(bucket.getKeyAsString(), (int) bucket.getDocCount());
+    }
+    return counts;
+  }
+
+  private static AggregationBuilder buildTitlesCountAggregation(List<String> authorityIdFields,
+                                                                Collection<String> authorityIds) {
+    var keyedFilters = authorityIds.stream()
+      .map(authorityId -> new KeyedFilter(authorityId, buildAuthorityIdQuery(authorityIdFields, List.of(authorityId))))
+      .toArray(KeyedFilter[]::new);
+    return filters(TITLES_COUNT_AGG_NAME, keyedFilters);
+  }
+
+  private QueryBuilder buildQuery(List<String> authorityIdFields, Collection<String> authorityIds,
+                                  String contextTenantId) {
+    var boolQueryBuilder = buildAuthorityIdQuery(authorityIdFields, authorityIds);
 
-    var contextTenantId = context.getTenantId();
     var centralTenantId = consortiumTenantService.getCentralTenant(contextTenantId);
     if (centralTenantId.isEmpty()) {
-      return searchSource;
+      return boolQueryBuilder;
     }
 
     boolQueryBuilder.minimumShouldMatch(1);
@@ -106,6 +161,19 @@ public final class AuthoritySearchResponsePostProcessor implements SearchRespons
     }
     boolQueryBuilder.must(affiliationQuery);
 
-    return searchSource;
+    return boolQueryBuilder;
+  }
+
+  private static BoolQueryBuilder buildAuthorityIdQuery(List<String> authorityIdFields,
+                                                        Collection<String> authorityIds) {
+    var boolQueryBuilder = boolQuery();
+    authorityIdFields.stream()
+      .map(field -> termsQuery(field, authorityIds))
+      .forEach(boolQueryBuilder::should);
+    return boolQueryBuilder;
+  }
+
+  private static String getCacheKey(String tenantId, String authorityId) {
+    return tenantId + ":" + authorityId;
   }
 }
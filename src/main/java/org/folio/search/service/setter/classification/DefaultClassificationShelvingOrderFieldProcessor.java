@@ -1,13 +1,13 @@
 package org.folio.search.service.setter.classification;
 
-import org.folio.search.domain.dto.ShelvingOrderAlgorithmType;
-import org.folio.search.utils.ShelvingOrderCalculationHelper;
+import org.folio.search.model.types.ShelfKeyType;
+import org.folio.search.service.ShelfKeyService;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DefaultClassificationShelvingOrderFieldProcessor extends ClassificationShelvingOrderFieldProcessor {
 
-  protected DefaultClassificationShelvingOrderFieldProcessor() {
-    super(number -> ShelvingOrderCalculationHelper.calculate(number, ShelvingOrderAlgorithmType.DEFAULT));
+  protected DefaultClassificationShelvingOrderFieldProcessor(ShelfKeyService shelfKeyService) {
+    super(number -> shelfKeyService.getShelfKey(number, ShelfKeyType.DEFAULT));
   }
 }
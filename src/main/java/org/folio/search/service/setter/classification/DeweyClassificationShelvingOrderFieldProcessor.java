@@ -1,12 +1,12 @@
 package org.folio.search.service.setter.classification;
 
-import org.folio.search.domain.dto.ShelvingOrderAlgorithmType;
-import org.folio.search.utils.ShelvingOrderCalculationHelper;
+import org.folio.search.model.types.ShelfKeyType;
+import org.folio.search.service.ShelfKeyService;
 import org.springframework.stereotype.Component;
 
 @Component
 public class DeweyClassificationShelvingOrderFieldProcessor extends ClassificationShelvingOrderFieldProcessor {
-  protected DeweyClassificationShelvingOrderFieldProcessor() {
-    super(number -> ShelvingOrderCalculationHelper.calculate(number, ShelvingOrderAlgorithmType.DEWEY));
+  protected DeweyClassificationShelvingOrderFieldProcessor(ShelfKeyService shelfKeyService) {
+    super(number -> shelfKeyService.getShelfKey(number, ShelfKeyType.DEWEY));
   }
 }
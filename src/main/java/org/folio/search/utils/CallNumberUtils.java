@@ -157,6 +157,15 @@ public class CallNumberUtils {
     return callNumberToLong(callNumber, startVal, CN_MAX_CHARS - 1);
   }
 
+  /**
+   * Provides characters supported in call-number numeric representation, sorted by their numeric values.
+   *
+   * @return {@link List} with supported characters
+   */
+  public static List<Character> getSupportedCharacters() {
+    return getSupportedCharactersAsList();
+  }
+
   /**
    * Excludes irrelevant items from result.
    *
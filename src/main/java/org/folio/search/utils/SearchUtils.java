@@ -12,6 +12,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Pattern;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -34,6 +36,7 @@ public class SearchUtils {
   public static final String INSTANCE_RESOURCE = getResourceName(Instance.class);
   public static final String INSTANCE_SUBJECT_RESOURCE = "instance_subject";
   public static final String INSTANCE_CLASSIFICATION_RESOURCE = "instance_classification";
+  public static final String INSTANCE_CALL_NUMBER_RESOURCE = "instance_call_number";
   public static final String AUTHORITY_RESOURCE = getResourceName(Authority.class);
   public static final String CONTRIBUTOR_RESOURCE = getResourceName(Contributor.class);
   public static final String LOCATION_RESOURCE = "location";
@@ -61,6 +64,7 @@ public class SearchUtils {
   public static final String DEFAULT_SHELVING_ORDER_BROWSING_FIELD = "defaultShelvingOrder";
   public static final String LC_SHELVING_ORDER_BROWSING_FIELD = "lcShelvingOrder";
   public static final String DEWEY_SHELVING_ORDER_BROWSING_FIELD = "deweyShelvingOrder";
+  public static final String CALL_NUMBER_SHELVING_ORDER_FIELD = "shelvingOrder";
   public static final String SUBJECT_BROWSING_FIELD = "value";
   public static final String CONTRIBUTOR_BROWSING_FIELD = "name";
   public static final String AUTHORITY_BROWSING_FIELD = "headingRef";
@@ -76,6 +80,8 @@ public class SearchUtils {
   public static final String MULTILANG_SOURCE_SUBFIELD = "src";
   public static final String PLAIN_FULLTEXT_PREFIX = "plain_";
   public static final String SELECTED_AGG_PREFIX = "selected_";
+  public static final String CARDINALITY_AGG_PREFIX = "cardinality_";
+  public static final String FACET_COMPOSITE_SOURCE_NAME = "value";
   public static final String ASTERISKS_SIGN = "*";
   public static final String DOT = ".";
   public static final String EMPTY_ARRAY = "[]";
@@ -129,6 +135,23 @@ public class SearchUtils {
     }
   }
 
+  /**
+   * Waits for the result of asynchronous elasticsearch operation.
+   *
+   * @param future - asynchronous operation result as {@link CompletableFuture} object
+   * @throws RuntimeException the runtime exception the operation was completed with.
+   */
+  public static <T> T awaitResult(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw e;
+    }
+  }
+
   /**
    * Creates index name for given {@link ResourceRequest} object.
    *
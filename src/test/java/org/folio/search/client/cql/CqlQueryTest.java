@@ -3,6 +3,7 @@ package org.folio.search.client.cql;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.model.client.CqlQuery.exactMatchAny;
+import static org.folio.search.model.client.CqlQuery.rangeSortedBy;
 
 import java.util.List;
 import org.folio.search.model.client.CqlQueryParam;
@@ -29,4 +30,16 @@ class CqlQueryTest {
     assertThat(exactMatchAny(CqlQueryParam.NAME, asList("id1", null, "")))
       .hasToString("name==(\"id1\")");
   }
+
+  @Test
+  void rangeSortedBy_positive_inclusiveLowerBound() {
+    assertThat(rangeSortedBy(CqlQueryParam.ID, "id1", true, "id2"))
+      .hasToString("id>=\"id1\" and id<\"id2\" sortBy id");
+  }
+
+  @Test
+  void rangeSortedBy_positive_exclusiveLowerBoundAndNoUpperBound() {
+    assertThat(rangeSortedBy(CqlQueryParam.ID, "id1", false, null))
+      .hasToString("id>\"id1\" sortBy id");
+  }
 }
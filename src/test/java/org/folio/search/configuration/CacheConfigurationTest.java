@@ -3,7 +3,9 @@ package org.folio.search.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.service.browse.CallNumberBrowseRangesLoader;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,11 +21,29 @@ class CacheConfigurationTest {
   private CacheConfiguration cacheConfiguration;
   @Mock
   private SearchCacheConfigurationProperties cacheConfigurationProperties;
+  @Mock
+  private CallNumberBrowseRangesLoader callNumberBrowseRangesLoader;
 
   @Test
   void createCallNumberRangesCache() {
-    when(cacheConfigurationProperties.getCallNumberBrowseRangesCacheSpec()).thenReturn("expireAfterAccess=5m");
-    var cache = cacheConfiguration.callNumberRangesCache(cacheConfigurationProperties);
+    when(cacheConfigurationProperties.getCallNumberBrowseRangesCacheSpec())
+      .thenReturn("refreshAfterWrite=1m,expireAfterAccess=5m");
+    var cache = cacheConfiguration.callNumberRangesCache(cacheConfigurationProperties, callNumberBrowseRangesLoader,
+      Runnable::run);
     assertThat(cache).isNotNull();
   }
+
+  @Test
+  void createShelfKeysCache() {
+    var meterRegistry = new SimpleMeterRegistry();
+    when(cacheConfigurationProperties.getShelfKeysCacheSpec()).thenReturn("maximumSize=100");
+
+    var cache = cacheConfiguration.shelfKeysCache(cacheConfigurationProperties, meterRegistry);
+    cache.get("LC:A1", key -> "A 11");
+    cache.get("LC:A1", key -> "A 11");
+
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "shelf-keys").tag("result", "hit").functionCounter()
+      .count()).isEqualTo(1.0);
+  }
 }
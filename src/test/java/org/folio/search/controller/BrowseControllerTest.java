@@ -12,6 +12,7 @@ import static org.folio.search.utils.SearchUtils.SHELVING_ORDER_BROWSING_FIELD;
 import static org.folio.search.utils.TestConstants.RESOURCE_ID;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.authorityBrowseItem;
+import static org.folio.search.utils.TestUtils.perform;
 import static org.folio.search.utils.TestUtils.subjectBrowseItem;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.lenient;
@@ -24,6 +25,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.model.BrowseResult;
 import org.folio.search.model.service.BrowseRequest;
@@ -41,8 +43,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
@@ -84,7 +89,7 @@ class BrowseControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isOk())
       .andExpect(jsonPath("$.totalRecords", is(0)))
       .andExpect(jsonPath("$.items", is(emptyList())));
@@ -106,7 +111,7 @@ class BrowseControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isOk())
       .andExpect(jsonPath("$.totalRecords", is(0)))
       .andExpect(jsonPath("$.items", is(emptyList())));
@@ -124,7 +129,7 @@ class BrowseControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isOk())
       .andExpect(jsonPath("$.totalRecords", is(1)))
       .andExpect(jsonPath("$.items[0].value", is("water treatment")))
@@ -144,7 +149,7 @@ class BrowseControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isOk())
       .andExpect(jsonPath("$.totalRecords", is(1)))
       .andExpect(jsonPath("$.items[0].headingRef", is("mark twain")))
@@ -160,7 +165,7 @@ class BrowseControllerTest {
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
     var expectedErrorMessage = "Required request parameter 'query' for method parameter type String is not present";
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].message", is(expectedErrorMessage)))
@@ -177,7 +182,7 @@ class BrowseControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].message", is("Preceding records count must be less than request limit")))
@@ -196,7 +201,7 @@ class BrowseControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].type", is("ConstraintViolationException")))
@@ -209,4 +214,13 @@ class BrowseControllerTest {
     return BrowseRequest.of(INSTANCE_RESOURCE, TENANT_ID, query, limit,
       SHELVING_ORDER_BROWSING_FIELD, CALL_NUMBER_BROWSING_FIELD, false, true, limit / 2);
   }
+
+  @TestConfiguration
+  static class TestContextConfiguration {
+
+    @Bean("searchRequestExecutor")
+    Executor searchRequestExecutor() {
+      return new SyncTaskExecutor();
+    }
+  }
 }
@@ -11,6 +11,7 @@ import static org.folio.search.utils.TestUtils.facet;
 import static org.folio.search.utils.TestUtils.facetItem;
 import static org.folio.search.utils.TestUtils.facetResult;
 import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.perform;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.lenient;
@@ -21,8 +22,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import org.folio.search.exception.RequestValidationException;
+import org.folio.search.model.service.CqlFacetRequest;
 import org.folio.search.service.FacetService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.spring.integration.XOkapiHeaders;
@@ -34,8 +37,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
@@ -80,7 +86,7 @@ class FacetsControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isOk())
       .andExpect(jsonPath("$.totalRecords", is(1)))
       .andExpect(jsonPath("$.facets.source.totalRecords", is(2)))
@@ -90,6 +96,26 @@ class FacetsControllerTest {
       .andExpect(jsonPath("$.facets.source.values[1].totalRecords", is(10)));
   }
 
+  @Test
+  void getFacets_positive_facetPage() throws Exception {
+    var cqlQuery = "source all \"test-query\"";
+    var expectedFacetRequest = CqlFacetRequest.of(INSTANCE_RESOURCE, TENANT_ID, cqlQuery, List.of("source:2"), "FOLIO");
+    when(facetService.getFacets(expectedFacetRequest)).thenReturn(
+      facetResult(mapOf("source", facet(List.of(facetItem("MARC", 20), facetItem("OTHER", 10))).afterKey("OTHER"))));
+
+    var requestBuilder = get("/search/instances/facets")
+      .queryParam("query", cqlQuery)
+      .queryParam("facet", "source:2")
+      .queryParam("facetAfter", "FOLIO")
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    perform(mockMvc, requestBuilder)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.facets.source.totalRecords", is(2)))
+      .andExpect(jsonPath("$.facets.source.afterKey", is("OTHER")));
+  }
+
   @Test
   void getFacets_negative_unknownFacet() throws Exception {
     var cqlQuery = "title all \"test-query\"";
@@ -103,7 +129,7 @@ class FacetsControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].message", is("Invalid facet value")))
@@ -123,11 +149,20 @@ class FacetsControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].message", containsString("Failed to convert value")))
       .andExpect(jsonPath("$.errors[0].type", is("MethodArgumentTypeMismatchException")))
       .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
   }
+
+  @TestConfiguration
+  static class TestContextConfiguration {
+
+    @Bean("searchRequestExecutor")
+    Executor searchRequestExecutor() {
+      return new SyncTaskExecutor();
+    }
+  }
 }
@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -22,15 +23,19 @@ import jakarta.validation.ConstraintViolationException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Set;
+import org.folio.search.domain.dto.CompleteReindexRequest;
 import org.folio.search.domain.dto.CreateIndexRequest;
 import org.folio.search.domain.dto.IndexDynamicSettings;
 import org.folio.search.domain.dto.ReindexJob;
+import org.folio.search.domain.dto.ReindexProgress;
+import org.folio.search.domain.dto.ReindexProgressCollection;
 import org.folio.search.domain.dto.ReindexRequest;
 import org.folio.search.domain.dto.UpdateIndexDynamicSettingsRequest;
 import org.folio.search.domain.dto.UpdateMappingsRequest;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.search.service.IndexService;
 import org.folio.search.service.ResourceService;
+import org.folio.search.service.reindex.ReindexProgressService;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.spring.testing.type.UnitTest;
 import org.hibernate.validator.internal.engine.ConstraintViolationImpl;
@@ -60,6 +65,8 @@ class IndexManagementControllerTest {
   private IndexService indexService;
   @MockBean
   private ResourceService resourceService;
+  @MockBean
+  private ReindexProgressService reindexProgressService;
 
   @Test
   void createIndex_positive() throws Exception {
@@ -247,6 +254,30 @@ class IndexManagementControllerTest {
       .andExpect(jsonPath("$.errors[0].code", is("validation_error")));
   }
 
+  @Test
+  void completeInventoryReindex_positive() throws Exception {
+    var request = new CompleteReindexRequest().resourceName(CompleteReindexRequest.ResourceNameEnum.AUTHORITY);
+    when(indexService.completeReindex(TENANT_ID, request)).thenReturn(getSuccessIndexOperationResponse());
+
+    mockMvc.perform(preparePostRequest("/search/index/inventory/reindex/complete", asJsonString(request)))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status", is("success")));
+  }
+
+  @Test
+  void getReindexProgress_positive() throws Exception {
+    var progress = new ReindexProgress().resourceName("instance").tenantId(TENANT_ID)
+      .status(ReindexProgress.StatusEnum.IN_PROGRESS).expectedCount(100L).processedCount(40L);
+    when(reindexProgressService.getReindexProgress())
+      .thenReturn(new ReindexProgressCollection().reindexProgress(List.of(progress)).totalRecords(1));
+
+    mockMvc.perform(get("/search/index/inventory/reindex/status").header(XOkapiHeaders.TENANT, TENANT_ID))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(1)))
+      .andExpect(jsonPath("$.reindexProgress[0].status", is("IN_PROGRESS")))
+      .andExpect(jsonPath("$.reindexProgress[0].processedCount", is(40)));
+  }
+
   private static MockHttpServletRequestBuilder preparePostRequest(String endpoint, String requestBody) {
     return post(endpoint)
       .content(requestBody)
@@ -3,6 +3,12 @@ package org.folio.search.controller;
 import static java.util.Collections.emptyList;
 import static org.folio.search.utils.TestConstants.INDEX_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.asJsonString;
+import static org.folio.search.utils.TestUtils.facet;
+import static org.folio.search.utils.TestUtils.facetItem;
+import static org.folio.search.utils.TestUtils.facetResult;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.perform;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.searchResult;
 import static org.folio.search.utils.TestUtils.searchServiceRequest;
@@ -11,21 +17,29 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 import org.folio.search.domain.dto.Authority;
+import org.folio.search.domain.dto.BatchIdsDto;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.LinkedDataAuthority;
 import org.folio.search.domain.dto.LinkedDataWork;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.search.exception.SearchServiceException;
+import org.folio.search.model.SearchResult;
+import org.folio.search.model.service.CqlSearchRequest;
 import org.folio.search.service.SearchService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -35,8 +49,12 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.core.index.Index;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.test.web.servlet.MockMvc;
 
 @UnitTest
@@ -76,12 +94,70 @@ class SearchControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isOk())
       .andExpect(jsonPath("$.totalRecords", is(0)))
       .andExpect(jsonPath(jsonDataPath, is(emptyList())));
   }
 
+  @Test
+  void searchInstances_positive_withFacets() throws Exception {
+    var cqlQuery = "title all \"test-query\"";
+    var facets = List.of("source", "discoverySuppress:5");
+    var expectedSearchRequest = CqlSearchRequest.of(Instance.class, TENANT_ID, cqlQuery, 100, 0, false, true, false,
+      facets);
+    when(searchService.search(expectedSearchRequest)).thenReturn(SearchResult.<Instance>empty()
+      .facetResult(facetResult(mapOf("source", facet(facetItem("MARC", 10))))));
+
+    var requestBuilder = get("/search/instances")
+      .queryParam("query", cqlQuery)
+      .queryParam("facet", facets.toArray(String[]::new))
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    perform(mockMvc, requestBuilder)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(0)))
+      .andExpect(jsonPath("$.facetResult.facets.source.values[0].id", is("MARC")))
+      .andExpect(jsonPath("$.facetResult.facets.source.values[0].totalRecords", is(10)));
+  }
+
+  @Test
+  void searchInstancesByIds_positive() throws Exception {
+    var instanceId = randomId();
+    var expectedSearchRequest = CqlSearchRequest.of(Instance.class, TENANT_ID, null, 1, 0, false);
+    when(searchService.searchByIds(expectedSearchRequest, List.of(instanceId)))
+      .thenReturn(searchResult(new Instance().id(instanceId)));
+
+    var requestBuilder = post("/search/instances/batch")
+      .content(asJsonString(new BatchIdsDto().ids(List.of(UUID.fromString(instanceId), UUID.fromString(instanceId)))))
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    perform(mockMvc, requestBuilder)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(1)))
+      .andExpect(jsonPath("$.instances[0].id", is(instanceId)));
+  }
+
+  @Test
+  void searchInstances_negative_requestRejected() throws Exception {
+    var cqlQuery = "title all \"test-query\"";
+    var expectedSearchRequest = searchServiceRequest(Instance.class, TENANT_ID, cqlQuery, false, 100);
+    when(searchService.search(expectedSearchRequest)).thenThrow(new TaskRejectedException("rejected"));
+
+    var requestBuilder = get("/search/instances")
+      .queryParam("query", cqlQuery)
+      .contentType(APPLICATION_JSON)
+      .header(XOkapiHeaders.TENANT, TENANT_ID);
+
+    perform(mockMvc, requestBuilder)
+      .andExpect(status().isServiceUnavailable())
+      .andExpect(jsonPath("$.total_records", is(1)))
+      .andExpect(jsonPath("$.errors[0].type", is("TaskRejectedException")))
+      .andExpect(jsonPath("$.errors[0].code", is("service_error")));
+  }
+
   @ParameterizedTest
   @ValueSource(strings = {
     "/search/instances",
@@ -103,7 +179,7 @@ class SearchControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest());
   }
 
@@ -127,7 +203,7 @@ class SearchControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].message", is("Index not found: " + INDEX_NAME)))
@@ -150,7 +226,7 @@ class SearchControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].message", is(expectedMessage)))
@@ -174,7 +250,7 @@ class SearchControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].message", is(exceptionMessage)))
@@ -199,7 +275,7 @@ class SearchControllerTest {
       .contentType(APPLICATION_JSON)
       .header(XOkapiHeaders.TENANT, TENANT_ID);
 
-    mockMvc.perform(requestBuilder)
+    perform(mockMvc, requestBuilder)
       .andExpect(status().isBadRequest())
       .andExpect(jsonPath("$.total_records", is(1)))
       .andExpect(jsonPath("$.errors[0].message", is(exceptionMessage)))
@@ -215,4 +291,13 @@ class SearchControllerTest {
       Arguments.of(LinkedDataAuthority.class, "/search/linked-data/authorities", true, 10, "$.content")
     );
   }
+
+  @TestConfiguration
+  static class TestContextConfiguration {
+
+    @Bean("searchRequestExecutor")
+    Executor searchRequestExecutor() {
+      return new SyncTaskExecutor();
+    }
+  }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.filterField;
 import static org.folio.search.utils.TestUtils.keywordField;
 import static org.folio.search.utils.TestUtils.multilangField;
@@ -22,6 +23,7 @@ import static org.opensearch.index.query.Operator.OR;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
 import static org.opensearch.index.query.QueryBuilders.disMaxQuery;
 import static org.opensearch.index.query.QueryBuilders.existsQuery;
+import static org.opensearch.index.query.QueryBuilders.idsQuery;
 import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.index.query.QueryBuilders.matchQuery;
 import static org.opensearch.index.query.QueryBuilders.multiMatchQuery;
@@ -33,10 +35,12 @@ import static org.springframework.boot.test.context.SpringBootTest.WebEnvironmen
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.cql.CqlSearchQueryConverterTest.ConverterTestConfiguration;
 import org.folio.search.exception.RequestValidationException;
 import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.metadata.PlainFieldDescription;
+import org.folio.search.repository.TenantRoutingProvider;
 import org.folio.search.service.consortium.ConsortiumSearchHelper;
 import org.folio.search.service.consortium.ConsortiumTenantService;
 import org.folio.search.service.metadata.LocalSearchFieldProvider;
@@ -79,12 +83,18 @@ class CqlSearchQueryConverterTest {
   private ConsortiumTenantService consortiumTenantService;
   @MockBean
   private ConsortiumSearchHelper consortiumSearchHelper;
+  @MockBean
+  private SearchConfigurationProperties searchConfigurationProperties;
+  @MockBean
+  private TenantRoutingProvider tenantRoutingProvider;
 
   @BeforeEach
   void setUp() {
     when(searchFieldProvider.getModifiedField(any(), any())).thenAnswer(f -> f.getArguments()[0]);
     doAnswer(invocation -> invocation.getArgument(0))
       .when(consortiumSearchHelper).filterQueryForActiveAffiliation(any(), any());
+    when(searchConfigurationProperties.getMaxSearchBatchRequestIdsCount()).thenReturn(3L);
+    when(tenantRoutingProvider.getDocumentId(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
   }
 
   @MethodSource("convertCqlQueryDataProvider")
@@ -369,6 +379,58 @@ class CqlSearchQueryConverterTest {
     assertThat(actual).isEqualTo(searchSource().query(consortiumQueryMock));
   }
 
+  @ParameterizedTest(name = "[{index}] query={0}")
+  @MethodSource("idsCqlQueryDataProvider")
+  void convert_positive_idsQuery(String cqlQuery, String[] expectedIds) {
+    var actual = cqlSearchQueryConverter.convert(cqlQuery, INSTANCE_RESOURCE);
+    assertThat(actual).isEqualTo(searchSource().query(idsQuery().addIds(expectedIds)));
+  }
+
+  @Test
+  void convert_positive_idsQueryWithWildcard() {
+    when(searchFieldProvider.getPlainFieldByPath(INSTANCE_RESOURCE, "id")).thenReturn(Optional.of(keywordField()));
+    var actual = cqlSearchQueryConverter.convert("id==(id1 or id2*)", INSTANCE_RESOURCE);
+    assertThat(actual).isEqualTo(searchSource().query(
+      boolQuery().should(termQuery("id", "id1")).should(wildcardQuery("id", "id2*"))));
+  }
+
+  @Test
+  void convert_negative_idsQueryExceedsLimit() {
+    assertThatThrownBy(() -> cqlSearchQueryConverter.convert("id==(id1 or id2 or id3 or id4)", INSTANCE_RESOURCE))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("IDs array size exceeds the maximum allowed limit 3");
+  }
+
+  @Test
+  void convertIdsForConsortia_positive() {
+    var actual = cqlSearchQueryConverter.convertIdsForConsortia(List.of("id1", "id2"), INSTANCE_RESOURCE);
+    assertThat(actual).isEqualTo(searchSource().query(idsQuery().addIds("id1", "id2")));
+  }
+
+  @Test
+  void convertIdsForConsortia_positive_pooledTenant() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(tenantRoutingProvider.getDocumentId(INSTANCE_RESOURCE, TENANT_ID, "id1")).thenReturn("id1|" + TENANT_ID);
+    var actual = cqlSearchQueryConverter.convertIdsForConsortia(List.of("id1"), INSTANCE_RESOURCE);
+    assertThat(actual).isEqualTo(searchSource().query(idsQuery().addIds("id1|" + TENANT_ID)));
+  }
+
+  @Test
+  void validateIdsCount_negative_limitExceeded() {
+    assertThatThrownBy(() -> cqlSearchQueryConverter.validateIdsCount(4))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("IDs array size exceeds the maximum allowed limit 3");
+  }
+
+  private static Stream<Arguments> idsCqlQueryDataProvider() {
+    return Stream.of(
+      arguments("id==id1", new String[] {"id1"}),
+      arguments("id = \"ID1\"", new String[] {"id1"}),
+      arguments("id==(id1 or \"id2\" OR id3)", new String[] {"id1", "id2", "id3"}),
+      arguments(" id == ( id1 or id1 ) ", new String[] {"id1"})
+    );
+  }
+
   private static Stream<Arguments> convertCqlQueryDataProvider() {
     var resourceId = randomId();
     return Stream.of(
@@ -3,8 +3,10 @@ package org.folio.search.cql;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.CallNumberUtils.normalizeEffectiveShelvingOrder;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.folio.search.service.ShelfKeyService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,7 +21,8 @@ import org.marc4j.callnum.NlmCallNumber;
 @UnitTest
 class EffectiveShelvingOrderTermProcessorTest {
 
-  private final EffectiveShelvingOrderTermProcessor searchTermProcessor = new EffectiveShelvingOrderTermProcessor();
+  private final EffectiveShelvingOrderTermProcessor searchTermProcessor =
+    new EffectiveShelvingOrderTermProcessor(new ShelfKeyService(Caffeine.newBuilder().build()));
 
   @ParameterizedTest
   @NullSource
@@ -1,5 +1,9 @@
 package org.folio.search.repository;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.utils.SearchResponseHelper.getErrorFolioCreateIndexResponse;
@@ -8,14 +12,20 @@ import static org.folio.search.utils.SearchResponseHelper.getSuccessFolioCreateI
 import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.TestConstants.EMPTY_OBJECT;
 import static org.folio.search.utils.TestConstants.INDEX_NAME;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -24,17 +34,36 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
+import org.opensearch.action.admin.cluster.health.ClusterHealthResponse;
+import org.opensearch.action.admin.indices.alias.Alias;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.opensearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeResponse;
 import org.opensearch.action.admin.indices.refresh.RefreshRequest;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsRequest;
+import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
 import org.opensearch.action.support.master.AcknowledgedResponse;
+import org.opensearch.client.ClusterClient;
+import org.opensearch.client.GetAliasesResponse;
 import org.opensearch.client.IndicesClient;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.indices.CreateIndexRequest;
 import org.opensearch.client.indices.CreateIndexResponse;
 import org.opensearch.client.indices.GetIndexRequest;
+import org.opensearch.client.indices.GetMappingsRequest;
+import org.opensearch.client.indices.GetMappingsResponse;
 import org.opensearch.client.indices.PutMappingRequest;
+import org.opensearch.cluster.health.ClusterHealthStatus;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +75,10 @@ class IndexRepositoryTest {
   private RestHighLevelClient restHighLevelClient;
   @Mock
   private IndicesClient indices;
+  @Mock
+  private ClusterClient clusterClient;
+  @Mock
+  private IndexGenerationTracker indexGenerationTracker;
 
   @Test
   void createIndex_positive() throws IOException {
@@ -130,6 +163,35 @@ class IndexRepositoryTest {
     assertThat(folioResponse).isEqualTo(getSuccessIndexOperationResponse());
   }
 
+  @Test
+  void getIndicesMeta_positive() throws IOException {
+    var meta = Map.<String, Object>of("ingestMode", Map.of("refreshInterval", "1s"));
+    var mappings = Map.of(INDEX_NAME + "_1", new MappingMetadata("_doc", Map.of("_meta", meta)),
+      INDEX_NAME + "_2", new MappingMetadata("_doc", Map.of("properties", Map.of())));
+    var mappingsRequest = ArgumentCaptor.forClass(GetMappingsRequest.class);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.getMapping(mappingsRequest.capture(), eq(DEFAULT))).thenReturn(new GetMappingsResponse(mappings));
+
+    var actual = indexRepository.getIndicesMeta(INDEX_NAME + "_*");
+
+    assertThat(actual).isEqualTo(Map.of(INDEX_NAME + "_1", meta));
+    assertThat(mappingsRequest.getValue().indices()).containsExactly(INDEX_NAME + "_*");
+  }
+
+  @Test
+  void updateIndexMeta_positive() throws IOException {
+    var response = mock(AcknowledgedResponse.class);
+    var putMappingRequest = ArgumentCaptor.forClass(PutMappingRequest.class);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(response.isAcknowledged()).thenReturn(true);
+    when(indices.putMapping(putMappingRequest.capture(), eq(DEFAULT))).thenReturn(response);
+
+    var folioResponse = indexRepository.updateIndexMeta(INDEX_NAME, Map.of("ingestMode", Map.of()));
+
+    assertThat(folioResponse).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(putMappingRequest.getValue().source().utf8ToString()).isEqualTo("{\"_meta\":{\"ingestMode\":{}}}");
+  }
+
   @Test
   void updateMappings_negative_failResponse() throws IOException {
     var esResponse = mock(AcknowledgedResponse.class);
@@ -167,11 +229,63 @@ class IndexRepositoryTest {
     assertThat(getIndexRequestCaptor.getValue().indices()).containsExactly(INDEX_NAME);
   }
 
+  @Test
+  void createIndex_positive_withAlias() throws IOException {
+    var esResponse = mock(CreateIndexResponse.class);
+    var createIndexRequestCaptor = ArgumentCaptor.forClass(CreateIndexRequest.class);
+
+    when(esResponse.isAcknowledged()).thenReturn(true);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.create(createIndexRequestCaptor.capture(), eq(DEFAULT))).thenReturn(esResponse);
+
+    var response = indexRepository.createIndex(INDEX_NAME + "_1", INDEX_NAME, EMPTY_OBJECT, EMPTY_OBJECT);
+
+    assertThat(response).isEqualTo(getSuccessFolioCreateIndexResponse(List.of(INDEX_NAME + "_1")));
+    assertThat(createIndexRequestCaptor.getValue().aliases()).extracting(Alias::name).containsExactly(INDEX_NAME);
+  }
+
+  @Test
+  void getAliasIndices_positive() throws IOException {
+    mockAliasIndices(INDEX_NAME, Set.of(INDEX_NAME + "_1"));
+    var actual = indexRepository.getAliasIndices(INDEX_NAME);
+    assertThat(actual).containsExactly(INDEX_NAME + "_1");
+  }
+
+  @Test
+  void switchAlias_positive() throws IOException {
+    var aliasesRequestCaptor = ArgumentCaptor.forClass(IndicesAliasesRequest.class);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.updateAliases(aliasesRequestCaptor.capture(), eq(DEFAULT))).thenReturn(new AcknowledgedResponse(true));
+
+    indexRepository.switchAlias(INDEX_NAME, INDEX_NAME + "_2", INDEX_NAME + "_reindex", List.of(INDEX_NAME + "_1"));
+
+    assertThat(aliasesRequestCaptor.getValue().getAliasActions()).satisfiesExactly(
+      action -> assertAliasAction(action, AliasActions.Type.ADD, INDEX_NAME + "_2", INDEX_NAME),
+      action -> assertAliasAction(action, AliasActions.Type.REMOVE, INDEX_NAME + "_2", INDEX_NAME + "_reindex"),
+      action -> assertAliasAction(action, AliasActions.Type.REMOVE_INDEX, INDEX_NAME + "_1", null));
+    verify(indexGenerationTracker).incrementGenerations(List.of(INDEX_NAME));
+  }
+
+  @Test
+  void waitForGreenStatus_positive() throws IOException {
+    var healthResponse = mock(ClusterHealthResponse.class);
+    var healthRequestCaptor = ArgumentCaptor.forClass(ClusterHealthRequest.class);
+    when(healthResponse.isTimedOut()).thenReturn(false);
+    when(restHighLevelClient.cluster()).thenReturn(clusterClient);
+    when(clusterClient.health(healthRequestCaptor.capture(), eq(DEFAULT))).thenReturn(healthResponse);
+
+    var actual = indexRepository.waitForGreenStatus(INDEX_NAME, TimeValue.timeValueSeconds(10));
+
+    assertThat(actual).isTrue();
+    assertThat(healthRequestCaptor.getValue().indices()).containsExactly(INDEX_NAME);
+    assertThat(healthRequestCaptor.getValue().waitForStatus()).isEqualTo(ClusterHealthStatus.GREEN);
+  }
+
   @Test
   void dropIndex_positive() throws IOException {
     var deleteIndexRequestCaptor = ArgumentCaptor.forClass(DeleteIndexRequest.class);
 
-    when(restHighLevelClient.indices()).thenReturn(indices);
+    mockAliasIndices(INDEX_NAME, emptySet());
     when(indices.delete(deleteIndexRequestCaptor.capture(), eq(DEFAULT))).thenReturn(new AcknowledgedResponse(true));
 
     indexRepository.dropIndex(INDEX_NAME);
@@ -179,6 +293,18 @@ class IndexRepositoryTest {
     assertThat(deleteIndexRequestCaptor.getValue().indices()).containsExactly(INDEX_NAME);
   }
 
+  @Test
+  void dropIndex_positive_alias() throws IOException {
+    var deleteIndexRequestCaptor = ArgumentCaptor.forClass(DeleteIndexRequest.class);
+
+    mockAliasIndices(INDEX_NAME, Set.of(INDEX_NAME + "_1"));
+    when(indices.delete(deleteIndexRequestCaptor.capture(), eq(DEFAULT))).thenReturn(new AcknowledgedResponse(true));
+
+    indexRepository.dropIndex(INDEX_NAME);
+
+    assertThat(deleteIndexRequestCaptor.getValue().indices()).containsExactly(INDEX_NAME + "_1");
+  }
+
   @Test
   void refreshIndex_positive() throws IOException {
     var refreshRequest = ArgumentCaptor.forClass(RefreshRequest.class);
@@ -191,4 +317,66 @@ class IndexRepositoryTest {
 
     assertThat(refreshRequest.getValue().indices()).containsExactly(INDEX_NAME);
   }
+
+  @Test
+  void getIndexSettings_positive_alias() throws IOException {
+    var settingsResponse = mock(GetSettingsResponse.class);
+    var settingsRequest = ArgumentCaptor.forClass(GetSettingsRequest.class);
+    mockAliasIndices(INDEX_NAME, Set.of(INDEX_NAME + "_1"));
+    when(indices.getSettings(settingsRequest.capture(), eq(DEFAULT))).thenReturn(settingsResponse);
+    when(settingsResponse.getSetting(INDEX_NAME + "_1", "index.refresh_interval")).thenReturn("1s");
+    when(settingsResponse.getSetting(INDEX_NAME + "_1", "index.number_of_replicas")).thenReturn("2");
+
+    var actual = indexRepository.getIndexSettings(INDEX_NAME, "index.refresh_interval", "index.number_of_replicas");
+
+    assertThat(actual).isEqualTo(Map.of("index.refresh_interval", "1s", "index.number_of_replicas", "2"));
+    assertThat(settingsRequest.getValue().indices()).containsExactly(INDEX_NAME);
+    assertThat(settingsRequest.getValue().includeDefaults()).isTrue();
+  }
+
+  @Test
+  void forceMerge_positive() throws IOException {
+    var forceMergeRequest = ArgumentCaptor.forClass(ForceMergeRequest.class);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.forcemerge(forceMergeRequest.capture(), eq(DEFAULT))).thenReturn(mock(ForceMergeResponse.class));
+
+    indexRepository.forceMerge(INDEX_NAME, 5);
+
+    assertThat(forceMergeRequest.getValue().indices()).containsExactly(INDEX_NAME);
+    assertThat(forceMergeRequest.getValue().maxNumSegments()).isEqualTo(5);
+  }
+
+  @Test
+  void deleteTenantDocuments_positive() throws IOException {
+    var deleteByQueryRequest = ArgumentCaptor.forClass(DeleteByQueryRequest.class);
+    var response = mock(BulkByScrollResponse.class);
+    when(response.getBulkFailures()).thenReturn(emptyList());
+    when(restHighLevelClient.deleteByQuery(deleteByQueryRequest.capture(), eq(DEFAULT))).thenReturn(response);
+
+    var actual = indexRepository.deleteTenantDocuments(INDEX_NAME, TENANT_ID, TENANT_ID);
+
+    assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(deleteByQueryRequest.getValue().indices()).containsExactly(INDEX_NAME);
+    assertThat(deleteByQueryRequest.getValue().getSearchRequest().source().query())
+      .isEqualTo(termQuery("tenantId", TENANT_ID));
+    assertThat(deleteByQueryRequest.getValue().getSearchRequest().routing()).isEqualTo(TENANT_ID);
+    verify(indexGenerationTracker).incrementGenerations(List.of(INDEX_NAME));
+  }
+
+  private void mockAliasIndices(String alias, Set<String> aliasIndices) throws IOException {
+    var aliasesResponse = mock(GetAliasesResponse.class);
+    var aliases = aliasIndices.stream().collect(toMap(identity(), index -> Set.<AliasMetadata>of()));
+    when(aliasesResponse.getAliases()).thenReturn(aliases);
+    when(restHighLevelClient.indices()).thenReturn(indices);
+    when(indices.getAlias(argThat(request -> List.of(request.aliases()).equals(List.of(alias))), eq(DEFAULT)))
+      .thenReturn(aliasesResponse);
+  }
+
+  private static void assertAliasAction(AliasActions action, AliasActions.Type type, String index, String alias) {
+    assertThat(action.actionType()).isEqualTo(type);
+    assertThat(action.indices()).containsExactly(index);
+    if (alias != null) {
+      assertThat(action.aliases()).containsExactly(alias);
+    }
+  }
 }
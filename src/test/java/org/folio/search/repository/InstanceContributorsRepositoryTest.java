@@ -67,6 +67,12 @@ class InstanceContributorsRepositoryTest {
   private RestHighLevelClient elasticsearchClient;
   @Mock
   private IndexNameProvider indexNameProvider;
+  @Mock
+  private IndexGenerationTracker indexGenerationTracker;
+  @Mock
+  private ShadowIndexProvider shadowIndexProvider;
+  @Mock
+  private IndexWriteRateTracker indexWriteRateTracker;
   @Captor
   private ArgumentCaptor<BulkRequest> bulkRequestCaptor;
 
@@ -74,6 +80,9 @@ class InstanceContributorsRepositoryTest {
   void setUp() {
     repository.setElasticsearchClient(elasticsearchClient);
     repository.setIndexNameProvider(indexNameProvider);
+    repository.setIndexGenerationTracker(indexGenerationTracker);
+    repository.setShadowIndexProvider(shadowIndexProvider);
+    repository.setIndexWriteRateTracker(indexWriteRateTracker);
     lenient().when(indexNameProvider.getIndexName(any(SearchDocumentBody.class))).thenReturn("index_name");
   }
 
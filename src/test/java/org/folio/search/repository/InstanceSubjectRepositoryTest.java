@@ -62,6 +62,12 @@ class InstanceSubjectRepositoryTest {
   private InstanceSubjectRepository repository;
   @Mock
   private IndexNameProvider indexNameProvider;
+  @Mock
+  private IndexGenerationTracker indexGenerationTracker;
+  @Mock
+  private ShadowIndexProvider shadowIndexProvider;
+  @Mock
+  private IndexWriteRateTracker indexWriteRateTracker;
   @Spy
   private JsonConverter jsonConverter = new JsonConverter(OBJECT_MAPPER);
   @Spy
@@ -77,6 +83,9 @@ class InstanceSubjectRepositoryTest {
   void setUp() {
     repository.setElasticsearchClient(elasticsearchClient);
     repository.setIndexNameProvider(indexNameProvider);
+    repository.setIndexGenerationTracker(indexGenerationTracker);
+    repository.setShadowIndexProvider(shadowIndexProvider);
+    repository.setIndexWriteRateTracker(indexWriteRateTracker);
     lenient().when(indexNameProvider.getIndexName(any(SearchDocumentBody.class))).thenReturn("index_name");
   }
 
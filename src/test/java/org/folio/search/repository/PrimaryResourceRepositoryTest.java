@@ -1,24 +1,40 @@
 package org.folio.search.repository;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.folio.search.model.types.IndexActionType.INDEX;
 import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.RESOURCE_ID;
+import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.resourceEvent;
 import static org.folio.search.utils.TestUtils.searchDocumentBody;
 import static org.folio.search.utils.TestUtils.searchDocumentBodyToDelete;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.lucene.search.TotalHits;
+import org.folio.search.domain.dto.ResourceEventType;
 import org.folio.search.exception.SearchOperationException;
 import org.folio.search.model.index.SearchDocumentBody;
+import org.folio.search.model.types.IndexingDataFormat;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,11 +43,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -43,10 +68,21 @@ class PrimaryResourceRepositoryTest {
   private RestHighLevelClient restHighLevelClient;
   @Mock
   private IndexNameProvider indexNameProvider;
+  @Mock
+  private IndexGenerationTracker indexGenerationTracker;
+  @Mock
+  private ShadowIndexProvider shadowIndexProvider;
+  @Mock
+  private IndexWriteRateTracker indexWriteRateTracker;
+  @Mock
+  private TenantRoutingProvider tenantRoutingProvider;
 
   @BeforeEach
   void setUp() {
     lenient().when(indexNameProvider.getIndexName(any(SearchDocumentBody.class))).thenReturn("index_name");
+    lenient().when(tenantRoutingProvider.getDocumentId(any(SearchDocumentBody.class))).thenCallRealMethod();
+    lenient().when(tenantRoutingProvider.getDocumentId(any(), any(), any())).thenCallRealMethod();
+    lenient().when(tenantRoutingProvider.isTenantQualifiedId(any(), any())).thenCallRealMethod();
   }
 
   @Test
@@ -66,6 +102,170 @@ class PrimaryResourceRepositoryTest {
       assertThat(requests.get(0)).isInstanceOf(IndexRequest.class);
       assertThat(requests.get(1)).isInstanceOf(DeleteRequest.class);
     });
+    verify(indexGenerationTracker).incrementGenerations(Set.of("index_name"));
+  }
+
+  @Test
+  void indexResources_positive_shadowIndex() throws IOException {
+    var documentBodyToCreate = searchDocumentBody();
+    var documentBodyToDelete = searchDocumentBodyToDelete();
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    when(shadowIndexProvider.getShadowIndex("index_name")).thenReturn(Optional.of("shadow_index_name"));
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    var response = resourceRepository.indexResources(List.of(documentBodyToCreate, documentBodyToDelete));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    var requests = bulkRequestCaptor.getValue().requests();
+    assertThat(requests).extracting(DocWriteRequest::index)
+      .containsExactly("index_name", "index_name", "shadow_index_name", "shadow_index_name");
+    assertThat(requests.get(2)).isInstanceOf(IndexRequest.class)
+      .satisfies(request -> assertThat(request.id()).isEqualTo(documentBodyToCreate.getId()));
+    assertThat(requests.get(3)).isInstanceOf(DeleteRequest.class)
+      .satisfies(request -> assertThat(request.id()).isEqualTo(documentBodyToDelete.getId()));
+    verify(indexGenerationTracker).incrementGenerations(Set.of("index_name", "shadow_index_name"));
+    verify(indexWriteRateTracker).recordWrites(List.of("index_name", "index_name"));
+  }
+
+  @Test
+  void indexResources_positive_reindexEventIsWrittenOnlyToShadowIndex() throws IOException {
+    var documentBody = searchDocumentBody();
+    documentBody.getResourceEvent().type(ResourceEventType.REINDEX);
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    when(shadowIndexProvider.getShadowIndex("index_name")).thenReturn(Optional.of("shadow_index_name"));
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    var response = resourceRepository.indexResources(List.of(documentBody));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getValue().requests()).singleElement()
+      .isInstanceOf(IndexRequest.class)
+      .satisfies(request -> assertThat(request.index()).isEqualTo("shadow_index_name"));
+    verify(indexGenerationTracker).incrementGenerations(Set.of("shadow_index_name"));
+  }
+
+  @Test
+  void indexResources_positive_pooledTenantsWithSameResourceId() throws IOException {
+    var firstTenantDocument = pooledInstanceDocument("tenant1");
+    var secondTenantDocument = pooledInstanceDocument("tenant2");
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    when(tenantRoutingProvider.isPooledTenant(INSTANCE_RESOURCE, "tenant1")).thenReturn(true);
+    when(tenantRoutingProvider.isPooledTenant(INSTANCE_RESOURCE, "tenant2")).thenReturn(true);
+    when(tenantRoutingProvider.getRouting(firstTenantDocument)).thenReturn("tenant1");
+    when(tenantRoutingProvider.getRouting(secondTenantDocument)).thenReturn("tenant2");
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    var response = resourceRepository.indexResources(List.of(firstTenantDocument, secondTenantDocument));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getValue().requests())
+      .extracting(DocWriteRequest::id, DocWriteRequest::routing)
+      .containsExactly(tuple(RESOURCE_ID + "|tenant1", "tenant1"), tuple(RESOURCE_ID + "|tenant2", "tenant2"));
+  }
+
+  @Test
+  void deleteResourceByTenantId_positive_shadowIndex() throws IOException {
+    var bulkByScrollResponse = mock(BulkByScrollResponse.class);
+    var requestCaptor = ArgumentCaptor.forClass(DeleteByQueryRequest.class);
+
+    when(indexNameProvider.getIndexName(RESOURCE_NAME, TENANT_ID)).thenReturn("index_name");
+    when(shadowIndexProvider.getShadowIndex("index_name")).thenReturn(Optional.of("shadow_index_name"));
+    when(bulkByScrollResponse.getBulkFailures()).thenReturn(emptyList());
+    when(restHighLevelClient.deleteByQuery(requestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkByScrollResponse);
+
+    var response = resourceRepository.deleteResourceByTenantId(RESOURCE_NAME, TENANT_ID);
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(requestCaptor.getValue().indices()).containsExactly("index_name", "shadow_index_name");
+    verify(indexGenerationTracker).incrementGenerations(List.of("index_name", "shadow_index_name"));
+  }
+
+  @Test
+  void indexResources_positive_tenantRouting() throws IOException {
+    var documentBody = searchDocumentBody();
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    var routingsResponse = routingsResponse(documentBody.getId(), null);
+    when(tenantRoutingProvider.isTenantRoutingEnabled(documentBody.getResource())).thenReturn(true);
+    when(tenantRoutingProvider.getRouting(documentBody)).thenReturn("member");
+    when(restHighLevelClient.search(any(SearchRequest.class), eq(DEFAULT))).thenReturn(routingsResponse);
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    var response = resourceRepository.indexResources(List.of(documentBody));
+
+    assertThat(response).isEqualTo(getSuccessIndexOperationResponse());
+    assertThat(bulkRequestCaptor.getValue().requests()).hasSize(2).satisfies(requests -> {
+      assertThat(requests.get(0)).isInstanceOf(DeleteRequest.class)
+        .satisfies(request -> assertThat(request.routing()).isNull());
+      assertThat(requests.get(1)).isInstanceOf(IndexRequest.class)
+        .satisfies(request -> assertThat(request.routing()).isEqualTo("member"));
+    });
+  }
+
+  @Test
+  void indexResources_positive_tenantRoutingSameRouting() throws IOException {
+    var documentBody = searchDocumentBody();
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    var routingsResponse = routingsResponse(documentBody.getId(), "member");
+    when(tenantRoutingProvider.isTenantRoutingEnabled(documentBody.getResource())).thenReturn(true);
+    when(tenantRoutingProvider.getRouting(documentBody)).thenReturn("member");
+    when(restHighLevelClient.search(any(SearchRequest.class), eq(DEFAULT))).thenReturn(routingsResponse);
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    resourceRepository.indexResources(List.of(documentBody));
+
+    assertThat(bulkRequestCaptor.getValue().requests()).singleElement()
+      .isInstanceOf(IndexRequest.class)
+      .satisfies(request -> assertThat(request.routing()).isEqualTo("member"));
+  }
+
+  @Test
+  void indexResources_positive_routingIsNotLookedUpForDocumentRoutedById() throws IOException {
+    var documentBody = searchDocumentBody();
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    when(tenantRoutingProvider.isTenantRoutingEnabled(documentBody.getResource())).thenReturn(true);
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    resourceRepository.indexResources(List.of(documentBody));
+
+    assertThat(bulkRequestCaptor.getValue().requests()).singleElement().isInstanceOf(IndexRequest.class);
+    verify(restHighLevelClient, never()).search(any(SearchRequest.class), eq(DEFAULT));
+  }
+
+  @Test
+  void indexResources_positive_deleteRoutedDocument() throws IOException {
+    var documentBody = searchDocumentBodyToDelete();
+    var bulkResponse = mock(BulkResponse.class);
+    var bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+
+    var routingsResponse = routingsResponse(documentBody.getId(), "member");
+    when(tenantRoutingProvider.isTenantRoutingEnabled(documentBody.getResource())).thenReturn(true);
+    when(restHighLevelClient.search(any(SearchRequest.class), eq(DEFAULT))).thenReturn(routingsResponse);
+    when(bulkResponse.hasFailures()).thenReturn(false);
+    when(restHighLevelClient.bulk(bulkRequestCaptor.capture(), eq(DEFAULT))).thenReturn(bulkResponse);
+
+    resourceRepository.indexResources(List.of(documentBody));
+
+    assertThat(bulkRequestCaptor.getValue().requests()).singleElement()
+      .isInstanceOf(DeleteRequest.class)
+      .satisfies(request -> assertThat(request.routing()).isEqualTo("member"));
   }
 
   @Test
@@ -97,4 +297,20 @@ class PrimaryResourceRepositoryTest {
       .hasMessage("Failed to perform elasticsearch request "
         + "[index=index_name, type=bulkApi, message: err]");
   }
+
+  private static SearchResponse routingsResponse(String id, String routing) {
+    var metaFields = routing == null
+                     ? Map.<String, DocumentField>of()
+                     : Map.of("_routing", new DocumentField("_routing", List.of(routing)));
+    var searchHits = new SearchHits(new SearchHit[] {new SearchHit(0, id, Map.of(), metaFields)},
+      new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
+    var searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    return searchResponse;
+  }
+
+  private static SearchDocumentBody pooledInstanceDocument(String tenantId) {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, emptyMap()).tenant(tenantId);
+    return SearchDocumentBody.of(new BytesArray("{}"), IndexingDataFormat.JSON, event, INDEX);
+  }
 }
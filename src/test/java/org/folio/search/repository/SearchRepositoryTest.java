@@ -3,33 +3,41 @@ package org.folio.search.repository;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.model.service.CqlResourceIdsRequest.HOLDINGS_ID_PATH;
 import static org.folio.search.model.service.CqlResourceIdsRequest.INSTANCE_ID_PATH;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.TestConstants.INDEX_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.array;
-import static org.folio.search.utils.TestUtils.asJsonString;
-import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.searchServiceRequest;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.client.RequestOptions.DEFAULT;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
 import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
-import static org.opensearch.search.SearchHit.createFromMap;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.stream.IntStream;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
+import org.folio.search.configuration.properties.StreamIdsProperties;
 import org.folio.search.domain.dto.Instance;
+import org.folio.search.exception.SearchOperationException;
 import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.ResourceRequest;
 import org.folio.search.model.service.CqlResourceIdsRequest;
@@ -38,21 +46,24 @@ import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.opensearch.action.search.ClearScrollRequest;
-import org.opensearch.action.search.ClearScrollResponse;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.DeletePitResponse;
 import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.MultiSearchResponse.Item;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
-import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.client.RestHighLevelClient;
-import org.opensearch.common.unit.TimeValue;
-import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.springframework.retry.RetryCallback;
@@ -62,8 +73,7 @@ import org.springframework.retry.support.RetryTemplate;
 @ExtendWith(MockitoExtension.class)
 class SearchRepositoryTest {
 
-  private static final String SCROLL_ID = randomId();
-  private static final TimeValue KEEP_ALIVE_INTERVAL = TimeValue.timeValueMinutes(1L);
+  private static final String PIT_ID = randomId();
 
   @InjectMocks
   private SearchRepository searchRepository;
@@ -75,6 +85,12 @@ class SearchRepositoryTest {
   private RetryTemplate retryTemplate;
   @Mock
   private IndexNameProvider indexNameProvider;
+  @Mock
+  private TenantRoutingProvider tenantRoutingProvider;
+  @Mock
+  private StreamIdsProperties streamIdsProperties;
+  @Mock
+  private Executor streamIdsExecutor;
 
   @BeforeEach
   void setUp() {
@@ -94,41 +110,177 @@ class SearchRepositoryTest {
     assertThat(actual).isEqualTo(searchResponse);
   }
 
+  @Test
+  void search_positive_pooledTenant() throws IOException {
+    var searchSource = searchSource().query(matchAllQuery());
+    var expectedSource = searchSource()
+      .query(boolQuery().must(matchAllQuery()).filter(termQuery("tenantId", TENANT_ID)));
+    var esSearchRequest = new SearchRequest().indices(INDEX_NAME).source(expectedSource).routing(TENANT_ID);
+
+    when(tenantRoutingProvider.getRouting(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(TENANT_ID);
+    when(esClient.search(esSearchRequest, DEFAULT)).thenReturn(searchResponse);
+
+    var searchRequest = searchServiceRequest(Instance.class, "query");
+    var actual = searchRepository.search(searchRequest, searchSource);
+    assertThat(actual).isEqualTo(searchResponse);
+  }
+
+  @Test
+  void searchAsync_positive() {
+    var searchSource = searchSource();
+    var esSearchRequest = new SearchRequest().indices(INDEX_NAME).source(searchSource);
+
+    doAnswer(invocation -> {
+      invocation.<ActionListener<SearchResponse>>getArgument(2).onResponse(searchResponse);
+      return null;
+    }).when(esClient).searchAsync(eq(esSearchRequest), eq(DEFAULT), any());
+
+    var searchRequest = searchServiceRequest(Instance.class, "query");
+    var actual = searchRepository.searchAsync(searchRequest, searchSource);
+    assertThat(actual).isCompletedWithValue(searchResponse);
+  }
+
+  @Test
+  void searchAsync_negative_failedRequest() {
+    doAnswer(invocation -> {
+      invocation.<ActionListener<SearchResponse>>getArgument(2).onFailure(new IOException("err"));
+      return null;
+    }).when(esClient).searchAsync(any(SearchRequest.class), eq(DEFAULT), any());
+
+    var searchRequest = searchServiceRequest(Instance.class, "query");
+    var actual = searchRepository.searchAsync(searchRequest, searchSource());
+    assertThat(actual).failsWithin(Duration.ZERO)
+      .withThrowableOfType(ExecutionException.class)
+      .havingCause()
+      .isInstanceOf(SearchOperationException.class)
+      .hasMessageStartingWith("Failed to perform elasticsearch request [index=" + INDEX_NAME + ", type=searchApi");
+  }
+
   @Test
   @SuppressWarnings({"rawtypes", "unchecked"})
   void streamResourceIds_positive() throws Throwable {
     var searchIds = randomIds();
-    var scrollIds = randomIds();
-    when(retryTemplate.execute(any(RetryCallback.class))).thenAnswer(
-      invocation -> invocation.<RetryCallback>getArgument(0).doWithRetry(null));
-    doReturn(searchResponse(searchIds)).when(esClient).search(searchRequest(), DEFAULT);
-    doReturn(searchResponse(scrollIds), searchResponse(emptyList())).when(esClient).scroll(scrollRequest(), DEFAULT);
-    doReturn(new ClearScrollResponse(true, 0)).when(esClient).clearScroll(any(ClearScrollRequest.class), eq(DEFAULT));
+    var searchAfterIds = randomIds();
+    mockRetryTemplate();
+    mockPointInTime();
+    doReturn(searchResponse(searchIds), searchResponse(searchAfterIds), searchResponse(emptyList()))
+      .when(esClient).search(any(SearchRequest.class), eq(DEFAULT));
 
     var request = CqlResourceIdsRequest.of(INSTANCE_RESOURCE, TENANT_ID, "query", INSTANCE_ID_PATH);
     var actualIds = new ArrayList<List<String>>();
 
     searchRepository.streamResourceIds(request, searchSource(), actualIds::add);
 
-    assertThat(actualIds).containsExactly(searchIds, scrollIds);
+    assertThat(actualIds).containsExactly(searchIds, searchAfterIds);
+    verify(esClient).deletePit(any(DeletePitRequest.class), eq(DEFAULT));
   }
 
   @Test
-  @SuppressWarnings({"rawtypes", "unchecked"})
-  void streamResourceIds_negative_clearScrollFailed() throws Throwable {
-    when(retryTemplate.execute(any(RetryCallback.class))).thenAnswer(
-      invocation -> invocation.<RetryCallback>getArgument(0).doWithRetry(null));
-    var searchIds = randomIds();
-    doReturn(searchResponse(searchIds)).when(esClient).search(searchRequest(), DEFAULT);
-    doReturn(searchResponse(emptyList())).when(esClient).scroll(scrollRequest(), DEFAULT);
-    doReturn(new ClearScrollResponse(false, 0)).when(esClient).clearScroll(any(ClearScrollRequest.class), eq(DEFAULT));
+  void streamResourceIds_positive_pooledTenant() throws Throwable {
+    var instanceIds = randomIds();
+    mockRetryTemplate();
+    mockPointInTime();
+    when(tenantRoutingProvider.getRouting(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(TENANT_ID);
+    when(tenantRoutingProvider.isTenantQualifiedId(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(true);
+    var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+    doReturn(pooledSearchResponse(instanceIds), emptyResponse())
+      .when(esClient).search(searchRequestCaptor.capture(), eq(DEFAULT));
 
     var request = CqlResourceIdsRequest.of(INSTANCE_RESOURCE, TENANT_ID, "query", INSTANCE_ID_PATH);
     var actualIds = new ArrayList<String>();
 
     searchRepository.streamResourceIds(request, searchSource(), actualIds::addAll);
 
-    assertThat(actualIds).isEqualTo(searchIds);
+    assertThat(actualIds).isEqualTo(instanceIds);
+    assertThat(searchRequestCaptor.getValue().source().docValueFields())
+      .extracting(fieldAndFormat -> fieldAndFormat.field)
+      .containsExactly(INSTANCE_ID_PATH);
+    assertThat(searchRequestCaptor.getValue().source().query())
+      .isEqualTo(boolQuery().must(matchAllQuery()).filter(termQuery("tenantId", TENANT_ID)));
+  }
+
+  @Test
+  void streamResourceIds_positive_docValueFieldsInSlices() throws Throwable {
+    var holdingIds = randomIds();
+    mockRetryTemplate();
+    mockPointInTime();
+    when(streamIdsProperties.getSlicesCount()).thenReturn(2);
+    var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+    doReturn(searchResponse(holdingIds, HOLDINGS_ID_PATH), searchResponse(emptyList()), searchResponse(emptyList()))
+      .when(esClient).search(searchRequestCaptor.capture(), eq(DEFAULT));
+
+    var request = CqlResourceIdsRequest.of(INSTANCE_RESOURCE, TENANT_ID, "query", HOLDINGS_ID_PATH);
+    var actualIds = new ArrayList<String>();
+
+    searchRepository.streamResourceIds(request, searchSource(), actualIds::addAll);
+
+    assertThat(actualIds).isEqualTo(holdingIds);
+    assertThat(searchRequestCaptor.getAllValues())
+      .allSatisfy(searchRequest -> assertThat(searchRequest.indices()).isEmpty())
+      .extracting(searchRequest -> searchRequest.source().slice().getId())
+      .containsExactlyInAnyOrder(0, 0, 1);
+    verify(streamIdsExecutor).execute(any(Runnable.class));
+  }
+
+  @Test
+  void streamResourceIds_positive_executorSliceBatchesConsumedByCallingThread() throws Throwable {
+    var sliceIds = List.of(randomIds(), randomIds());
+    mockRetryTemplate();
+    mockPointInTime();
+    when(streamIdsProperties.getSlicesCount()).thenReturn(2);
+    doAnswer(invocation -> {
+      new Thread(invocation.<Runnable>getArgument(0)).start();
+      return null;
+    }).when(streamIdsExecutor).execute(any(Runnable.class));
+    when(esClient.search(any(SearchRequest.class), eq(DEFAULT))).thenAnswer(invocation -> {
+      var source = invocation.<SearchRequest>getArgument(0).source();
+      return source.searchAfter() == null ? searchResponse(sliceIds.get(source.slice().getId())) : emptyResponse();
+    });
+
+    var request = CqlResourceIdsRequest.of(INSTANCE_RESOURCE, TENANT_ID, "query", INSTANCE_ID_PATH);
+    var actualIds = new ArrayList<List<String>>();
+    var consumerThreads = new ArrayList<Thread>();
+
+    searchRepository.streamResourceIds(request, searchSource(), ids -> {
+      consumerThreads.add(Thread.currentThread());
+      actualIds.add(ids);
+    });
+
+    assertThat(actualIds).containsExactlyInAnyOrderElementsOf(sliceIds);
+    assertThat(consumerThreads).containsOnly(Thread.currentThread());
+    verify(esClient).deletePit(any(DeletePitRequest.class), eq(DEFAULT));
+  }
+
+  @Test
+  void streamResourceIds_positive_pointInTimeIdIsUpdatedFromResponse() throws Throwable {
+    var newPitId = randomId();
+    var requestedPitIds = new ArrayList<String>();
+    mockRetryTemplate();
+    mockPointInTime();
+    when(esClient.search(any(SearchRequest.class), eq(DEFAULT))).thenAnswer(invocation -> {
+      requestedPitIds.add(invocation.<SearchRequest>getArgument(0).source().pointInTimeBuilder().getId());
+      return requestedPitIds.size() == 1 ? searchResponse(randomIds(), null, newPitId) : emptyResponse();
+    });
+
+    var request = CqlResourceIdsRequest.of(INSTANCE_RESOURCE, TENANT_ID, "query", INSTANCE_ID_PATH);
+    searchRepository.streamResourceIds(request, searchSource(), ids -> { });
+
+    assertThat(requestedPitIds).containsExactly(PIT_ID, newPitId);
+  }
+
+  @Test
+  void streamResourceIds_negative_pointInTimeIsDeletedOnFailure() throws Throwable {
+    mockRetryTemplate();
+    mockPointInTime();
+    when(esClient.search(any(SearchRequest.class), eq(DEFAULT))).thenThrow(new IOException("timeout"));
+
+    var request = CqlResourceIdsRequest.of(INSTANCE_RESOURCE, TENANT_ID, "query", INSTANCE_ID_PATH);
+    var searchSource = searchSource();
+
+    assertThatThrownBy(() -> searchRepository.streamResourceIds(request, searchSource, ids -> { }))
+      .isInstanceOf(SearchOperationException.class)
+      .hasMessageContaining("timeout");
+    verify(esClient).deletePit(any(DeletePitRequest.class), eq(DEFAULT));
   }
 
   @Test
@@ -190,25 +342,105 @@ class SearchRepositoryTest {
       SearchServiceException.class).hasMessage("Failed to perform multi-search operation [errors: []]");
   }
 
+  @Test
+  void msearchAsync_positive() {
+    var searchSource = searchSource().query(matchAllQuery()).from(0).size(10);
+    var multiSearchRequest = new MultiSearchRequest();
+    multiSearchRequest.add(new SearchRequest().indices(INDEX_NAME).source(searchSource));
+
+    var multiSearchResponse = mock(MultiSearchResponse.class);
+    when(multiSearchResponse.getResponses()).thenReturn(array(mock(Item.class)));
+    doAnswer(invocation -> {
+      invocation.<ActionListener<MultiSearchResponse>>getArgument(2).onResponse(multiSearchResponse);
+      return null;
+    }).when(esClient).msearchAsync(eq(multiSearchRequest), eq(DEFAULT), any());
+
+    var searchRequest = searchServiceRequest(Instance.class, "query");
+    var actual = searchRepository.msearchAsync(searchRequest, List.of(searchSource));
+    assertThat(actual).isCompletedWithValue(multiSearchResponse);
+  }
+
+  @Test
+  void msearchAsync_negative_oneOfSearchRequestsFailWithError() {
+    var multiSearchResponse = mock(MultiSearchResponse.class);
+    var responseItem = mock(Item.class);
+    when(multiSearchResponse.getResponses()).thenReturn(array(responseItem));
+    when(responseItem.getFailure()).thenReturn(new Exception("error"));
+    when(responseItem.getFailureMessage()).thenReturn("all-shards failed");
+    doAnswer(invocation -> {
+      invocation.<ActionListener<MultiSearchResponse>>getArgument(2).onResponse(multiSearchResponse);
+      return null;
+    }).when(esClient).msearchAsync(any(MultiSearchRequest.class), eq(DEFAULT), any());
+
+    var searchRequest = searchServiceRequest(Instance.class, "query");
+    var actual = searchRepository.msearchAsync(searchRequest, List.of(searchSource()));
+    assertThat(actual).failsWithin(Duration.ZERO)
+      .withThrowableOfType(ExecutionException.class)
+      .havingCause()
+      .isInstanceOf(SearchServiceException.class)
+      .hasMessage("Failed to perform multi-search operation [errors: [all-shards failed]]");
+  }
+
   private static List<String> randomIds() {
     return IntStream.range(0, 10).mapToObj(i -> randomId()).toList();
   }
 
-  private static SearchRequest searchRequest() {
-    return new SearchRequest().indices(INDEX_NAME).source(searchSource()).scroll(KEEP_ALIVE_INTERVAL);
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void mockRetryTemplate() throws Throwable {
+    when(retryTemplate.execute(any(RetryCallback.class))).thenAnswer(
+      invocation -> invocation.<RetryCallback>getArgument(0).doWithRetry(null));
   }
 
-  private static SearchScrollRequest scrollRequest() {
-    return new SearchScrollRequest(SCROLL_ID).scroll(KEEP_ALIVE_INTERVAL);
+  private void mockPointInTime() throws IOException {
+    var createPitResponse = mock(CreatePitResponse.class);
+    when(createPitResponse.getId()).thenReturn(PIT_ID);
+    when(esClient.createPit(any(CreatePitRequest.class), eq(DEFAULT))).thenReturn(createPitResponse);
+    lenient().when(esClient.deletePit(any(DeletePitRequest.class), eq(DEFAULT)))
+      .thenReturn(mock(DeletePitResponse.class));
   }
 
   private static SearchResponse searchResponse(List<String> ids) {
+    return searchResponse(ids, null);
+  }
+
+  private static SearchResponse emptyResponse() {
+    return searchResponse(emptyList());
+  }
+
+  private static SearchResponse searchResponse(List<String> ids, String docValueField) {
+    return searchResponse(ids, docValueField, null);
+  }
+
+  private static SearchResponse searchResponse(List<String> ids, String docValueField, String pitId) {
     var totalHits = new TotalHits(20L, Relation.EQUAL_TO);
     var searchHitsArray = ids.stream()
-      .map(id -> createFromMap(mapOf("_id", id, "_source", new BytesArray(asJsonString(mapOf("id", id))))))
+      .map(id -> searchHit(id, docValueField))
       .toArray(SearchHit[]::new);
     var searchHits = new SearchHits(searchHitsArray, totalHits, 10.0f);
     var searchResponseSections = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
-    return new SearchResponse(searchResponseSections, SCROLL_ID, 1, 1, 0, 100, array(), null);
+    return new SearchResponse(searchResponseSections, null, 1, 1, 0, 100, array(), null, pitId);
+  }
+
+  private static SearchResponse pooledSearchResponse(List<String> ids) {
+    var searchHitsArray = ids.stream()
+      .map(id -> {
+        var documentFields = Map.of(INSTANCE_ID_PATH, new DocumentField(INSTANCE_ID_PATH, List.of(id)));
+        var searchHit = new SearchHit(0, id + "|" + TENANT_ID, documentFields, Map.of());
+        searchHit.sortValues(new Object[] {id}, new DocValueFormat[] {DocValueFormat.RAW});
+        return searchHit;
+      })
+      .toArray(SearchHit[]::new);
+    var searchHits = new SearchHits(searchHitsArray, new TotalHits(20L, Relation.EQUAL_TO), 10.0f);
+    var searchResponseSections = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+    return new SearchResponse(searchResponseSections, null, 1, 1, 0, 100, array(), null, null);
+  }
+
+  private static SearchHit searchHit(String id, String docValueField) {
+    var documentFields = docValueField == null
+                         ? Map.<String, DocumentField>of()
+                         : Map.of(docValueField, new DocumentField(docValueField, List.of(id)));
+    var searchHit = new SearchHit(0, id, documentFields, Map.of());
+    searchHit.sortValues(new Object[] {id}, new DocValueFormat[] {DocValueFormat.RAW});
+    return searchHit;
   }
 }
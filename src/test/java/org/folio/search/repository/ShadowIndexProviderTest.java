@@ -0,0 +1,54 @@
+package org.folio.search.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestConstants.INDEX_NAME;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Set;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ShadowIndexProviderTest {
+
+  private static final String SHADOW_ALIAS = INDEX_NAME + "_reindex";
+
+  private ShadowIndexProvider shadowIndexProvider;
+  @Mock
+  private IndexRepository indexRepository;
+  @Mock
+  private IndexNameProvider indexNameProvider;
+
+  @BeforeEach
+  void setUp() {
+    shadowIndexProvider = new ShadowIndexProvider(Caffeine.newBuilder().build(), indexRepository, indexNameProvider);
+    when(indexNameProvider.getShadowIndexAlias(INDEX_NAME)).thenReturn(SHADOW_ALIAS);
+  }
+
+  @Test
+  void getShadowIndex_positive() {
+    when(indexRepository.getAliasIndices(SHADOW_ALIAS)).thenReturn(Set.of(INDEX_NAME + "_1"));
+
+    assertThat(shadowIndexProvider.getShadowIndex(INDEX_NAME)).contains(INDEX_NAME + "_1");
+    assertThat(shadowIndexProvider.getShadowIndex(INDEX_NAME)).contains(INDEX_NAME + "_1");
+    verify(indexRepository).getAliasIndices(SHADOW_ALIAS);
+  }
+
+  @Test
+  void getShadowIndex_positive_lookupIsReloadedAfterInvalidation() {
+    when(indexRepository.getAliasIndices(SHADOW_ALIAS)).thenReturn(Set.of(), Set.of(INDEX_NAME + "_1"));
+
+    assertThat(shadowIndexProvider.getShadowIndex(INDEX_NAME)).isEmpty();
+    shadowIndexProvider.invalidate(INDEX_NAME);
+    assertThat(shadowIndexProvider.getShadowIndex(INDEX_NAME)).contains(INDEX_NAME + "_1");
+    verify(indexRepository, times(2)).getAliasIndices(SHADOW_ALIAS);
+  }
+}
@@ -0,0 +1,158 @@
+package org.folio.search.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.model.types.IndexActionType.INDEX;
+import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_SUBJECT_RESOURCE;
+import static org.folio.search.utils.SearchUtils.LOCATION_RESOURCE;
+import static org.folio.search.utils.TestConstants.CENTRAL_TENANT_ID;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.randomId;
+import static org.folio.search.utils.TestUtils.resourceEvent;
+
+import java.util.Set;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.model.index.SearchDocumentBody;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class TenantRoutingProviderTest {
+
+  private static final String OTHER_TENANT_ID = "other_tenant";
+
+  private final SearchConfigurationProperties searchConfiguration = new SearchConfigurationProperties();
+  private final TenantRoutingProvider tenantRoutingProvider = new TenantRoutingProvider(searchConfiguration);
+
+  @BeforeEach
+  void setUp() {
+    var indexingSettings = new SearchConfigurationProperties.IndexingSettings();
+    indexingSettings.setInstanceTenantRoutingEnabled(true);
+    searchConfiguration.setIndexing(indexingSettings);
+  }
+
+  @Test
+  void isTenantRoutingEnabled_positive() {
+    assertThat(tenantRoutingProvider.isTenantRoutingEnabled(INSTANCE_RESOURCE)).isTrue();
+    assertThat(tenantRoutingProvider.isTenantRoutingEnabled(INSTANCE_SUBJECT_RESOURCE)).isFalse();
+  }
+
+  @Test
+  void isTenantRoutingEnabled_negative_disabled() {
+    searchConfiguration.getIndexing().setInstanceTenantRoutingEnabled(false);
+    assertThat(tenantRoutingProvider.isTenantRoutingEnabled(INSTANCE_RESOURCE)).isFalse();
+  }
+
+  @Test
+  void getRouting_positive_memberTenantInstance() {
+    var document = document(INSTANCE_RESOURCE, TENANT_ID);
+    assertThat(tenantRoutingProvider.getRouting(document)).isEqualTo(TENANT_ID);
+  }
+
+  @Test
+  void getRouting_positive_centralTenantInstance() {
+    var document = document(INSTANCE_RESOURCE, CENTRAL_TENANT_ID);
+    assertThat(tenantRoutingProvider.getRouting(document)).isNull();
+  }
+
+  @Test
+  void getRouting_positive_notInstanceResource() {
+    var document = document(INSTANCE_SUBJECT_RESOURCE, TENANT_ID);
+    assertThat(tenantRoutingProvider.getRouting(document)).isNull();
+  }
+
+  @Test
+  void getRouting_positive_disabled() {
+    searchConfiguration.getIndexing().setInstanceTenantRoutingEnabled(false);
+    var document = document(INSTANCE_RESOURCE, TENANT_ID);
+    assertThat(tenantRoutingProvider.getRouting(document)).isNull();
+  }
+
+  @Test
+  void isPooledTenant_positive() {
+    enablePooledTenancy();
+
+    assertThat(tenantRoutingProvider.isPooledTenant(INSTANCE_RESOURCE, TENANT_ID)).isTrue();
+    assertThat(tenantRoutingProvider.isPooledTenant(INSTANCE_SUBJECT_RESOURCE, TENANT_ID)).isFalse();
+    assertThat(tenantRoutingProvider.isPooledTenant(INSTANCE_RESOURCE, CENTRAL_TENANT_ID)).isFalse();
+  }
+
+  @Test
+  void isPooledTenant_negative_disabled() {
+    searchConfiguration.getPooledTenancy().setTenants(Set.of(TENANT_ID));
+    assertThat(tenantRoutingProvider.isPooledTenant(INSTANCE_RESOURCE, TENANT_ID)).isFalse();
+  }
+
+  @Test
+  void getRouting_positive_pooledTenant() {
+    enablePooledTenancy();
+
+    assertThat(tenantRoutingProvider.getRouting(AUTHORITY_RESOURCE, TENANT_ID)).isEqualTo(TENANT_ID);
+    assertThat(tenantRoutingProvider.getRouting(AUTHORITY_RESOURCE, CENTRAL_TENANT_ID)).isNull();
+  }
+
+  @Test
+  void getRouting_positive_pooledTenantDocument() {
+    enablePooledTenancy();
+    var id = randomId();
+    var event = resourceEvent(id, AUTHORITY_RESOURCE, mapOf("id", id, "tenantId", TENANT_ID));
+    var document = SearchDocumentBody.of(null, null, event, INDEX);
+
+    assertThat(tenantRoutingProvider.getRouting(document)).isEqualTo(TENANT_ID);
+  }
+
+  @Test
+  void getDocumentId_positive_pooledTenantsWithSameResourceId() {
+    enablePooledTenancy();
+    searchConfiguration.getPooledTenancy().setTenants(Set.of(TENANT_ID, OTHER_TENANT_ID));
+    var id = randomId();
+
+    assertThat(tenantRoutingProvider.getDocumentId(INSTANCE_RESOURCE, TENANT_ID, id)).isEqualTo(id + "|" + TENANT_ID);
+    assertThat(tenantRoutingProvider.getDocumentId(INSTANCE_RESOURCE, OTHER_TENANT_ID, id))
+      .isEqualTo(id + "|" + OTHER_TENANT_ID);
+    assertThat(tenantRoutingProvider.getDocumentId(AUTHORITY_RESOURCE, TENANT_ID, id)).isEqualTo(id + "|" + TENANT_ID);
+  }
+
+  @Test
+  void isTenantQualifiedId_positive() {
+    enablePooledTenancy();
+
+    assertThat(tenantRoutingProvider.isTenantQualifiedId(INSTANCE_RESOURCE, TENANT_ID)).isTrue();
+    assertThat(tenantRoutingProvider.isTenantQualifiedId(LOCATION_RESOURCE, TENANT_ID)).isFalse();
+    assertThat(tenantRoutingProvider.isTenantQualifiedId(INSTANCE_RESOURCE, CENTRAL_TENANT_ID)).isFalse();
+  }
+
+  @Test
+  void getDocumentId_positive_notQualified() {
+    enablePooledTenancy();
+    var id = randomId();
+
+    assertThat(tenantRoutingProvider.getDocumentId(INSTANCE_RESOURCE, CENTRAL_TENANT_ID, id)).isEqualTo(id);
+    assertThat(tenantRoutingProvider.getDocumentId(INSTANCE_SUBJECT_RESOURCE, TENANT_ID, id)).isEqualTo(id);
+    assertThat(tenantRoutingProvider.getDocumentId(LOCATION_RESOURCE, TENANT_ID, id)).isEqualTo(id);
+  }
+
+  @Test
+  void getDocumentId_positive_pooledTenantDocument() {
+    enablePooledTenancy();
+    var id = randomId();
+    var event = resourceEvent(id, INSTANCE_RESOURCE, mapOf("id", id, "tenantId", TENANT_ID));
+    var document = SearchDocumentBody.of(null, null, event, INDEX);
+
+    assertThat(tenantRoutingProvider.getDocumentId(document)).isEqualTo(id + "|" + TENANT_ID);
+  }
+
+  private void enablePooledTenancy() {
+    searchConfiguration.getPooledTenancy().setEnabled(true);
+    searchConfiguration.getPooledTenancy().setTenants(Set.of(TENANT_ID));
+  }
+
+  private static SearchDocumentBody document(String resource, String ownerTenantId) {
+    var id = randomId();
+    var event = resourceEvent(id, resource, mapOf("id", id, "tenantId", ownerTenantId)).tenant(CENTRAL_TENANT_ID);
+    return SearchDocumentBody.of(null, null, event, INDEX);
+  }
+}
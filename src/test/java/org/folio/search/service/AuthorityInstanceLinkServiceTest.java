@@ -0,0 +1,181 @@
+package org.folio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.domain.dto.ResourceEventType.CREATE;
+import static org.folio.search.domain.dto.ResourceEventType.DELETE;
+import static org.folio.search.domain.dto.ResourceEventType.REINDEX;
+import static org.folio.search.domain.dto.ResourceEventType.UPDATE;
+import static org.folio.search.utils.SearchUtils.AUTHORITY_ID_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
+import static org.folio.search.utils.TestConstants.CENTRAL_TENANT_ID;
+import static org.folio.search.utils.TestConstants.RESOURCE_ID;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.resourceEvent;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
+import org.folio.search.repository.authority.AuthorityInstanceLinkEntity;
+import org.folio.search.repository.authority.AuthorityInstanceLinkRepository;
+import org.folio.search.service.consortium.ConsortiumTenantExecutor;
+import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.service.metadata.SearchFieldProvider;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthorityInstanceLinkServiceTest {
+
+  private static final List<String> AUTHORITY_ID_FIELDS = List.of("contributors.authorityId", "subjects.authorityId");
+
+  @Mock
+  private FolioExecutionContext context;
+  @Mock
+  private FeatureConfigService featureConfigService;
+  @Mock
+  private SearchFieldProvider searchFieldProvider;
+  @Mock
+  private ConsortiumTenantService consortiumTenantService;
+  @Mock
+  private ConsortiumTenantExecutor consortiumTenantExecutor;
+  @Mock
+  private AuthorityInstanceLinkRepository authorityInstanceLinkRepository;
+  @InjectMocks
+  private AuthorityInstanceLinkService authorityInstanceLinkService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(featureConfigService.isEnabled(TenantConfiguredFeature.AUTHORITY_TITLES_COUNT_PRECOMPUTED))
+      .thenReturn(true);
+    lenient().when(searchFieldProvider.getFields(INSTANCE_RESOURCE, AUTHORITY_ID_FIELD))
+      .thenReturn(AUTHORITY_ID_FIELDS);
+    lenient().when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.empty());
+  }
+
+  @Test
+  void updateLinks_positive_createEvent() {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, instance("MARC", "a1", "a2", "a1"), null);
+
+    authorityInstanceLinkService.updateLinks(event);
+
+    verify(authorityInstanceLinkRepository).deleteByInstanceId(RESOURCE_ID, TENANT_ID);
+    verify(authorityInstanceLinkRepository).saveAll(List.of(link("a1", false), link("a2", false)));
+  }
+
+  @Test
+  void updateLinks_positive_sharedInstance() {
+    when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(TENANT_ID));
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, instance("MARC", "a1"), null);
+
+    authorityInstanceLinkService.updateLinks(event);
+
+    verify(authorityInstanceLinkRepository).deleteByInstanceId(RESOURCE_ID, TENANT_ID);
+    verify(authorityInstanceLinkRepository).saveAll(List.of(link("a1", true)));
+  }
+
+  @Test
+  void updateLinks_positive_updateEventWithSameAuthorities() {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, UPDATE, instance("MARC", "a1"), instance("MARC", "a1"));
+
+    authorityInstanceLinkService.updateLinks(event);
+
+    verifyNoInteractions(authorityInstanceLinkRepository);
+  }
+
+  @Test
+  void updateLinks_positive_reindexEventWithSameAuthorities() {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, REINDEX, instance("MARC", "a1"), instance("MARC", "a1"));
+
+    authorityInstanceLinkService.updateLinks(event);
+
+    verify(authorityInstanceLinkRepository).deleteByInstanceId(RESOURCE_ID, TENANT_ID);
+    verify(authorityInstanceLinkRepository).saveAll(List.of(link("a1", false)));
+  }
+
+  @Test
+  void updateLinks_positive_instanceSharing() {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, UPDATE,
+      instance(SOURCE_CONSORTIUM_PREFIX + "MARC", "a1"), instance("MARC", "a1"));
+
+    authorityInstanceLinkService.updateLinks(event);
+
+    verify(authorityInstanceLinkRepository).deleteByInstanceId(RESOURCE_ID, TENANT_ID);
+    verify(authorityInstanceLinkRepository).saveAll(List.of());
+  }
+
+  @Test
+  void updateLinks_positive_deleteEvent() {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, DELETE, null, instance("MARC", "a1"));
+
+    authorityInstanceLinkService.updateLinks(event);
+
+    verify(authorityInstanceLinkRepository).deleteByInstanceId(RESOURCE_ID, TENANT_ID);
+    verify(authorityInstanceLinkRepository).saveAll(List.of());
+  }
+
+  @Test
+  void updateLinks_positive_featureDisabled() {
+    when(featureConfigService.isEnabled(TenantConfiguredFeature.AUTHORITY_TITLES_COUNT_PRECOMPUTED)).thenReturn(false);
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, instance("MARC", "a1"), null);
+
+    authorityInstanceLinkService.updateLinks(event);
+
+    verifyNoInteractions(authorityInstanceLinkRepository);
+  }
+
+  @Test
+  void getNumberOfTitles_positive_notInConsortium() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(authorityInstanceLinkRepository.countInstancesByAuthorityIds(Set.of("a1"), null, false))
+      .thenReturn(Map.of("a1", 3));
+
+    var actual = authorityInstanceLinkService.getNumberOfTitles(Set.of("a1"));
+
+    assertThat(actual).isEqualTo(Map.of("a1", 3));
+    verifyNoInteractions(consortiumTenantExecutor);
+  }
+
+  @Test
+  void getNumberOfTitles_positive_memberTenant() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(CENTRAL_TENANT_ID));
+    when(consortiumTenantExecutor.execute(any())).thenAnswer(inv -> ((Supplier<?>) inv.getArgument(0)).get());
+    when(authorityInstanceLinkRepository.countInstancesByAuthorityIds(Set.of("a1"), TENANT_ID, true))
+      .thenReturn(Map.of("a1", 3));
+
+    var actual = authorityInstanceLinkService.getNumberOfTitles(Set.of("a1"));
+
+    assertThat(actual).isEqualTo(Map.of("a1", 3));
+    verify(authorityInstanceLinkRepository).countInstancesByAuthorityIds(Set.of("a1"), TENANT_ID, true);
+    verifyNoMoreInteractions(authorityInstanceLinkRepository);
+  }
+
+  private static Map<String, Object> instance(String source, String... authorityIds) {
+    var contributors = Arrays.stream(authorityIds).map(id -> mapOf("authorityId", id)).toList();
+    return mapOf("id", RESOURCE_ID, "source", source, "contributors", contributors,
+      "subjects", List.of(mapOf("value", "subject")));
+  }
+
+  private static AuthorityInstanceLinkEntity link(String authorityId, boolean shared) {
+    return new AuthorityInstanceLinkEntity(authorityId, RESOURCE_ID, TENANT_ID, shared);
+  }
+}
@@ -0,0 +1,105 @@
+package org.folio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestConstants.INDEX_NAME;
+import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
+import static org.folio.search.utils.TestUtils.defaultFacetServiceRequest;
+import static org.folio.search.utils.TestUtils.facet;
+import static org.folio.search.utils.TestUtils.facetItem;
+import static org.folio.search.utils.TestUtils.facetResult;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.mockito.Mockito.when;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.folio.search.domain.dto.FacetResult;
+import org.folio.search.model.service.CqlFacetRequest;
+import org.folio.search.repository.IndexGenerationTracker;
+import org.folio.search.repository.IndexNameProvider;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class FacetCacheServiceTest {
+
+  private static final CqlFacetRequest REQUEST =
+    defaultFacetServiceRequest(RESOURCE_NAME, "cql.allRecords=1", "source");
+  private static final FacetResult FACET_RESULT = facetResult(mapOf("source", facet(List.of(facetItem("MARC", 10)))));
+
+  private FacetCacheService facetCacheService;
+  private IndexGenerationTracker indexGenerationTracker;
+  private AtomicInteger loadsCounter;
+  @Mock
+  private IndexNameProvider indexNameProvider;
+
+  @BeforeEach
+  void setUp() {
+    indexGenerationTracker = new IndexGenerationTracker();
+    facetCacheService = new FacetCacheService(Caffeine.newBuilder().build(), indexNameProvider, indexGenerationTracker);
+    loadsCounter = new AtomicInteger();
+    when(indexNameProvider.getIndexName(REQUEST)).thenReturn(INDEX_NAME);
+  }
+
+  @Test
+  void getFacets_positive_cachedResult() {
+    var searchSource = searchSource().query(matchAllQuery()).size(0);
+
+    var firstResult = facetCacheService.getFacets(REQUEST, searchSource, facetLoader());
+    var secondResult = facetCacheService.getFacets(REQUEST, searchSource, facetLoader());
+
+    assertThat(firstResult).isEqualTo(FACET_RESULT);
+    assertThat(secondResult).isEqualTo(FACET_RESULT);
+    assertThat(loadsCounter.get()).isEqualTo(1);
+  }
+
+  @Test
+  void getFacets_positive_cachedResultIsNotModifiedByCaller() {
+    var searchSource = searchSource().query(matchAllQuery()).size(0);
+
+    var firstResult = facetCacheService.getFacets(REQUEST, searchSource, () -> facetResult(
+      mapOf("source", facet(new ArrayList<>(List.of(facetItem("MARC", 10)))))));
+    firstResult.getFacets().get("source").getValues().clear();
+    var secondResult = facetCacheService.getFacets(REQUEST, searchSource, facetLoader());
+    secondResult.getFacets().clear();
+    var thirdResult = facetCacheService.getFacets(REQUEST, searchSource, facetLoader());
+
+    assertThat(thirdResult).isEqualTo(FACET_RESULT);
+    assertThat(loadsCounter.get()).isZero();
+  }
+
+  @Test
+  void getFacets_positive_differentSearchSource() {
+    facetCacheService.getFacets(REQUEST, searchSource().query(matchAllQuery()).size(0), facetLoader());
+    facetCacheService.getFacets(REQUEST, searchSource().query(matchAllQuery()).size(1), facetLoader());
+    assertThat(loadsCounter.get()).isEqualTo(2);
+  }
+
+  @Test
+  void getFacets_positive_invalidatedByIndexWrite() {
+    var searchSource = searchSource().query(matchAllQuery()).size(0);
+
+    facetCacheService.getFacets(REQUEST, searchSource, facetLoader());
+    indexGenerationTracker.incrementGenerations(List.of(INDEX_NAME));
+    facetCacheService.getFacets(REQUEST, searchSource, facetLoader());
+    facetCacheService.getFacets(REQUEST, searchSource, facetLoader());
+
+    assertThat(loadsCounter.get()).isEqualTo(3);
+  }
+
+  private Supplier<FacetResult> facetLoader() {
+    return () -> {
+      loadsCounter.incrementAndGet();
+      return FACET_RESULT;
+    };
+  }
+}
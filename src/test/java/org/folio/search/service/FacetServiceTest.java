@@ -3,6 +3,8 @@ package org.folio.search.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
 import static org.folio.search.utils.TestUtils.defaultFacetServiceRequest;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
 import static org.opensearch.index.query.QueryBuilders.matchQuery;
@@ -11,6 +13,7 @@ import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.folio.search.cql.CqlSearchQueryConverter;
 import org.folio.search.cql.FacetQueryBuilder;
 import org.folio.search.domain.dto.FacetResult;
@@ -18,6 +21,7 @@ import org.folio.search.model.service.CqlFacetRequest;
 import org.folio.search.repository.SearchRepository;
 import org.folio.search.service.converter.ElasticsearchFacetConverter;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -47,6 +51,14 @@ class FacetServiceTest {
   private SearchResponse searchResponse;
   @Mock
   private Aggregations aggregations;
+  @Mock
+  private FacetCacheService facetCacheService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(facetCacheService.getFacets(any(), any(), any()))
+      .thenAnswer(invocation -> invocation.<Supplier<FacetResult>>getArgument(2).get());
+  }
 
   @Test
   void getFacets_positive() {
@@ -111,6 +123,37 @@ class FacetServiceTest {
     assertThat(actual).isEqualTo(new FacetResult());
   }
 
+  @Test
+  void addFacetAggregations_positive_filtersMovedToPostFilter() {
+    var matchQuery = matchQuery("title", "value");
+    var sourceFilter = termQuery("source", "MARC");
+    var locationFilter = termQuery("items.effectiveLocationId", "location");
+    var boolQuery = boolQuery().must(matchQuery).filter(sourceFilter).filter(locationFilter);
+    var request = facetRequest("source");
+    var sourceAggregation = AggregationBuilders.terms("source").field("source").size(Integer.MAX_VALUE);
+    when(facetQueryBuilder.getFacetAggregations(request, boolQuery)).thenReturn(List.of(sourceAggregation));
+
+    var searchSource = searchSource().query(boolQuery).size(10);
+    facetService.addFacetAggregations(request, searchSource);
+
+    assertThat(searchSource).isEqualTo(searchSource().size(10).aggregation(sourceAggregation)
+      .query(boolQuery().must(matchQuery).filter(locationFilter))
+      .postFilter(boolQuery().filter(sourceFilter)));
+  }
+
+  @Test
+  void addFacetAggregations_positive_queryWithoutFilters() {
+    var query = matchQuery("title", "value");
+    var request = facetRequest("source");
+    var sourceAggregation = AggregationBuilders.terms("source").field("source").size(Integer.MAX_VALUE);
+    when(facetQueryBuilder.getFacetAggregations(request, query)).thenReturn(List.of(sourceAggregation));
+
+    var searchSource = searchSource().query(query);
+    facetService.addFacetAggregations(request, searchSource);
+
+    assertThat(searchSource).isEqualTo(searchSource().query(query).aggregation(sourceAggregation));
+  }
+
   private static CqlFacetRequest facetRequest(String... facetNames) {
     return defaultFacetServiceRequest(RESOURCE_NAME, QUERY, facetNames);
   }
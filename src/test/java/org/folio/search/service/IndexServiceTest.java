@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.domain.dto.ReindexRequest.ResourceNameEnum.AUTHORITY;
 import static org.folio.search.domain.dto.ReindexRequest.ResourceNameEnum.LOCATION;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessFolioCreateIndexResponse;
+import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
 import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
@@ -18,11 +19,12 @@ import static org.folio.search.utils.TestConstants.INDEX_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.resourceDescription;
-import static org.folio.search.utils.TestUtils.secondaryResourceDescription;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -30,24 +32,30 @@ import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.folio.search.client.ResourceReindexClient;
+import org.folio.search.domain.dto.CompleteReindexRequest;
 import org.folio.search.domain.dto.IndexDynamicSettings;
 import org.folio.search.domain.dto.IndexSettings;
 import org.folio.search.domain.dto.ReindexJob;
 import org.folio.search.domain.dto.ReindexRequest;
 import org.folio.search.exception.RequestValidationException;
+import org.folio.search.exception.SearchServiceException;
 import org.folio.search.repository.IndexNameProvider;
 import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.TenantRoutingProvider;
 import org.folio.search.service.consortium.ConsortiumInstanceService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.search.service.es.SearchMappingsHelper;
 import org.folio.search.service.es.SearchSettingsHelper;
 import org.folio.search.service.metadata.ResourceDescriptionService;
+import org.folio.search.service.reindex.ReindexPipelineService;
+import org.folio.search.service.reindex.ShadowIndexService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -84,9 +92,17 @@ class IndexServiceTest {
   private ConsortiumInstanceService consortiumInstanceService;
   @Mock
   private LocationService locationService;
+  @Mock
+  private ShadowIndexService shadowIndexService;
+  @Mock
+  private ReindexPipelineService reindexPipelineService;
+  @Mock
+  private IngestModeService ingestModeService;
 
   @Mock
   private TenantProvider tenantProvider;
+  @Mock
+  private TenantRoutingProvider tenantRoutingProvider;
 
   @BeforeEach
   void setUp() {
@@ -247,24 +263,24 @@ class IndexServiceTest {
   @Test
   void reindexInventory_positive_recreateIndexIsTrue() {
     var indexName = getIndexName(INSTANCE_RESOURCE, TENANT_ID);
-    var createIndexResponse = getSuccessFolioCreateIndexResponse(List.of(indexName));
     var expectedResponse = new ReindexJob().id(randomId());
     var expectedUri = URI.create("http://instance-storage/reindex");
 
     when(resourceReindexClient.submitReindex(expectedUri)).thenReturn(expectedResponse);
-    when(mappingsHelper.getMappings(INSTANCE_RESOURCE)).thenReturn(EMPTY_OBJECT);
     when(settingsHelper.getSettingsJson(INSTANCE_RESOURCE)).thenReturn(EMPTY_JSON_OBJECT);
-    when(indexRepository.indexExists(indexName)).thenReturn(true, false);
-    when(indexRepository.createIndex(indexName, EMPTY_OBJECT, EMPTY_OBJECT)).thenReturn(createIndexResponse);
+    when(indexRepository.indexExists(indexName)).thenReturn(true);
     when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(
       Optional.of(resourceDescription(INSTANCE_RESOURCE)));
 
     var actual = indexService.reindexInventory(TENANT_ID, new ReindexRequest().recreateIndex(true));
 
     assertThat(actual).isEqualTo(expectedResponse);
-    verify(indexRepository).dropIndex(indexName);
-    verify(consortiumInstanceService).deleteAll();
+    verify(shadowIndexService).createShadowIndex(INSTANCE_RESOURCE, TENANT_ID, EMPTY_JSON_OBJECT);
+    verify(indexRepository, never()).dropIndex(any());
+    verify(shadowIndexService, never()).promoteShadowIndex(any(), any(), any());
+    verifyNoInteractions(consortiumInstanceService);
     verifyNoInteractions(locationService);
+    verifyNoInteractions(ingestModeService);
   }
 
   @Test
@@ -281,12 +297,14 @@ class IndexServiceTest {
 
     assertThat(actual).isEqualTo(expectedResponse);
     verifyNoInteractions(indexRepository);
+    verifyNoInteractions(shadowIndexService);
     verifyNoInteractions(consortiumInstanceService);
     verifyNoInteractions(locationService);
   }
 
   @Test
   void reindexInventory_positive_recreateIndexIsFalse() {
+    var indexName = getIndexName(INSTANCE_RESOURCE, TENANT_ID);
     var expectedResponse = new ReindexJob().id(randomId());
     var expectedUri = URI.create("http://instance-storage/reindex");
 
@@ -296,10 +314,74 @@ class IndexServiceTest {
 
     var actual = indexService.reindexInventory(TENANT_ID, new ReindexRequest());
     assertThat(actual).isEqualTo(expectedResponse);
+    verify(ingestModeService).enterIngestMode(indexName);
     verifyNoInteractions(locationService);
     verifyNoInteractions(consortiumInstanceService);
   }
 
+  @Test
+  void reindexInventory_positive_recreateIndexIsFalse_pooledTenant() {
+    var expectedResponse = new ReindexJob().id(randomId());
+    var expectedUri = URI.create("http://instance-storage/reindex");
+
+    when(resourceReindexClient.submitReindex(expectedUri)).thenReturn(expectedResponse);
+    when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(
+      Optional.of(resourceDescription(INSTANCE_RESOURCE)));
+    when(tenantRoutingProvider.isPooledTenant(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(true);
+
+    var actual = indexService.reindexInventory(TENANT_ID, new ReindexRequest());
+    assertThat(actual).isEqualTo(expectedResponse);
+    verifyNoInteractions(ingestModeService);
+  }
+
+  @Test
+  void reindexInventory_positive_reindexPipeline() {
+    var expectedResponse = new ReindexJob().id(randomId());
+
+    when(reindexPipelineService.isEnabled()).thenReturn(true);
+    when(reindexPipelineService.reindexInstances(TENANT_ID, true)).thenReturn(expectedResponse);
+    when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(
+      Optional.of(resourceDescription(INSTANCE_RESOURCE)));
+
+    var actual = indexService.reindexInventory(TENANT_ID, new ReindexRequest());
+    assertThat(actual).isEqualTo(expectedResponse);
+    verifyNoInteractions(resourceReindexClient);
+  }
+
+  @Test
+  void reindexInventory_positive_reindexPipelineAndRecreateIndex() {
+    var indexName = getIndexName(INSTANCE_RESOURCE, TENANT_ID);
+    var expectedResponse = new ReindexJob().id(randomId());
+
+    when(reindexPipelineService.isEnabled()).thenReturn(true);
+    when(reindexPipelineService.reindexInstances(TENANT_ID, false)).thenReturn(expectedResponse);
+    when(settingsHelper.getSettingsJson(INSTANCE_RESOURCE)).thenReturn(EMPTY_JSON_OBJECT);
+    when(indexRepository.indexExists(indexName)).thenReturn(true);
+    when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(
+      Optional.of(resourceDescription(INSTANCE_RESOURCE)));
+
+    var actual = indexService.reindexInventory(TENANT_ID, new ReindexRequest().recreateIndex(true));
+    assertThat(actual).isEqualTo(expectedResponse);
+    verify(shadowIndexService).createShadowIndex(INSTANCE_RESOURCE, TENANT_ID, EMPTY_JSON_OBJECT);
+    verifyNoInteractions(resourceReindexClient);
+  }
+
+  @Test
+  void reindexInventory_negative_reindexPipelineJobIsRunning() {
+    when(reindexPipelineService.isEnabled()).thenReturn(true);
+    doThrow(new RequestValidationException("Instances reindex is already running", "jobId", "jobId"))
+      .when(reindexPipelineService).validateNoActiveJob();
+    when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(
+      Optional.of(resourceDescription(INSTANCE_RESOURCE)));
+    var reindexRequest = new ReindexRequest().recreateIndex(true);
+
+    assertThatThrownBy(() -> indexService.reindexInventory(TENANT_ID, reindexRequest))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Instances reindex is already running");
+    verifyNoInteractions(shadowIndexService);
+    verifyNoInteractions(consortiumInstanceService);
+  }
+
   @Test
   void reindexInventory_positive_resourceNameIsNull() {
     var expectedResponse = new ReindexJob().id(randomId());
@@ -322,13 +404,11 @@ class IndexServiceTest {
 
     when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(
       Optional.of(resourceDescription(INSTANCE_RESOURCE)));
-    when(resourceDescriptionService.find(INSTANCE_SUBJECT_RESOURCE))
-      .thenReturn(Optional.of(secondaryResourceDescription(INSTANCE_SUBJECT_RESOURCE, INSTANCE_RESOURCE)));
     when(resourceReindexClient.submitReindex(expectedUri)).thenReturn(expectedResponse);
     when(resourceDescriptionService.getSecondaryResourceNames(INSTANCE_RESOURCE))
       .thenReturn(List.of(INSTANCE_SUBJECT_RESOURCE));
-    mockCreateIndexOperation(INSTANCE_RESOURCE);
-    mockCreateIndexOperation(INSTANCE_SUBJECT_RESOURCE);
+    when(settingsHelper.getSettingsJson(INSTANCE_RESOURCE)).thenReturn(EMPTY_JSON_OBJECT);
+    when(settingsHelper.getSettingsJson(INSTANCE_SUBJECT_RESOURCE)).thenReturn(EMPTY_JSON_OBJECT);
 
     var secondaryIndexName = getIndexName(INSTANCE_SUBJECT_RESOURCE, TENANT_ID);
     var instanceIndexName = getIndexName(INSTANCE_RESOURCE, TENANT_ID);
@@ -338,8 +418,9 @@ class IndexServiceTest {
     var actual = indexService.reindexInventory(TENANT_ID, new ReindexRequest().resourceName(null).recreateIndex(true));
     assertThat(actual).isEqualTo(expectedResponse);
 
-    verify(indexRepository).dropIndex(instanceIndexName);
-    verify(indexRepository).dropIndex(secondaryIndexName);
+    verify(shadowIndexService).createShadowIndex(INSTANCE_RESOURCE, TENANT_ID, EMPTY_JSON_OBJECT);
+    verify(shadowIndexService).createShadowIndex(INSTANCE_SUBJECT_RESOURCE, TENANT_ID, EMPTY_JSON_OBJECT);
+    verify(indexRepository, never()).dropIndex(any());
     verifyNoInteractions(locationService);
   }
 
@@ -385,6 +466,7 @@ class IndexServiceTest {
     when(resourceDescriptionService.find(AUTHORITY_RESOURCE)).thenReturn(
       Optional.of(resourceDescription(AUTHORITY_RESOURCE)));
     when(mappingsHelper.getMappings(AUTHORITY_RESOURCE)).thenReturn(EMPTY_OBJECT);
+    when(settingsHelper.getSettings(AUTHORITY_RESOURCE)).thenReturn(EMPTY_OBJECT);
     when(settingsHelper.getSettingsJson(AUTHORITY_RESOURCE)).thenReturn(EMPTY_JSON_OBJECT);
     when(indexRepository.createIndex(indexName, EMPTY_OBJECT, EMPTY_OBJECT))
       .thenReturn(getSuccessFolioCreateIndexResponse(List.of(indexName)));
@@ -393,9 +475,33 @@ class IndexServiceTest {
     var actual = indexService.reindexInventory(TENANT_ID, reindexRequest);
 
     assertThat(actual).isEqualTo(reindexResponse);
+    verify(shadowIndexService).createShadowIndex(AUTHORITY_RESOURCE, TENANT_ID, EMPTY_JSON_OBJECT);
     verifyNoInteractions(locationService);
   }
 
+  @Test
+  void reindexInventory_positive_authorityRecordAndRecreateIndex_pooledTenant() {
+    var reindexResponse = new ReindexJob().id(randomId());
+    var expectedUri = URI.create("http://authority-storage/reindex");
+    var indexName = getIndexName(AUTHORITY_RESOURCE, TENANT_ID);
+
+    when(resourceReindexClient.submitReindex(expectedUri)).thenReturn(reindexResponse);
+    when(resourceDescriptionService.find(AUTHORITY_RESOURCE)).thenReturn(
+      Optional.of(resourceDescription(AUTHORITY_RESOURCE)));
+    when(tenantRoutingProvider.isPooledTenant(AUTHORITY_RESOURCE, TENANT_ID)).thenReturn(true);
+    when(tenantRoutingProvider.getRouting(AUTHORITY_RESOURCE, TENANT_ID)).thenReturn(TENANT_ID);
+    when(indexRepository.indexExists(indexName)).thenReturn(true);
+    when(indexRepository.deleteTenantDocuments(indexName, TENANT_ID, TENANT_ID))
+      .thenReturn(getSuccessIndexOperationResponse());
+
+    var reindexRequest = new ReindexRequest().resourceName(AUTHORITY).recreateIndex(true);
+    var actual = indexService.reindexInventory(TENANT_ID, reindexRequest);
+
+    assertThat(actual).isEqualTo(reindexResponse);
+    verifyNoInteractions(ingestModeService);
+    verifyNoInteractions(shadowIndexService);
+  }
+
   @Test
   void reindexInventory_positive_locations() {
     when(resourceDescriptionService.find(LOCATION_RESOURCE))
@@ -411,15 +517,16 @@ class IndexServiceTest {
   }
 
   @Test
+  @SneakyThrows
   void reindexInventory_positive_locationsAndRecreateIndex() {
     var indexName = getIndexName(LOCATION_RESOURCE, TENANT_ID);
+    var dynamicSettings = MAPPER.readTree(getIndexDynamicSettingsJsonString(2, "1s"));
 
     when(resourceDescriptionService.find(LOCATION_RESOURCE)).thenReturn(
       Optional.of(resourceDescription(LOCATION_RESOURCE)));
-    when(mappingsHelper.getMappings(LOCATION_RESOURCE)).thenReturn(EMPTY_OBJECT);
+    when(indexRepository.indexExists(indexName)).thenReturn(true);
     when(settingsHelper.getSettingsJson(LOCATION_RESOURCE)).thenReturn(EMPTY_JSON_OBJECT);
-    when(indexRepository.createIndex(indexName, EMPTY_OBJECT, EMPTY_OBJECT))
-      .thenReturn(getSuccessFolioCreateIndexResponse(List.of(indexName)));
+    when(settingsHelper.getSettingsJson("dynamicSettings")).thenReturn(dynamicSettings);
 
     var reindexRequest = new ReindexRequest().resourceName(LOCATION).recreateIndex(true);
     var actual = indexService.reindexInventory(TENANT_ID, reindexRequest);
@@ -427,15 +534,100 @@ class IndexServiceTest {
     assertThat(actual.getId()).isNotBlank();
     assertThat(actual.getSubmittedDate()).isNotBlank();
     assertThat(actual.getJobStatus()).isEqualTo("Completed");
-    verify(locationService).reindex(TENANT_ID);
+    var inOrder = inOrder(shadowIndexService, locationService);
+    inOrder.verify(shadowIndexService).createShadowIndex(LOCATION_RESOURCE, TENANT_ID, EMPTY_JSON_OBJECT);
+    inOrder.verify(locationService).reindex(TENANT_ID);
+    inOrder.verify(shadowIndexService).promoteShadowIndex(LOCATION_RESOURCE, TENANT_ID, dynamicSettings);
     verifyNoInteractions(resourceReindexClient);
   }
 
+  @Test
+  @SneakyThrows
+  void completeReindex_positive() {
+    var reindexStartTime = Instant.now();
+    var dynamicSettings = MAPPER.readTree(getIndexDynamicSettingsJsonString(2, "1s"));
+    var expectedSettings = MAPPER.readTree(getIndexDynamicSettingsJsonString(3, "1s"));
+
+    when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(
+      Optional.of(resourceDescription(INSTANCE_RESOURCE)));
+    when(resourceDescriptionService.getSecondaryResourceNames(INSTANCE_RESOURCE))
+      .thenReturn(List.of(INSTANCE_SUBJECT_RESOURCE));
+    when(shadowIndexService.shadowIndexExists(any(), eq(TENANT_ID))).thenReturn(true);
+    when(shadowIndexService.getShadowIndexCreationTime(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(reindexStartTime);
+    when(settingsHelper.getSettingsJson("dynamicSettings")).thenReturn(dynamicSettings);
+
+    var request = new CompleteReindexRequest().indexSettings(new IndexDynamicSettings().numberOfReplicas(3));
+    var actual = indexService.completeReindex(TENANT_ID, request);
+
+    assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
+    var inOrder = inOrder(shadowIndexService, consortiumInstanceService);
+    inOrder.verify(shadowIndexService).promoteShadowIndex(INSTANCE_RESOURCE, TENANT_ID, expectedSettings);
+    inOrder.verify(shadowIndexService).promoteShadowIndex(INSTANCE_SUBJECT_RESOURCE, TENANT_ID, expectedSettings);
+    inOrder.verify(consortiumInstanceService).deleteNotReindexedInstances(reindexStartTime);
+  }
+
+  @Test
+  @SneakyThrows
+  void completeReindex_positive_authority() {
+    var dynamicSettings = MAPPER.readTree(getIndexDynamicSettingsJsonString(2, "1s"));
+    when(resourceDescriptionService.find(AUTHORITY_RESOURCE)).thenReturn(
+      Optional.of(resourceDescription(AUTHORITY_RESOURCE)));
+    when(shadowIndexService.shadowIndexExists(AUTHORITY_RESOURCE, TENANT_ID)).thenReturn(true);
+    when(settingsHelper.getSettingsJson("dynamicSettings")).thenReturn(dynamicSettings);
+
+    var request = new CompleteReindexRequest().resourceName(CompleteReindexRequest.ResourceNameEnum.AUTHORITY);
+    var actual = indexService.completeReindex(TENANT_ID, request);
+
+    assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
+    verify(shadowIndexService).promoteShadowIndex(eq(AUTHORITY_RESOURCE), eq(TENANT_ID), any());
+    verifyNoInteractions(consortiumInstanceService);
+  }
+
+  @Test
+  void completeReindex_negative_shadowIndexNotFound() {
+    when(resourceDescriptionService.find(AUTHORITY_RESOURCE)).thenReturn(
+      Optional.of(resourceDescription(AUTHORITY_RESOURCE)));
+    when(shadowIndexService.shadowIndexExists(AUTHORITY_RESOURCE, TENANT_ID)).thenReturn(false);
+
+    var request = new CompleteReindexRequest().resourceName(CompleteReindexRequest.ResourceNameEnum.AUTHORITY);
+    assertThatThrownBy(() -> indexService.completeReindex(TENANT_ID, request))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Reindex with index recreation is not running for the resource");
+    verify(shadowIndexService, never()).promoteShadowIndex(any(), any(), any());
+  }
+
   @Test
   void shouldDropIndexWhenExists() {
     when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
     indexService.dropIndex(INSTANCE_RESOURCE, TENANT_ID);
     verify(indexRepository).dropIndex(INDEX_NAME);
+    verify(shadowIndexService).dropShadowIndex(INSTANCE_RESOURCE, TENANT_ID);
+  }
+
+  @Test
+  void shouldDeleteTenantDocumentsWhenPooledTenant() {
+    when(tenantRoutingProvider.isPooledTenant(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(true);
+    when(tenantRoutingProvider.getRouting(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(TENANT_ID);
+    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
+    when(indexRepository.deleteTenantDocuments(INDEX_NAME, TENANT_ID, TENANT_ID))
+      .thenReturn(getSuccessIndexOperationResponse());
+
+    indexService.dropIndex(INSTANCE_RESOURCE, TENANT_ID);
+
+    verify(indexRepository, never()).dropIndex(INDEX_NAME);
+    verifyNoInteractions(shadowIndexService);
+  }
+
+  @Test
+  void dropIndex_negative_failedToDeleteTenantDocuments() {
+    when(tenantRoutingProvider.isPooledTenant(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(true);
+    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
+    when(indexRepository.deleteTenantDocuments(INDEX_NAME, TENANT_ID, null))
+      .thenReturn(getErrorIndexOperationResponse("err"));
+
+    assertThatThrownBy(() -> indexService.dropIndex(INSTANCE_RESOURCE, TENANT_ID))
+      .isInstanceOf(SearchServiceException.class)
+      .hasMessage("Failed to delete tenant documents from the pooled index: err");
   }
 
   @Test
@@ -460,14 +652,6 @@ class IndexServiceTest {
       "refresh_interval", refresh)));
   }
 
-  private void mockCreateIndexOperation(String resource) {
-    var indexName = getIndexName(resource, TENANT_ID);
-    doReturn(EMPTY_OBJECT).when(mappingsHelper).getMappings(resource);
-    doReturn(EMPTY_JSON_OBJECT).when(settingsHelper).getSettingsJson(resource);
-    doReturn(getSuccessFolioCreateIndexResponse(List.of(indexName))).when(indexRepository)
-      .createIndex(indexName, EMPTY_OBJECT, EMPTY_OBJECT);
-  }
-
   private static Stream<Arguments> customSettingsTestData() {
     return Stream.of(
       Arguments.of(1, 1, 2),
@@ -0,0 +1,350 @@
+package org.folio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.service.IngestModeService.NUMBER_OF_REPLICAS_SETTING;
+import static org.folio.search.service.IngestModeService.REFRESH_INTERVAL_SETTING;
+import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.folio.search.utils.TestConstants.INDEX_NAME;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IndexingSettings;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.IngestModeSettings;
+import org.folio.search.repository.IndexNameProvider;
+import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.IndexWriteRateTracker;
+import org.folio.search.service.es.SearchSettingsHelper;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class IngestModeServiceTest {
+
+  private static final String DYNAMIC_SETTINGS = "{\"index\":{\"number_of_replicas\":2,\"refresh_interval\":\"1s\"}}";
+  private static final String INGEST_SETTINGS =
+    "{\"index\":{\"number_of_replicas\":0,\"refresh_interval\":\"30000ms\"}}";
+  private static final String CUSTOM_SETTINGS = "{\"index\":{\"number_of_replicas\":1,\"refresh_interval\":\"5s\"}}";
+  private static final long SETTLE_MILLIS = Duration.ofMinutes(2).toMillis();
+  private static final long LEASE_MILLIS = Duration.ofMinutes(10).toMillis();
+
+  private final IngestModeSettings ingestModeSettings = new IngestModeSettings();
+
+  @Mock
+  private IndexRepository indexRepository;
+  @Mock
+  private IndexNameProvider indexNameProvider;
+  @Mock
+  private IndexWriteRateTracker indexWriteRateTracker;
+  @Mock
+  private SearchSettingsHelper settingsHelper;
+  @Mock
+  private TaskScheduler ingestModeScheduler;
+
+  private IngestModeService ingestModeService;
+
+  @BeforeEach
+  void setUp() {
+    ingestModeSettings.setEnabled(true);
+    ingestModeSettings.setWriteRateThreshold(100L);
+    var indexingSettings = new IndexingSettings();
+    indexingSettings.setIngestMode(ingestModeSettings);
+    var searchConfiguration = new SearchConfigurationProperties();
+    searchConfiguration.setIndexing(indexingSettings);
+
+    ingestModeService = new IngestModeService(indexRepository, indexNameProvider, indexWriteRateTracker,
+      settingsHelper, searchConfiguration, ingestModeScheduler);
+    lenient().when(settingsHelper.getSettingsJson("dynamicSettings"))
+      .thenAnswer(invocation -> OBJECT_MAPPER.readTree(DYNAMIC_SETTINGS));
+    lenient().when(indexRepository.updateIndexMeta(eq(INDEX_NAME), any()))
+      .thenReturn(getSuccessIndexOperationResponse());
+  }
+
+  @Test
+  void init_positive() {
+    ingestModeService.init();
+    verify(ingestModeScheduler).scheduleWithFixedDelay(any(Runnable.class), eq(Duration.ofSeconds(30)));
+  }
+
+  @Test
+  void init_positive_servingSettingsRestored() {
+    when(indexNameProvider.getIndicesPattern()).thenReturn("folio_*");
+    when(indexRepository.getIndicesMeta("folio_*")).thenReturn(Map.of(INDEX_NAME, ingestModeMeta("5s", 1)));
+    when(indexRepository.getIndicesMeta(INDEX_NAME)).thenReturn(Map.of(INDEX_NAME, ingestModeMeta("5s", 1)));
+    when(indexRepository.updateIndexSettings(INDEX_NAME, CUSTOM_SETTINGS))
+      .thenReturn(getSuccessIndexOperationResponse());
+
+    ingestModeService.init();
+
+    verify(indexRepository).updateIndexMeta(INDEX_NAME, Map.of());
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isFalse();
+  }
+
+  @Test
+  void init_positive_expiredLeaseRestored() {
+    var updatedTime = System.currentTimeMillis() - LEASE_MILLIS - 1_000L;
+    when(indexNameProvider.getIndicesPattern()).thenReturn("folio_*");
+    when(indexRepository.getIndicesMeta(anyString()))
+      .thenReturn(Map.of(INDEX_NAME, ingestModeMeta("5s", 1, updatedTime)));
+    when(indexRepository.updateIndexSettings(INDEX_NAME, CUSTOM_SETTINGS))
+      .thenReturn(getSuccessIndexOperationResponse());
+
+    ingestModeService.init();
+
+    verify(indexRepository).updateIndexMeta(INDEX_NAME, Map.of());
+  }
+
+  @Test
+  void init_positive_ingestModeOfRunningInstanceIsKept() {
+    var updatedTime = System.currentTimeMillis() - 60_000L;
+    when(indexNameProvider.getIndicesPattern()).thenReturn("folio_*");
+    when(indexRepository.getIndicesMeta("folio_*"))
+      .thenReturn(Map.of(INDEX_NAME, ingestModeMeta("5s", 1, updatedTime)));
+
+    ingestModeService.init();
+
+    verify(indexRepository, never()).updateIndexSettings(anyString(), anyString());
+    verify(indexRepository, never()).updateIndexMeta(anyString(), any());
+  }
+
+  @Test
+  void init_positive_disabled() {
+    ingestModeSettings.setEnabled(false);
+    ingestModeService.init();
+    verifyNoInteractions(ingestModeScheduler);
+  }
+
+  @Test
+  void enterIngestMode_positive() {
+    mockIndexSettings("1s", "2");
+    when(indexRepository.updateIndexSettings(INDEX_NAME, INGEST_SETTINGS))
+      .thenReturn(getSuccessIndexOperationResponse());
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isTrue();
+    verify(indexRepository).updateIndexMeta(eq(INDEX_NAME), ingestModeMetaMatcher("1s", 2));
+  }
+
+  @Test
+  void enterIngestMode_negative_metadataNotUpdated() {
+    mockIndexSettings("1s", "2");
+    when(indexRepository.updateIndexMeta(eq(INDEX_NAME), ingestModeMetaMatcher("1s", 2)))
+      .thenReturn(getErrorIndexOperationResponse("error"));
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isFalse();
+    verify(indexRepository, never()).updateIndexSettings(anyString(), anyString());
+  }
+
+  @Test
+  void enterIngestMode_positive_disabled() {
+    ingestModeSettings.setEnabled(false);
+    ingestModeService.enterIngestMode(INDEX_NAME);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isFalse();
+    verifyNoInteractions(indexRepository);
+  }
+
+  @Test
+  void enterIngestMode_positive_longerRefreshIntervalIsKept() {
+    mockIndexSettings("-1", "1");
+    when(indexRepository.updateIndexSettings(INDEX_NAME,
+      "{\"index\":{\"number_of_replicas\":0,\"refresh_interval\":\"-1\"}}"))
+      .thenReturn(getSuccessIndexOperationResponse());
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isTrue();
+  }
+
+  @Test
+  void enterIngestMode_negative_settingsNotUpdated() {
+    mockIndexSettings("1s", "2");
+    when(indexRepository.updateIndexSettings(INDEX_NAME, INGEST_SETTINGS))
+      .thenReturn(getErrorIndexOperationResponse("error"));
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isFalse();
+  }
+
+  @Test
+  void evaluateWriteRates_positive_highWriteRateAndSettle() {
+    var startTime = System.currentTimeMillis() + 10_000L;
+    mockIndexSettings("1s", "2");
+    when(indexRepository.updateIndexSettings(eq(INDEX_NAME), anyString()))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of(INDEX_NAME, 10_000L), Map.of());
+
+    ingestModeService.evaluateWriteRates(startTime);
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isTrue();
+    verify(indexRepository).updateIndexSettings(INDEX_NAME, INGEST_SETTINGS);
+
+    ingestModeService.evaluateWriteRates(startTime + SETTLE_MILLIS);
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isFalse();
+    verify(indexRepository).updateIndexSettings(INDEX_NAME, DYNAMIC_SETTINGS);
+    verify(indexRepository).refreshIndices(INDEX_NAME);
+    verify(indexRepository, never()).forceMerge(anyString(), anyInt());
+  }
+
+  @Test
+  void evaluateWriteRates_positive_forceMergeOnSettle() {
+    ingestModeSettings.setForceMergeEnabled(true);
+    var startTime = System.currentTimeMillis();
+    mockIndexSettings("1s", "2");
+    when(indexRepository.updateIndexSettings(eq(INDEX_NAME), anyString()))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of());
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+    ingestModeService.evaluateWriteRates(startTime + SETTLE_MILLIS + 1_000L);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isFalse();
+    verify(indexRepository).forceMerge(INDEX_NAME, 5);
+  }
+
+  @Test
+  void evaluateWriteRates_positive_activeIndexIsNotRestoredBeforeSettleTime() {
+    var startTime = System.currentTimeMillis();
+    mockIndexSettings("1s", "2");
+    when(indexRepository.updateIndexSettings(INDEX_NAME, INGEST_SETTINGS))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of(INDEX_NAME, 10L));
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+    ingestModeService.evaluateWriteRates(startTime + 30_000L);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isTrue();
+    verify(indexRepository, never()).refreshIndices(INDEX_NAME);
+  }
+
+  @Test
+  void evaluateWriteRates_positive_lowWriteRate() {
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of(INDEX_NAME, 10L));
+
+    ingestModeService.evaluateWriteRates(System.currentTimeMillis() + 10_000L);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isFalse();
+    verifyNoInteractions(indexRepository);
+  }
+
+  @Test
+  void evaluateWriteRates_positive_ingestSettingsLeftByAnotherInstance() {
+    var startTime = System.currentTimeMillis();
+    when(indexRepository.getIndicesMeta(INDEX_NAME)).thenReturn(Map.of(INDEX_NAME, ingestModeMeta("5s", 1)));
+    when(indexRepository.updateIndexSettings(eq(INDEX_NAME), anyString()))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of());
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+    ingestModeService.evaluateWriteRates(startTime + SETTLE_MILLIS + 1_000L);
+
+    verify(indexRepository, never()).getIndexSettings(anyString(), any(String[].class));
+    verify(indexRepository).updateIndexSettings(INDEX_NAME, CUSTOM_SETTINGS);
+  }
+
+  @Test
+  void evaluateWriteRates_positive_leaseRenewed() {
+    var startTime = System.currentTimeMillis();
+    var renewalTime = startTime + LEASE_MILLIS / 2 + 1_000L;
+    mockIndexSettings("1s", "2");
+    when(indexRepository.updateIndexSettings(INDEX_NAME, INGEST_SETTINGS))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of(INDEX_NAME, 1_000_000L));
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+    ingestModeService.evaluateWriteRates(renewalTime);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isTrue();
+    verify(indexRepository).updateIndexMeta(eq(INDEX_NAME), argThat(meta -> meta.get("ingestMode") instanceof Map<?, ?>
+      ingestModeMeta && Long.valueOf(renewalTime).equals(ingestModeMeta.get("updatedTime"))));
+  }
+
+  @Test
+  void evaluateWriteRates_positive_expiredLeaseOfStoppedInstanceRestored() {
+    var evaluationTime = System.currentTimeMillis() + LEASE_MILLIS + 1_000L;
+    when(indexNameProvider.getIndicesPattern()).thenReturn("folio_*");
+    when(indexRepository.getIndicesMeta(anyString()))
+      .thenReturn(Map.of(INDEX_NAME, ingestModeMeta("5s", 1, evaluationTime - LEASE_MILLIS)));
+    when(indexRepository.updateIndexSettings(INDEX_NAME, CUSTOM_SETTINGS))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of());
+
+    ingestModeService.evaluateWriteRates(evaluationTime);
+
+    verify(indexRepository).updateIndexMeta(INDEX_NAME, Map.of());
+  }
+
+  @Test
+  void evaluateWriteRates_positive_customSettingsEqualToIngestSettingsAreKept() {
+    var startTime = System.currentTimeMillis();
+    mockIndexSettings("30000ms", "0");
+    when(indexRepository.updateIndexSettings(INDEX_NAME, INGEST_SETTINGS))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of());
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+    ingestModeService.evaluateWriteRates(startTime + SETTLE_MILLIS + 1_000L);
+
+    verify(indexRepository, never()).updateIndexSettings(INDEX_NAME, DYNAMIC_SETTINGS);
+  }
+
+  @Test
+  void evaluateWriteRates_negative_restoreFailed() {
+    var startTime = System.currentTimeMillis();
+    mockIndexSettings("1s", "2");
+    when(indexRepository.updateIndexSettings(INDEX_NAME, INGEST_SETTINGS))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexRepository.updateIndexSettings(INDEX_NAME, DYNAMIC_SETTINGS))
+      .thenReturn(getErrorIndexOperationResponse("error"));
+    when(indexWriteRateTracker.drainWriteCounts()).thenReturn(Map.of());
+
+    ingestModeService.enterIngestMode(INDEX_NAME);
+    ingestModeService.evaluateWriteRates(startTime + SETTLE_MILLIS + 1_000L);
+
+    assertThat(ingestModeService.isIngestModeActive(INDEX_NAME)).isTrue();
+    verify(indexRepository, never()).refreshIndices(INDEX_NAME);
+  }
+
+  private static Map<String, Object> ingestModeMeta(String refreshInterval, int numberOfReplicas) {
+    return Map.of("ingestMode", Map.of("refreshInterval", refreshInterval, "numberOfReplicas", numberOfReplicas));
+  }
+
+  private static Map<String, Object> ingestModeMeta(String refreshInterval, int numberOfReplicas, long updatedTime) {
+    return Map.of("ingestMode", Map.of("refreshInterval", refreshInterval, "numberOfReplicas", numberOfReplicas,
+      "owner", "stopped-instance", "updatedTime", updatedTime));
+  }
+
+  private static Map<String, Object> ingestModeMetaMatcher(String refreshInterval, int numberOfReplicas) {
+    return argThat(meta -> meta.get("ingestMode") instanceof Map<?, ?> ingestModeMeta
+      && refreshInterval.equals(ingestModeMeta.get("refreshInterval"))
+      && Integer.valueOf(numberOfReplicas).equals(ingestModeMeta.get("numberOfReplicas"))
+      && ingestModeMeta.get("owner") instanceof String
+      && ingestModeMeta.get("updatedTime") instanceof Long);
+  }
+
+  private void mockIndexSettings(String refreshInterval, String numberOfReplicas) {
+    when(indexRepository.getIndexSettings(INDEX_NAME, REFRESH_INTERVAL_SETTING, NUMBER_OF_REPLICAS_SETTING))
+      .thenReturn(Map.of(REFRESH_INTERVAL_SETTING, refreshInterval, NUMBER_OF_REPLICAS_SETTING, numberOfReplicas));
+  }
+}
@@ -5,10 +5,15 @@ import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperation
 import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
 import static org.folio.search.utils.SearchUtils.ID_FIELD;
 import static org.folio.search.utils.SearchUtils.LOCATION_RESOURCE;
+import static org.folio.search.utils.TestConstants.CENTRAL_TENANT_ID;
+import static org.folio.search.utils.TestConstants.MEMBER_TENANT_ID;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,17 +21,20 @@ import static org.mockito.Mockito.when;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.stream.Stream;
 import org.folio.search.client.LocationsClient;
 import org.folio.search.configuration.properties.ReindexConfigurationProperties;
 import org.folio.search.domain.dto.ResourceEvent;
 import org.folio.search.model.dto.LocationDto;
+import org.folio.search.service.consortium.ConsortiumTenantService;
 import org.folio.search.utils.TestUtils;
+import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -37,9 +45,18 @@ class LocationServiceTest {
   private @Mock ReindexConfigurationProperties properties;
   private @Mock LocationsClient client;
   private @Mock ResourceService resourceService;
-  @InjectMocks
+  private @Mock ConsortiumTenantService consortiumTenantService;
+  private @Mock SystemUserScopedExecutionService executionService;
   private LocationService service;
 
+  @BeforeEach
+  void setUp() {
+    service = new LocationService(properties, client, resourceService, consortiumTenantService, executionService,
+      Runnable::run, Runnable::run);
+    lenient().when(properties.getLocationFetchConcurrency()).thenReturn(4);
+    lenient().when(consortiumTenantService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of(TENANT_ID));
+  }
+
   @Test
   void reindex_positive() {
     var batchSize = 3;
@@ -90,6 +107,87 @@ class LocationServiceTest {
     assertThat(ex.getMessage()).isEqualTo("Indexing failed: " + error);
   }
 
+  @Test
+  void reindex_positive_pagesFetchedWithinWindow() {
+    var batchSize = 1;
+    var locationsMock = locations(4);
+
+    when(properties.getLocationBatchSize()).thenReturn(batchSize);
+    when(properties.getLocationFetchConcurrency()).thenReturn(2);
+    for (int i = 0; i < locationsMock.size(); i++) {
+      when(client.getLocations(i, batchSize)).thenReturn(locationResult(List.of(locationsMock.get(i)), 4));
+    }
+    when(resourceService.indexResources(any())).thenReturn(getSuccessIndexOperationResponse());
+
+    service.reindex(TENANT_ID);
+
+    var captor = ArgumentCaptor.<List<ResourceEvent>>captor();
+    verify(resourceService, times(4)).indexResources(captor.capture());
+    assertThat(captor.getAllValues())
+      .flatExtracting(events -> events.stream().map(ResourceEvent::getNew).toList())
+      .containsExactlyElementsOf(locationsMock);
+  }
+
+  @Test
+  void reindex_positive_consortiumTenants() {
+    var batchSize = 5;
+    var centralLocations = locations(2);
+    var memberLocations = locations(3);
+
+    when(consortiumTenantService.getConsortiumTenants(CENTRAL_TENANT_ID))
+      .thenReturn(List.of(CENTRAL_TENANT_ID, MEMBER_TENANT_ID));
+    when(properties.getLocationBatchSize()).thenReturn(batchSize);
+    when(client.getLocations(0, batchSize)).thenReturn(locationResult(centralLocations, centralLocations.size()),
+      locationResult(memberLocations, memberLocations.size()));
+    when(resourceService.indexResources(any())).thenReturn(getSuccessIndexOperationResponse());
+    doAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call())
+      .when(executionService).executeSystemUserScoped(any(), any());
+
+    service.reindex(CENTRAL_TENANT_ID);
+
+    verify(executionService).executeSystemUserScoped(eq(CENTRAL_TENANT_ID), any());
+    verify(executionService).executeSystemUserScoped(eq(MEMBER_TENANT_ID), any());
+    var captor = ArgumentCaptor.<List<ResourceEvent>>captor();
+    verify(resourceService, times(2)).indexResources(captor.capture());
+    assertThat(captor.getAllValues().get(0)).allMatch(event -> event.getTenant().equals(CENTRAL_TENANT_ID));
+    assertThat(captor.getAllValues().get(1)).allMatch(event -> event.getTenant().equals(MEMBER_TENANT_ID));
+  }
+
+  @Test
+  void reindex_negative_consortiumTenantFailed() {
+    var batchSize = 5;
+    var locationsMock = locations(2);
+
+    when(consortiumTenantService.getConsortiumTenants(CENTRAL_TENANT_ID))
+      .thenReturn(List.of(CENTRAL_TENANT_ID, MEMBER_TENANT_ID));
+    when(properties.getLocationBatchSize()).thenReturn(batchSize);
+    when(client.getLocations(0, batchSize)).thenReturn(locationResult(locationsMock, locationsMock.size()));
+    when(resourceService.indexResources(any()))
+      .thenReturn(getSuccessIndexOperationResponse(), getErrorIndexOperationResponse("error"));
+    doAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call())
+      .when(executionService).executeSystemUserScoped(any(), any());
+
+    var ex = assertThrows(IllegalStateException.class, () -> service.reindex(CENTRAL_TENANT_ID));
+
+    assertThat(ex.getMessage()).isEqualTo("Indexing failed for tenants: [" + MEMBER_TENANT_ID + "]");
+  }
+
+  @Test
+  void reindex_negative_fetchError() {
+    var batchSize = 2;
+    var locationsMock = locations(2);
+
+    when(properties.getLocationBatchSize()).thenReturn(batchSize);
+    when(client.getLocations(0, batchSize)).thenReturn(locationResult(locationsMock, 4));
+    when(client.getLocations(batchSize, batchSize)).thenThrow(new IllegalStateException("fetch error"));
+    when(resourceService.indexResources(any())).thenReturn(getSuccessIndexOperationResponse());
+
+    var ex = assertThrows(IllegalStateException.class, () -> service.reindex(TENANT_ID));
+
+    assertThat(ex.getMessage()).isEqualTo("fetch error");
+    verify(resourceService).indexResources(any());
+  }
+
   private List<Map<String, Object>> locations(int count) {
     return Stream.iterate(0, i -> i < count, i -> ++i)
       .map(i ->
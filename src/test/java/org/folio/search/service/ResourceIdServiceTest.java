@@ -4,6 +4,7 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.model.service.CqlResourceIdsRequest.INSTANCE_ID_PATH;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
@@ -12,14 +13,22 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Consumer;
 import org.folio.search.configuration.properties.StreamIdsProperties;
 import org.folio.search.cql.CqlSearchQueryConverter;
@@ -28,8 +37,10 @@ import org.folio.search.model.ResourceId;
 import org.folio.search.model.ResourceIds;
 import org.folio.search.model.service.CqlResourceIdsRequest;
 import org.folio.search.model.streamids.ResourceIdsJobEntity;
+import org.folio.search.model.types.EntityType;
 import org.folio.search.model.types.StreamJobStatus;
 import org.folio.search.repository.ResourceIdsJobRepository;
+import org.folio.search.repository.ResourceIdsTemporaryRepository;
 import org.folio.search.repository.SearchRepository;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -41,6 +52,7 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.springframework.jdbc.core.RowCallbackHandler;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -61,6 +73,8 @@ class ResourceIdServiceTest {
   private StreamIdsProperties properties;
   @Mock
   private ResourceIdsJobRepository jobRepository;
+  @Mock
+  private ResourceIdsTemporaryRepository idsTemporaryRepository;
   @Spy
   private final ObjectMapper objectMapper = OBJECT_MAPPER;
 
@@ -92,6 +106,73 @@ class ResourceIdServiceTest {
     assertThat(actual).isEqualTo(RANDOM_ID + '\n');
   }
 
+  @Test
+  void streamIdsFromDatabaseAsJson_positive() throws IOException {
+    var ids = List.of(randomId(), randomId(), randomId());
+    var job = completedJob();
+    when(jobRepository.getReferenceById(job.getId())).thenReturn(job);
+    when(properties.getDatabaseFetchSize()).thenReturn(2);
+    mockTemporaryRepositoryCall(job.getTemporaryTableName(), ids);
+
+    var outputStream = new ByteArrayOutputStream();
+    resourceIdService.streamIdsFromDatabaseAsJson(job.getId(), outputStream);
+
+    var actual = objectMapper.readValue(outputStream.toByteArray(), ResourceIds.class);
+    var expectedIds = ids.stream().map(id -> new ResourceId().id(id)).toList();
+    assertThat(actual).isEqualTo(new ResourceIds().ids(expectedIds).totalRecords(3));
+    assertThat(job.getStatus()).isEqualTo(StreamJobStatus.DEPRECATED);
+    verify(jobRepository).save(job);
+  }
+
+  @Test
+  void streamIdsFromDatabaseAsText_positive() {
+    var ids = List.of(randomId(), randomId(), randomId());
+    var job = completedJob();
+    when(jobRepository.getReferenceById(job.getId())).thenReturn(job);
+    when(properties.getDatabaseFetchSize()).thenReturn(2);
+    mockTemporaryRepositoryCall(job.getTemporaryTableName(), ids);
+
+    var outputStream = new ByteArrayOutputStream();
+    resourceIdService.streamIdsFromDatabaseAsText(job.getId(), outputStream);
+
+    assertThat(outputStream.toString()).isEqualTo(String.join("\n", ids) + '\n');
+    assertThat(job.getStatus()).isEqualTo(StreamJobStatus.DEPRECATED);
+    verify(jobRepository).save(job);
+  }
+
+  @Test
+  void streamResourceIdsAsNdJson_positive() {
+    when(queryConverter.convertForConsortia(TEST_QUERY, RESOURCE_NAME, TENANT_ID)).thenReturn(searchSource());
+    when(properties.getScrollQuerySize()).thenReturn(QUERY_SIZE);
+    var secondId = randomId();
+    mockSearchRepositoryCall(List.of(RANDOM_ID, secondId));
+
+    var outputStream = new ByteArrayOutputStream();
+
+    resourceIdService.streamResourceIdsAsNdJson(request(), outputStream);
+
+    var actual = outputStream.toString();
+    assertThat(actual).isEqualTo("{\"id\":\"" + RANDOM_ID + "\"}\n{\"id\":\"" + secondId + "\"}\n");
+  }
+
+  @Test
+  void streamResourceIdsAsBinary_positive() {
+    when(queryConverter.convertForConsortia(TEST_QUERY, RESOURCE_NAME, TENANT_ID)).thenReturn(searchSource());
+    when(properties.getScrollQuerySize()).thenReturn(QUERY_SIZE);
+    mockSearchRepositoryCall(List.of(RANDOM_ID));
+
+    var outputStream = new ByteArrayOutputStream();
+
+    resourceIdService.streamResourceIdsAsBinary(request(), outputStream);
+
+    var uuid = UUID.fromString(RANDOM_ID);
+    var expected = ByteBuffer.allocate(16)
+      .putLong(uuid.getMostSignificantBits())
+      .putLong(uuid.getLeastSignificantBits())
+      .array();
+    assertThat(outputStream.toByteArray()).isEqualTo(expected);
+  }
+
   @EnumSource(value = StreamJobStatus.class, mode = EnumSource.Mode.EXCLUDE, names = "COMPLETED")
   @ParameterizedTest
   void cantStreamNotCompletedJob(StreamJobStatus streamJobStatus) {
@@ -177,14 +258,89 @@ class ResourceIdServiceTest {
     assertThat(actual).isEmpty();
   }
 
+  @Test
+  void getJob_positive_attachedJobStatusResolvedFromFinishedJob() {
+    var job = completedJob();
+    job.setStatus(StreamJobStatus.IN_PROGRESS);
+    var sourceJob = completedJob();
+    sourceJob.setStatus(StreamJobStatus.DEPRECATED);
+    when(jobRepository.getReferenceById(job.getId())).thenReturn(job);
+    when(jobRepository.findFirstByTemporaryTableNameAndStatusNot("tmp_table", StreamJobStatus.IN_PROGRESS))
+      .thenReturn(Optional.of(sourceJob));
+    when(jobRepository.save(job)).thenReturn(job);
+
+    var actual = resourceIdService.getJob(job.getId());
+
+    assertThat(actual.getStatus()).isEqualTo(StreamJobStatus.COMPLETED);
+  }
+
+  @Test
+  void getJob_positive_jobInProgress() {
+    var job = completedJob();
+    job.setStatus(StreamJobStatus.IN_PROGRESS);
+    when(jobRepository.getReferenceById(job.getId())).thenReturn(job);
+    when(jobRepository.findFirstByTemporaryTableNameAndStatusNot("tmp_table", StreamJobStatus.IN_PROGRESS))
+      .thenReturn(Optional.empty());
+
+    var actual = resourceIdService.getJob(job.getId());
+
+    assertThat(actual.getStatus()).isEqualTo(StreamJobStatus.IN_PROGRESS);
+    verify(jobRepository, never()).save(any());
+  }
+
+  @Test
+  void streamResourceIdsForJob_positive_batchesOfAllSlicesInserted() {
+    var job = completedJob();
+    job.setStatus(StreamJobStatus.IN_PROGRESS);
+    job.setEntityType(EntityType.INSTANCE);
+    var sliceBatches = List.of(List.of(randomId(), randomId()), List.of(randomId()));
+    var request = CqlResourceIdsRequest.of(INSTANCE_RESOURCE, TENANT_ID, TEST_QUERY, INSTANCE_ID_PATH);
+    when(queryConverter.convertForConsortia(TEST_QUERY, INSTANCE_RESOURCE, TENANT_ID)).thenReturn(searchSource());
+    when(properties.getScrollQuerySize()).thenReturn(QUERY_SIZE);
+    doAnswer(invocation -> {
+      sliceBatches.forEach(invocation.<Consumer<List<String>>>getArgument(2));
+      return null;
+    }).when(searchRepository).streamResourceIds(eq(request), any(), any());
+
+    resourceIdService.streamResourceIdsForJob(job, TENANT_ID);
+
+    assertThat(job.getStatus()).isEqualTo(StreamJobStatus.COMPLETED);
+    var inOrder = inOrder(idsTemporaryRepository);
+    inOrder.verify(idsTemporaryRepository).createTableForIds("tmp_table");
+    inOrder.verify(idsTemporaryRepository).insertIds(sliceBatches.get(0), "tmp_table");
+    inOrder.verify(idsTemporaryRepository).insertIds(sliceBatches.get(1), "tmp_table");
+    verify(jobRepository).save(job);
+  }
+
   private void mockSearchRepositoryCall(List<String> ids) {
-    var expectedSearchSource = searchSource().size(QUERY_SIZE).sort("_doc");
+    var expectedSearchSource = searchSource().size(QUERY_SIZE).fetchSource(false).trackTotalHits(false).sort("id");
     doAnswer(invocation -> {
       invocation.<Consumer<List<String>>>getArgument(2).accept(ids);
       return null;
     }).when(searchRepository).streamResourceIds(eq(request()), eq(expectedSearchSource), any());
   }
 
+  private void mockTemporaryRepositoryCall(String tableName, List<String> ids) {
+    doAnswer(invocation -> {
+      var rowCallbackHandler = invocation.<RowCallbackHandler>getArgument(2);
+      for (var id : ids) {
+        var resultSet = mock(ResultSet.class);
+        when(resultSet.getString(1)).thenReturn(id);
+        rowCallbackHandler.processRow(resultSet);
+      }
+      return null;
+    }).when(idsTemporaryRepository).streamIds(eq(tableName), eq(2), any());
+  }
+
+  private static ResourceIdsJobEntity completedJob() {
+    var job = new ResourceIdsJobEntity();
+    job.setId(randomId());
+    job.setQuery(TEST_QUERY);
+    job.setTemporaryTableName("tmp_table");
+    job.setStatus(StreamJobStatus.COMPLETED);
+    return job;
+  }
+
   private static CqlResourceIdsRequest request() {
     return CqlResourceIdsRequest.of(RESOURCE_NAME, TENANT_ID, TEST_QUERY, INSTANCE_ID_PATH);
   }
@@ -0,0 +1,174 @@
+package org.folio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.folio.search.configuration.properties.StreamIdsProperties;
+import org.folio.search.converter.ResourceIdsJobMapper;
+import org.folio.search.cql.CqlQueryParser;
+import org.folio.search.domain.dto.ResourceIdsJob;
+import org.folio.search.model.streamids.ResourceIdsJobEntity;
+import org.folio.search.model.types.EntityType;
+import org.folio.search.model.types.StreamJobStatus;
+import org.folio.search.repository.ResourceIdsJobRepository;
+import org.folio.search.repository.ResourceIdsTemporaryRepository;
+import org.folio.search.service.consortium.ConsortiumTenantExecutor;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ResourceIdsJobServiceTest {
+
+  private final List<Runnable> submittedTasks = new ArrayList<>();
+  private final StreamIdsProperties streamIdsProperties = new StreamIdsProperties();
+
+  @Mock
+  private ConsortiumTenantExecutor consortiumTenantExecutor;
+  @Mock
+  private ResourceIdsJobRepository jobRepository;
+  @Mock
+  private ResourceIdsJobMapper resourceIdsJobMapper;
+  @Mock
+  private ResourceIdService resourceIdService;
+  @Mock
+  private ResourceIdsTemporaryRepository idsTemporaryRepository;
+
+  private ResourceIdsJobService jobService;
+
+  @BeforeEach
+  void setUp() {
+    Executor executor = submittedTasks::add;
+    jobService = new ResourceIdsJobService(consortiumTenantExecutor, jobRepository, resourceIdsJobMapper,
+      resourceIdService, idsTemporaryRepository, new CqlQueryParser(), streamIdsProperties, executor);
+    when(consortiumTenantExecutor.execute(any())).thenAnswer(inv -> inv.<Supplier<?>>getArgument(0).get());
+    when(resourceIdsJobMapper.convert(any(ResourceIdsJobEntity.class))).thenReturn(new ResourceIdsJob());
+    when(jobRepository.save(any(ResourceIdsJobEntity.class))).thenAnswer(inv -> inv.getArgument(0));
+  }
+
+  @Test
+  void createStreamJob_positive_newJob() {
+    var entity = jobEntity("title  = \"java\"");
+    when(resourceIdsJobMapper.convert(any(ResourceIdsJob.class))).thenReturn(entity);
+    when(jobRepository.findFirstByFingerprintAndStatusInAndCreatedDateAfterOrderByCreatedDateDesc(
+      anyString(), anyList(), any(Date.class))).thenReturn(Optional.empty());
+
+    jobService.createStreamJob(new ResourceIdsJob(), TENANT_ID);
+
+    assertThat(entity.getStatus()).isEqualTo(StreamJobStatus.IN_PROGRESS);
+    assertThat(entity.getFingerprint()).hasSize(64);
+    assertThat(entity.getTemporaryTableName()).hasSize(32);
+    assertThat(submittedTasks).hasSize(2);
+
+    submittedTasks.forEach(Runnable::run);
+    verify(resourceIdService).streamResourceIdsForJob(entity, TENANT_ID);
+  }
+
+  @Test
+  void createStreamJob_positive_reuseCompletedJob() {
+    var sourceJob = jobEntity("title = java");
+    sourceJob.setId("sourceJobId");
+    sourceJob.setStatus(StreamJobStatus.DEPRECATED);
+    sourceJob.setTemporaryTableName("sourcetable");
+    var entity = jobEntity("title  =  java");
+    when(resourceIdsJobMapper.convert(any(ResourceIdsJob.class))).thenReturn(entity);
+    var fingerprintCaptor = ArgumentCaptor.forClass(String.class);
+    when(jobRepository.findFirstByFingerprintAndStatusInAndCreatedDateAfterOrderByCreatedDateDesc(
+      fingerprintCaptor.capture(), anyList(), any(Date.class))).thenReturn(Optional.of(sourceJob));
+
+    jobService.createStreamJob(new ResourceIdsJob(), TENANT_ID);
+
+    assertThat(fingerprintCaptor.getValue()).hasSize(64);
+    assertThat(entity.getFingerprint()).isNull();
+    assertThat(entity.getStatus()).isEqualTo(StreamJobStatus.COMPLETED);
+    assertThat(entity.getTemporaryTableName()).isEqualTo("sourcetable");
+    verify(resourceIdService, never()).streamResourceIdsForJob(any(), any());
+  }
+
+  @Test
+  void createStreamJob_positive_attachToRunningJob() {
+    var sourceJob = jobEntity("title = java");
+    sourceJob.setId("sourceJobId");
+    sourceJob.setStatus(StreamJobStatus.IN_PROGRESS);
+    sourceJob.setTemporaryTableName("sourcetable");
+    var entity = jobEntity("title = java");
+    when(resourceIdsJobMapper.convert(any(ResourceIdsJob.class))).thenReturn(entity);
+    when(jobRepository.findFirstByFingerprintAndStatusInAndCreatedDateAfterOrderByCreatedDateDesc(
+      anyString(), anyList(), any(Date.class))).thenReturn(Optional.of(sourceJob));
+
+    jobService.createStreamJob(new ResourceIdsJob(), TENANT_ID);
+
+    assertThat(entity.getStatus()).isEqualTo(StreamJobStatus.IN_PROGRESS);
+    assertThat(entity.getTemporaryTableName()).isEqualTo("sourcetable");
+    verify(resourceIdService, never()).streamResourceIdsForJob(any(), any());
+  }
+
+  @Test
+  void getJobById_positive() {
+    var entity = jobEntity("title = java");
+    when(resourceIdService.getJob("jobId")).thenReturn(entity);
+
+    jobService.getJobById("jobId");
+
+    verify(resourceIdsJobMapper).convert(entity);
+  }
+
+  @Test
+  void createStreamJob_positive_reuseDisabled() {
+    streamIdsProperties.setJobReuseTtl(Duration.ZERO);
+    var entity = jobEntity("title = java");
+    when(resourceIdsJobMapper.convert(any(ResourceIdsJob.class))).thenReturn(entity);
+
+    jobService.createStreamJob(new ResourceIdsJob(), TENANT_ID);
+
+    assertThat(entity.getStatus()).isEqualTo(StreamJobStatus.IN_PROGRESS);
+    verify(jobRepository, never()).findFirstByFingerprintAndStatusInAndCreatedDateAfterOrderByCreatedDateDesc(
+      anyString(), anyList(), any(Date.class));
+  }
+
+  @Test
+  void createStreamJob_positive_removeExpiredJobs() {
+    streamIdsProperties.setJobReuseTtl(Duration.ZERO);
+    var expiredJob = jobEntity("title = java");
+    expiredJob.setTemporaryTableName("expiredtable");
+    var sharedExpiredJob = jobEntity("title = scala");
+    sharedExpiredJob.setTemporaryTableName("sharedtable");
+    when(resourceIdsJobMapper.convert(any(ResourceIdsJob.class))).thenReturn(jobEntity("title = java"));
+    when(jobRepository.findAllByCreatedDateBefore(any(Date.class))).thenReturn(List.of(expiredJob, sharedExpiredJob));
+    when(jobRepository.existsByTemporaryTableName("expiredtable")).thenReturn(false);
+    when(jobRepository.existsByTemporaryTableName("sharedtable")).thenReturn(true);
+
+    jobService.createStreamJob(new ResourceIdsJob(), TENANT_ID);
+    submittedTasks.get(0).run();
+
+    verify(jobRepository).deleteAll(List.of(expiredJob, sharedExpiredJob));
+    verify(idsTemporaryRepository).dropTableForIds("expiredtable");
+    verify(idsTemporaryRepository, never()).dropTableForIds(eq("sharedtable"));
+  }
+
+  private static ResourceIdsJobEntity jobEntity(String query) {
+    var entity = new ResourceIdsJobEntity();
+    entity.setQuery(query);
+    entity.setEntityType(EntityType.INSTANCE);
+    return entity;
+  }
+}
@@ -4,17 +4,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.ACCEPT_ENCODING;
+import static org.springframework.http.HttpHeaders.CONTENT_ENCODING;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
 import org.folio.search.exception.SearchServiceException;
 import org.folio.search.model.service.CqlResourceIdsRequest;
+import org.folio.search.service.consortium.ConsortiumTenantExecutor;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +44,8 @@ class ResourceIdsStreamHelperTest {
   private ResourceIdsStreamHelper resourceIdsStreamHelper;
   @Mock
   private ResourceIdService resourceIdService;
+  @Mock
+  private ConsortiumTenantExecutor consortiumTenantExecutor;
 
   @Test
   void streamResourceIds_positive() throws IOException {
@@ -82,6 +95,47 @@ class ResourceIdsStreamHelperTest {
     assertThat(actual).isEqualTo(ResponseEntity.ok().build());
   }
 
+  @Test
+  void streamResourceIdsBinaryType_positive_gzipAccepted() throws IOException {
+    var servletRequestAttributes = mock(ServletRequestAttributes.class);
+    RequestContextHolder.setRequestAttributes(servletRequestAttributes);
+    var httpServletRequest = mock(HttpServletRequest.class);
+    var httpServletResponse = mock(HttpServletResponse.class);
+    var outputStream = mock(ServletOutputStream.class);
+    when(servletRequestAttributes.getRequest()).thenReturn(httpServletRequest);
+    when(servletRequestAttributes.getResponse()).thenReturn(httpServletResponse);
+    when(httpServletRequest.getHeader(ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+    when(httpServletResponse.getOutputStream()).thenReturn(outputStream);
+
+    var request = CqlResourceIdsRequest.of("id=*", RESOURCE_NAME, TENANT_ID, "id");
+    var actual = resourceIdsStreamHelper.streamResourceIds(request, APPLICATION_OCTET_STREAM_VALUE);
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok().build());
+    verify(httpServletResponse).setContentType(APPLICATION_OCTET_STREAM_VALUE);
+    verify(httpServletResponse).setHeader(CONTENT_ENCODING, "gzip");
+    verify(resourceIdService).streamResourceIdsAsBinary(eq(request), any(GZIPOutputStream.class));
+  }
+
+  @Test
+  void streamResourceIdsFromDbNdJsonType_positive() throws IOException {
+    var servletRequestAttributes = mock(ServletRequestAttributes.class);
+    RequestContextHolder.setRequestAttributes(servletRequestAttributes);
+    var httpServletResponse = mock(HttpServletResponse.class);
+    var outputStream = mock(ServletOutputStream.class);
+    when(servletRequestAttributes.getResponse()).thenReturn(httpServletResponse);
+    when(httpServletResponse.getOutputStream()).thenReturn(outputStream);
+    doAnswer(invocation -> {
+      invocation.<Runnable>getArgument(0).run();
+      return null;
+    }).when(consortiumTenantExecutor).run(any());
+
+    var actual = resourceIdsStreamHelper.streamResourceIdsFromDb("jobId", APPLICATION_NDJSON_VALUE);
+
+    assertThat(actual).isEqualTo(ResponseEntity.ok().build());
+    verify(httpServletResponse).setContentType(APPLICATION_NDJSON_VALUE);
+    verify(resourceIdService).streamIdsFromDatabaseAsNdJson("jobId", outputStream);
+  }
+
   @Test
   void streamResourceIds_negative_nullRequestAttributes() {
     RequestContextHolder.setRequestAttributes(null);
@@ -27,6 +27,8 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
@@ -92,6 +94,8 @@ class ResourceServiceTest {
   private Map<String, ResourceRepository> resourceRepositoryBeans;
   @Mock
   private InstanceEventPreProcessor instanceEventPreProcessor;
+  @Mock
+  private AuthorityInstanceLinkService authorityInstanceLinkService;
   @InjectMocks
   private ResourceService indexService;
 
@@ -141,6 +145,25 @@ class ResourceServiceTest {
     assertThat(response).isEqualTo(expectedResponse);
   }
 
+  @Test
+  void indexDocuments_positive() {
+    var searchBody = searchDocumentBody();
+    var expectedResponse = getSuccessIndexOperationResponse();
+
+    when(primaryResourceRepository.indexResources(List.of(searchBody))).thenReturn(expectedResponse);
+    when(resourceDescriptionService.find(INSTANCE_RESOURCE)).thenReturn(of(resourceDescription(INSTANCE_RESOURCE)));
+
+    var response = indexService.indexDocuments(mapOf(INSTANCE_RESOURCE, List.of(searchBody)));
+    assertThat(response).isEqualTo(expectedResponse);
+  }
+
+  @Test
+  void convertInstances_positive_emptyList() {
+    var actual = indexService.convertInstances(emptyList());
+    assertThat(actual).isEmpty();
+    verifyNoInteractions(searchDocumentConverter);
+  }
+
   @Test
   void indexResources_positive_customResourceRepository() {
     var searchBody = searchDocumentBody();
@@ -288,6 +311,30 @@ class ResourceServiceTest {
     assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
   }
 
+  @Test
+  void indexInstances_positive() {
+    var resourceEvent = resourceEvent(INSTANCE_RESOURCE, mapOf("id", randomId()));
+    var expectedResponse = getSuccessIndexOperationResponse();
+    var expectedDocuments = List.of(searchDocumentBody());
+
+    when(indexRepository.indexExists(indexName(TENANT_ID))).thenReturn(true);
+    when(searchDocumentConverter.convert(List.of(resourceEvent))).thenReturn(
+      mapOf(INSTANCE_RESOURCE, expectedDocuments));
+    when(primaryResourceRepository.indexResources(expectedDocuments)).thenReturn(expectedResponse);
+
+    var actual = indexService.indexInstances(List.of(resourceEvent));
+    assertThat(actual).isEqualTo(expectedResponse);
+    verifyNoInteractions(resourceFetchService);
+    verify(kafkaMessageProducer).prepareAndSendContributorEvents(List.of(resourceEvent));
+    verify(kafkaMessageProducer).prepareAndSendSubjectEvents(List.of(resourceEvent));
+  }
+
+  @Test
+  void indexInstances_positive_emptyList() {
+    var actual = indexService.indexInstances(emptyList());
+    assertThat(actual).isEqualTo(getSuccessIndexOperationResponse());
+  }
+
   @Test
   void indexResourcesById_negative_indexNotExist() {
     var eventIds = List.of(resourceEvent(randomId(), INSTANCE_RESOURCE, CREATE));
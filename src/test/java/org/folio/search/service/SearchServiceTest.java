@@ -8,22 +8,34 @@ import static org.folio.search.utils.TestConstants.RESOURCE_ID;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.array;
+import static org.folio.search.utils.TestUtils.facet;
+import static org.folio.search.utils.TestUtils.facetItem;
+import static org.folio.search.utils.TestUtils.facetResult;
+import static org.folio.search.utils.TestUtils.mapOf;
 import static org.folio.search.utils.TestUtils.searchResult;
 import static org.folio.search.utils.TestUtils.searchServiceRequest;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.index.query.QueryBuilders.idsQuery;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.opensearch.search.builder.SearchSourceBuilder.searchSource;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.folio.search.configuration.properties.SearchQueryConfigurationProperties;
 import org.folio.search.cql.CqlSearchQueryConverter;
 import org.folio.search.exception.RequestValidationException;
+import org.folio.search.model.service.CqlFacetRequest;
 import org.folio.search.model.service.CqlSearchRequest;
 import org.folio.search.repository.SearchRepository;
+import org.folio.search.service.consortium.ConsortiumSearchHelper;
 import org.folio.search.service.converter.ElasticsearchDocumentConverter;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.search.service.setter.SearchResponsePostProcessor;
@@ -37,6 +49,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.aggregations.Aggregations;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -60,8 +73,14 @@ class SearchServiceTest {
   @Mock
   private SearchResponse searchResponse;
   @Mock
+  private Aggregations aggregations;
+  @Mock
   private SearchPreferenceService searchPreferenceService;
   @Mock
+  private FacetService facetService;
+  @Mock
+  private ConsortiumSearchHelper consortiumSearchHelper;
+  @Mock
   private Map<Class<?>, SearchResponsePostProcessor<?>> searchResponsePostProcessors = Collections.emptyMap();
 
   @Test
@@ -75,7 +94,8 @@ class SearchServiceTest {
     when(searchFieldProvider.getSourceFields(RESOURCE_NAME, SEARCH)).thenReturn(new String[] {"field1", "field2"});
     when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME, false))
       .thenReturn(searchSourceBuilder);
-    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString())).thenReturn(searchResponse);
+    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString(), isNull()))
+      .thenReturn(searchResponse);
     when(documentConverter.convertToSearchResult(searchResponse, TestResource.class))
       .thenReturn(expectedSearchResult);
     when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(25));
@@ -85,6 +105,28 @@ class SearchServiceTest {
     assertThat(actual).isEqualTo(expectedSearchResult);
   }
 
+  @Test
+  void search_positive_withTenantRouting() {
+    var searchRequest = searchServiceRequest(TestResource.class, SEARCH_QUERY, true);
+    var searchSourceBuilder = searchSource().query(ES_TERM_QUERY);
+    var expectedSourceBuilder = searchSource().query(ES_TERM_QUERY).size(100).from(0)
+      .trackTotalHits(true).timeout(new TimeValue(1000, MILLISECONDS));
+    var expectedSearchResult = searchResult(TestResource.of(RESOURCE_ID));
+
+    when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME, false))
+      .thenReturn(searchSourceBuilder);
+    when(consortiumSearchHelper.getSearchRouting(ES_TERM_QUERY, RESOURCE_NAME)).thenReturn(Optional.of("member"));
+    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString(), eq("member")))
+      .thenReturn(searchResponse);
+    when(documentConverter.convertToSearchResult(searchResponse, TestResource.class))
+      .thenReturn(expectedSearchResult);
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(searchPreferenceService.getPreferenceForString(anyString())).thenReturn("test");
+
+    var actual = searchService.search(searchRequest);
+    assertThat(actual).isEqualTo(expectedSearchResult);
+  }
+
   @Test
   void search_negative_sumOfOffsetAndLimitExceeds10000() {
     var searchRequest = CqlSearchRequest.of(TestResource.class, TENANT_ID, SEARCH_QUERY, 500, 9600, false, true);
@@ -103,7 +145,8 @@ class SearchServiceTest {
 
     when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME, false))
       .thenReturn(searchSourceBuilder);
-    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString())).thenReturn(searchResponse);
+    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString(), isNull()))
+      .thenReturn(searchResponse);
     when(documentConverter.convertToSearchResult(searchResponse, TestResource.class))
       .thenReturn(expectedSearchResult);
     when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(1));
@@ -112,4 +155,61 @@ class SearchServiceTest {
     var actual = searchService.search(searchRequest);
     assertThat(actual).isEqualTo(expectedSearchResult);
   }
+
+  @Test
+  void search_positive_withFacets() {
+    var searchRequest = CqlSearchRequest.of(TestResource.class, TENANT_ID, SEARCH_QUERY, 100, 0, true, true, false,
+      List.of("source"));
+    var searchSourceBuilder = searchSource().query(ES_TERM_QUERY);
+    var expectedSourceBuilder = searchSource().query(ES_TERM_QUERY).size(100).from(0)
+      .trackTotalHits(true).timeout(new TimeValue(1000, MILLISECONDS));
+    var facetRequest = CqlFacetRequest.of(RESOURCE_NAME, TENANT_ID, SEARCH_QUERY, List.of("source"));
+    var expectedFacetResult = facetResult(mapOf("source", facet(facetItem("MARC", 1))));
+
+    when(cqlSearchQueryConverter.convertForConsortia(SEARCH_QUERY, RESOURCE_NAME, false))
+      .thenReturn(searchSourceBuilder);
+    when(searchRepository.search(eq(searchRequest), eq(expectedSourceBuilder), anyString(), isNull()))
+      .thenReturn(searchResponse);
+    when(documentConverter.convertToSearchResult(searchResponse, TestResource.class))
+      .thenReturn(searchResult(TestResource.of(RESOURCE_ID)));
+    when(searchResponse.getAggregations()).thenReturn(aggregations);
+    when(facetService.convertFacets(aggregations)).thenReturn(expectedFacetResult);
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(searchPreferenceService.getPreferenceForString(anyString())).thenReturn("test");
+
+    var actual = searchService.search(searchRequest);
+
+    assertThat(actual).isEqualTo(searchResult(TestResource.of(RESOURCE_ID)).facetResult(expectedFacetResult));
+    verify(facetService).addFacetAggregations(facetRequest, searchSourceBuilder);
+  }
+
+  @Test
+  void searchByIds_positive() {
+    var searchRequest = searchServiceRequest(TestResource.class, null, true);
+    var ids = List.of(RESOURCE_ID);
+    var expectedSourceBuilder = searchSource().query(idsQuery().addIds(RESOURCE_ID)).from(0).size(1)
+      .timeout(new TimeValue(1000, MILLISECONDS));
+
+    when(searchQueryConfig.getRequestTimeout()).thenReturn(Duration.ofSeconds(1));
+    when(cqlSearchQueryConverter.convertIdsForConsortia(ids, RESOURCE_NAME))
+      .thenReturn(searchSource().query(idsQuery().addIds(RESOURCE_ID)));
+    when(searchRepository.search(searchRequest, expectedSourceBuilder)).thenReturn(searchResponse);
+    when(documentConverter.convertToSearchResult(searchResponse, TestResource.class))
+      .thenReturn(searchResult(TestResource.of(RESOURCE_ID)));
+
+    var actual = searchService.searchByIds(searchRequest, ids);
+
+    assertThat(actual).isEqualTo(searchResult(TestResource.of(RESOURCE_ID)));
+  }
+
+  @Test
+  void searchByIds_negative_idsLimitExceeded() {
+    var searchRequest = searchServiceRequest(TestResource.class, null, true);
+    doThrow(new RequestValidationException("IDs array size exceeds the maximum allowed limit 1", "size", "2"))
+      .when(cqlSearchQueryConverter).validateIdsCount(2);
+
+    assertThatThrownBy(() -> searchService.searchByIds(searchRequest, List.of(RESOURCE_ID, "id2")))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("IDs array size exceeds the maximum allowed limit 1");
+  }
 }
@@ -1,5 +1,6 @@
 package org.folio.search.service;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.utils.TestConstants.CENTRAL_TENANT_ID;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
@@ -18,7 +19,9 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.Set;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
+import org.folio.search.configuration.properties.SearchConfigurationProperties.PooledTenancySettings;
 import org.folio.search.domain.dto.LanguageConfig;
+import org.folio.search.exception.RequestValidationException;
 import org.folio.search.service.browse.CallNumberBrowseRangeService;
 import org.folio.search.service.consortium.LanguageConfigServiceDecorator;
 import org.folio.search.service.metadata.ResourceDescriptionService;
@@ -102,6 +105,7 @@ class SearchTenantServiceTest {
   @Test
   void createOrUpdateTenant_positive_onlyKafkaAndSystemUserWhenConsortiumMemberTenant() {
     when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(searchConfigurationProperties.getPooledTenancy()).thenReturn(new PooledTenancySettings());
     doNothing().when(prepareSystemUserService).setupSystemUser();
     doNothing().when(kafkaAdminService).createTopics(TENANT_ID);
     doNothing().when(kafkaAdminService).restartEventListeners();
@@ -116,6 +120,22 @@ class SearchTenantServiceTest {
     verify(prepareSystemUserService).setupSystemUser();
   }
 
+  @Test
+  void createOrUpdateTenant_negative_pooledConsortiumTenant() {
+    var pooledTenancy = new PooledTenancySettings();
+    pooledTenancy.setEnabled(true);
+    pooledTenancy.setTenants(Set.of(TENANT_ID));
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(searchConfigurationProperties.getPooledTenancy()).thenReturn(pooledTenancy);
+    var tenantAttributes = tenantAttributes().addParametersItem(centralTenantParameter());
+
+    assertThatThrownBy(() -> searchTenantService.createOrUpdateTenant(tenantAttributes))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Consortium tenant can't be pooled");
+    verifyNoInteractions(kafkaAdminService);
+    verifyNoInteractions(indexService);
+  }
+
   @Test
   void initializeTenant_positive() {
     when(searchConfigurationProperties.getInitialLanguages()).thenReturn(Set.of("eng"));
@@ -0,0 +1,81 @@
+package org.folio.search.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.folio.search.domain.dto.ShelvingOrderAlgorithmType;
+import org.folio.search.model.types.ShelfKeyType;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@UnitTest
+class ShelfKeyServiceTest {
+
+  private static final String CALL_NUMBER = "HD1691 .I5 1967";
+
+  private Cache<String, String> shelfKeysCache;
+  private ShelfKeyService shelfKeyService;
+
+  @BeforeEach
+  void setUp() {
+    shelfKeysCache = Caffeine.newBuilder().recordStats().build();
+    shelfKeyService = new ShelfKeyService(shelfKeysCache);
+  }
+
+  @Test
+  void getShelfKey_positive_calculatedOnce() {
+    var firstShelfKey = shelfKeyService.getShelfKey(CALL_NUMBER, ShelfKeyType.LC);
+    var secondShelfKey = shelfKeyService.getShelfKey(CALL_NUMBER, ShelfKeyType.LC);
+
+    assertThat(firstShelfKey).isEqualTo("HD 41691 I5 41967").isEqualTo(secondShelfKey);
+    assertThat(shelfKeysCache.stats().missCount()).isEqualTo(1);
+    assertThat(shelfKeysCache.stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void getShelfKey_positive_cachedByShelfKeyType() {
+    var lcShelfKey = shelfKeyService.getShelfKey(CALL_NUMBER, ShelfKeyType.LC);
+    var defaultShelfKey = shelfKeyService.getShelfKey(CALL_NUMBER, ShelfKeyType.DEFAULT);
+
+    assertThat(lcShelfKey).isEqualTo("HD 41691 I5 41967");
+    assertThat(defaultShelfKey).isEqualTo("HD1691 .I5 1967");
+    assertThat(shelfKeysCache.estimatedSize()).isEqualTo(2);
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = ShelfKeyType.class, names = "DEFAULT", mode = EnumSource.Mode.EXCLUDE)
+  void getShelfKey_positive_sameAsCalculated(ShelfKeyType shelfKeyType) {
+    var given = "T22.19:M54/990";
+    assertThat(shelfKeyService.getShelfKey(given, shelfKeyType)).isEqualTo(shelfKeyType.calculate(given));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "LC, HD1691 .I5 1967, HD 41691 I5 41967",
+    "DEWEY, 302.55, 3302.55",
+    "DEFAULT, hd1691 ^I5 1967, HD1691 ^I5 1967"
+  })
+  void getShelfKey_positive_shelvingOrderAlgorithmType(ShelvingOrderAlgorithmType algorithmType, String callNumber,
+                                                       String expectedShelfKey) {
+    assertThat(shelfKeyService.getShelfKey(callNumber, ShelfKeyType.of(algorithmType))).isEqualTo(expectedShelfKey);
+  }
+
+  @ParameterizedTest
+  @EnumSource(ShelfKeyType.class)
+  void getShelfKey_positive_nullCallNumber(ShelfKeyType shelfKeyType) {
+    assertThat(shelfKeyService.getShelfKey(null, shelfKeyType)).isNull();
+    assertThat(shelfKeysCache.estimatedSize()).isZero();
+  }
+
+  @ParameterizedTest
+  @EnumSource(ShelfKeyType.class)
+  void getShelfKey_positive_blankCallNumber(ShelfKeyType shelfKeyType) {
+    assertThat(shelfKeyService.getShelfKey("  ", shelfKeyType)).isEmpty();
+    assertThat(shelfKeysCache.estimatedSize()).isZero();
+  }
+}
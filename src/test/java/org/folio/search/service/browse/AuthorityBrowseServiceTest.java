@@ -1,5 +1,6 @@
 package org.folio.search.service.browse;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.model.types.ResponseGroupType.BROWSE;
 import static org.folio.search.utils.SearchUtils.AUTHORITY_RESOURCE;
@@ -24,6 +25,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import org.folio.search.domain.dto.Authority;
 import org.folio.search.domain.dto.AuthorityBrowseItem;
 import org.folio.search.model.BrowseResult;
@@ -64,6 +66,8 @@ class AuthorityBrowseServiceTest {
   @Mock
   private BrowseContextProvider browseContextProvider;
   @Mock
+  private BrowsePageCacheService browsePageCacheService;
+  @Mock
   private ElasticsearchDocumentConverter documentConverter;
   @Mock
   private SearchFieldProvider searchFieldProvider;
@@ -81,7 +85,11 @@ class AuthorityBrowseServiceTest {
     authorityBrowseService.setDocumentConverter(documentConverter);
     authorityBrowseService.setSearchRepository(searchRepository);
     authorityBrowseService.setBrowseContextProvider(browseContextProvider);
+    authorityBrowseService.setBrowsePageCacheService(browsePageCacheService);
     authorityBrowseService.setSearchResponsePostProcessors(searchResponsePostProcessors);
+    lenient().when(browsePageCacheService.getPage(any(), any(), any())).thenAnswer(invocation -> invocation
+      .<BiFunction<BrowseRequest, BrowseContext, ?>>getArgument(2).apply(invocation.getArgument(0),
+        invocation.getArgument(1)));
     lenient().when(searchRepository.analyze(any(), any(), any(), any()))
       .thenAnswer(invocation -> invocation.getArgument(0));
   }
@@ -258,7 +266,7 @@ class AuthorityBrowseServiceTest {
     var request = BrowseRequest.of(AUTHORITY_RESOURCE, TENANT_ID, query, 5, TARGET_FIELD, null, true, true, 2);
 
     when(browseContextProvider.get(request)).thenReturn(browseContextAround(true));
-    mockMultiSearchRequest(request,
+    mockAnchorMultiSearchRequest(request,
       List.of(anchorSearchSource("s0", 3)),
       List.of(searchResult(authority("s0"))));
     mockMultiSearchRequest(request,
@@ -278,7 +286,7 @@ class AuthorityBrowseServiceTest {
     var request = BrowseRequest.of(AUTHORITY_RESOURCE, TENANT_ID, query, 5, TARGET_FIELD, null, true, false, 2);
 
     when(browseContextProvider.get(request)).thenReturn(browseContextAround(true));
-    mockMultiSearchRequest(request,
+    mockAnchorMultiSearchRequest(request,
       List.of(anchorSearchSource("s0", 3)),
       List.of(searchResult(authority("s0"))));
     mockMultiSearchRequest(request,
@@ -298,7 +306,7 @@ class AuthorityBrowseServiceTest {
     var request = BrowseRequest.of(AUTHORITY_RESOURCE, TENANT_ID, query, 5, TARGET_FIELD, null, true, true, 2);
 
     when(browseContextProvider.get(request)).thenReturn(browseContextAround(true));
-    mockMultiSearchRequest(request,
+    mockAnchorMultiSearchRequest(request,
       List.of(anchorSearchSource("s0", 3)),
       List.of(SearchResult.empty()));
     mockMultiSearchRequest(request,
@@ -318,7 +326,7 @@ class AuthorityBrowseServiceTest {
     var request = BrowseRequest.of(AUTHORITY_RESOURCE, TENANT_ID, query, 5, TARGET_FIELD, null, true, false, 2);
 
     when(browseContextProvider.get(request)).thenReturn(browseContextAround(true));
-    mockMultiSearchRequest(request,
+    mockAnchorMultiSearchRequest(request,
       List.of(anchorSearchSource("s0", 3)),
       List.of(SearchResult.empty()));
     mockMultiSearchRequest(request,
@@ -375,6 +383,17 @@ class AuthorityBrowseServiceTest {
 
   private void mockMultiSearchRequest(ResourceRequest request,
     List<SearchSourceBuilder> queries, List<SearchResult<Authority>> results) {
+    var multiSearchResponse = multiSearchResponse(results);
+    when(searchRepository.msearch(request, queries)).thenReturn(multiSearchResponse);
+  }
+
+  private void mockAnchorMultiSearchRequest(ResourceRequest request,
+    List<SearchSourceBuilder> queries, List<SearchResult<Authority>> results) {
+    var multiSearchResponse = multiSearchResponse(results);
+    when(searchRepository.msearchAsync(request, queries)).thenReturn(completedFuture(multiSearchResponse));
+  }
+
+  private MultiSearchResponse multiSearchResponse(List<SearchResult<Authority>> results) {
     var multiSearchResponse = mock(MultiSearchResponse.class);
     var items = new MultiSearchResponse.Item[results.size()];
     for (int i = 0; i < results.size(); i++) {
@@ -384,8 +403,8 @@ class AuthorityBrowseServiceTest {
       when(documentConverter.convertToSearchResult(searchResponse, Authority.class)).thenReturn(results.get(i));
     }
 
-    when(searchRepository.msearch(request, queries)).thenReturn(multiSearchResponse);
     when(multiSearchResponse.getResponses()).thenReturn(items);
+    return multiSearchResponse;
   }
 
   private static List<Authority> authorities(String... values) {
@@ -0,0 +1,214 @@
+package org.folio.search.service.browse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestConstants.INDEX_NAME;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.folio.search.configuration.properties.SearchCacheConfigurationProperties;
+import org.folio.search.cql.CqlQueryParser;
+import org.folio.search.model.BrowseResult;
+import org.folio.search.model.service.BrowseContext;
+import org.folio.search.model.service.BrowseRequest;
+import org.folio.search.repository.IndexGenerationTracker;
+import org.folio.search.repository.IndexNameProvider;
+import org.folio.search.utils.JsonConverter;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class BrowsePageCacheServiceTest {
+
+  private static final String TARGET_FIELD = "value";
+  private static final JsonConverter JSON_CONVERTER = new JsonConverter(OBJECT_MAPPER);
+  private static final BrowseResult<String> BROWSE_RESULT = BrowseResult.of(10, "s1", "s5", List.of("s1", "s5"));
+
+  private BrowsePageCacheService browsePageCacheService;
+  private IndexGenerationTracker indexGenerationTracker;
+  private SearchCacheConfigurationProperties cacheConfiguration;
+  private List<BrowseContext> loadedPages;
+  @Mock
+  private IndexNameProvider indexNameProvider;
+  @Mock
+  private BrowseContextProvider browseContextProvider;
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+  @Mock
+  private Executor browsePrefetchExecutor;
+  @Captor
+  private ArgumentCaptor<BrowseRequest> requestCaptor;
+
+  @BeforeEach
+  void setUp() {
+    indexGenerationTracker = new IndexGenerationTracker();
+    cacheConfiguration = new SearchCacheConfigurationProperties();
+    cacheConfiguration.setBrowsePagesCacheEnabled(true);
+    cacheConfiguration.setBrowsePagesPrefetchEnabled(true);
+    loadedPages = new ArrayList<>();
+    Executor directExecutor = Runnable::run;
+    browsePageCacheService = new BrowsePageCacheService(Caffeine.newBuilder().build(), indexNameProvider,
+      indexGenerationTracker, browseContextProvider, new CqlQueryParser(), folioExecutionContext, JSON_CONVERTER,
+      cacheConfiguration, directExecutor);
+    lenient().when(indexNameProvider.getIndexName(any(BrowseRequest.class))).thenReturn(INDEX_NAME);
+    lenient().when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+  }
+
+  @Test
+  void getPage_positive_cachedResult() {
+    var request = request("value > s0");
+    var context = forwardContext("s0");
+
+    var firstResult = browsePageCacheService.getPage(request, context, this::loadPage);
+    var secondResult = browsePageCacheService.getPage(request, context, this::loadPage);
+
+    assertThat(firstResult).isEqualTo(BROWSE_RESULT);
+    assertThat(secondResult).isEqualTo(BROWSE_RESULT);
+    assertThat(loadedPages).containsExactly(context);
+  }
+
+  @Test
+  void getPage_positive_cachedResultIsNotModifiedByCaller() {
+    var request = request("value > s0");
+    var context = forwardContext("s0");
+
+    browsePageCacheService.getPage(request, context, this::loadPage);
+    var cachedResult = browsePageCacheService.getPage(request, context, this::loadPage);
+    cachedResult.next("s2").getRecords().set(0, "s0");
+    var actual = browsePageCacheService.getPage(request, context, this::loadPage);
+
+    assertThat(actual).isEqualTo(BROWSE_RESULT).isNotSameAs(cachedResult);
+    assertThat(loadedPages).containsExactly(context);
+  }
+
+  @Test
+  void getPage_positive_cacheDisabled() {
+    cacheConfiguration.setBrowsePagesCacheEnabled(false);
+    var request = request("value > s0");
+    var context = forwardContext("s0");
+
+    browsePageCacheService.getPage(request, context, this::loadPage);
+    browsePageCacheService.getPage(request, context, this::loadPage);
+
+    assertThat(loadedPages).containsExactly(context, context);
+  }
+
+  @Test
+  void getPage_positive_differentAnchor() {
+    browsePageCacheService.getPage(request("value > s0"), forwardContext("s0"), this::loadPage);
+    browsePageCacheService.getPage(request("value > s1"), forwardContext("s1"), this::loadPage);
+    assertThat(loadedPages).containsExactly(forwardContext("s0"), forwardContext("s1"));
+  }
+
+  @Test
+  void getPage_positive_invalidatedByIndexWrite() {
+    var request = request("value > s0");
+    var context = forwardContext("s0");
+
+    browsePageCacheService.getPage(request, context, this::loadPage);
+    indexGenerationTracker.incrementGenerations(List.of(INDEX_NAME));
+    browsePageCacheService.getPage(request, context, this::loadPage);
+    browsePageCacheService.getPage(request, context, this::loadPage);
+
+    assertThat(loadedPages).containsExactly(context, context, context);
+  }
+
+  @Test
+  void prefetchAdjacentPages_positive_nextPageWithFilters() {
+    var request = request("value > s0 and source == MARC");
+    var nextContext = forwardContext("s5");
+    when(browseContextProvider.get(requestCaptor.capture())).thenReturn(nextContext);
+
+    browsePageCacheService.prefetchAdjacentPages(request, forwardContext("s0"), BROWSE_RESULT, this::loadPage);
+    var nextPageRequest = requestCaptor.getValue();
+    browsePageCacheService.getPage(nextPageRequest, nextContext, this::loadPage);
+
+    assertThat(nextPageRequest.getQuery()).isEqualTo("value > \"s5\" and (source == MARC)");
+    assertThat(loadedPages).containsExactly(nextContext);
+  }
+
+  @Test
+  void prefetchAdjacentPages_positive_browsingAround() {
+    var request = request("value >= s0 or value < s0");
+    var context = BrowseContext.builder().anchor("s0")
+      .precedingQuery(rangeQuery(TARGET_FIELD).lt("s0")).succeedingQuery(rangeQuery(TARGET_FIELD).gte("s0"))
+      .precedingLimit(2).succeedingLimit(3).build();
+    when(browseContextProvider.get(requestCaptor.capture())).thenReturn(forwardContext("s5"), backwardContext("s1"));
+
+    browsePageCacheService.prefetchAdjacentPages(request, context, BROWSE_RESULT, this::loadPage);
+
+    assertThat(requestCaptor.getAllValues()).extracting(BrowseRequest::getQuery)
+      .containsExactly("value > \"s5\"", "value < \"s1\"");
+    assertThat(loadedPages).containsExactly(forwardContext("s5"), backwardContext("s1"));
+  }
+
+  @Test
+  void prefetchAdjacentPages_positive_lastPage() {
+    var browseResult = BrowseResult.of(2, "s1", null, List.of("s1", "s2"));
+    browsePageCacheService.prefetchAdjacentPages(request("value > s0"), forwardContext("s0"), browseResult,
+      this::loadPage);
+    verifyNoInteractions(browseContextProvider);
+  }
+
+  @Test
+  void prefetchAdjacentPages_positive_prefetchDisabled() {
+    cacheConfiguration.setBrowsePagesPrefetchEnabled(false);
+    browsePageCacheService = new BrowsePageCacheService(Caffeine.newBuilder().build(), indexNameProvider,
+      indexGenerationTracker, browseContextProvider, new CqlQueryParser(), folioExecutionContext, JSON_CONVERTER,
+      cacheConfiguration, browsePrefetchExecutor);
+
+    browsePageCacheService.prefetchAdjacentPages(request("value > s0"), forwardContext("s0"), BROWSE_RESULT,
+      this::loadPage);
+
+    verifyNoInteractions(browsePrefetchExecutor);
+  }
+
+  @Test
+  void prefetchAdjacentPages_negative_failedPrefetchIsIgnored() {
+    when(browseContextProvider.get(any())).thenThrow(new IllegalStateException("error"));
+
+    browsePageCacheService.prefetchAdjacentPages(request("value < s0"), backwardContext("s0"), BROWSE_RESULT,
+      this::loadPage);
+
+    verify(browseContextProvider).get(any());
+    assertThat(loadedPages).isEmpty();
+  }
+
+  private BrowseResult<String> loadPage(BrowseRequest request, BrowseContext context) {
+    loadedPages.add(context);
+    return BROWSE_RESULT;
+  }
+
+  private static BrowseRequest request(String query) {
+    return BrowseRequest.builder().resource("instance_subject").tenantId(TENANT_ID)
+      .query(query).targetField(TARGET_FIELD).limit(5).build();
+  }
+
+  private static BrowseContext forwardContext(String anchor) {
+    return BrowseContext.builder().anchor(anchor).succeedingQuery(rangeQuery(TARGET_FIELD).gt(anchor))
+      .succeedingLimit(5).filters(List.of(termQuery("source", "marc"))).build();
+  }
+
+  private static BrowseContext backwardContext(String anchor) {
+    return BrowseContext.builder().anchor(anchor).precedingQuery(rangeQuery(TARGET_FIELD).lt(anchor))
+      .precedingLimit(5).build();
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.search.service.browse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+
+import java.util.List;
+import org.folio.search.model.service.BrowseContext;
+import org.folio.search.model.service.BrowseRequest;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class CallNumberBrowseDensityEstimatorTest {
+
+  private final CallNumberBrowseDensityEstimator densityEstimator = new CallNumberBrowseDensityEstimator();
+
+  @Test
+  void estimateSize_positive_noRecordedDensity() {
+    assertThat(densityEstimator.estimateSize(request("lc"), context(), 25, 500)).isEqualTo(25);
+  }
+
+  @Test
+  void estimateSize_positive_recordedDensity() {
+    densityEstimator.record(request("lc"), context(), 100, 10);
+
+    assertThat(densityEstimator.estimateSize(request("lc"), context(), 25, 500)).isEqualTo(250);
+    assertThat(densityEstimator.estimateSize(request("dewey"), context(), 25, 500)).isEqualTo(25);
+  }
+
+  @Test
+  void estimateSize_positive_densityIsSmoothed() {
+    densityEstimator.record(request("lc"), context(), 100, 10);
+    densityEstimator.record(request("lc"), context(), 100, 100);
+
+    assertThat(densityEstimator.estimateSize(request("lc"), context(), 37, 500)).isBetween(100, 101);
+  }
+
+  @Test
+  void estimateSize_positive_limitedByMaxSize() {
+    densityEstimator.record(request("lc"), context(), 100, 0);
+    assertThat(densityEstimator.estimateSize(request("lc"), context(), 25, 500)).isEqualTo(500);
+  }
+
+  @Test
+  void estimateSize_positive_requestWithoutFilters() {
+    var context = BrowseContext.builder().anchor("A").build();
+    densityEstimator.record(request(null), context, 100, 10);
+    assertThat(densityEstimator.estimateSize(request(null), context, 25, 500)).isEqualTo(25);
+  }
+
+  private static BrowseRequest request(String callNumberType) {
+    return BrowseRequest.builder().resource(RESOURCE_NAME).tenantId(TENANT_ID).refinedCondition(callNumberType).build();
+  }
+
+  private static BrowseContext context() {
+    return BrowseContext.builder().anchor("A").filters(List.of(termQuery("items.effectiveLocationId", "id"))).build();
+  }
+}
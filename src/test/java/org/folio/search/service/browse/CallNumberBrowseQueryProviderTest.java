@@ -60,6 +60,8 @@ class CallNumberBrowseQueryProviderTest {
   private CallNumberBrowseRangeService browseRangeService;
   @Mock
   private ConsortiumSearchHelper consortiumSearchHelper;
+  @Spy
+  private CallNumberBrowseDensityEstimator densityEstimator = new CallNumberBrowseDensityEstimator();
   @InjectMocks
   private CallNumberBrowseQueryProvider queryProvider;
 
@@ -132,6 +134,32 @@ class CallNumberBrowseQueryProviderTest {
     verify(queryConfiguration).getRangeQueryLimitMultiplier();
   }
 
+  @Test
+  void get_positive_forwardWithLowDensity() {
+    when(searchFieldProvider.getSourceFields(RESOURCE_NAME, CN_BROWSE)).thenReturn(new String[] {"id", "title"});
+    var filterQuery = termQuery("effectiveLocationId", "location#1");
+    var context = BrowseContext.builder().anchor(ANCHOR).succeedingLimit(5)
+      .filters(List.of(filterQuery)).build();
+    densityEstimator.record(request(false), context, 100, 25);
+
+    var actual = mockCallNumberConversion(() -> queryProvider.get(request(false), context, true));
+
+    var source = expectedSucceedingQuery(100);
+    source.query(boolQuery().must(source.query()).filter(filterQuery));
+    assertThat(actual).isEqualTo(source.fetchSource(new String[] {"id", "title"}, null));
+  }
+
+  @Test
+  void getAnchorQuery_positive() {
+    var filterQuery = termQuery("effectiveLocationId", "location#1");
+    var context = BrowseContext.builder().anchor(ANCHOR).succeedingLimit(5).filters(List.of(filterQuery)).build();
+
+    var actual = queryProvider.getAnchorQuery(request(false), context);
+
+    assertThat(actual).isEqualTo(searchSource().from(0).size(0).terminateAfter(1)
+      .query(boolQuery().must(termQuery("itemEffectiveShelvingOrder", ANCHOR)).filter(filterQuery)));
+  }
+
   @Test
   void get_positive_backward() {
     when(searchFieldProvider.getSourceFields(RESOURCE_NAME, CN_BROWSE)).thenReturn(new String[] {"id", "title"});
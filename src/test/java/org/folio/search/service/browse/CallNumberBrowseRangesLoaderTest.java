@@ -0,0 +1,134 @@
+package org.folio.search.service.browse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.JsonUtils.jsonArray;
+import static org.folio.search.utils.JsonUtils.jsonObject;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.aggregationsFromJson;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.folio.search.model.SimpleResourceRequest;
+import org.folio.search.model.service.CallNumberBrowseRanges;
+import org.folio.search.repository.SearchRepository;
+import org.folio.search.utils.CallNumberUtils;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregator.Range;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class CallNumberBrowseRangesLoaderTest {
+
+  private static final String CACHE_KEY = TENANT_ID + ":callNumber:-1";
+  private static final SimpleResourceRequest REQUEST = SimpleResourceRequest.of(INSTANCE_RESOURCE, TENANT_ID);
+
+  @InjectMocks
+  private CallNumberBrowseRangesLoader loader;
+  @Mock
+  private SearchRepository searchRepository;
+  @Captor
+  private ArgumentCaptor<SearchSourceBuilder> searchSourceCaptor;
+
+  @Test
+  void load_positive_firstLevelRanges() {
+    var searchResponse = searchResponse(bucket("A", 10), bucket("B", 20), bucket("C", 0));
+    when(searchRepository.search(eq(REQUEST), searchSourceCaptor.capture())).thenReturn(searchResponse);
+
+    var actual = loader.load(CACHE_KEY);
+
+    assertThat(actual).isEqualTo(ranges(new String[] {"A", "B"}, new long[] {10, 20}));
+    assertThat(getRangesCount(searchSourceCaptor.getValue())).isEqualTo(36);
+  }
+
+  @Test
+  void load_positive_rangesAreSplitByNextCharacters() {
+    var firstLevelResponse = searchResponse(bucket("A", 50), bucket("B", 200));
+    var secondLevelResponse = searchResponse(bucket("BA", 150), bucket("BC", 50));
+    var thirdLevelResponse = searchResponse(bucket("BAA", 110), bucket("BAZ", 40));
+    when(searchRepository.search(eq(REQUEST), searchSourceCaptor.capture()))
+      .thenReturn(firstLevelResponse, secondLevelResponse, thirdLevelResponse);
+
+    var actual = loader.load(CACHE_KEY);
+
+    assertThat(actual).isEqualTo(ranges(new String[] {"A", "BAA", "BAZ", "BC"}, new long[] {50, 110, 40, 50}));
+    var supportedCharactersCount = CallNumberUtils.getSupportedCharacters().size();
+    assertThat(searchSourceCaptor.getAllValues())
+      .extracting(CallNumberBrowseRangesLoaderTest::getRangesCount)
+      .containsExactly(36, supportedCharactersCount, supportedCharactersCount);
+  }
+
+  @Test
+  void loadFirstLevel_positive_rangesAreNotSplit() {
+    var searchResponse = searchResponse(bucket("A", 50), bucket("B", 200));
+    when(searchRepository.search(eq(REQUEST), searchSourceCaptor.capture())).thenReturn(searchResponse);
+
+    var actual = loader.loadFirstLevel(CACHE_KEY);
+
+    assertThat(actual).isEqualTo(ranges(new String[] {"A", "B"}, new long[] {50, 200}));
+    assertThat(searchSourceCaptor.getAllValues())
+      .extracting(CallNumberBrowseRangesLoaderTest::getRangesCount)
+      .containsExactly(36);
+  }
+
+  @Test
+  void load_positive_firstSubRangeStartsAtParentRangeLowerBound() {
+    var firstLevelResponse = searchResponse(bucket("B", 200));
+    var secondLevelResponse = searchResponse(bucket("B ", 150), bucket("BC", 50));
+    when(searchRepository.search(eq(REQUEST), searchSourceCaptor.capture()))
+      .thenReturn(firstLevelResponse, secondLevelResponse);
+
+    var actual = loader.load(CACHE_KEY);
+
+    assertThat(actual).isEqualTo(ranges(new String[] {"B", "BC"}, new long[] {150, 50}));
+    var subRanges = getRanges(searchSourceCaptor.getAllValues().get(1));
+    assertThat(subRanges.get(0).getFrom()).isEqualTo(CallNumberUtils.getCallNumberAsLong("B").doubleValue());
+  }
+
+  @Test
+  void load_positive_emptyResponse() {
+    when(searchRepository.search(eq(REQUEST), searchSourceCaptor.capture())).thenReturn(null);
+    var actual = loader.load(CACHE_KEY);
+    assertThat(actual).isEqualTo(CallNumberBrowseRanges.empty());
+  }
+
+  private static int getRangesCount(SearchSourceBuilder searchSource) {
+    return getRanges(searchSource).size();
+  }
+
+  private static List<Range> getRanges(SearchSourceBuilder searchSource) {
+    var aggregation = searchSource.aggregations().getAggregatorFactories().iterator().next();
+    return ((RangeAggregationBuilder) aggregation).ranges();
+  }
+
+  private static CallNumberBrowseRanges ranges(String[] keys, long[] counts) {
+    var bounds = Arrays.stream(keys).mapToLong(CallNumberUtils::getCallNumberAsLong).toArray();
+    return CallNumberBrowseRanges.of(bounds, counts);
+  }
+
+  private static SearchResponse searchResponse(JsonNode... buckets) {
+    var searchResponse = mock(SearchResponse.class);
+    when(searchResponse.getAggregations()).thenReturn(aggregationsFromJson(
+      jsonObject("range#cnRanges", jsonObject("buckets", jsonArray(Stream.of(buckets).toArray())))));
+    return searchResponse;
+  }
+
+  private static JsonNode bucket(String key, int count) {
+    return jsonObject("key", key, "doc_count", count);
+  }
+}
@@ -3,8 +3,11 @@ package org.folio.search.service.browse;
 import static com.google.common.collect.Lists.newArrayList;
 import static java.util.Arrays.stream;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.apache.lucene.search.TotalHits.Relation.EQUAL_TO;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.utils.SearchUtils.CALL_NUMBER_BROWSING_FIELD;
 import static org.folio.search.utils.SearchUtils.SHELVING_ORDER_BROWSING_FIELD;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
@@ -21,6 +24,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.QueryBuilders.rangeQuery;
 
 import java.util.List;
+import java.util.function.BiFunction;
 import org.apache.lucene.search.TotalHits;
 import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.cql.CqlSearchQueryConverter;
@@ -29,6 +33,7 @@ import org.folio.search.domain.dto.CallNumberBrowseItem;
 import org.folio.search.domain.dto.Instance;
 import org.folio.search.domain.dto.Item;
 import org.folio.search.domain.dto.ItemEffectiveCallNumberComponents;
+import org.folio.search.exception.SearchOperationException;
 import org.folio.search.integration.ReferenceDataService;
 import org.folio.search.model.BrowseResult;
 import org.folio.search.model.service.BrowseContext;
@@ -43,6 +48,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchResponse;
@@ -63,6 +69,8 @@ class CallNumberBrowseServiceTest {
   @Mock
   private BrowseContextProvider browseContextProvider;
   @Mock
+  private BrowsePageCacheService browsePageCacheService;
+  @Mock
   private CallNumberBrowseQueryProvider browseQueryProvider;
   @Mock
   private CallNumberBrowseResultConverter browseResultConverter;
@@ -85,10 +93,18 @@ class CallNumberBrowseServiceTest {
   private ReferenceDataService referenceDataService;
   @Mock
   private SearchConfigurationProperties searchConfig;
+  @Mock
+  private PrecomputedCallNumberBrowseService precomputedCallNumberBrowseService;
+  @Spy
+  private CallNumberBrowseDensityEstimator densityEstimator = new CallNumberBrowseDensityEstimator();
 
   @BeforeEach
   void setUp() {
     callNumberBrowseService.setBrowseContextProvider(browseContextProvider);
+    callNumberBrowseService.setBrowsePageCacheService(browsePageCacheService);
+    lenient().when(browsePageCacheService.getPage(any(), any(), any())).thenAnswer(invocation -> invocation
+      .<BiFunction<BrowseRequest, BrowseContext, ?>>getArgument(2).apply(invocation.getArgument(0),
+        invocation.getArgument(1)));
     lenient().when(cqlSearchQueryConverter.convertToTermNode(anyString(), anyString()))
       .thenReturn(new CQLTermNode(null, null, "B"));
     lenient().when(shelvingOrderProcessor.getSearchTerms(ANCHOR)).thenReturn(newArrayList(ANCHOR));
@@ -130,6 +146,23 @@ class CallNumberBrowseServiceTest {
       cnBrowseItem(instance("C 11"), "C 11"))));
   }
 
+  @Test
+  void browse_positive_aroundByPrecomputedIndex() {
+    var request = request("callNumber >= B or callNumber < B", true);
+    var context = contextAroundIncluding();
+    var expected = BrowseResult.of(1, List.of(cnBrowseItem(instance("B"), "B", true)));
+
+    when(browseContextProvider.get(request)).thenReturn(context);
+    when(shelvingOrderProcessor.getSearchTerm(any(), any())).thenReturn(context.getAnchor());
+    when(precomputedCallNumberBrowseService.isSupported(request, context)).thenReturn(true);
+    when(precomputedCallNumberBrowseService.browse(request, context)).thenReturn(expected);
+
+    var actual = callNumberBrowseService.browse(request);
+
+    assertThat(actual).isEqualTo(expected);
+    verifyNoInteractions(browseQueryProvider, searchRepository);
+  }
+
   @Test
   void browse_positive_around_additionalRequest_when_emptyPrecedingResults() {
     var request = request("callNumber >= B or callNumber < B", true);
@@ -149,6 +182,31 @@ class CallNumberBrowseServiceTest {
     )));
   }
 
+  @Test
+  void browse_negative_around_additionalRequestFailed() {
+    var request = request("callNumber >= B or callNumber < B", true);
+    var error = new SearchOperationException("error");
+
+    var context = contextAroundIncluding();
+
+    when(browseContextProvider.get(request)).thenReturn(context);
+    when(shelvingOrderProcessor.getSearchTerm(any(), any())).thenReturn(context.getAnchor());
+    when(browseQueryProvider.get(request, context, false)).thenReturn(precedingQuery);
+    when(browseQueryProvider.get(request, context, true)).thenReturn(succeedingQuery);
+    var msearchResponse = msearchResponse(precedingResponse, succeedingResponse);
+    when(searchRepository.msearch(request, List.of(precedingQuery, succeedingQuery))).thenReturn(msearchResponse);
+    when(browseResultConverter.convert(precedingResponse, context, false))
+      .thenReturn(BrowseResult.of(1, browseItems()));
+    when(browseResultConverter.convert(precedingResponse, context, true)).thenReturn(BrowseResult.empty());
+    when(browseResultConverter.convert(succeedingResponse, context, true))
+      .thenReturn(BrowseResult.of(1, browseItems("B")));
+    when(precedingQuery.from(anyInt())).thenReturn(precedingQuery);
+    when(searchRepository.searchAsync(request, precedingQuery)).thenReturn(failedFuture(error));
+    when(searchConfig.getMaxBrowseRequestOffset()).thenReturn(500L);
+
+    assertThatThrownBy(() -> callNumberBrowseService.browse(request)).isSameAs(error);
+  }
+
   @Test
   void browse_positive_around_emptySucceedingResults() {
     var request = request("callNumber >= B or callNumber < B", true);
@@ -248,6 +306,38 @@ class CallNumberBrowseServiceTest {
       cnBrowseItem(instance("B"), "B"))));
   }
 
+  @Test
+  void browse_positive_forwardWithAnchorVariant() {
+    var request = request("callNumber >= B", false);
+    var query = rangeQuery(CALL_NUMBER_BROWSING_FIELD).gte(ANCHOR);
+    var context = BrowseContext.builder().succeedingQuery(query).succeedingLimit(5).anchor(ANCHOR).build();
+    var variantContext = BrowseContext.builder().succeedingQuery(query).succeedingLimit(5).anchor("C").build();
+    var anchorQuery = mock(SearchSourceBuilder.class);
+    var anchorHits = mock(SearchHits.class);
+    var variantQuery = mock(SearchSourceBuilder.class);
+
+    when(shelvingOrderProcessor.getSearchTerm(any(), any())).thenReturn(context.getAnchor());
+    when(shelvingOrderProcessor.getSearchTerms(ANCHOR)).thenReturn(newArrayList(ANCHOR, "C"));
+    when(browseContextProvider.get(request)).thenReturn(context);
+    when(browseQueryProvider.get(request, context, true)).thenReturn(succeedingQuery);
+    when(browseQueryProvider.getAnchorQuery(request, variantContext)).thenReturn(anchorQuery);
+    when(searchRepository.msearch(request, List.of(succeedingQuery, anchorQuery)))
+      .thenReturn(msearchResponse(succeedingResponse, additionalResponse));
+    when(additionalResponse.getHits()).thenReturn(anchorHits);
+    when(anchorHits.getTotalHits()).thenReturn(new TotalHits(1, EQUAL_TO));
+    when(browseResultConverter.convert(succeedingResponse, context, true))
+      .thenReturn(BrowseResult.of(1, browseItems("C1")));
+    when(browseQueryProvider.get(request, variantContext, true)).thenReturn(variantQuery);
+    when(searchRepository.search(request, variantQuery)).thenReturn(precedingResponse);
+    when(browseResultConverter.convert(precedingResponse, variantContext, true))
+      .thenReturn(BrowseResult.of(2, browseItems("C", "C1")));
+
+    var actual = callNumberBrowseService.browse(request);
+
+    assertThat(actual).isEqualTo(BrowseResult.of(2, "C", null, List.of(
+      cnBrowseItem(instance("C"), "C"), cnBrowseItem(instance("C1"), "C1"))));
+  }
+
   @Test
   void browse_positive_emptyAnchor() {
     var request = request("callNumber >= []", false);
@@ -273,12 +363,19 @@ class CallNumberBrowseServiceTest {
     var succeedingResult = BrowseResult.of(1, browseItems("B"));
     var contextForNoAnchorInResponse = contextAroundIncluding("A", ANCHOR);
 
-    //mocks for request without anchor in response
+    var anchorQuery = mock(SearchSourceBuilder.class);
+    var anchorResponse = mock(SearchResponse.class);
+    var anchorHits = mock(SearchHits.class);
+    when(anchorResponse.getHits()).thenReturn(anchorHits);
+    when(anchorHits.getTotalHits()).thenReturn(new TotalHits(1, EQUAL_TO));
+
+    //mocks for request without anchor in response, anchor variant is checked in the same multi-search request
     when(browseContextProvider.get(request)).thenReturn(contextForNoAnchorInResponse);
     when(browseQueryProvider.get(request, contextForNoAnchorInResponse, false)).thenReturn(precedingQuery);
     when(browseQueryProvider.get(request, contextForNoAnchorInResponse, true)).thenReturn(succeedingQuery);
-    var msearchResponse = msearchResponse(precedingResponse, succeedingResponse);
-    when(searchRepository.msearch(request, List.of(precedingQuery, succeedingQuery))).thenReturn(msearchResponse);
+    when(browseQueryProvider.getAnchorQuery(request, contextAroundIncluding(ANCHOR, ANCHOR))).thenReturn(anchorQuery);
+    when(searchRepository.msearch(request, List.of(precedingQuery, succeedingQuery, anchorQuery)))
+      .thenReturn(msearchResponse(precedingResponse, succeedingResponse, anchorResponse));
     when(browseResultConverter.convert(succeedingResponse, contextForNoAnchorInResponse, true))
       .thenReturn(succeedingResult);
 
@@ -287,7 +384,8 @@ class CallNumberBrowseServiceTest {
     //mock for request with anchor in response
     when(browseQueryProvider.get(request, contextForAnchorInResponse, false)).thenReturn(precedingQuery);
     when(browseQueryProvider.get(request, contextForAnchorInResponse, true)).thenReturn(succeedingQuery);
-    when(searchRepository.msearch(request, List.of(precedingQuery, succeedingQuery))).thenReturn(msearchResponse);
+    when(searchRepository.msearch(request, List.of(precedingQuery, succeedingQuery)))
+      .thenReturn(msearchResponse(precedingResponse, succeedingResponse));
     when(browseResultConverter.convert(precedingResponse, contextForAnchorInResponse, false))
       .thenReturn(precedingResult);
     when(browseResultConverter.convert(succeedingResponse, contextForAnchorInResponse, false))
@@ -505,7 +603,7 @@ class CallNumberBrowseServiceTest {
     when(additionalResponse.getHits()).thenReturn(mockHits);
     when(mockHits.getTotalHits()).thenReturn(new TotalHits(additionalResult.getTotalRecords(), EQUAL_TO));
 
-    when(searchRepository.search(request, precedingQuery)).thenReturn(additionalResponse);
+    when(searchRepository.searchAsync(request, precedingQuery)).thenReturn(completedFuture(additionalResponse));
     when(browseResultConverter.convert(additionalResponse, context, false)).thenReturn(additionalResult);
   }
 
@@ -0,0 +1,99 @@
+package org.folio.search.service.browse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.domain.dto.TenantConfiguredFeature.BROWSE_CN_PRECOMPUTED;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.when;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+
+import java.util.List;
+import org.folio.search.model.service.BrowseContext;
+import org.folio.search.model.service.BrowseRequest;
+import org.folio.search.service.consortium.FeatureConfigServiceDecorator;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.index.query.QueryBuilder;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class PrecomputedCallNumberBrowseServiceTest {
+
+  private static final String TARGET_FIELD = "callNumber";
+
+  @InjectMocks
+  private PrecomputedCallNumberBrowseService browseService;
+  @Mock
+  private FeatureConfigServiceDecorator featureConfigService;
+
+  @Test
+  void isSupported_positive_noFilters() {
+    when(featureConfigService.isEnabled(BROWSE_CN_PRECOMPUTED)).thenReturn(true);
+    assertThat(browseService.isSupported(request(null), context(List.of()))).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"lc", "dewey", "nlm", "sudoc", "other"})
+  void isSupported_positive_systemCallNumberType(String callNumberType) {
+    when(featureConfigService.isEnabled(BROWSE_CN_PRECOMPUTED)).thenReturn(true);
+    assertThat(browseService.isSupported(request(callNumberType), context(List.of()))).isTrue();
+  }
+
+  @Test
+  void isSupported_positive_supportedFilters() {
+    when(featureConfigService.isEnabled(BROWSE_CN_PRECOMPUTED)).thenReturn(true);
+    var filters = List.<QueryBuilder>of(
+      termQuery("items.effectiveLocationId", "location"),
+      boolQuery().should(termQuery("holdings.tenantId", "t1")).should(termQuery("holdings.tenantId", "t2")),
+      termQuery("shared", true));
+
+    assertThat(browseService.isSupported(request(null), context(filters))).isTrue();
+  }
+
+  @Test
+  void isSupported_negative_featureIsDisabled() {
+    when(featureConfigService.isEnabled(BROWSE_CN_PRECOMPUTED)).thenReturn(false);
+    assertThat(browseService.isSupported(request(null), context(List.of()))).isFalse();
+  }
+
+  @Test
+  void isSupported_negative_localCallNumberType() {
+    when(featureConfigService.isEnabled(BROWSE_CN_PRECOMPUTED)).thenReturn(true);
+    assertThat(browseService.isSupported(request("local"), context(List.of()))).isFalse();
+  }
+
+  @Test
+  void isSupported_negative_unsupportedFilter() {
+    when(featureConfigService.isEnabled(BROWSE_CN_PRECOMPUTED)).thenReturn(true);
+    var filters = List.<QueryBuilder>of(termQuery("items.materialTypeId", "type"));
+    assertThat(browseService.isSupported(request(null), context(filters))).isFalse();
+  }
+
+  private static BrowseRequest request(String refinedCondition) {
+    return BrowseRequest.builder()
+      .resource(INSTANCE_RESOURCE)
+      .tenantId(TENANT_ID)
+      .query("callNumber >= A")
+      .targetField(TARGET_FIELD)
+      .refinedCondition(refinedCondition)
+      .limit(5)
+      .build();
+  }
+
+  private static BrowseContext context(List<QueryBuilder> filters) {
+    return BrowseContext.builder()
+      .succeedingQuery(rangeQuery(TARGET_FIELD).gte("A"))
+      .succeedingLimit(5)
+      .anchor("A")
+      .filters(filters)
+      .build();
+  }
+}
@@ -1,5 +1,6 @@
 package org.folio.search.service.browse;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.searchResult;
@@ -20,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import org.folio.search.model.BrowseResult;
 import org.folio.search.model.ResourceRequest;
@@ -61,6 +63,8 @@ class SubjectBrowseServiceTest {
   @Mock
   private BrowseContextProvider browseContextProvider;
   @Mock
+  private BrowsePageCacheService browsePageCacheService;
+  @Mock
   private ElasticsearchDocumentConverter documentConverter;
   @Mock
   private ConsortiumSearchHelper consortiumSearchHelper;
@@ -71,6 +75,9 @@ class SubjectBrowseServiceTest {
 
   @BeforeEach
   public void setUpMocks() {
+    lenient().when(browsePageCacheService.getPage(any(), any(), any())).thenAnswer(invocation -> invocation
+      .<BiFunction<BrowseRequest, BrowseContext, ?>>getArgument(2).apply(invocation.getArgument(0),
+        invocation.getArgument(1)));
     doAnswer(invocation -> invocation.getArgument(1))
       .when(consortiumSearchHelper).filterBrowseQueryForActiveAffiliation(any(), any(), any());
     lenient().doAnswer(invocation -> ((SubjectResource) invocation.getArgument(1)).getInstances())
@@ -270,7 +277,7 @@ class SubjectBrowseServiceTest {
     var request = BrowseRequest.of(INSTANCE_SUBJECT, TENANT_ID, query, 5, TARGET_FIELD, null, null, true, 2);
 
     when(browseContextProvider.get(request)).thenReturn(browseContextAround(true));
-    mockMultiSearchRequest(request,
+    mockAnchorMultiSearchRequest(request,
       List.of(subjectTermQuery("s0", 3)),
       List.of(searchResult(browseItems("s0"))));
     mockMultiSearchRequest(request,
@@ -291,7 +298,7 @@ class SubjectBrowseServiceTest {
     var request = BrowseRequest.of(INSTANCE_SUBJECT, TENANT_ID, query, 5, TARGET_FIELD, null, null, true, 2);
 
     when(browseContextProvider.get(request)).thenReturn(browseContextAround(true));
-    mockMultiSearchRequest(request,
+    mockAnchorMultiSearchRequest(request,
       List.of(subjectTermQuery("s0", 3)),
       List.of(searchResult(browseItems("s0", "s0"))));
     mockMultiSearchRequest(request,
@@ -312,7 +319,7 @@ class SubjectBrowseServiceTest {
     var request = BrowseRequest.of(INSTANCE_SUBJECT, TENANT_ID, query, 5, TARGET_FIELD, null, null, false, 2);
 
     when(browseContextProvider.get(request)).thenReturn(browseContextAround(true));
-    mockMultiSearchRequest(request,
+    mockAnchorMultiSearchRequest(request,
       List.of(subjectTermQuery("s0", 3)),
       List.of(searchResult(browseItems("s0"))));
     mockMultiSearchRequest(request,
@@ -366,7 +373,7 @@ class SubjectBrowseServiceTest {
   }
 
   private void mockAnchorEmptyResponse(BrowseRequest request) {
-    mockMultiSearchRequest(request,
+    mockAnchorMultiSearchRequest(request,
       List.of(subjectTermQuery("s0", 3)),
       List.of(SearchResult.empty()));
   }
@@ -407,6 +414,18 @@ class SubjectBrowseServiceTest {
   private void mockMultiSearchRequest(ResourceRequest request,
                                       List<SearchSourceBuilder> queries,
                                       List<SearchResult<SubjectResource>> results) {
+    var multiSearchResponse = multiSearchResponse(results);
+    when(searchRepository.msearch(request, queries)).thenReturn(multiSearchResponse);
+  }
+
+  private void mockAnchorMultiSearchRequest(ResourceRequest request,
+                                      List<SearchSourceBuilder> queries,
+                                      List<SearchResult<SubjectResource>> results) {
+    var multiSearchResponse = multiSearchResponse(results);
+    when(searchRepository.msearchAsync(request, queries)).thenReturn(completedFuture(multiSearchResponse));
+  }
+
+  private MultiSearchResponse multiSearchResponse(List<SearchResult<SubjectResource>> results) {
     var multiSearchResponse = mock(MultiSearchResponse.class);
     var items = new MultiSearchResponse.Item[results.size()];
     for (int i = 0; i < results.size(); i++) {
@@ -416,7 +435,7 @@ class SubjectBrowseServiceTest {
       when(documentConverter.convertToSearchResult(searchResponse, SubjectResource.class)).thenReturn(results.get(i));
     }
 
-    when(searchRepository.msearch(request, queries)).thenReturn(multiSearchResponse);
     when(multiSearchResponse.getResponses()).thenReturn(items);
+    return multiSearchResponse;
   }
 }
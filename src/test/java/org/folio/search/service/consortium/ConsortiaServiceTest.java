@@ -3,9 +3,14 @@ package org.folio.search.service.consortium;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.search.utils.TestConstants.CENTRAL_TENANT_ID;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
+import org.folio.search.client.ConsortiumTenantsClient;
+import org.folio.search.client.ConsortiumTenantsClient.ConsortiumTenant;
+import org.folio.search.client.ConsortiumTenantsClient.ConsortiumTenants;
 import org.folio.search.client.UserTenantsClient;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
@@ -19,9 +24,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class ConsortiaServiceTest {
 
+  private static final String CONSORTIUM_ID = "consortiumId";
+
   @Mock
   private UserTenantsClient userTenantsClient;
   @Mock
+  private ConsortiumTenantsClient consortiumTenantsClient;
+  @Mock
   private FolioExecutionContext context;
   @InjectMocks
   private ConsortiumTenantService consortiumTenantService;
@@ -29,7 +38,7 @@ class ConsortiaServiceTest {
   @Test
   void getCentralTenant_positive() {
     var userTenants = new UserTenantsClient.UserTenants(Collections.singletonList(
-      new UserTenantsClient.UserTenant(CENTRAL_TENANT_ID)));
+      new UserTenantsClient.UserTenant(CENTRAL_TENANT_ID, CONSORTIUM_ID)));
 
     when(userTenantsClient.getUserTenants(TENANT_ID)).thenReturn(userTenants);
 
@@ -54,7 +63,7 @@ class ConsortiaServiceTest {
   @Test
   void getCentralTenant_negative_noCentralTenant() {
     var userTenants = new UserTenantsClient.UserTenants(Collections.singletonList(
-      new UserTenantsClient.UserTenant(null)));
+      new UserTenantsClient.UserTenant(null, null)));
 
     when(userTenantsClient.getUserTenants(TENANT_ID)).thenReturn(userTenants);
 
@@ -64,4 +73,41 @@ class ConsortiaServiceTest {
       .isEmpty();
   }
 
+  @Test
+  void getConsortiumTenants_positive_centralTenant() {
+    var userTenants = new UserTenantsClient.UserTenants(List.of(
+      new UserTenantsClient.UserTenant(CENTRAL_TENANT_ID, CONSORTIUM_ID)));
+    var consortiumTenants = new ConsortiumTenants(List.of(
+      new ConsortiumTenant(CENTRAL_TENANT_ID), new ConsortiumTenant(TENANT_ID)));
+
+    when(userTenantsClient.getUserTenants(CENTRAL_TENANT_ID)).thenReturn(userTenants);
+    when(consortiumTenantsClient.getConsortiumTenants(CONSORTIUM_ID, 1_000)).thenReturn(consortiumTenants);
+
+    var actual = consortiumTenantService.getConsortiumTenants(CENTRAL_TENANT_ID);
+
+    assertThat(actual).containsExactly(CENTRAL_TENANT_ID, TENANT_ID);
+  }
+
+  @Test
+  void getConsortiumTenants_positive_memberTenant() {
+    var userTenants = new UserTenantsClient.UserTenants(List.of(
+      new UserTenantsClient.UserTenant(CENTRAL_TENANT_ID, CONSORTIUM_ID)));
+
+    when(userTenantsClient.getUserTenants(TENANT_ID)).thenReturn(userTenants);
+
+    var actual = consortiumTenantService.getConsortiumTenants(TENANT_ID);
+
+    assertThat(actual).containsExactly(TENANT_ID);
+    verifyNoInteractions(consortiumTenantsClient);
+  }
+
+  @Test
+  void getConsortiumTenants_positive_notConsortiumTenant() {
+    when(userTenantsClient.getUserTenants(TENANT_ID)).thenReturn(null);
+
+    var actual = consortiumTenantService.getConsortiumTenants(TENANT_ID);
+
+    assertThat(actual).containsExactly(TENANT_ID);
+    verifyNoInteractions(consortiumTenantsClient);
+  }
 }
@@ -10,7 +10,9 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.SneakyThrows;
 import org.folio.search.domain.dto.Holding;
@@ -77,7 +79,7 @@ class ConsortiumInstanceRepositoryIT {
       .hasSize(2)
       .allSatisfy(dbRecord -> assertThat(dbRecord.tenantId()).isIn(TENANTS[0], TENANTS[1]))
       .allSatisfy(dbRecord -> assertThat(dbRecord.instanceId()).isEqualTo(instanceId))
-      .allSatisfy(dbRecord -> assertThat(dbRecord.json()).isEqualTo(instanceJson))
+      .allSatisfy(dbRecord -> assertThat(mapper.readTree(dbRecord.json())).isEqualTo(mapper.readTree(instanceJson)))
       .allSatisfy(dbRecord -> assertThat(dbRecord.created()).isAfter(startTimestamp))
       .allSatisfy(dbRecord -> assertThat(dbRecord.updated()).isAfter(startTimestamp));
   }
@@ -101,7 +103,8 @@ class ConsortiumInstanceRepositoryIT {
       .hasSize(1)
       .allSatisfy(dbRecord -> assertThat(dbRecord.tenantId()).isIn(TENANTS[0], TENANTS[1]))
       .allSatisfy(dbRecord -> assertThat(dbRecord.instanceId()).isEqualTo(instanceId))
-      .allSatisfy(dbRecord -> assertThat(dbRecord.json()).isEqualTo(instanceJsonNew))
+      .allSatisfy(dbRecord -> assertThat(mapper.readTree(dbRecord.json()))
+        .isEqualTo(mapper.readTree(instanceJsonNew)))
       .allSatisfy(dbRecord -> assertThat(dbRecord.created()).isAfter(startTimestamp))
       .allSatisfy(dbRecord -> assertThat(dbRecord.updated()).isAfter(updateTimestamp));
   }
@@ -128,25 +131,34 @@ class ConsortiumInstanceRepositoryIT {
 
   @Test
   @SneakyThrows
-  void testDeleteAll_positive() {
+  void testDeleteUpdatedBefore_positive() {
     var instanceId1 = randomId();
     var instanceId2 = randomId();
     var consortiumInstance1 = consortiumInstance(0, instanceId1, instance(instanceId1));
     var consortiumInstance2 = consortiumInstance(0, instanceId2, instance(instanceId2));
-    var consortiumInstance3 = consortiumInstance(1, instanceId1, instance(instanceId2));
+    var consortiumInstance3 = consortiumInstance(1, instanceId1, instance(instanceId1));
 
-    repository.save(List.of(consortiumInstance1, consortiumInstance2, consortiumInstance3));
-    assertThat(getDbRecords()).hasSize(3);
+    repository.save(List.of(consortiumInstance1, consortiumInstance2));
+    repository.saveMerged(List.of(new ConsortiumMergedInstance(instanceId1, instance(instanceId1), "digest", "{}"),
+      new ConsortiumMergedInstance(instanceId2, instance(instanceId2), "digest", "{}")));
+    Thread.sleep(10);
+    var reindexStartTime = Instant.now();
+    repository.save(List.of(consortiumInstance2, consortiumInstance3));
 
-    repository.deleteAll();
+    var actual = repository.deleteUpdatedBefore(reindexStartTime);
 
+    assertThat(actual).containsExactly(instanceId1);
     assertThat(getDbRecords())
-      .isEmpty();
+      .extracting(DbRecord::instanceId, DbRecord::tenantId)
+      .containsExactlyInAnyOrder(tuple(instanceId2, TENANTS[0]), tuple(instanceId1, TENANTS[1]));
+    assertThat(repository.fetchMerged(List.of(instanceId1, instanceId2)))
+      .extracting(ConsortiumMergedInstance::instanceId)
+      .containsExactly(instanceId2);
   }
 
   @Test
   @SneakyThrows
-  void testFetch_positive_instancesFetched() {
+  void testFetchTenantInstances_positive_instancesFetched() {
     var instanceId1 = randomId();
     var instanceId2 = randomId();
     var instanceId3 = randomId();
@@ -156,7 +168,8 @@ class ConsortiumInstanceRepositoryIT {
 
     repository.save(List.of(consortiumInstance1, consortiumInstance2, consortiumInstance3));
 
-    var actual = repository.fetch(List.of(instanceId1, instanceId3));
+    var actual = repository.fetchTenantInstances(Set.of(consortiumInstance1.id(), consortiumInstance3.id()),
+      ConsortiumInstanceProjection.FULL);
 
     assertThat(actual)
       .hasSize(2)
@@ -165,6 +178,66 @@ class ConsortiumInstanceRepositoryIT {
       .allSatisfy(instance -> assertThat(instance.instance()).isNotBlank());
   }
 
+  @Test
+  @SneakyThrows
+  void testFetchDigests_positive_digestsFetched() {
+    var instanceId = randomId();
+    var consortiumInstance1 = new ConsortiumInstance(new ConsortiumInstanceId(TENANTS[0], instanceId),
+      instance(instanceId), "body", "sub1");
+    var consortiumInstance2 = new ConsortiumInstance(new ConsortiumInstanceId(TENANTS[1], instanceId),
+      instance(instanceId), "body", "sub2");
+
+    repository.save(List.of(consortiumInstance1, consortiumInstance2));
+
+    assertThat(repository.fetchDigests(List.of(instanceId)))
+      .extracting(digest -> digest.id().tenantId(), ConsortiumInstanceDigest::instanceDigest,
+        ConsortiumInstanceDigest::subDocumentDigest)
+      .containsExactlyInAnyOrder(tuple(TENANTS[0], "body", "sub1"), tuple(TENANTS[1], "body", "sub2"));
+    assertThat(repository.fetchTenantInstances(Set.of(consortiumInstance2.id()), ConsortiumInstanceProjection.FULL))
+      .singleElement()
+      .satisfies(instance -> assertThat(instance.id()).isEqualTo(consortiumInstance2.id()))
+      .satisfies(instance -> assertThat(instance.subDocumentDigest()).isEqualTo("sub2"))
+      .satisfies(instance -> assertThat(mapper.readTree(instance.instance()))
+        .isEqualTo(mapper.readTree(consortiumInstance2.instance())));
+  }
+
+  @Test
+  @SneakyThrows
+  void testFetchTenantInstances_positive_projectedInstancesFetched() {
+    var instanceId = randomId();
+    var instanceJson = instance(instanceId);
+    var consortiumInstance = consortiumInstance(0, instanceId, instanceJson);
+    repository.save(List.of(consortiumInstance));
+    var expected = mapper.readTree(instanceJson);
+
+    var subDocuments = repository.fetchTenantInstances(Set.of(consortiumInstance.id()),
+      ConsortiumInstanceProjection.HOLDINGS_AND_ITEMS).get(0);
+    assertThat(mapper.readTree(subDocuments.instance()).properties())
+      .extracting(Map.Entry::getKey, Map.Entry::getValue)
+      .containsExactlyInAnyOrder(tuple("holdings", expected.get("holdings")), tuple("items", expected.get("items")));
+  }
+
+  @Test
+  @SneakyThrows
+  void testSaveMerged_positive_mergedInstancesSavedAndDeleted() {
+    var instanceId = randomId();
+    var merged = new ConsortiumMergedInstance(instanceId, instance(instanceId), "body", "{\"tenant1\":\"sub1\"}");
+
+    repository.saveMerged(List.of(merged));
+    var updated = new ConsortiumMergedInstance(instanceId, instance(instanceId), "body", "{\"tenant2\":\"sub2\"}");
+    repository.saveMerged(List.of(updated));
+
+    assertThat(repository.fetchMerged(List.of(instanceId))).singleElement()
+      .satisfies(instance -> assertThat(instance.instanceDigest()).isEqualTo("body"))
+      .satisfies(instance -> assertThat(mapper.readTree(instance.instance()))
+        .isEqualTo(mapper.readTree(updated.instance())))
+      .satisfies(instance -> assertThat(mapper.readTree(instance.tenantDigests()))
+        .isEqualTo(mapper.readTree(updated.tenantDigests())));
+
+    repository.deleteMerged(List.of(instanceId));
+    assertThat(repository.fetchMerged(List.of(instanceId))).isEmpty();
+  }
+
   private ConsortiumInstance consortiumInstance(int x, String instanceId, String instanceJsonOld) {
     return new ConsortiumInstance(new ConsortiumInstanceId(TENANTS[x], instanceId), instanceJsonOld);
   }
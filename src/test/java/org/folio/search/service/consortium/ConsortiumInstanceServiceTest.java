@@ -8,17 +8,23 @@ import static org.folio.search.utils.SearchConverterUtils.getNewAsMap;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import lombok.SneakyThrows;
 import org.folio.search.domain.dto.Holding;
 import org.folio.search.domain.dto.Instance;
@@ -60,6 +66,7 @@ class ConsortiumInstanceServiceTest {
   private @Captor ArgumentCaptor<List<ConsortiumInstance>> instancesCaptor;
   private @Captor ArgumentCaptor<Set<ConsortiumInstanceId>> instanceIdsCaptor;
   private @Captor ArgumentCaptor<List<ConsortiumInstanceEvent>> eventsCaptor;
+  private @Captor ArgumentCaptor<List<ConsortiumMergedInstance>> mergedInstancesCaptor;
 
   {
     mapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
@@ -69,6 +76,9 @@ class ConsortiumInstanceServiceTest {
   void setUp() {
     lenient().when(jsonConverter.fromJsonToMap(any())).thenAnswer(
       invocationOnMock -> mapper.readValue(invocationOnMock.getArgument(0).toString(), MAP_TYPE_REFERENCE));
+    lenient().when(jsonConverter.fromJson(anyString(), any(TypeReference.class))).thenAnswer(
+      invocationOnMock -> mapper.readValue((String) invocationOnMock.getArgument(0),
+        (TypeReference<?>) invocationOnMock.getArgument(1)));
     lenient().when(jsonConverter.toJson(any())).thenAnswer(
       invocationOnMock -> mapper.writeValueAsString(invocationOnMock.getArgument(0)));
 
@@ -128,6 +138,9 @@ class ConsortiumInstanceServiceTest {
           .allMatch(item -> asList(CONSORTIUM_TENANTS).contains(item.getTenantId())),
         "tenant populated to items")
       .anyMatch(instance -> instance.getTenantId().equals(CENTRAL_TENANT) && instance.getShared());
+    assertThat(instancesCaptor.getValue())
+      .allSatisfy(instance -> assertThat(instance.instanceDigest()).hasSize(64))
+      .allSatisfy(instance -> assertThat(instance.subDocumentDigest()).hasSize(64));
 
     verify(producer).sendMessages(eventsCaptor.capture());
     assertThat(eventsCaptor.getValue()).hasSize(resourceEvents.size())
@@ -168,20 +181,47 @@ class ConsortiumInstanceServiceTest {
   }
 
   @Test
-  void deleteAll_positive() {
-    service.deleteAll();
-    verify(repository).deleteAll();
+  void deleteNotReindexedInstances_positive() {
+    var reindexStartTime = Instant.now();
+    var instanceIds = List.of(randomId(), randomId());
+    when(repository.deleteUpdatedBefore(reindexStartTime)).thenReturn(instanceIds);
+
+    service.deleteNotReindexedInstances(reindexStartTime);
+
     verify(consortiumTenantExecutor).run(any());
+    verify(producer).sendMessages(eventsCaptor.capture());
+    assertThat(eventsCaptor.getValue())
+      .extracting(ConsortiumInstanceEvent::getInstanceId)
+      .containsExactlyElementsOf(instanceIds);
   }
 
   @Test
+  void deleteNotReindexedInstances_positive_nothingDeleted() {
+    var reindexStartTime = Instant.now();
+    when(repository.deleteUpdatedBefore(reindexStartTime)).thenReturn(emptyList());
+
+    service.deleteNotReindexedInstances(reindexStartTime);
+
+    verify(producer, never()).sendMessages(anyList());
+  }
+
+  @Test
+  @SneakyThrows
   void fetchInstances_positive_shouldMergeInstancesById() {
     var instanceIds = List.of(randomId());
-    when(repository.fetch(instanceIds)).thenReturn(List.of(
+    when(repository.fetchDigests(instanceIds)).thenReturn(List.of(
+      digest(CONSORTIUM_TENANTS[0], instanceIds.get(0), "d0"),
+      digest(CONSORTIUM_TENANTS[1], instanceIds.get(0), "d1"),
+      digest(CONSORTIUM_TENANTS[2], instanceIds.get(0), "d2")));
+    when(repository.fetchMerged(instanceIds)).thenReturn(emptyList());
+    var memberInstances = List.of(
       consortiumInstance(CONSORTIUM_TENANTS[0], instanceIds.get(0), true),
-      consortiumInstance(CONSORTIUM_TENANTS[1], instanceIds.get(0), true),
-      consortiumInstance(CONSORTIUM_TENANTS[2], instanceIds.get(0), false)
-    ));
+      consortiumInstance(CONSORTIUM_TENANTS[1], instanceIds.get(0), true));
+    var centralInstance = consortiumInstance(CONSORTIUM_TENANTS[2], instanceIds.get(0), false);
+    when(repository.fetchTenantInstances(Set.of(centralInstance.id()), ConsortiumInstanceProjection.FULL))
+      .thenReturn(List.of(centralInstance));
+    when(repository.fetchTenantInstances(Set.of(memberInstances.get(0).id(), memberInstances.get(1).id()),
+      ConsortiumInstanceProjection.HOLDINGS_AND_ITEMS)).thenReturn(memberInstances);
 
     var actual = service.fetchInstances(instanceIds);
 
@@ -193,12 +233,125 @@ class ConsortiumInstanceServiceTest {
       .satisfies(resourceEvent -> assertThat(getNewAsMap(resourceEvent))
         .hasEntrySatisfying("holdings", o -> assertThat(castToList(o)).hasSize(2))
         .hasEntrySatisfying("items", o -> assertThat(castToList(o)).hasSize(4)));
+
+    verify(repository).saveMerged(mergedInstancesCaptor.capture());
+    assertThat(mergedInstancesCaptor.getValue()).singleElement()
+      .satisfies(merged -> assertThat(merged.instanceId()).isEqualTo(instanceIds.get(0)))
+      .satisfies(merged -> assertThat(merged.instanceDigest()).isEqualTo(CENTRAL_TENANT + "-body"))
+      .satisfies(merged -> assertThat(mapper.readValue(merged.tenantDigests(), MAP_TYPE_REFERENCE))
+        .containsOnlyKeys(CONSORTIUM_TENANTS));
+  }
+
+  @Test
+  @SneakyThrows
+  void fetchInstances_positive_shouldApplyOnlyChangedTenant() {
+    var instanceId = randomId();
+    var unchanged = consortiumInstance(CONSORTIUM_TENANTS[1], instanceId, true);
+    var central = consortiumInstance(CONSORTIUM_TENANTS[2], instanceId, false);
+    var changed = consortiumInstance(CONSORTIUM_TENANTS[0], instanceId, true);
+    var cached = mergedInstance(instanceId, "d0-old", List.of(
+      consortiumInstance(CONSORTIUM_TENANTS[0], instanceId, true), unchanged, central));
+
+    when(repository.fetchDigests(List.of(instanceId))).thenReturn(List.of(
+      digest(CONSORTIUM_TENANTS[0], instanceId, "d0-new"),
+      digest(CONSORTIUM_TENANTS[1], instanceId, "d1"),
+      digest(CONSORTIUM_TENANTS[2], instanceId, "d2")));
+    when(repository.fetchMerged(List.of(instanceId))).thenReturn(List.of(cached));
+    when(repository.fetchTenantInstances(Set.of(changed.id()), ConsortiumInstanceProjection.HOLDINGS_AND_ITEMS))
+      .thenReturn(List.of(changed));
+
+    var actual = service.fetchInstances(List.of(instanceId));
+
+    assertThat(actual).singleElement()
+      .satisfies(resourceEvent -> assertThat(mapper.convertValue(resourceEvent.getNew(), Instance.class))
+        .satisfies(instance -> assertThat(instance.getHoldings()).extracting(Holding::getId)
+          .containsExactlyInAnyOrderElementsOf(holdingIds(unchanged, changed)))
+        .satisfies(instance -> assertThat(instance.getItems()).hasSize(4)));
+    verify(repository, never()).fetchTenantInstances(any(), eq(ConsortiumInstanceProjection.FULL));
+    verify(repository).saveMerged(mergedInstancesCaptor.capture());
+    assertThat(mapper.readValue(mergedInstancesCaptor.getValue().get(0).tenantDigests(), MAP_TYPE_REFERENCE))
+      .containsEntry(CONSORTIUM_TENANTS[0], "d0-new");
+  }
+
+  @Test
+  @SneakyThrows
+  void fetchInstances_positive_shouldRemoveDeletedTenant() {
+    var instanceId = randomId();
+    var member = consortiumInstance(CONSORTIUM_TENANTS[1], instanceId, true);
+    var central = consortiumInstance(CONSORTIUM_TENANTS[2], instanceId, false);
+    var cached = mergedInstance(instanceId, "d0", List.of(
+      consortiumInstance(CONSORTIUM_TENANTS[0], instanceId, true), member, central));
+
+    when(repository.fetchDigests(List.of(instanceId))).thenReturn(List.of(
+      digest(CONSORTIUM_TENANTS[1], instanceId, "d1"),
+      digest(CONSORTIUM_TENANTS[2], instanceId, "d2")));
+    when(repository.fetchMerged(List.of(instanceId))).thenReturn(List.of(cached));
+
+    var actual = service.fetchInstances(List.of(instanceId));
+
+    assertThat(actual).singleElement()
+      .satisfies(resourceEvent -> assertThat(mapper.convertValue(resourceEvent.getNew(), Instance.class))
+        .satisfies(instance -> assertThat(instance.getHoldings()).extracting(Holding::getId)
+          .containsExactlyElementsOf(holdingIds(member)))
+        .satisfies(instance -> assertThat(instance.getItems()).hasSize(2)));
+    verify(repository, never()).fetchTenantInstances(any(), any());
+    verify(repository).saveMerged(mergedInstancesCaptor.capture());
+    assertThat(mapper.readValue(mergedInstancesCaptor.getValue().get(0).tenantDigests(), MAP_TYPE_REFERENCE))
+      .containsOnlyKeys(CONSORTIUM_TENANTS[1], CONSORTIUM_TENANTS[2]);
+  }
+
+  @Test
+  void fetchInstances_positive_shouldReturnCachedInstanceIfNotChanged() {
+    var instanceId = randomId();
+    var cached = mergedInstance(instanceId, "d0", List.of(
+      consortiumInstance(CONSORTIUM_TENANTS[0], instanceId, true),
+      consortiumInstance(CONSORTIUM_TENANTS[1], instanceId, true),
+      consortiumInstance(CONSORTIUM_TENANTS[2], instanceId, false)));
+
+    when(repository.fetchDigests(List.of(instanceId))).thenReturn(List.of(
+      digest(CONSORTIUM_TENANTS[0], instanceId, "d0"),
+      digest(CONSORTIUM_TENANTS[1], instanceId, "d1"),
+      digest(CONSORTIUM_TENANTS[2], instanceId, "d2")));
+    when(repository.fetchMerged(List.of(instanceId))).thenReturn(List.of(cached));
+
+    var actual = service.fetchInstances(List.of(instanceId));
+
+    assertThat(actual).singleElement()
+      .satisfies(resourceEvent -> assertThat(getNewAsMap(resourceEvent))
+        .hasEntrySatisfying("holdings", o -> assertThat(castToList(o)).hasSize(2)));
+    verify(repository, never()).fetchTenantInstances(any(), any());
+    verify(repository, never()).saveMerged(any());
+  }
+
+  @Test
+  void fetchInstances_positive_shouldRebuildIfInstanceBodyChanged() {
+    var instanceId = randomId();
+    var instances = List.of(
+      consortiumInstance(CONSORTIUM_TENANTS[0], instanceId, true),
+      consortiumInstance(CONSORTIUM_TENANTS[1], instanceId, true),
+      consortiumInstance(CONSORTIUM_TENANTS[2], instanceId, false));
+    var cached = mergedInstance(instanceId, "d0", instances);
+
+    when(repository.fetchDigests(List.of(instanceId))).thenReturn(List.of(
+      digest(CONSORTIUM_TENANTS[0], instanceId, "d0"),
+      digest(CONSORTIUM_TENANTS[1], instanceId, "d1"),
+      new ConsortiumInstanceDigest(new ConsortiumInstanceId(CENTRAL_TENANT, instanceId), "new-body", "d2")));
+    when(repository.fetchMerged(List.of(instanceId))).thenReturn(List.of(cached));
+    when(repository.fetchTenantInstances(Set.of(instances.get(2).id()), ConsortiumInstanceProjection.FULL))
+      .thenReturn(List.of(instances.get(2)));
+    when(repository.fetchTenantInstances(Set.of(instances.get(0).id(), instances.get(1).id()),
+      ConsortiumInstanceProjection.HOLDINGS_AND_ITEMS)).thenReturn(instances.subList(0, 2));
+
+    var actual = service.fetchInstances(List.of(instanceId));
+
+    assertThat(actual).hasSize(1);
+    verify(repository).saveMerged(anyList());
   }
 
   @Test
   void fetchInstances_positive_shouldReturnDeleteEventsIfNotFound() {
     var instanceIds = List.of(randomId());
-    when(repository.fetch(instanceIds)).thenReturn(emptyList());
+    when(repository.fetchDigests(instanceIds)).thenReturn(emptyList());
 
     var actual = service.fetchInstances(instanceIds);
 
@@ -207,14 +360,17 @@ class ConsortiumInstanceServiceTest {
       .matches(resourceEvent -> instanceIds.contains(resourceEvent.getId()))
       .matches(resourceEvent -> resourceEvent.getTenant().equals(CENTRAL_TENANT))
       .matches(resourceEvent -> resourceEvent.getType().equals(ResourceEventType.DELETE));
+    verify(repository).deleteMerged(instanceIds);
   }
 
   @Test
   void fetchInstances_positive_shouldNotMergeInstanceWhenOnlyOne() {
     var instanceId = randomId();
-    when(repository.fetch(List.of(instanceId))).thenReturn(List.of(
-      consortiumInstance(CONSORTIUM_TENANTS[0], instanceId, true)
-    ));
+    when(repository.fetchDigests(List.of(instanceId))).thenReturn(List.of(
+      digest(CONSORTIUM_TENANTS[0], instanceId, "d0")));
+    var instance = consortiumInstance(CONSORTIUM_TENANTS[0], instanceId, true);
+    when(repository.fetchTenantInstances(Set.of(instance.id()), ConsortiumInstanceProjection.FULL))
+      .thenReturn(List.of(instance));
 
     var actual = service.fetchInstances(List.of(instanceId));
 
@@ -223,6 +379,8 @@ class ConsortiumInstanceServiceTest {
       .matches(resourceEvent -> instanceId.contains(resourceEvent.getId()))
       .matches(resourceEvent -> resourceEvent.getTenant().equals(CENTRAL_TENANT))
       .satisfies(resourceEvent -> assertThat(resourceEvent.getNew()).isNotNull());
+    verify(repository, never()).fetchMerged(any());
+    verify(repository, never()).saveMerged(any());
   }
 
   @SuppressWarnings("unchecked")
@@ -248,7 +406,40 @@ class ConsortiumInstanceServiceTest {
           new Item().id(randomId()).tenantId(tenant)))
         .holdings(List.of(new Holding().id(randomId()).tenantId(tenant)));
     }
-    return new ConsortiumInstance(consortiumInstanceId, mapper.writeValueAsString(instance));
+    return new ConsortiumInstance(consortiumInstanceId, mapper.writeValueAsString(instance), tenant + "-body",
+      "d" + List.of(CONSORTIUM_TENANTS).indexOf(tenant));
+  }
+
+  private ConsortiumInstanceDigest digest(String tenant, String id, String subDocumentDigest) {
+    return new ConsortiumInstanceDigest(new ConsortiumInstanceId(tenant, id), tenant + "-body", subDocumentDigest);
+  }
+
+  @SneakyThrows
+  private ConsortiumMergedInstance mergedInstance(String id, String firstTenantDigest,
+                                                  List<ConsortiumInstance> instances) {
+    var holdings = instances.stream()
+      .flatMap(instance -> Stream.ofNullable(readInstance(instance).getHoldings()).flatMap(List::stream))
+      .toList();
+    var items = instances.stream()
+      .flatMap(instance -> Stream.ofNullable(readInstance(instance).getItems()).flatMap(List::stream))
+      .toList();
+    var merged = new Instance().id(id).tenantId(CENTRAL_TENANT).holdings(holdings).items(items);
+    var tenantDigests = Map.of(CONSORTIUM_TENANTS[0], firstTenantDigest, CONSORTIUM_TENANTS[1], "d1",
+      CONSORTIUM_TENANTS[2], "d2");
+    return new ConsortiumMergedInstance(id, mapper.writeValueAsString(merged), CENTRAL_TENANT + "-body",
+      mapper.writeValueAsString(tenantDigests));
+  }
+
+  private List<String> holdingIds(ConsortiumInstance... instances) {
+    return Stream.of(instances)
+      .flatMap(instance -> readInstance(instance).getHoldings().stream())
+      .map(Holding::getId)
+      .toList();
+  }
+
+  @SneakyThrows
+  private Instance readInstance(ConsortiumInstance instance) {
+    return mapper.readValue(instance.instance(), Instance.class);
   }
 
 }
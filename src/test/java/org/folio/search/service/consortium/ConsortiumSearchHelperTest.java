@@ -22,6 +22,7 @@ import java.util.Set;
 import org.folio.search.model.index.InstanceSubResource;
 import org.folio.search.model.index.SubjectResource;
 import org.folio.search.model.service.BrowseContext;
+import org.folio.search.repository.TenantRoutingProvider;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
@@ -47,6 +48,8 @@ class ConsortiumSearchHelperTest {
   private FolioExecutionContext context;
   @Mock
   private ConsortiumTenantService tenantService;
+  @Mock
+  private TenantRoutingProvider tenantRoutingProvider;
 
   @Spy
   @InjectMocks
@@ -201,6 +204,82 @@ class ConsortiumSearchHelperTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  void getSearchRouting_positive_tenantIdFilter() {
+    var query = boolQuery().must(termQuery("title", "test"))
+      .filter(boolQuery().must(termQuery(TENANT_ID_FIELD_NAME, TENANT_ID)))
+      .should(termQuery(SHARED_FIELD_NAME, true));
+    when(tenantRoutingProvider.isTenantRoutingEnabled(INSTANCE_RESOURCE)).thenReturn(true);
+    when(context.getTenantId()).thenReturn(CENTRAL_TENANT_ID);
+    when(tenantService.getCentralTenant(CENTRAL_TENANT_ID)).thenReturn(Optional.of(CENTRAL_TENANT_ID));
+
+    var actual = consortiumSearchHelper.getSearchRouting(query, INSTANCE_RESOURCE);
+
+    assertThat(actual).contains(TENANT_ID);
+  }
+
+  @Test
+  void getSearchRouting_positive_localRecordsOfMemberTenant() {
+    var query = boolQuery().minimumShouldMatch(1)
+      .filter(termQuery(SHARED_FIELD_NAME, "false"))
+      .should(termQuery(TENANT_ID_FIELD_NAME, TENANT_ID))
+      .should(termQuery(SHARED_FIELD_NAME, true));
+    when(tenantRoutingProvider.isTenantRoutingEnabled(INSTANCE_RESOURCE)).thenReturn(true);
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(tenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(CENTRAL_TENANT_ID));
+
+    var actual = consortiumSearchHelper.getSearchRouting(query, INSTANCE_RESOURCE);
+
+    assertThat(actual).contains(TENANT_ID);
+  }
+
+  @Test
+  void getSearchRouting_negative_localRecordsOfAllMemberTenants() {
+    var query = boolQuery().filter(termQuery(SHARED_FIELD_NAME, false));
+    when(tenantRoutingProvider.isTenantRoutingEnabled(INSTANCE_RESOURCE)).thenReturn(true);
+    when(context.getTenantId()).thenReturn(CENTRAL_TENANT_ID);
+    when(tenantService.getCentralTenant(CENTRAL_TENANT_ID)).thenReturn(Optional.of(CENTRAL_TENANT_ID));
+
+    var actual = consortiumSearchHelper.getSearchRouting(query, INSTANCE_RESOURCE);
+
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void getSearchRouting_negative_sharedAndLocalRecords() {
+    var query = boolQuery().minimumShouldMatch(1)
+      .should(termQuery(TENANT_ID_FIELD_NAME, TENANT_ID))
+      .should(termQuery(SHARED_FIELD_NAME, true));
+    when(tenantRoutingProvider.isTenantRoutingEnabled(INSTANCE_RESOURCE)).thenReturn(true);
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(tenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(CENTRAL_TENANT_ID));
+
+    var actual = consortiumSearchHelper.getSearchRouting(query, INSTANCE_RESOURCE);
+
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void getSearchRouting_negative_notConsortiumTenant() {
+    var query = boolQuery().filter(termQuery(TENANT_ID_FIELD_NAME, TENANT_ID));
+    when(tenantRoutingProvider.isTenantRoutingEnabled(INSTANCE_RESOURCE)).thenReturn(true);
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(tenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.empty());
+
+    var actual = consortiumSearchHelper.getSearchRouting(query, INSTANCE_RESOURCE);
+
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void getSearchRouting_negative_routingDisabled() {
+    var query = boolQuery().filter(termQuery(TENANT_ID_FIELD_NAME, TENANT_ID));
+
+    var actual = consortiumSearchHelper.getSearchRouting(query, INSTANCE_RESOURCE);
+
+    assertThat(actual).isEmpty();
+  }
+
   @Test
   void filterBrowseQueryForActiveAffiliation_positive_notConsortiumTenant() {
     var browseContext = browseContext(false, null);
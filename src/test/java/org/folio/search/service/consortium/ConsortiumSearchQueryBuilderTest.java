@@ -54,7 +54,7 @@ class ConsortiumSearchQueryBuilderTest {
                  + "i.holdings ->> 'copyNumber' AS copyNumber, "
                  + "i.holdings ->> 'permanentLocationId' AS permanentLocationId, "
                  + "i.holdings ->> 'discoverySuppress' AS discoverySuppress "
-                 + "FROM (SELECT instance_id, tenant_id, json_array_elements(json -> 'holdings') as holdings "
+                 + "FROM (SELECT instance_id, tenant_id, jsonb_array_elements(json -> 'holdings') as holdings "
                  + "FROM schema.consortium_instance WHERE instance_id = ? AND tenant_id = ? ) i "
                  + "ORDER BY id desc LIMIT 100 OFFSET 10", actual);
   }
@@ -72,7 +72,7 @@ class ConsortiumSearchQueryBuilderTest {
                  + "i.holdings ->> 'copyNumber' AS copyNumber, "
                  + "i.holdings ->> 'permanentLocationId' AS permanentLocationId, "
                  + "i.holdings ->> 'discoverySuppress' AS discoverySuppress "
-                 + "FROM (SELECT instance_id, tenant_id, json_array_elements(json -> 'holdings') as holdings "
+                 + "FROM (SELECT instance_id, tenant_id, jsonb_array_elements(json -> 'holdings') as holdings "
                  + "FROM schema.consortium_instance ) i "
                  + "ORDER BY id desc LIMIT 100 OFFSET 10", actual);
   }
@@ -89,7 +89,7 @@ class ConsortiumSearchQueryBuilderTest {
                  + "i.holdings ->> 'copyNumber' AS copyNumber, "
                  + "i.holdings ->> 'permanentLocationId' AS permanentLocationId, "
                  + "i.holdings ->> 'discoverySuppress' AS discoverySuppress "
-                 + "FROM (SELECT instance_id, tenant_id, json_array_elements(json -> 'holdings') as holdings "
+                 + "FROM (SELECT instance_id, tenant_id, jsonb_array_elements(json -> 'holdings') as holdings "
                  + "FROM schema.consortium_instance WHERE instance_id = ? AND tenant_id = ? ) i "
                  + "LIMIT 100 OFFSET 10", actual);
   }
@@ -105,7 +105,7 @@ class ConsortiumSearchQueryBuilderTest {
                  + "i.holdings ->> 'copyNumber' AS copyNumber, "
                  + "i.holdings ->> 'permanentLocationId' AS permanentLocationId, "
                  + "i.holdings ->> 'discoverySuppress' AS discoverySuppress "
-                 + "FROM (SELECT instance_id, tenant_id, json_array_elements(json -> 'holdings') as holdings "
+                 + "FROM (SELECT instance_id, tenant_id, jsonb_array_elements(json -> 'holdings') as holdings "
                  + "FROM schema.consortium_instance WHERE instance_id = ? AND tenant_id = ? ) i "
                  + "ORDER BY id LIMIT 100 OFFSET 10", actual);
   }
@@ -121,7 +121,7 @@ class ConsortiumSearchQueryBuilderTest {
                  + "i.holdings ->> 'copyNumber' AS copyNumber, "
                  + "i.holdings ->> 'permanentLocationId' AS permanentLocationId, "
                  + "i.holdings ->> 'discoverySuppress' AS discoverySuppress "
-                 + "FROM (SELECT instance_id, tenant_id, json_array_elements(json -> 'holdings') as holdings "
+                 + "FROM (SELECT instance_id, tenant_id, jsonb_array_elements(json -> 'holdings') as holdings "
                  + "FROM schema.consortium_instance WHERE instance_id = ? AND tenant_id = ? ) i "
                  + "ORDER BY id desc OFFSET 10", actual);
   }
@@ -137,7 +137,7 @@ class ConsortiumSearchQueryBuilderTest {
                  + "i.holdings ->> 'copyNumber' AS copyNumber, "
                  + "i.holdings ->> 'permanentLocationId' AS permanentLocationId, "
                  + "i.holdings ->> 'discoverySuppress' AS discoverySuppress "
-                 + "FROM (SELECT instance_id, tenant_id, json_array_elements(json -> 'holdings') as holdings "
+                 + "FROM (SELECT instance_id, tenant_id, jsonb_array_elements(json -> 'holdings') as holdings "
                  + "FROM schema.consortium_instance WHERE instance_id = ? AND tenant_id = ? ) i "
                  + "ORDER BY id desc LIMIT 100", actual);
   }
@@ -150,7 +150,7 @@ class ConsortiumSearchQueryBuilderTest {
     assertEquals("SELECT i.instance_id as instanceId, i.tenant_id as tenantId, "
                  + "i.items ->> 'id' AS id, i.items ->> 'hrid' AS hrid, "
                  + "i.items ->> 'holdingsRecordId' AS holdingsRecordId, i.items ->> 'barcode' AS barcode "
-                 + "FROM (SELECT instance_id, tenant_id, json_array_elements(json -> 'items') as items "
+                 + "FROM (SELECT instance_id, tenant_id, jsonb_array_elements(json -> 'items') as items "
                  + "FROM schema.consortium_instance WHERE instance_id = ? AND tenant_id = ? ) i "
                  + "WHERE i.items ->> 'holdingsRecordId' = ? ORDER BY id desc LIMIT 100 OFFSET 10", actual);
   }
@@ -163,7 +163,7 @@ class ConsortiumSearchQueryBuilderTest {
     assertEquals("SELECT i.instance_id as instanceId, i.tenant_id as tenantId, "
                  + "i.items ->> 'id' AS id, i.items ->> 'hrid' AS hrid, "
                  + "i.items ->> 'holdingsRecordId' AS holdingsRecordId, i.items ->> 'barcode' AS barcode "
-                 + "FROM (SELECT instance_id, tenant_id, json_array_elements(json -> 'items') as items "
+                 + "FROM (SELECT instance_id, tenant_id, jsonb_array_elements(json -> 'items') as items "
                  + "FROM schema.consortium_instance WHERE instance_id = ? AND tenant_id = ? ) i "
                  + "ORDER BY id desc LIMIT 100 OFFSET 10", actual);
   }
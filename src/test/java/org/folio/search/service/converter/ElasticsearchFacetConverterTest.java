@@ -69,7 +69,13 @@ class ElasticsearchFacetConverterTest {
       arguments(filterFacetAggregationWithSelectedTerms(), mapOf(AGG_NAME, facet(List.of(
         facetItem("v3", 300), facetItem("v4", 10), facetItem("v1", 200), facetItem("v2", 100))))),
       arguments(filterFacetAggregationWithOnlySelectedTerms(), mapOf(AGG_NAME, facet(List.of(
-        facetItem("v3", 300), facetItem("v4", 10)))))
+        facetItem("v3", 300), facetItem("v4", 10))))),
+      arguments(termsFacetAggregationWithOtherRecordsAndCardinality(), mapOf(AGG_NAME, facet(List.of(
+        facetItem("custom", 1), facetItem("marc", 5))).otherRecords(12L).cardinality(7L))),
+      arguments(filterFacetAggregationWithCardinality(), mapOf(AGG_NAME, facet(List.of(
+        facetItem("v1", 200))).otherRecords(100L).cardinality(2L))),
+      arguments(compositeFacetAggregation(), mapOf(AGG_NAME, facet(List.of(
+        facetItem("v1", 20), facetItem("v2", 10))).afterKey("v2").cardinality(5L)))
     );
   }
 
@@ -118,6 +124,30 @@ class ElasticsearchFacetConverterTest {
         jsonObject("key", "custom", "doc_count", 10))));
   }
 
+  private static ObjectNode termsFacetAggregationWithOtherRecordsAndCardinality() {
+    return jsonObject(
+      "sterms#item", jsonObject("sum_other_doc_count", 12, "buckets", jsonArray(
+        jsonObject("key", "marc", "doc_count", 5))),
+      "sterms#selected_item", jsonObject("buckets", jsonArray(
+        jsonObject("key", "custom", "doc_count", 1))),
+      "cardinality#cardinality_item", jsonObject("value", 7));
+  }
+
+  private static ObjectNode filterFacetAggregationWithCardinality() {
+    return jsonObject("filter#item", jsonObject(
+      "sterms#values", jsonObject("sum_other_doc_count", 100, "buckets", jsonArray(
+        jsonObject("key", "v1", "doc_count", 200))),
+      "cardinality#cardinality_values", jsonObject("value", 2)));
+  }
+
+  private static ObjectNode compositeFacetAggregation() {
+    return jsonObject(
+      "composite#item", jsonObject("after_key", jsonObject("value", "v2"), "buckets", jsonArray(
+        jsonObject("key", jsonObject("value", "v1"), "doc_count", 20),
+        jsonObject("key", jsonObject("value", "v2"), "doc_count", 10))),
+      "cardinality#cardinality_item", jsonObject("value", 5));
+  }
+
   private static ObjectNode stringStatsAggregation() {
     return jsonObject("string_stats#item", jsonObject(
       "count", 20, "min_length", 1, "max_length", 20, "avg_length", 10, "entropy", 2.5f));
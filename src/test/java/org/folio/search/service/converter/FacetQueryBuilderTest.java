@@ -1,10 +1,11 @@
 package org.folio.search.service.converter;
 
-import static java.lang.Integer.MAX_VALUE;
 import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.folio.search.model.types.SearchType.FACET;
+import static org.folio.search.utils.SearchUtils.CARDINALITY_AGG_PREFIX;
+import static org.folio.search.utils.SearchUtils.FACET_COMPOSITE_SOURCE_NAME;
 import static org.folio.search.utils.SearchUtils.SELECTED_AGG_PREFIX;
 import static org.folio.search.utils.TestConstants.RESOURCE_NAME;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
@@ -17,11 +18,15 @@ import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
 import static org.opensearch.index.query.QueryBuilders.matchQuery;
 import static org.opensearch.index.query.QueryBuilders.rangeQuery;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
+import static org.opensearch.search.aggregations.AggregationBuilders.composite;
 import static org.opensearch.search.aggregations.AggregationBuilders.filter;
 import static org.opensearch.search.aggregations.AggregationBuilders.terms;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import org.folio.search.configuration.properties.SearchConfigurationProperties;
 import org.folio.search.cql.FacetQueryBuilder;
 import org.folio.search.exception.RequestValidationException;
 import org.folio.search.model.service.CqlFacetRequest;
@@ -33,7 +38,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.terms.IncludeExclude;
 
 @UnitTest
@@ -42,14 +50,18 @@ class FacetQueryBuilderTest {
 
   private static final String FIELD = "field";
   private static final String FACET_ALIAS = "facet.alias";
+  private static final int MAX_FACET_SIZE = 100;
 
   @InjectMocks
   private FacetQueryBuilder facetQueryBuilder;
   @Mock
   private SearchFieldProvider searchFieldProvider;
+  @Spy
+  private SearchConfigurationProperties searchConfigurationProperties = new SearchConfigurationProperties();
 
   @BeforeEach
   void setUp() {
+    searchConfigurationProperties.setMaxFacetSize(MAX_FACET_SIZE);
     when(searchFieldProvider.getModifiedField(any(), any())).thenAnswer(f -> f.getArguments()[0]);
   }
 
@@ -57,7 +69,7 @@ class FacetQueryBuilderTest {
   void getFacetAggregations_positive_queryWithoutFilters() {
     when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD), matchAllQuery());
-    assertThat(actual).containsExactly(terms(FIELD).field(FIELD).size(MAX_VALUE));
+    assertThat(actual).containsExactly(terms(FIELD).field(FIELD).size(MAX_FACET_SIZE), cardinalityAgg(FIELD, FIELD));
   }
 
   @Test
@@ -66,7 +78,8 @@ class FacetQueryBuilderTest {
     when(searchFieldProvider.getModifiedField(FIELD, RESOURCE_NAME)).thenReturn(modifiedField);
     when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, modifiedField)).thenReturn(of(keywordField(FACET)));
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD), matchAllQuery());
-    assertThat(actual).containsExactly(terms(modifiedField).field(modifiedField).size(MAX_VALUE));
+    assertThat(actual).containsExactly(
+      terms(modifiedField).field(modifiedField).size(MAX_FACET_SIZE), cardinalityAgg(modifiedField, modifiedField));
   }
 
   @Test
@@ -74,14 +87,15 @@ class FacetQueryBuilderTest {
     when(searchFieldProvider.getFields(RESOURCE_NAME, FACET_ALIAS)).thenReturn(List.of(FIELD));
     when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FACET_ALIAS), matchAllQuery());
-    assertThat(actual).containsExactly(terms(FACET_ALIAS).field(FIELD).size(MAX_VALUE));
+    assertThat(actual).containsExactly(
+      terms(FACET_ALIAS).field(FIELD).size(MAX_FACET_SIZE), cardinalityAgg(FACET_ALIAS, FIELD));
   }
 
   @Test
   void getFacetAggregations_positive_limitedFacetWithQueryWithoutFilters() {
     when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD + ":5"), matchAllQuery());
-    assertThat(actual).containsExactly(terms(FIELD).field(FIELD).size(5));
+    assertThat(actual).containsExactly(terms(FIELD).field(FIELD).size(5), cardinalityAgg(FIELD, FIELD));
   }
 
   @Test
@@ -89,7 +103,7 @@ class FacetQueryBuilderTest {
     when(searchFieldProvider.getFields(RESOURCE_NAME, FACET_ALIAS)).thenReturn(List.of(FIELD));
     when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FACET_ALIAS + ":5"), matchAllQuery());
-    assertThat(actual).containsExactly(terms(FACET_ALIAS).field(FIELD).size(5));
+    assertThat(actual).containsExactly(terms(FACET_ALIAS).field(FIELD).size(5), cardinalityAgg(FACET_ALIAS, FIELD));
   }
 
   @Test
@@ -98,7 +112,8 @@ class FacetQueryBuilderTest {
     when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD), query);
     assertThat(actual).containsExactly(filter(FIELD, query)
-      .subAggregation(terms("values").field(FIELD).size(MAX_VALUE)));
+      .subAggregation(terms("values").field(FIELD).size(MAX_FACET_SIZE))
+      .subAggregation(cardinalityAgg("values", FIELD)));
   }
 
   @Test
@@ -114,8 +129,9 @@ class FacetQueryBuilderTest {
     var include = new IncludeExclude(array("v2"), null);
     var exclude = new IncludeExclude(null, array("v2"));
     var expected = filter(FIELD, boolQuery().filter(someFilter))
-      .subAggregation(terms("values").field(FIELD).size(MAX_VALUE - 1).includeExclude(exclude))
-      .subAggregation(terms("selected_values").field(FIELD).size(1).includeExclude(include));
+      .subAggregation(terms("values").field(FIELD).size(MAX_FACET_SIZE - 1).includeExclude(exclude))
+      .subAggregation(terms("selected_values").field(FIELD).size(1).includeExclude(include))
+      .subAggregation(cardinalityAgg("values", FIELD));
     assertThat(actual).containsExactly(expected);
   }
 
@@ -133,8 +149,9 @@ class FacetQueryBuilderTest {
     var include = new IncludeExclude(array("v2"), null);
     var exclude = new IncludeExclude(null, array("v2"));
     var expected = filter(FACET_ALIAS, boolQuery().filter(someFilter))
-      .subAggregation(terms("values").field(FIELD).size(MAX_VALUE - 1).includeExclude(exclude))
-      .subAggregation(terms("selected_values").field(FIELD).size(1).includeExclude(include));
+      .subAggregation(terms("values").field(FIELD).size(MAX_FACET_SIZE - 1).includeExclude(exclude))
+      .subAggregation(terms("selected_values").field(FIELD).size(1).includeExclude(include))
+      .subAggregation(cardinalityAgg("values", FIELD));
     assertThat(actual).containsExactly(expected);
   }
 
@@ -149,8 +166,9 @@ class FacetQueryBuilderTest {
     var include = new IncludeExclude(array("v2"), null);
     var exclude = new IncludeExclude(null, array("v2"));
     assertThat(actual).containsExactly(
-      terms(FIELD).field(FIELD).size(MAX_VALUE - 1).includeExclude(exclude),
-      terms(SELECTED_AGG_PREFIX + FIELD).field(FIELD).size(1).includeExclude(include));
+      terms(FIELD).field(FIELD).size(MAX_FACET_SIZE - 1).includeExclude(exclude),
+      terms(SELECTED_AGG_PREFIX + FIELD).field(FIELD).size(1).includeExclude(include),
+      cardinalityAgg(FIELD, FIELD));
   }
 
   @Test
@@ -165,8 +183,9 @@ class FacetQueryBuilderTest {
     var include = new IncludeExclude(array("v2"), null);
     var exclude = new IncludeExclude(null, array("v2"));
     assertThat(actual).containsExactly(
-      terms(FACET_ALIAS).field(FIELD).size(MAX_VALUE - 1).includeExclude(exclude),
-      terms(SELECTED_AGG_PREFIX + FACET_ALIAS).field(FIELD).size(1).includeExclude(include));
+      terms(FACET_ALIAS).field(FIELD).size(MAX_FACET_SIZE - 1).includeExclude(exclude),
+      terms(SELECTED_AGG_PREFIX + FACET_ALIAS).field(FIELD).size(1).includeExclude(include),
+      cardinalityAgg(FACET_ALIAS, FIELD));
   }
 
   @Test
@@ -179,8 +198,9 @@ class FacetQueryBuilderTest {
     var include = new IncludeExclude(array("v1", "v2"), null);
     var exclude = new IncludeExclude(null, array("v1", "v2"));
     assertThat(actual).containsExactly(
-      terms(FIELD).field(FIELD).size(MAX_VALUE - 2).includeExclude(exclude),
-      terms(SELECTED_AGG_PREFIX + FIELD).field(FIELD).size(2).includeExclude(include));
+      terms(FIELD).field(FIELD).size(MAX_FACET_SIZE - 2).includeExclude(exclude),
+      terms(SELECTED_AGG_PREFIX + FIELD).field(FIELD).size(2).includeExclude(include),
+      cardinalityAgg(FIELD, FIELD));
   }
 
   @Test
@@ -194,7 +214,8 @@ class FacetQueryBuilderTest {
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD + ":5"), query);
 
     var include = new IncludeExclude(values, null);
-    assertThat(actual).containsExactly(terms(SELECTED_AGG_PREFIX + FIELD).field(FIELD).size(5).includeExclude(include));
+    assertThat(actual).containsExactly(
+      terms(SELECTED_AGG_PREFIX + FIELD).field(FIELD).size(5).includeExclude(include), cardinalityAgg(FIELD, FIELD));
   }
 
   @Test
@@ -202,7 +223,7 @@ class FacetQueryBuilderTest {
     var query = boolQuery().filter(rangeQuery(FIELD).lt(0));
     when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD + ":5"), query);
-    assertThat(actual).containsExactly(terms(FIELD).field(FIELD).size(5));
+    assertThat(actual).containsExactly(terms(FIELD).field(FIELD).size(5), cardinalityAgg(FIELD, FIELD));
   }
 
   @Test
@@ -211,7 +232,47 @@ class FacetQueryBuilderTest {
     when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
     var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD), query);
     assertThat(actual).containsExactly(filter(FIELD, query)
-      .subAggregation(terms("values").field(FIELD).size(MAX_VALUE)));
+      .subAggregation(terms("values").field(FIELD).size(MAX_FACET_SIZE))
+      .subAggregation(cardinalityAgg("values", FIELD)));
+  }
+
+  @Test
+  void getFacetAggregations_positive_facetSizeLimitedByMaxFacetSize() {
+    when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
+    var actual = facetQueryBuilder.getFacetAggregations(facetRequest(FIELD + ":100000"), matchAllQuery());
+    assertThat(actual).containsExactly(terms(FIELD).field(FIELD).size(MAX_FACET_SIZE), cardinalityAgg(FIELD, FIELD));
+  }
+
+  @Test
+  void getFacetAggregations_positive_firstFacetPage() {
+    when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
+    var actual = facetQueryBuilder.getFacetAggregations(facetPageRequest("", FIELD + ":5"), matchAllQuery());
+    assertThat(actual).containsExactly(
+      composite(FIELD, List.of(new TermsValuesSourceBuilder(FACET_COMPOSITE_SOURCE_NAME).field(FIELD))).size(5),
+      cardinalityAgg(FIELD, FIELD));
+  }
+
+  @Test
+  void getFacetAggregations_positive_nextFacetPageWithFilter() {
+    var query = boolQuery().filter(termQuery("f1", "v1")).filter(termQuery(FIELD, "v2"));
+    when(searchFieldProvider.getPlainFieldByPath(RESOURCE_NAME, FIELD)).thenReturn(of(keywordField(FACET)));
+
+    var actual = facetQueryBuilder.getFacetAggregations(facetPageRequest("v5", FIELD), query);
+
+    var valuesSource = new TermsValuesSourceBuilder(FACET_COMPOSITE_SOURCE_NAME).field(FIELD);
+    assertThat(actual).containsExactly(filter(FIELD, boolQuery().filter(termQuery("f1", "v1")))
+      .subAggregation(composite("values", List.of(valuesSource)).size(MAX_FACET_SIZE)
+        .aggregateAfter(Map.of(FACET_COMPOSITE_SOURCE_NAME, "v5")))
+      .subAggregation(cardinalityAgg("values", FIELD)));
+  }
+
+  @Test
+  void getFacetAggregations_negative_facetPageForSeveralFacets() {
+    var request = facetPageRequest("", FIELD, "other");
+    var query = matchAllQuery();
+    assertThatThrownBy(() -> facetQueryBuilder.getFacetAggregations(request, query))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Facet paging is supported only for a single facet");
   }
 
   @Test
@@ -244,4 +305,12 @@ class FacetQueryBuilderTest {
   private static CqlFacetRequest facetRequest(String... facets) {
     return TestUtils.defaultFacetServiceRequest(RESOURCE_NAME, TENANT_ID, facets);
   }
+
+  private static CqlFacetRequest facetPageRequest(String facetAfter, String... facets) {
+    return CqlFacetRequest.of(RESOURCE_NAME, TENANT_ID, "cql.allRecords=1", List.of(facets), facetAfter);
+  }
+
+  private static AggregationBuilder cardinalityAgg(String name, String field) {
+    return cardinality(CARDINALITY_AGG_PREFIX + name).field(field);
+  }
 }
@@ -0,0 +1,146 @@
+package org.folio.search.service.converter.preprocessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.folio.search.domain.dto.ResourceEventType.CREATE;
+import static org.folio.search.domain.dto.ResourceEventType.DELETE;
+import static org.folio.search.utils.SearchUtils.ID_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_CALL_NUMBER_RESOURCE;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.RESOURCE_ID;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
+import static org.folio.search.utils.TestUtils.mapOf;
+import static org.folio.search.utils.TestUtils.resourceEvent;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
+import org.folio.search.model.index.InstanceSubResource;
+import org.folio.search.repository.callnumber.InstanceCallNumberEntity;
+import org.folio.search.repository.callnumber.InstanceCallNumberEntityAgg;
+import org.folio.search.repository.callnumber.InstanceCallNumberRepository;
+import org.folio.search.service.FeatureConfigService;
+import org.folio.search.service.consortium.ConsortiumTenantService;
+import org.folio.search.utils.JsonConverter;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class InstanceCallNumberEventProviderTest {
+
+  private static final String LOCATION_ID = "location";
+
+  private @Spy JsonConverter jsonConverter = new JsonConverter(OBJECT_MAPPER);
+  private @Mock FeatureConfigService featureConfigService;
+  private @Mock ConsortiumTenantService consortiumTenantService;
+  private @Mock InstanceCallNumberRepository instanceCallNumberRepository;
+  private @InjectMocks InstanceCallNumberEventProvider eventProvider;
+
+  private @Captor ArgumentCaptor<List<InstanceCallNumberEntity>> entitiesCaptor;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(featureConfigService.isEnabled(TenantConfiguredFeature.BROWSE_CN_PRECOMPUTED)).thenReturn(true);
+    lenient().when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.empty());
+  }
+
+  @Test
+  void getCallNumberEvents_positive_createEvent() {
+    var instance = instance(item("i1", "A 11", "A", "11"), item("i2", "B 22", "B", "22"), item("i3", null, null, null));
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, instance, null);
+    when(instanceCallNumberRepository.deleteByInstanceIdOrItemIds(RESOURCE_ID, List.of("i1", "i2"), TENANT_ID))
+      .thenReturn(List.of("C 33"));
+    when(instanceCallNumberRepository.fetchAggregatedByShelvingOrders(Set.of("C 33", "A 11", "B 22")))
+      .thenReturn(List.of(aggregated("A 11", "A 11"), aggregated("B 22", "B 22")));
+
+    var actual = eventProvider.getCallNumberEvents(event);
+
+    assertThat(actual)
+      .allSatisfy(resourceEvent -> assertThat(resourceEvent)
+        .extracting(ResourceEvent::getResourceName, ResourceEvent::getTenant)
+        .containsExactly(INSTANCE_CALL_NUMBER_RESOURCE, TENANT_ID))
+      .extracting(ResourceEvent::getId, ResourceEvent::getType)
+      .containsExactly(tuple("A 11", CREATE), tuple("B 22", CREATE), tuple("C 33", DELETE));
+    assertThat(actual.get(0).getNew()).isEqualTo(mapOf("id", "A 11", "shelvingOrder", "A 11",
+      "fullCallNumber", "A 11", "instances", List.of(mapOf("instanceId", RESOURCE_ID, "locationId", LOCATION_ID,
+        "tenantId", TENANT_ID, "shared", false))));
+
+    verify(instanceCallNumberRepository).saveAll(entitiesCaptor.capture());
+    assertThat(entitiesCaptor.getValue())
+      .extracting(InstanceCallNumberEntity::itemId, InstanceCallNumberEntity::shelvingOrder,
+        InstanceCallNumberEntity::fullCallNumber, InstanceCallNumberEntity::locationId)
+      .containsExactly(tuple("i1", "A 11", "A 11", LOCATION_ID), tuple("i2", "B 22", "B 22", LOCATION_ID));
+  }
+
+  @Test
+  void getCallNumberEvents_positive_deleteEvent() {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, DELETE, null, instance(item("i1", "A 11", "A", "11")));
+    when(instanceCallNumberRepository.deleteByInstanceIdOrItemIds(RESOURCE_ID, List.of(), TENANT_ID))
+      .thenReturn(List.of("A 11"));
+
+    var actual = eventProvider.getCallNumberEvents(event);
+
+    assertThat(actual)
+      .extracting(ResourceEvent::getId, ResourceEvent::getType)
+      .containsExactly(tuple("A 11", DELETE));
+    verify(instanceCallNumberRepository).saveAll(List.of());
+    verify(instanceCallNumberRepository).fetchAggregatedByShelvingOrders(Set.of("A 11"));
+  }
+
+  @Test
+  void getCallNumberEvents_positive_centralTenantCallNumbersAreShared() {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, instance(item("i1", "A 11", "A", "11")), null);
+    when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(TENANT_ID));
+    when(instanceCallNumberRepository.fetchAggregatedByShelvingOrders(anyCollection())).thenReturn(List.of());
+
+    eventProvider.getCallNumberEvents(event);
+
+    verify(instanceCallNumberRepository).saveAll(entitiesCaptor.capture());
+    assertThat(entitiesCaptor.getValue()).extracting(InstanceCallNumberEntity::shared).containsExactly(true);
+  }
+
+  @Test
+  void getCallNumberEvents_positive_featureIsDisabled() {
+    var event = resourceEvent(RESOURCE_ID, INSTANCE_RESOURCE, CREATE, instance(item("i1", "A 11", "A", "11")), null);
+    when(featureConfigService.isEnabled(TenantConfiguredFeature.BROWSE_CN_PRECOMPUTED)).thenReturn(false);
+
+    var actual = eventProvider.getCallNumberEvents(event);
+
+    assertThat(actual).isEmpty();
+    verifyNoInteractions(instanceCallNumberRepository);
+  }
+
+  private static InstanceCallNumberEntityAgg aggregated(String shelvingOrder, String fullCallNumber) {
+    var subResource = InstanceSubResource.builder()
+      .instanceId(RESOURCE_ID).locationId(LOCATION_ID).tenantId(TENANT_ID).shared(false).build();
+    return new InstanceCallNumberEntityAgg(shelvingOrder, fullCallNumber, Set.of(subResource));
+  }
+
+  @SafeVarargs
+  private static Map<String, Object> instance(Map<String, Object>... items) {
+    return mapOf(ID_FIELD, RESOURCE_ID, "items", List.of(items));
+  }
+
+  private static Map<String, Object> item(String id, String shelvingOrder, String prefix, String callNumber) {
+    return mapOf(ID_FIELD, id, "effectiveShelvingOrder", shelvingOrder, "effectiveLocationId", LOCATION_ID,
+      "effectiveCallNumberComponents", mapOf("prefix", prefix, "callNumber", callNumber));
+  }
+}
@@ -10,6 +10,7 @@ import static org.folio.search.utils.SearchUtils.CLASSIFICATIONS_FIELD;
 import static org.folio.search.utils.SearchUtils.CLASSIFICATION_NUMBER_FIELD;
 import static org.folio.search.utils.SearchUtils.CLASSIFICATION_TYPE_FIELD;
 import static org.folio.search.utils.SearchUtils.ID_FIELD;
+import static org.folio.search.utils.SearchUtils.INSTANCE_CALL_NUMBER_RESOURCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_CLASSIFICATION_RESOURCE;
 import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
 import static org.folio.search.utils.SearchUtils.SOURCE_CONSORTIUM_PREFIX;
@@ -72,6 +73,7 @@ class InstanceEventPreProcessorTest {
   private @Mock FeatureConfigService featureConfigService;
   private @Mock ConsortiumTenantService consortiumTenantService;
   private @Mock InstanceClassificationRepository instanceClassificationRepository;
+  private @Mock InstanceCallNumberEventProvider instanceCallNumberEventProvider;
   private @InjectMocks InstanceEventPreProcessor preProcessor;
 
   private @Captor ArgumentCaptor<List<InstanceClassificationEntity>> createCaptor;
@@ -94,6 +96,40 @@ class InstanceEventPreProcessorTest {
     verifyNoInteractions(instanceClassificationRepository);
   }
 
+  @Test
+  void preProcess_ShadowInstance_ShouldProcessCallNumbers() {
+    // Arrange
+    var data = instance(randomId(), SOURCE_CONSORTIUM_PREFIX + "SOURCE", emptyList());
+    var resourceEvent = resourceEvent(INSTANCE_RESOURCE, data);
+    var callNumberEvent = resourceEvent("CN 1", INSTANCE_CALL_NUMBER_RESOURCE, CREATE);
+    when(instanceCallNumberEventProvider.getCallNumberEvents(resourceEvent)).thenReturn(List.of(callNumberEvent));
+
+    // Act
+    var resourceEvents = preProcessor.preProcess(resourceEvent);
+
+    // Assert
+    assertThat(resourceEvents)
+      .containsExactly(resourceEvent, callNumberEvent);
+
+    verifyNoInteractions(instanceClassificationRepository);
+  }
+
+  @Test
+  void preProcess_CreateEvent_ShouldAddCallNumberEvents() {
+    // Arrange
+    var resourceEvent = resourceEvent(INSTANCE_RESOURCE, instance(emptyList()));
+    var callNumberEvent = resourceEvent("CN 1", INSTANCE_CALL_NUMBER_RESOURCE, CREATE);
+    mockClassificationBrowseFeatureEnabled(Boolean.FALSE);
+    when(instanceCallNumberEventProvider.getCallNumberEvents(resourceEvent)).thenReturn(List.of(callNumberEvent));
+
+    // Act
+    var resourceEvents = preProcessor.preProcess(resourceEvent);
+
+    // Assert
+    assertThat(resourceEvents)
+      .containsExactly(callNumberEvent);
+  }
+
   @Test
   void preProcess_FeatureIsDisabled_ShouldNotProcessClassifications() {
     // Arrange
@@ -0,0 +1,293 @@
+package org.folio.search.service.reindex;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.folio.search.model.client.CqlQuery.rangeSortedBy;
+import static org.folio.search.utils.SearchResponseHelper.getErrorIndexOperationResponse;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import org.folio.search.client.InventoryViewClient;
+import org.folio.search.client.InventoryViewClient.InstanceView;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
+import org.folio.search.domain.dto.ResourceEvent;
+import org.folio.search.domain.dto.ResourceEventType;
+import org.folio.search.exception.RequestValidationException;
+import org.folio.search.model.client.CqlQueryParam;
+import org.folio.search.model.service.ResultList;
+import org.folio.search.model.types.ReindexRangeStatus;
+import org.folio.search.repository.reindex.ReindexRangeCheckpoint;
+import org.folio.search.repository.reindex.ReindexRangeEntity;
+import org.folio.search.repository.reindex.ReindexRangeRepository;
+import org.folio.search.service.ResourceService;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ReindexPipelineServiceTest {
+
+  private static final String FIRST_BOUND = "00000000-0000-0000-0000-000000000000";
+  private static final String SECOND_BOUND = "80000000-0000-0000-0000-000000000000";
+  private static final String ID_1 = "10000000-0000-0000-0000-000000000000";
+  private static final String ID_2 = "20000000-0000-0000-0000-000000000000";
+  private static final String ID_3 = "30000000-0000-0000-0000-000000000000";
+
+  private final ReindexConfigurationProperties reindexConfiguration = new ReindexConfigurationProperties();
+
+  @Mock
+  private InventoryViewClient inventoryViewClient;
+  @Mock
+  private ResourceService resourceService;
+  @Mock
+  private ReindexRangeRepository reindexRangeRepository;
+  @Mock
+  private SystemUserScopedExecutionService executionService;
+  @Captor
+  private ArgumentCaptor<List<ReindexRangeEntity>> rangesCaptor;
+  @Captor
+  private ArgumentCaptor<List<ResourceEvent>> eventsCaptor;
+  @Captor
+  private ArgumentCaptor<ReindexRangeCheckpoint> checkpointCaptor;
+
+  private ReindexPipelineService reindexPipelineService;
+
+  @BeforeEach
+  void setUp() {
+    reindexConfiguration.setPipelineRangesCount(2);
+    reindexConfiguration.setPipelineBatchSize(2);
+    reindexPipelineService = new ReindexPipelineService(inventoryViewClient, resourceService, reindexRangeRepository,
+      reindexConfiguration, executionService, Runnable::run);
+    lenient().doAnswer(invocation -> ((Callable<?>) invocation.getArgument(1)).call())
+      .when(executionService).executeSystemUserScoped(any(), any());
+  }
+
+  @Test
+  void reindexInstances_positive_newJob() {
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, FIRST_BOUND, true, SECOND_BOUND), 0))
+      .thenReturn(ResultList.of(3, emptyList()));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, SECOND_BOUND, true, null), 0))
+      .thenReturn(ResultList.empty());
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, FIRST_BOUND, true, SECOND_BOUND), 2))
+      .thenReturn(ResultList.asSinglePage(instanceView(ID_1), instanceView(ID_2)));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, ID_2, false, SECOND_BOUND), 2))
+      .thenReturn(ResultList.asSinglePage(instanceView(ID_3)));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, SECOND_BOUND, true, null), 2))
+      .thenReturn(ResultList.empty());
+    when(resourceService.convertInstances(anyList())).thenReturn(Map.of());
+    when(resourceService.indexDocuments(anyMap())).thenReturn(getSuccessIndexOperationResponse());
+
+    var actual = reindexPipelineService.reindexInstances(TENANT_ID, false);
+
+    verify(reindexRangeRepository)
+      .replaceUnlessActive(eq(INSTANCE_RESOURCE), rangesCaptor.capture(), any(Instant.class));
+    var ranges = rangesCaptor.getValue();
+    assertThat(ranges).extracting(ReindexRangeEntity::lowerBound, ReindexRangeEntity::upperBound)
+      .containsExactly(tuple(FIRST_BOUND, SECOND_BOUND),
+        tuple(SECOND_BOUND, null));
+    assertThat(actual.getId()).isEqualTo(ranges.get(0).jobId());
+
+    verify(resourceService, times(2)).convertInstances(eventsCaptor.capture());
+    assertThat(eventsCaptor.getAllValues()).flatMap(events -> events)
+      .extracting(ResourceEvent::getId, ResourceEvent::getType, ResourceEvent::getTenant)
+      .containsExactly(
+        tuple(ID_1, ResourceEventType.REINDEX, TENANT_ID),
+        tuple(ID_2, ResourceEventType.REINDEX, TENANT_ID),
+        tuple(ID_3, ResourceEventType.REINDEX, TENANT_ID));
+
+    verify(reindexRangeRepository).updateStarted(ranges.get(0).id(), 3);
+    verify(reindexRangeRepository).updateStarted(ranges.get(1).id(), 0);
+    verify(reindexRangeRepository, times(2)).updateCheckpoint(eq(ranges.get(0).id()), checkpointCaptor.capture());
+    assertThat(checkpointCaptor.getAllValues())
+      .extracting(ReindexRangeCheckpoint::lastId, ReindexRangeCheckpoint::processedCount)
+      .containsExactly(tuple(ID_2, 2L), tuple(ID_3, 1L));
+    verify(reindexRangeRepository).updateStatus(ranges.get(0).id(), ReindexRangeStatus.COMPLETED);
+    verify(reindexRangeRepository).updateStatus(ranges.get(1).id(), ReindexRangeStatus.COMPLETED);
+  }
+
+  @Test
+  void reindexInstances_positive_resumeFromCheckpoint() {
+    var range = range(ID_2);
+    when(reindexRangeRepository.claimUnfinished(eq(INSTANCE_RESOURCE), any(Instant.class))).thenReturn(List.of(range));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, FIRST_BOUND, true, SECOND_BOUND), 0))
+      .thenReturn(ResultList.of(3, emptyList()));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, ID_2, false, SECOND_BOUND), 2))
+      .thenReturn(ResultList.asSinglePage(instanceView(ID_3)));
+    when(resourceService.convertInstances(anyList())).thenReturn(Map.of());
+    when(resourceService.indexDocuments(anyMap())).thenReturn(getSuccessIndexOperationResponse());
+
+    var actual = reindexPipelineService.reindexInstances(TENANT_ID, true);
+
+    assertThat(actual.getId()).isEqualTo(range.jobId());
+    verify(reindexRangeRepository, never()).replaceUnlessActive(any(), anyList(), any());
+    verify(reindexRangeRepository).updateStarted(range.id(), 3);
+    verify(reindexRangeRepository).updateCheckpoint(eq(range.id()), checkpointCaptor.capture());
+    assertThat(checkpointCaptor.getValue())
+      .extracting(ReindexRangeCheckpoint::lastId, ReindexRangeCheckpoint::processedCount)
+      .containsExactly(ID_3, 1L);
+    verify(reindexRangeRepository).updateStatus(range.id(), ReindexRangeStatus.COMPLETED);
+  }
+
+  @Test
+  void reindexInstances_negative_indexingFailed() {
+    var range = range(null);
+    when(reindexRangeRepository.claimUnfinished(eq(INSTANCE_RESOURCE), any(Instant.class))).thenReturn(List.of(range));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, FIRST_BOUND, true, SECOND_BOUND), 0))
+      .thenReturn(ResultList.of(1, emptyList()));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, FIRST_BOUND, true, SECOND_BOUND), 2))
+      .thenReturn(ResultList.asSinglePage(instanceView(ID_1)));
+    when(resourceService.convertInstances(anyList())).thenReturn(Map.of());
+    when(resourceService.indexDocuments(anyMap())).thenReturn(getErrorIndexOperationResponse("error"));
+
+    reindexPipelineService.reindexInstances(TENANT_ID, true);
+
+    verify(reindexRangeRepository, never()).updateCheckpoint(anyString(), any());
+    verify(reindexRangeRepository, never()).updateStatus(range.id(), ReindexRangeStatus.COMPLETED);
+    verify(reindexRangeRepository).updateFailed(range.id());
+  }
+
+  @Test
+  void reindexInstances_positive_abandonedRangesAreClaimedAfterLeaseTimeout() {
+    var instantCaptor = ArgumentCaptor.forClass(Instant.class);
+    reindexConfiguration.setPipelineRangeLeaseTimeout(Duration.ofMinutes(5));
+    when(reindexRangeRepository.claimUnfinished(eq(INSTANCE_RESOURCE), instantCaptor.capture()))
+      .thenReturn(List.of(range(ID_2)));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, FIRST_BOUND, true, SECOND_BOUND), 0))
+      .thenReturn(ResultList.of(2, emptyList()));
+    when(inventoryViewClient.getInstances(rangeSortedBy(CqlQueryParam.ID, ID_2, false, SECOND_BOUND), 2))
+      .thenReturn(ResultList.empty());
+
+    var requestTime = Instant.now();
+    reindexPipelineService.reindexInstances(TENANT_ID, true);
+
+    assertThat(instantCaptor.getValue())
+      .isBetween(requestTime.minus(Duration.ofMinutes(5)), Instant.now().minus(Duration.ofMinutes(5)));
+    verify(reindexRangeRepository).updateStatus("rangeId", ReindexRangeStatus.COMPLETED);
+  }
+
+  @Test
+  void reindexInstances_positive_resumeReturnsRunningJob() {
+    when(reindexRangeRepository.findActiveJobId(eq(INSTANCE_RESOURCE), any(Instant.class)))
+      .thenReturn(Optional.of("runningJobId"));
+
+    var actual = reindexPipelineService.reindexInstances(TENANT_ID, true);
+
+    assertThat(actual.getId()).isEqualTo("runningJobId");
+    verify(reindexRangeRepository, never()).claimUnfinished(any(), any());
+    verify(reindexRangeRepository, never()).replaceUnlessActive(any(), anyList(), any());
+    verifyNoInteractions(executionService);
+  }
+
+  @Test
+  void reindexInstances_positive_resumeReturnsJobStartedConcurrently() {
+    when(reindexRangeRepository.replaceUnlessActive(eq(INSTANCE_RESOURCE), anyList(), any(Instant.class)))
+      .thenReturn(Optional.of("runningJobId"));
+
+    var actual = reindexPipelineService.reindexInstances(TENANT_ID, true);
+
+    assertThat(actual.getId()).isEqualTo("runningJobId");
+    verifyNoInteractions(executionService);
+  }
+
+  @Test
+  void reindexInstances_negative_newJobWhileJobIsRunning() {
+    when(reindexRangeRepository.findActiveJobId(eq(INSTANCE_RESOURCE), any(Instant.class)))
+      .thenReturn(Optional.of("runningJobId"));
+
+    assertThatThrownBy(() -> reindexPipelineService.reindexInstances(TENANT_ID, false))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Instances reindex is already running");
+    verify(reindexRangeRepository, never()).replaceUnlessActive(any(), anyList(), any());
+    verifyNoInteractions(executionService);
+  }
+
+  @Test
+  void reindexInstances_negative_rangeIsRejectedByExecutor() {
+    var range = range(null);
+    var rejectingService = new ReindexPipelineService(inventoryViewClient, resourceService, reindexRangeRepository,
+      reindexConfiguration, executionService, runnable -> {
+        throw new RejectedExecutionException("queue is full");
+      });
+    when(reindexRangeRepository.claimUnfinished(eq(INSTANCE_RESOURCE), any(Instant.class))).thenReturn(List.of(range));
+
+    var actual = rejectingService.reindexInstances(TENANT_ID, true);
+
+    assertThat(actual.getId()).isEqualTo(range.jobId());
+    verify(reindexRangeRepository).updateFailed(range.id());
+    verifyNoInteractions(inventoryViewClient);
+  }
+
+  @Test
+  void validateNoActiveJob_negative_jobIsRunning() {
+    when(reindexRangeRepository.findActiveJobId(eq(INSTANCE_RESOURCE), any(Instant.class)))
+      .thenReturn(Optional.of("runningJobId"));
+
+    assertThatThrownBy(() -> reindexPipelineService.validateNoActiveJob())
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Instances reindex is already running");
+  }
+
+  @Test
+  void validateNoActiveJob_positive_noRunningJob() {
+    reindexPipelineService.validateNoActiveJob();
+    verify(reindexRangeRepository).findActiveJobId(eq(INSTANCE_RESOURCE), any(Instant.class));
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "0,16,00000000-0000-0000-0000-000000000000",
+    "1,16,10000000-0000-0000-0000-000000000000",
+    "15,16,f0000000-0000-0000-0000-000000000000",
+    "1,3,55555555-5555-5555-5555-555555555555"
+  })
+  void getRangeBound_positive(int rangeIndex, int rangesCount, String expected) {
+    assertThat(ReindexPipelineService.getRangeBound(rangeIndex, rangesCount)).isEqualTo(expected);
+  }
+
+  private static ReindexRangeEntity range(String lastId) {
+    return ReindexRangeEntity.builder()
+      .id("rangeId")
+      .jobId("jobId")
+      .resourceName(INSTANCE_RESOURCE)
+      .lowerBound(FIRST_BOUND)
+      .upperBound(SECOND_BOUND)
+      .lastId(lastId)
+      .status(ReindexRangeStatus.IN_PROGRESS)
+      .build();
+  }
+
+  private static InstanceView instanceView(String id) {
+    return new InstanceView(new HashMap<>(Map.of("id", id)), emptyList(), emptyList(), false);
+  }
+}
@@ -0,0 +1,115 @@
+package org.folio.search.service.reindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import org.folio.search.domain.dto.ReindexProgress;
+import org.folio.search.domain.dto.ReindexRangeProgress;
+import org.folio.search.model.types.ReindexRangeStatus;
+import org.folio.search.repository.reindex.ReindexRangeEntity;
+import org.folio.search.repository.reindex.ReindexRangeRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ReindexProgressServiceTest {
+
+  private static final Instant STARTED_DATE = Instant.parse("2024-01-01T00:00:00Z");
+
+  @InjectMocks
+  private ReindexProgressService reindexProgressService;
+  @Mock
+  private ReindexRangeRepository reindexRangeRepository;
+  @Mock
+  private FolioExecutionContext context;
+
+  @BeforeEach
+  void setUp() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+  }
+
+  @Test
+  void getReindexProgress_positive() {
+    var completedRange = range(ReindexRangeStatus.COMPLETED, 100L, 100L, 0, STARTED_DATE.plusSeconds(10));
+    var activeRange = range(ReindexRangeStatus.IN_PROGRESS, 200L, 100L, 1, STARTED_DATE.plusSeconds(20));
+    when(reindexRangeRepository.findAll()).thenReturn(List.of(completedRange, activeRange));
+
+    var actual = reindexProgressService.getReindexProgress();
+
+    assertThat(actual.getTotalRecords()).isEqualTo(1);
+    var progress = actual.getReindexProgress().get(0);
+    assertThat(progress.getJobId()).isEqualTo("jobId");
+    assertThat(progress.getResourceName()).isEqualTo(INSTANCE_RESOURCE);
+    assertThat(progress.getTenantId()).isEqualTo(TENANT_ID);
+    assertThat(progress.getStatus()).isEqualTo(ReindexProgress.StatusEnum.IN_PROGRESS);
+    assertThat(progress.getExpectedCount()).isEqualTo(300L);
+    assertThat(progress.getProcessedCount()).isEqualTo(200L);
+    assertThat(progress.getErrorCount()).isEqualTo(1);
+    assertThat(progress.getRecordsPerSecond()).isEqualTo(10.0);
+    assertThat(progress.getEstimatedTimeLeft()).isEqualTo(10L);
+    assertThat(progress.getFetchTime()).isEqualTo(20L);
+    assertThat(progress.getConvertTime()).isEqualTo(40L);
+    assertThat(progress.getBulkTime()).isEqualTo(60L);
+    assertThat(progress.getRanges())
+      .extracting(ReindexRangeProgress::getStatus, ReindexRangeProgress::getEstimatedTimeLeft)
+      .containsExactly(
+        tuple(ReindexRangeProgress.StatusEnum.COMPLETED, 0L),
+        tuple(ReindexRangeProgress.StatusEnum.IN_PROGRESS, 20L));
+  }
+
+  @Test
+  void getReindexProgress_positive_notStartedRange() {
+    var newRange = range(ReindexRangeStatus.NEW, null, 0L, 0, null);
+    var failedRange = range(ReindexRangeStatus.FAILED, 10L, 5L, 1, STARTED_DATE.plusSeconds(5));
+    when(reindexRangeRepository.findAll()).thenReturn(List.of(newRange.toBuilder().startedDate(null).build(),
+      failedRange));
+
+    var progress = reindexProgressService.getReindexProgress().getReindexProgress().get(0);
+
+    assertThat(progress.getStatus()).isEqualTo(ReindexProgress.StatusEnum.FAILED);
+    assertThat(progress.getExpectedCount()).isEqualTo(10L);
+    assertThat(progress.getRecordsPerSecond()).isEqualTo(1.0);
+    assertThat(progress.getEstimatedTimeLeft()).isNull();
+  }
+
+  @Test
+  void getReindexProgress_positive_noRanges() {
+    when(reindexRangeRepository.findAll()).thenReturn(List.of());
+
+    var actual = reindexProgressService.getReindexProgress();
+
+    assertThat(actual.getTotalRecords()).isZero();
+    assertThat(actual.getReindexProgress()).isEmpty();
+  }
+
+  private static ReindexRangeEntity range(ReindexRangeStatus status, Long expectedCount, long processedCount,
+                                          int errorCount, Instant updatedDate) {
+    return ReindexRangeEntity.builder()
+      .id("rangeId")
+      .jobId("jobId")
+      .resourceName(INSTANCE_RESOURCE)
+      .lowerBound("00000000-0000-0000-0000-000000000000")
+      .status(status)
+      .expectedCount(expectedCount)
+      .processedCount(processedCount)
+      .errorCount(errorCount)
+      .fetchTime(10L)
+      .convertTime(20L)
+      .bulkTime(30L)
+      .startedDate(STARTED_DATE)
+      .updatedDate(updatedDate)
+      .build();
+  }
+}
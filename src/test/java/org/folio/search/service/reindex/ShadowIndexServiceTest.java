@@ -0,0 +1,176 @@
+package org.folio.search.service.reindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessFolioCreateIndexResponse;
+import static org.folio.search.utils.SearchResponseHelper.getSuccessIndexOperationResponse;
+import static org.folio.search.utils.SearchUtils.INSTANCE_RESOURCE;
+import static org.folio.search.utils.TestConstants.EMPTY_OBJECT;
+import static org.folio.search.utils.TestConstants.INDEX_NAME;
+import static org.folio.search.utils.TestConstants.TENANT_ID;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.SneakyThrows;
+import org.folio.search.configuration.properties.ReindexConfigurationProperties;
+import org.folio.search.exception.SearchServiceException;
+import org.folio.search.repository.IndexNameProvider;
+import org.folio.search.repository.IndexRepository;
+import org.folio.search.repository.ShadowIndexProvider;
+import org.folio.search.service.es.SearchMappingsHelper;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.common.unit.TimeValue;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ShadowIndexServiceTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String SHADOW_ALIAS = INDEX_NAME + "_reindex";
+  private static final String SHADOW_INDEX = INDEX_NAME + "_1";
+
+  @InjectMocks
+  private ShadowIndexService shadowIndexService;
+  @Mock
+  private IndexRepository indexRepository;
+  @Mock
+  private IndexNameProvider indexNameProvider;
+  @Mock
+  private ShadowIndexProvider shadowIndexProvider;
+  @Mock
+  private SearchMappingsHelper mappingHelper;
+  @Spy
+  private ReindexConfigurationProperties reindexConfiguration = new ReindexConfigurationProperties();
+
+  @BeforeEach
+  void setUp() {
+    when(indexNameProvider.getIndexName(INSTANCE_RESOURCE, TENANT_ID)).thenReturn(INDEX_NAME);
+    when(indexNameProvider.getShadowIndexAlias(INDEX_NAME)).thenReturn(SHADOW_ALIAS);
+  }
+
+  @Test
+  @SneakyThrows
+  void createShadowIndex_positive() {
+    var settingsCaptor = ArgumentCaptor.forClass(String.class);
+    var settings = MAPPER.readTree("{\"index\":{\"number_of_shards\":4,\"number_of_replicas\":2}}");
+    when(indexRepository.getAliasIndices(SHADOW_ALIAS)).thenReturn(Set.of());
+    when(indexNameProvider.getVersionedIndexName(INDEX_NAME)).thenReturn(SHADOW_INDEX);
+    when(mappingHelper.getMappings(INSTANCE_RESOURCE)).thenReturn(EMPTY_OBJECT);
+    when(indexRepository.createIndex(eq(SHADOW_INDEX), eq(SHADOW_ALIAS), settingsCaptor.capture(), eq(EMPTY_OBJECT)))
+      .thenReturn(getSuccessFolioCreateIndexResponse(List.of(SHADOW_INDEX)));
+
+    shadowIndexService.createShadowIndex(INSTANCE_RESOURCE, TENANT_ID, settings);
+
+    assertThat(MAPPER.readTree(settingsCaptor.getValue())).isEqualTo(MAPPER.readTree("{\"index\":{"
+      + "\"number_of_shards\":4,\"number_of_replicas\":0,\"refresh_interval\":\"-1\","
+      + "\"translog.durability\":\"async\"}}"));
+    assertThat(settings.at("/index/number_of_replicas").asInt()).isEqualTo(2);
+    verify(indexRepository, never()).dropIndex(any());
+    verify(shadowIndexProvider).invalidate(INDEX_NAME);
+  }
+
+  @Test
+  void createShadowIndex_positive_previousShadowIndexIsDropped() {
+    var settings = MAPPER.createObjectNode().set("index", MAPPER.createObjectNode());
+    when(indexRepository.getAliasIndices(SHADOW_ALIAS)).thenReturn(Set.of(INDEX_NAME + "_0"));
+    when(indexNameProvider.getVersionedIndexName(INDEX_NAME)).thenReturn(SHADOW_INDEX);
+    when(indexRepository.createIndex(eq(SHADOW_INDEX), eq(SHADOW_ALIAS), any(), any()))
+      .thenReturn(getSuccessFolioCreateIndexResponse(List.of(SHADOW_INDEX)));
+
+    shadowIndexService.createShadowIndex(INSTANCE_RESOURCE, TENANT_ID, settings);
+
+    var inOrder = inOrder(indexRepository);
+    inOrder.verify(indexRepository).dropIndex(SHADOW_ALIAS);
+    inOrder.verify(indexRepository).createIndex(eq(SHADOW_INDEX), eq(SHADOW_ALIAS), any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void promoteShadowIndex_positive() {
+    var servingSettings = MAPPER.readTree("{\"index\":{\"number_of_replicas\":2,\"refresh_interval\":\"1s\"}}");
+    var expectedSettings = "{\"index\":{\"number_of_replicas\":2,\"refresh_interval\":\"1s\","
+      + "\"translog.durability\":\"request\"}}";
+    when(indexRepository.getAliasIndices(SHADOW_ALIAS)).thenReturn(Set.of(SHADOW_INDEX));
+    when(indexRepository.getAliasIndices(INDEX_NAME)).thenReturn(Set.of(INDEX_NAME + "_0"));
+    when(indexRepository.updateIndexSettings(SHADOW_INDEX, expectedSettings))
+      .thenReturn(getSuccessIndexOperationResponse());
+    when(indexRepository.waitForGreenStatus(SHADOW_INDEX, TimeValue.timeValueMinutes(5))).thenReturn(true);
+
+    shadowIndexService.promoteShadowIndex(INSTANCE_RESOURCE, TENANT_ID, servingSettings);
+
+    var inOrder = inOrder(indexRepository, shadowIndexProvider);
+    inOrder.verify(indexRepository).updateIndexSettings(SHADOW_INDEX, expectedSettings);
+    inOrder.verify(indexRepository).refreshIndices(SHADOW_INDEX);
+    inOrder.verify(indexRepository).warmUpIndex(SHADOW_INDEX);
+    inOrder.verify(indexRepository).switchAlias(INDEX_NAME, SHADOW_INDEX, SHADOW_ALIAS, List.of(INDEX_NAME + "_0"));
+    inOrder.verify(shadowIndexProvider).invalidate(INDEX_NAME);
+  }
+
+  @Test
+  void promoteShadowIndex_positive_concreteIndexIsReplacedByAlias() {
+    var servingSettings = MAPPER.createObjectNode().set("index", MAPPER.createObjectNode());
+    when(indexRepository.getAliasIndices(SHADOW_ALIAS)).thenReturn(Set.of(SHADOW_INDEX));
+    when(indexRepository.getAliasIndices(INDEX_NAME)).thenReturn(Set.of());
+    when(indexRepository.indexExists(INDEX_NAME)).thenReturn(true);
+    when(indexRepository.updateIndexSettings(eq(SHADOW_INDEX), any())).thenReturn(getSuccessIndexOperationResponse());
+
+    shadowIndexService.promoteShadowIndex(INSTANCE_RESOURCE, TENANT_ID, servingSettings);
+
+    verify(indexRepository).switchAlias(INDEX_NAME, SHADOW_INDEX, SHADOW_ALIAS, List.of(INDEX_NAME));
+  }
+
+  @Test
+  void promoteShadowIndex_negative_shadowIndexNotFound() {
+    var servingSettings = MAPPER.createObjectNode();
+    when(indexRepository.getAliasIndices(SHADOW_ALIAS)).thenReturn(Set.of());
+
+    assertThatThrownBy(() -> shadowIndexService.promoteShadowIndex(INSTANCE_RESOURCE, TENANT_ID, servingSettings))
+      .isInstanceOf(SearchServiceException.class)
+      .hasMessage("Shadow index is not found for alias: " + INDEX_NAME);
+    verify(indexRepository, never()).switchAlias(any(), any(), any(), any());
+  }
+
+  @Test
+  void getShadowIndexCreationTime_positive() {
+    when(indexRepository.getIndexSettings(SHADOW_ALIAS, "index.creation_date"))
+      .thenReturn(Map.of("index.creation_date", "1700000000000"));
+
+    var actual = shadowIndexService.getShadowIndexCreationTime(INSTANCE_RESOURCE, TENANT_ID);
+
+    assertThat(actual).isEqualTo(Instant.ofEpochMilli(1700000000000L));
+  }
+
+  @Test
+  void getShadowIndexCreationTime_negative_shadowIndexNotFound() {
+    when(indexRepository.getIndexSettings(SHADOW_ALIAS, "index.creation_date")).thenReturn(new HashMap<>());
+
+    assertThatThrownBy(() -> shadowIndexService.getShadowIndexCreationTime(INSTANCE_RESOURCE, TENANT_ID))
+      .isInstanceOf(SearchServiceException.class)
+      .hasMessage("Shadow index is not found for alias: " + INDEX_NAME);
+  }
+
+  @Test
+  void dropShadowIndex_positive_shadowIndexNotExist() {
+    when(indexRepository.getAliasIndices(SHADOW_ALIAS)).thenReturn(Set.of());
+    shadowIndexService.dropShadowIndex(INSTANCE_RESOURCE, TENANT_ID);
+    verify(indexRepository, never()).dropIndex(any());
+  }
+}
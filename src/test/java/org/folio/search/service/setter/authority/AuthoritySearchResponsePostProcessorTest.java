@@ -1,29 +1,36 @@
 package org.folio.search.service.setter.authority;
 
-import static org.apache.lucene.search.TotalHits.Relation.EQUAL_TO;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.search.utils.JsonUtils.jsonObject;
 import static org.folio.search.utils.TestConstants.CENTRAL_TENANT_ID;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
-import static org.mockito.ArgumentMatchers.any;
+import static org.folio.search.utils.TestUtils.aggregationsFromJson;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.query.QueryBuilders.boolQuery;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
+import static org.opensearch.index.query.QueryBuilders.termsQuery;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.apache.lucene.search.TotalHits;
+import java.util.Set;
 import org.folio.search.domain.dto.Authority;
+import org.folio.search.domain.dto.TenantConfiguredFeature;
 import org.folio.search.model.SimpleResourceRequest;
 import org.folio.search.model.index.AuthRefType;
 import org.folio.search.repository.SearchRepository;
+import org.folio.search.service.AuthorityInstanceLinkService;
+import org.folio.search.service.FeatureConfigService;
 import org.folio.search.service.consortium.ConsortiumTenantService;
 import org.folio.search.service.consortium.TenantProvider;
 import org.folio.search.service.metadata.SearchFieldProvider;
 import org.folio.spring.FolioExecutionContext;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -31,10 +38,9 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.opensearch.action.search.MultiSearchResponse;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.index.query.BoolQueryBuilder;
-import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,18 +49,14 @@ class AuthoritySearchResponsePostProcessorTest {
   private @Mock SearchRepository searchRepository;
   private @Mock SearchFieldProvider searchFieldProvider;
   private @Mock FolioExecutionContext context;
-  private @Mock MultiSearchResponse multiSearchResponse;
   private @Mock ConsortiumTenantService consortiumTenantService;
   private @Mock TenantProvider tenantProvider;
+  private @Mock Cache<String, Integer> authorityTitlesCountCache;
+  private @Mock FeatureConfigService featureConfigService;
+  private @Mock AuthorityInstanceLinkService authorityInstanceLinkService;
   private @InjectMocks AuthoritySearchResponsePostProcessor processor;
 
-  private @Captor ArgumentCaptor<List<SearchSourceBuilder>> searchSourceCaptor;
-
-
-  @BeforeEach
-  void setUp() {
-
-  }
+  private @Captor ArgumentCaptor<SearchSourceBuilder> searchSourceCaptor;
 
   @Test
   void shouldDoNothing_whenProcessNotAuthorizedAuthorities() {
@@ -67,17 +69,13 @@ class AuthoritySearchResponsePostProcessorTest {
     assertThat(authority2).extracting(Authority::getNumberOfTitles).isNull();
   }
 
-  private static Authority getAuthority(String id, AuthRefType reference) {
-    return new Authority().id(id).authRefType(reference.getTypeValue());
-  }
-
   @Test
   void shouldSetNumberOfTitles_whenProcessAuthorizedAuthoritiesThatHaveInstanceReferences() {
     when(context.getTenantId()).thenReturn(TENANT_ID);
     when(tenantProvider.getTenant(TENANT_ID)).thenReturn(CENTRAL_TENANT_ID);
     when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(CENTRAL_TENANT_ID));
     when(searchFieldProvider.getFields("instance", "authorityId")).thenReturn(List.of("f1", "f2"));
-    mockSearchResponse(CENTRAL_TENANT_ID, 10, 11);
+    mockSearchResponse(CENTRAL_TENANT_ID, titlesCountAggregation(10, 11));
 
     var authority1 = getAuthority("1", AuthRefType.AUTHORIZED);
     var authority2 = getAuthority("2", AuthRefType.AUTHORIZED);
@@ -85,17 +83,21 @@ class AuthoritySearchResponsePostProcessorTest {
 
     assertThat(authority1).extracting(Authority::getNumberOfTitles).isEqualTo(10);
     assertThat(authority2).extracting(Authority::getNumberOfTitles).isEqualTo(11);
-
-    verify(searchRepository).msearch(
-      eq(SimpleResourceRequest.of("instance", CENTRAL_TENANT_ID)), searchSourceCaptor.capture());
-    var searchSources = searchSourceCaptor.getValue();
-    assertThat(searchSources)
-      .hasSize(2)
-      .extracting(SearchSourceBuilder::query)
-      .map(query -> (BoolQueryBuilder) query)
-      .allMatch(query -> query.should().size() == 2)
-      .allMatch(query -> query.minimumShouldMatch().equals("1"))
-      .allMatch(query -> query.must().get(0).equals(affiliationQuery(TENANT_ID, true)));
+    verify(authorityTitlesCountCache).put(TENANT_ID + ":1", 10);
+    verify(authorityTitlesCountCache).put(TENANT_ID + ":2", 11);
+
+    var searchSource = searchSourceCaptor.getValue();
+    assertThat(searchSource.aggregations().getAggregatorFactories())
+      .singleElement()
+      .isInstanceOfSatisfying(FiltersAggregationBuilder.class,
+        aggregation -> assertThat(aggregation.filters()).hasSize(2));
+    assertThat(searchSource.query())
+      .isInstanceOfSatisfying(BoolQueryBuilder.class, query -> {
+        assertThat(query.should()).containsExactly(termsQuery("f1", List.of("1", "2")),
+          termsQuery("f2", List.of("1", "2")));
+        assertThat(query.minimumShouldMatch()).isEqualTo("1");
+        assertThat(query.must()).containsExactly(affiliationQuery(TENANT_ID, true));
+      });
   }
 
   @Test
@@ -104,7 +106,7 @@ class AuthoritySearchResponsePostProcessorTest {
     when(tenantProvider.getTenant(TENANT_ID)).thenReturn(TENANT_ID);
     when(consortiumTenantService.getCentralTenant(TENANT_ID)).thenReturn(Optional.of(TENANT_ID));
     when(searchFieldProvider.getFields("instance", "authorityId")).thenReturn(List.of("f1", "f2"));
-    mockSearchResponse(TENANT_ID, 0, null);
+    mockSearchResponse(TENANT_ID, titlesCountAggregation(0, 0));
 
     var authority1 = getAuthority("1", AuthRefType.AUTHORIZED);
     var authority2 = getAuthority("2", AuthRefType.AUTHORIZED);
@@ -114,26 +116,37 @@ class AuthoritySearchResponsePostProcessorTest {
     assertThat(authority2).extracting(Authority::getNumberOfTitles).isEqualTo(0);
   }
 
+  @Test
+  void shouldSetNumberOfTitlesTo0_whenAggregationIsMissing() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(tenantProvider.getTenant(TENANT_ID)).thenReturn(TENANT_ID);
+    when(searchFieldProvider.getFields("instance", "authorityId")).thenReturn(List.of("f1", "f2"));
+    mockSearchResponse(TENANT_ID, jsonObject());
+
+    var authority = getAuthority("1", AuthRefType.AUTHORIZED);
+    processor.process(List.of(authority));
+
+    assertThat(authority).extracting(Authority::getNumberOfTitles).isEqualTo(0);
+  }
+
   @Test
   void shouldSetNumberOfTitles_whenNotInConsortium() {
     when(context.getTenantId()).thenReturn(TENANT_ID);
     when(tenantProvider.getTenant(TENANT_ID)).thenReturn(TENANT_ID);
     when(searchFieldProvider.getFields("instance", "authorityId")).thenReturn(List.of("f1", "f2"));
-    mockSearchResponse(TENANT_ID, 10, 11);
+    mockSearchResponse(TENANT_ID, titlesCountAggregation(10, 11));
 
     var authority1 = getAuthority("1", AuthRefType.AUTHORIZED);
     var authority2 = getAuthority("2", AuthRefType.AUTHORIZED);
     processor.process(List.of(authority1, authority2));
 
-    verify(searchRepository).msearch(
-      eq(SimpleResourceRequest.of("instance", TENANT_ID)), searchSourceCaptor.capture());
-    var searchSources = searchSourceCaptor.getValue();
-    assertThat(searchSources)
-      .hasSize(2)
-      .extracting(SearchSourceBuilder::query)
-      .map(query -> (BoolQueryBuilder) query)
-      .allMatch(query -> query.should().size() == 2)
-      .allMatch(query -> query.must().size() == 0);
+    assertThat(authority1).extracting(Authority::getNumberOfTitles).isEqualTo(10);
+    assertThat(authority2).extracting(Authority::getNumberOfTitles).isEqualTo(11);
+    assertThat(searchSourceCaptor.getValue().query())
+      .isInstanceOfSatisfying(BoolQueryBuilder.class, query -> {
+        assertThat(query.should()).hasSize(2);
+        assertThat(query.must()).isEmpty();
+      });
   }
 
   @Test
@@ -142,36 +155,71 @@ class AuthoritySearchResponsePostProcessorTest {
     when(tenantProvider.getTenant(CENTRAL_TENANT_ID)).thenReturn(CENTRAL_TENANT_ID);
     when(consortiumTenantService.getCentralTenant(CENTRAL_TENANT_ID)).thenReturn(Optional.of(CENTRAL_TENANT_ID));
     when(searchFieldProvider.getFields("instance", "authorityId")).thenReturn(List.of("f1", "f2"));
-    mockSearchResponse(CENTRAL_TENANT_ID, 10, 11);
+    mockSearchResponse(CENTRAL_TENANT_ID, titlesCountAggregation(10, 11));
+
+    var authority1 = getAuthority("1", AuthRefType.AUTHORIZED);
+    var authority2 = getAuthority("2", AuthRefType.AUTHORIZED);
+    processor.process(List.of(authority1, authority2));
+
+    assertThat(searchSourceCaptor.getValue().query())
+      .isInstanceOfSatisfying(BoolQueryBuilder.class, query -> {
+        assertThat(query.should()).hasSize(2);
+        assertThat(query.minimumShouldMatch()).isEqualTo("1");
+        assertThat(query.must()).containsExactly(affiliationQuery(CENTRAL_TENANT_ID, null));
+      });
+  }
+
+  @Test
+  void shouldSetNumberOfTitles_whenCountsAreCached() {
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(authorityTitlesCountCache.getIfPresent(TENANT_ID + ":1")).thenReturn(5);
+    when(tenantProvider.getTenant(TENANT_ID)).thenReturn(TENANT_ID);
+    when(searchFieldProvider.getFields("instance", "authorityId")).thenReturn(List.of("f1", "f2"));
+    mockSearchResponse(TENANT_ID, titlesCountAggregation(null, 11));
 
     var authority1 = getAuthority("1", AuthRefType.AUTHORIZED);
     var authority2 = getAuthority("2", AuthRefType.AUTHORIZED);
     processor.process(List.of(authority1, authority2));
 
-    verify(searchRepository).msearch(
-      eq(SimpleResourceRequest.of("instance", CENTRAL_TENANT_ID)), searchSourceCaptor.capture());
-    var searchSources = searchSourceCaptor.getValue();
-    assertThat(searchSources)
-      .hasSize(2)
-      .extracting(SearchSourceBuilder::query)
-      .map(query -> (BoolQueryBuilder) query)
-      .allMatch(query -> query.should().size() == 2)
-      .allMatch(query -> query.minimumShouldMatch().equals("1"))
-      .allMatch(query -> query.must().get(0).equals(affiliationQuery(CENTRAL_TENANT_ID, null)));
+    assertThat(authority1).extracting(Authority::getNumberOfTitles).isEqualTo(5);
+    assertThat(authority2).extracting(Authority::getNumberOfTitles).isEqualTo(11);
+    assertThat(searchSourceCaptor.getValue().query())
+      .isInstanceOfSatisfying(BoolQueryBuilder.class, query ->
+        assertThat(query.should()).containsExactly(termsQuery("f1", List.of("2")), termsQuery("f2", List.of("2"))));
   }
 
-  private void mockSearchResponse(String tenantId, Integer... counts) {
+  @Test
+  void shouldSetPrecomputedNumberOfTitles_whenFeatureIsEnabled() {
+    when(featureConfigService.isEnabled(TenantConfiguredFeature.AUTHORITY_TITLES_COUNT_PRECOMPUTED)).thenReturn(true);
+    when(authorityInstanceLinkService.getNumberOfTitles(Set.of("1", "2"))).thenReturn(Map.of("1", 7));
+
+    var authority1 = getAuthority("1", AuthRefType.AUTHORIZED);
+    var authority2 = getAuthority("2", AuthRefType.AUTHORIZED);
+    processor.process(List.of(authority1, authority2));
+
+    assertThat(authority1).extracting(Authority::getNumberOfTitles).isEqualTo(7);
+    assertThat(authority2).extracting(Authority::getNumberOfTitles).isEqualTo(0);
+    verifyNoInteractions(searchRepository, authorityTitlesCountCache);
+  }
+
+  private void mockSearchResponse(String tenantId, ObjectNode aggregations) {
     var searchResponse = mock(SearchResponse.class);
-    when(searchRepository.msearch(eq(SimpleResourceRequest.of("instance", tenantId)), any()))
-      .thenReturn(multiSearchResponse);
-    var hitsOngoingStubbing = when(searchResponse.getHits());
-    var responses = new MultiSearchResponse.Item[counts.length];
-    for (int i = 0; i < counts.length; i++) {
-      responses[i] = new MultiSearchResponse.Item(searchResponse, null);
-      var searchHits = new SearchHits(null, counts[i] != null ? new TotalHits(counts[i], EQUAL_TO) : null, 1.0f);
-      hitsOngoingStubbing = hitsOngoingStubbing.thenReturn(searchHits);
+    when(searchRepository.search(eq(SimpleResourceRequest.of("instance", tenantId)), searchSourceCaptor.capture()))
+      .thenReturn(searchResponse);
+    when(searchResponse.getAggregations()).thenReturn(aggregationsFromJson(aggregations));
+  }
+
+  private static ObjectNode titlesCountAggregation(Integer firstCount, Integer secondCount) {
+    var buckets = jsonObject();
+    if (firstCount != null) {
+      buckets.set("1", jsonObject("doc_count", firstCount));
     }
-    when(multiSearchResponse.getResponses()).thenReturn(responses);
+    buckets.set("2", jsonObject("doc_count", secondCount));
+    return jsonObject("filters#numberOfTitles", jsonObject("buckets", buckets));
+  }
+
+  private static Authority getAuthority(String id, AuthRefType reference) {
+    return new Authority().id(id).authRefType(reference.getTypeValue());
   }
 
   private BoolQueryBuilder affiliationQuery(String tenantId, Boolean shared) {
@@ -137,6 +137,10 @@ public class InventoryApi {
       .map(inst -> putField(inst, INSTANCE_ITEM_FIELD_NAME, items));
   }
 
+  public static List<String> getInstanceIds(String tenant) {
+    return INSTANCE_STORE.getOrDefault(tenant, emptyMap()).keySet().stream().sorted().toList();
+  }
+
   private static Map<String, Object> putField(Map<String, Object> instance, String key, Object subResources) {
     instance.put(key, subResources);
     return instance;
@@ -1,6 +1,7 @@
 package org.folio.search.support.api;
 
 import static com.github.tomakehurst.wiremock.http.Response.Builder.like;
+import static org.folio.search.support.api.InventoryApi.getInstanceIds;
 import static org.folio.search.support.api.InventoryApi.getInventoryView;
 import static org.folio.search.utils.TestUtils.OBJECT_MAPPER;
 import static org.folio.search.utils.TestUtils.mapOf;
@@ -13,6 +14,7 @@ import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.Response;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -21,11 +23,14 @@ import org.apache.commons.collections.MapUtils;
 @RequiredArgsConstructor
 public class InventoryViewResponseBuilder extends ResponseTransformer {
 
+  private static final Pattern RANGE_QUERY_PATTERN =
+    Pattern.compile("id(>=?)\"([^\"]+)\"(?: and id<\"([^\"]+)\")? sortBy id");
+
   @Override
   @SneakyThrows
   public Response transform(Request request, Response response, FileSource files, Parameters parameters) {
     var tenant = request.header(TENANT).firstValue();
-    var instanceViews = getInstanceIdsFromRequest(request)
+    var instanceViews = getInstanceIdsFromRequest(request, tenant)
       .map(id -> getInventoryView(tenant, id))
       .flatMap(Optional::stream)
       .map(instance -> mapOf(
@@ -49,8 +54,19 @@ public class InventoryViewResponseBuilder extends ResponseTransformer {
     return false;
   }
 
-  private static Stream<String> getInstanceIdsFromRequest(Request request) {
-    return Stream.of(request.queryParameter("query").firstValue()
+  private static Stream<String> getInstanceIdsFromRequest(Request request, String tenant) {
+    var query = request.queryParameter("query").firstValue();
+    var rangeQueryMatcher = RANGE_QUERY_PATTERN.matcher(query);
+    if (rangeQueryMatcher.matches()) {
+      var lowerInclusive = rangeQueryMatcher.group(1).equals(">=");
+      var lowerBound = rangeQueryMatcher.group(2);
+      var upperBound = rangeQueryMatcher.group(3);
+      return getInstanceIds(tenant).stream()
+        .filter(id -> lowerInclusive ? id.compareTo(lowerBound) >= 0 : id.compareTo(lowerBound) > 0)
+        .filter(id -> upperBound == null || id.compareTo(upperBound) < 0);
+    }
+
+    return Stream.of(query
         .replaceAll("id==\\(", "")
         .replaceAll("\"", "")
         .replace(")", "")
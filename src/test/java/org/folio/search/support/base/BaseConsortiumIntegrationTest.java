@@ -6,6 +6,7 @@ import static org.folio.search.utils.TestConstants.CENTRAL_TENANT_ID;
 import static org.folio.search.utils.TestConstants.MEMBER_TENANT_ID;
 import static org.folio.search.utils.TestConstants.TENANT_ID;
 import static org.folio.search.utils.TestUtils.asJsonString;
+import static org.folio.search.utils.TestUtils.perform;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -60,7 +61,7 @@ public abstract class BaseConsortiumIntegrationTest extends BaseIntegrationTest
     var tenantAttributes = new TenantAttributes().moduleTo("mod-search");
     tenantAttributes.addParametersItem(new Parameter("centralTenantId").value(CENTRAL_TENANT_ID));
 
-    mockMvc.perform(post("/_/tenant", randomId())
+    perform(mockMvc, post("/_/tenant", randomId())
         .content(asJsonString(tenantAttributes))
         .headers(defaultHeaders(tenant))
         .contentType(APPLICATION_JSON))
@@ -74,7 +75,7 @@ public abstract class BaseConsortiumIntegrationTest extends BaseIntegrationTest
 
   @SneakyThrows
   public static ResultActions tryGet(String uri, String tenantHeader, Object... args) {
-    return mockMvc.perform(get(uri, args)
+    return perform(mockMvc, get(uri, args)
         .headers(defaultHeaders(tenantHeader))
         .accept("application/json;charset=UTF-8"));
   }
@@ -97,7 +98,7 @@ public abstract class BaseConsortiumIntegrationTest extends BaseIntegrationTest
 
   @SneakyThrows
   public static ResultActions doGet(MockHttpServletRequestBuilder request, String tenantHeader) {
-    return mockMvc.perform(request
+    return perform(mockMvc, request
         .headers(defaultHeaders(tenantHeader))
         .accept("application/json;charset=UTF-8"))
       .andExpect(status().isOk());
@@ -110,7 +111,7 @@ public abstract class BaseConsortiumIntegrationTest extends BaseIntegrationTest
 
   @SneakyThrows
   public static ResultActions tryPost(String uri, String tenantHeader, Object body) {
-    return mockMvc.perform(post(uri)
+    return perform(mockMvc, post(uri)
       .content(asJsonString(body))
       .headers(defaultHeaders(tenantHeader))
       .accept("application/json;charset=UTF-8"));
@@ -15,6 +15,7 @@ import static org.folio.search.utils.TestConstants.linkedDataAuthorityTopic;
 import static org.folio.search.utils.TestConstants.linkedDataWorkTopic;
 import static org.folio.search.utils.TestUtils.asJsonString;
 import static org.folio.search.utils.TestUtils.doIfNotNull;
+import static org.folio.search.utils.TestUtils.perform;
 import static org.folio.search.utils.TestUtils.randomId;
 import static org.folio.search.utils.TestUtils.removeEnvProperty;
 import static org.folio.search.utils.TestUtils.resourceEvent;
@@ -97,7 +98,7 @@ public abstract class BaseIntegrationTest {
 
   @SneakyThrows
   protected static ResultActions attemptPost(String uri, Object body) {
-    return mockMvc.perform(post(uri)
+    return perform(mockMvc, post(uri)
       .content(asJsonString(body))
       .headers(defaultHeaders())
       .contentType(APPLICATION_JSON));
@@ -105,7 +106,7 @@ public abstract class BaseIntegrationTest {
 
   @SneakyThrows
   protected static ResultActions attemptPut(String uri, Object body) {
-    return mockMvc.perform(put(uri)
+    return perform(mockMvc, put(uri)
       .content(asJsonString(body))
       .headers(defaultHeaders())
       .contentType(APPLICATION_JSON));
@@ -113,7 +114,7 @@ public abstract class BaseIntegrationTest {
 
   @SneakyThrows
   protected static ResultActions attemptDelete(String uri) {
-    return mockMvc.perform(delete(uri)
+    return perform(mockMvc, delete(uri)
       .headers(defaultHeaders())
       .contentType(APPLICATION_JSON));
   }
@@ -132,7 +133,7 @@ public abstract class BaseIntegrationTest {
 
   @SneakyThrows
   protected static ResultActions doDelete(String uri, Object... args) {
-    return mockMvc.perform(delete(uri, args)
+    return perform(mockMvc, delete(uri, args)
         .headers(defaultHeaders()))
       .andExpect(status().isNoContent());
   }
@@ -214,7 +215,7 @@ public abstract class BaseIntegrationTest {
     doIfNotNull(offset, value -> requestBuilder.queryParam("offset", String.valueOf(value)));
     doIfNotNull(expandAll, value -> requestBuilder.queryParam("expandAll", String.valueOf(value)));
 
-    return mockMvc.perform(requestBuilder.queryParam("query", query)
+    return perform(mockMvc, requestBuilder.queryParam("query", query)
       .headers(defaultHeaders(tenantId))
       .accept("application/json;charset=UTF-8"));
   }
@@ -331,7 +332,7 @@ public abstract class BaseIntegrationTest {
   @SneakyThrows
   @SuppressWarnings("SameParameterValue")
   protected static void enableFeature(String tenantId, TenantConfiguredFeature feature) {
-    mockMvc.perform(post(ApiEndpoints.featureConfigPath())
+    perform(mockMvc, post(ApiEndpoints.featureConfigPath())
         .headers(defaultHeaders(tenantId))
         .content(asJsonString(new FeatureConfig().feature(feature).enabled(true))))
       .andExpect(status().isOk());
@@ -346,7 +347,7 @@ public abstract class BaseIntegrationTest {
   @SneakyThrows
   @SuppressWarnings("SameParameterValue")
   protected static void disableFeature(String tenantId, TenantConfiguredFeature feature) {
-    mockMvc.perform(delete(ApiEndpoints.featureConfigPath(feature))
+    perform(mockMvc, delete(ApiEndpoints.featureConfigPath(feature))
         .headers(defaultHeaders(tenantId))
         .content(asJsonString(new FeatureConfig().feature(feature).enabled(false))))
       .andExpect(status().isNoContent());
@@ -356,7 +357,7 @@ public abstract class BaseIntegrationTest {
   protected static void enableTenant(String tenant) {
     var tenantAttributes = new TenantAttributes().moduleTo("mod-search");
 
-    mockMvc.perform(post("/_/tenant", randomId())
+    perform(mockMvc, post("/_/tenant", randomId())
         .content(asJsonString(tenantAttributes))
         .headers(defaultHeaders(tenant))
         .contentType(APPLICATION_JSON))
@@ -370,7 +371,7 @@ public abstract class BaseIntegrationTest {
 
   @SneakyThrows
   protected static void removeTenant(String tenantId) {
-    mockMvc.perform(post("/_/tenant", randomId())
+    perform(mockMvc, post("/_/tenant", randomId())
         .content(asJsonString(new TenantAttributes().moduleFrom("mod-search").purge(true)))
         .headers(defaultHeaders(tenantId)))
       .andExpect(status().isNoContent());
@@ -430,14 +431,14 @@ public abstract class BaseIntegrationTest {
 
   @SneakyThrows
   public static ResultActions attemptGet(String uri, String tenantId, Object... args) {
-    return mockMvc.perform(get(uri, args)
+    return perform(mockMvc, get(uri, args)
       .headers(defaultHeaders(tenantId))
       .accept("application/json;charset=UTF-8"));
   }
 
   @SneakyThrows
   public static ResultActions doGet(String uri, Object... args) {
-    return mockMvc.perform(get(uri, args)
+    return perform(mockMvc, get(uri, args)
         .headers(defaultHeaders())
         .accept("application/json;charset=UTF-8"))
       .andExpect(status().isOk());
@@ -445,7 +446,7 @@ public abstract class BaseIntegrationTest {
 
   @SneakyThrows
   public static ResultActions doGet(MockHttpServletRequestBuilder request) {
-    return mockMvc.perform(request
+    return perform(mockMvc, request
         .headers(defaultHeaders())
         .accept("application/json;charset=UTF-8"))
       .andExpect(status().isOk());
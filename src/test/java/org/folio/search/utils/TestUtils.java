@@ -35,6 +35,7 @@ import static org.mockito.Mockito.mock;
 import static org.opensearch.common.xcontent.json.JsonXContent.jsonXContent;
 import static org.opensearch.core.xcontent.DeprecationHandler.IGNORE_DEPRECATIONS;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -107,11 +108,16 @@ import org.opensearch.core.xcontent.ContextParser;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.search.aggregations.Aggregation;
 import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.ParsedComposite;
 import org.opensearch.search.aggregations.bucket.filter.ParsedFilter;
+import org.opensearch.search.aggregations.bucket.filter.ParsedFilters;
 import org.opensearch.search.aggregations.bucket.range.ParsedRange;
 import org.opensearch.search.aggregations.bucket.terms.ParsedStringTerms;
+import org.opensearch.search.aggregations.metrics.ParsedCardinality;
 import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.ResultActions;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -153,6 +159,16 @@ public class TestUtils {
     }
   }
 
+  /**
+   * Performs the request and dispatches its result, if the request is processed asynchronously by the controller.
+   */
+  @SneakyThrows
+  public static ResultActions perform(MockMvc mockMvc, RequestBuilder requestBuilder) {
+    var resultActions = mockMvc.perform(requestBuilder);
+    var mvcResult = resultActions.andReturn();
+    return mvcResult.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(mvcResult)) : resultActions;
+  }
+
   @SneakyThrows
   public static <T> T parseResponse(ResultActions result, Class<T> type) {
     return OBJECT_MAPPER.readValue(result.andReturn().getResponse().getContentAsString(), type);
@@ -616,7 +632,10 @@ public class TestUtils {
     map.put("sterms", (p, c) -> ParsedStringTerms.fromXContent(p, (String) c));
     map.put("range", (p, c) -> ParsedRange.fromXContent(p, (String) c));
     map.put("filter", (p, c) -> ParsedFilter.fromXContent(p, (String) c));
+    map.put("filters", (p, c) -> ParsedFilters.fromXContent(p, (String) c));
     map.put("string_stats", (p, c) -> ParsedStringStats.PARSER.parse(p, (String) c));
+    map.put("composite", (p, c) -> ParsedComposite.fromXContent(p, (String) c));
+    map.put("cardinality", (p, c) -> ParsedCardinality.fromXContent(p, (String) c));
     return map.entrySet().stream()
       .map(v -> new NamedXContentRegistry.Entry(Aggregation.class, new ParseField(v.getKey()), v.getValue()))
       .toList();